@@ -39,6 +39,7 @@ import fr.sorbonne_u.components.ComponentI;
 import fr.sorbonne_u.components.examples.basic_cs.components.URIProvider;
 import fr.sorbonne_u.components.examples.basic_cs.interfaces.URIProviderCI;
 import fr.sorbonne_u.components.ports.AbstractInboundPort;
+import fr.sorbonne_u.components.ports.AbstractLocalInvoker;
 
 //-----------------------------------------------------------------------------
 /**
@@ -65,6 +66,53 @@ implements	URIProviderCI
 	/** required by UnicastRemonteObject.									*/
 	private static final long serialVersionUID = 1L;
 
+	/**
+	 * The class <code>LocalInvoker</code> implements the local invoker of
+	 * the port, calling the same services of the owner as the port does.
+	 *
+	 * <p>Created on : 2026-10-16</p>
+	 * 
+	 * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+	 */
+	protected static class	LocalInvoker
+	extends		AbstractLocalInvoker
+	implements	URIProviderCI
+	{
+		/**
+		 * create the local invoker of {@code port}.
+		 *
+		 * @param port			inbound port for which this invoker executes the calls.
+		 * @throws Exception	<i>to do</i>.
+		 */
+		protected		LocalInvoker(URIProviderInboundPort port)
+		throws Exception
+		{
+			super(port);
+		}
+
+		/**
+		 * @see fr.sorbonne_u.components.examples.basic_cs.interfaces.URIProviderCI#provideURI()
+		 */
+		@Override
+		public String	provideURI() throws Exception
+		{
+			return this.handleRequest(
+						owner -> ((URIProvider)owner).provideURIService());
+		}
+
+		/**
+		 * @see fr.sorbonne_u.components.examples.basic_cs.interfaces.URIProviderCI#provideURIs(int)
+		 */
+		@Override
+		public String[]	provideURIs(int numberOfRequestedURIs)
+		throws Exception
+		{
+			return this.handleRequest(
+						owner -> ((URIProvider)owner).
+									provideURIsService(numberOfRequestedURIs));
+		}
+	}
+
 	/**
 	 * create the port under some given URI and for a given owner.
 	 * 
@@ -123,6 +171,15 @@ implements	URIProviderCI
 		assert	owner instanceof URIProvider ;
 	}
 
+	/**
+	 * @see fr.sorbonne_u.components.ports.AbstractInboundPort#createLocalInvoker()
+	 */
+	@Override
+	protected AbstractLocalInvoker	createLocalInvoker() throws Exception
+	{
+		return new LocalInvoker(this);
+	}
+
 	/**
 	 * calls the service method of the owner component by executing a task
 	 * using one of the component's threads.
@@ -47,7 +47,8 @@ import fr.sorbonne_u.components.examples.basic_cs.interfaces.URIProviderCI;
  * 
  * It implements the required interface <code>URIConsumerI</code> and in the
  * method <code>getURI</code>, it calls the corresponding offered method
- * <code>provideURI</code>.
+ * <code>provideURI</code>, on the local invoker of the inbound port when
+ * both ports are in the same JVM.
  * 
  * <p><strong>Invariant</strong></p>
  * 
@@ -64,8 +65,8 @@ extends		AbstractConnector
 implements	URIConsumerCI
 {
 	/**
-	 * implement the required interface by simply calling the inbound port with
-	 * the corresponding offered method.
+	 * implement the required interface by simply calling the inbound port,
+	 * or its local invoker, with the corresponding offered method.
 	 * 
 	 * <p><strong>Contract</strong></p>
 	 * 
@@ -79,12 +80,12 @@ implements	URIConsumerCI
 	@Override
 	public String		getURI() throws Exception
 	{
-		return ((URIProviderCI)this.offering).provideURI() ;
+		return ((URIProviderCI)this.getCallee()).provideURI() ;
 	}
 
 	/**
-	 * implement the required interface by simply calling the inbound port with
-	 * the corresponding offered method.
+	 * implement the required interface by simply calling the inbound port,
+	 * or its local invoker, with the corresponding offered method.
 	 * 
 	 * <p><strong>Contract</strong></p>
 	 * 
@@ -98,7 +99,7 @@ implements	URIConsumerCI
 	@Override
 	public String[]		getURIs(int numberOfURIs) throws Exception
 	{
-		return ((URIProviderCI)this.offering).provideURIs(numberOfURIs) ;
+		return ((URIProviderCI)this.getCallee()).provideURIs(numberOfURIs) ;
 	}
 }
 //-----------------------------------------------------------------------------
@@ -0,0 +1,141 @@
+package fr.sorbonne_u.components.examples.benchmarks;
+
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a
+// basic component programming model to program with components
+// distributed applications in the Java programming language.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+import fr.sorbonne_u.components.AbstractComponent;
+import fr.sorbonne_u.exceptions.PreconditionException;
+
+// -----------------------------------------------------------------------------
+/**
+ * The class <code>AllocationBenchmarkComponent</code> implements the target
+ * component of the allocation benchmark, which only maintains a counter
+ * incremented by the benchmarked tasks and requests.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p>
+ * The component is created passive or active depending upon the numbers of
+ * threads passed to its constructor, so that the same class can be used to
+ * measure the direct execution paths of passive components and the paths
+ * through standard and schedulable executor services of active ones.
+ * </p>
+ * 
+ * <p><strong>White-box Invariant</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code counter >= 0}
+ * </pre>
+ * 
+ * <p><strong>Black-box Invariant</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code true}	// no more invariant
+ * </pre>
+ * 
+ * <p>Created on : 2026-10-16</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+public class			AllocationBenchmarkComponent
+extends		AbstractComponent
+{
+	/** counter incremented by the benchmarked tasks and requests.			*/
+	protected long		counter;
+
+	/**
+	 * create the component with the given numbers of threads.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code nbThreads >= 0 && nbSchedulableThreads >= 0}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param nbThreads				number of threads of the standard executor service.
+	 * @param nbSchedulableThreads	number of threads of the schedulable executor service.
+	 */
+	protected			AllocationBenchmarkComponent(
+		int nbThreads,
+		int nbSchedulableThreads
+		)
+	{
+		super(nbThreads, nbSchedulableThreads);
+
+		assert	nbThreads >= 0 && nbSchedulableThreads >= 0 :
+				new PreconditionException(
+						"nbThreads >= 0 && nbSchedulableThreads >= 0");
+
+		this.counter = 0L;
+	}
+
+	/**
+	 * increment the counter and return true; returning a boolean rather than
+	 * the counter itself avoids boxing allocations in the benchmarked
+	 * requests.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code getCounter() == getCounter()@pre + 1}
+	 * </pre>
+	 *
+	 * @return	true.
+	 */
+	public boolean		increment()
+	{
+		this.counter++;
+		return true;
+	}
+
+	/**
+	 * return the current value of the counter.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code ret >= 0}
+	 * </pre>
+	 *
+	 * @return	the current value of the counter.
+	 */
+	public long			getCounter()
+	{
+		return this.counter;
+	}
+}
+// -----------------------------------------------------------------------------
@@ -0,0 +1,333 @@
+package fr.sorbonne_u.components.examples.benchmarks;
+
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a
+// basic component programming model to program with components
+// distributed applications in the Java programming language.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.concurrent.TimeUnit;
+import fr.sorbonne_u.components.AbstractComponent;
+import fr.sorbonne_u.components.ComponentI;
+import fr.sorbonne_u.components.ComponentI.FComponentService;
+import fr.sorbonne_u.components.ComponentI.FComponentTask;
+import fr.sorbonne_u.components.cvm.AbstractCVM;
+import fr.sorbonne_u.exceptions.PreconditionException;
+
+// -----------------------------------------------------------------------------
+/**
+ * The class <code>CVMAllocationBenchmark</code> measures the number of bytes
+ * allocated per operation by the task and request dispatch primitives of
+ * components.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p>
+ * The CVM deploys three <code>AllocationBenchmarkComponent</code>: a passive
+ * one, an active one with one standard thread and an active one with one
+ * schedulable thread. Once the components are started, the CVM itself
+ * performs, for each benchmarked primitive, a warm up followed by a given
+ * number of operations, and prints the mean number of bytes allocated and
+ * the mean time per operation. Allocations are summed over all of the
+ * threads of the JVM using the <code>com.sun.management</code> extension of
+ * the thread management bean, so that the bytes allocated by the threads of
+ * the components are accounted for; when this extension is not available,
+ * only times are printed. The number of operations per benchmark can be
+ * given as first command line argument.
+ * </p>
+ * 
+ * <p>
+ * The benchmarked tasks and requests are lambdas that capture nothing, hence
+ * are created once by the JVM; the reported figures are therefore the bytes
+ * allocated by the dispatch itself.
+ * </p>
+ * 
+ * <p><strong>Invariant</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code iterations > 0}
+ * </pre>
+ * 
+ * <p>Created on : 2026-10-16</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+public class			CVMAllocationBenchmark
+extends		AbstractCVM
+{
+	// -------------------------------------------------------------------------
+	// Inner types
+	// -------------------------------------------------------------------------
+
+	/**
+	 * The interface <code>BenchmarkedOperation</code> represents one
+	 * operation of a benchmark.
+	 *
+	 * <p>Created on : 2026-10-16</p>
+	 * 
+	 * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+	 */
+	@FunctionalInterface
+	protected static interface	BenchmarkedOperation
+	{
+		/**
+		 * perform the operation.
+		 *
+		 * @throws Exception	<i>to do</i>.
+		 */
+		public void		perform() throws Exception;
+	}
+
+	// -------------------------------------------------------------------------
+	// Constants and variables
+	// -------------------------------------------------------------------------
+
+	/** default number of operations per benchmark.						*/
+	public static final int			DEFAULT_ITERATIONS = 1000000;
+	/** number of operations performed before measuring.					*/
+	public static final int			WARMUP_ITERATIONS = 50000;
+	/** task incrementing the counter of the target component.				*/
+	protected static final FComponentTask		INCREMENT_TASK =
+					o -> ((AllocationBenchmarkComponent)o).increment();
+	/** request incrementing the counter of the target component.			*/
+	protected static final FComponentService<Boolean>	INCREMENT_REQUEST =
+					o -> ((AllocationBenchmarkComponent)o).increment();
+
+	/** number of operations per benchmark.								*/
+	protected final int				iterations;
+	/** URI of the passive component.										*/
+	protected String				passiveURI;
+	/** URI of the component with one standard thread.						*/
+	protected String				activeURI;
+	/** URI of the component with one schedulable thread.					*/
+	protected String				schedulableURI;
+
+	// -------------------------------------------------------------------------
+	// Constructors
+	// -------------------------------------------------------------------------
+
+	/**
+	 * create the CVM.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code iterations > 0}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param iterations	number of operations per benchmark.
+	 * @throws Exception	<i>to do</i>.
+	 */
+	public				CVMAllocationBenchmark(int iterations) throws Exception
+	{
+		super();
+
+		assert	iterations > 0 :
+				new PreconditionException("iterations > 0");
+
+		this.iterations = iterations;
+	}
+
+	// -------------------------------------------------------------------------
+	// Component virtual machine life-cycle
+	// -------------------------------------------------------------------------
+
+	/**
+	 * @see fr.sorbonne_u.components.cvm.AbstractCVM#deploy()
+	 */
+	@Override
+	public void			deploy() throws Exception
+	{
+		this.passiveURI =
+			AbstractComponent.createComponent(
+				AllocationBenchmarkComponent.class.getCanonicalName(),
+				new Object[]{0, 0});
+		this.activeURI =
+			AbstractComponent.createComponent(
+				AllocationBenchmarkComponent.class.getCanonicalName(),
+				new Object[]{1, 0});
+		this.schedulableURI =
+			AbstractComponent.createComponent(
+				AllocationBenchmarkComponent.class.getCanonicalName(),
+				new Object[]{0, 1});
+
+		super.deploy();
+	}
+
+	/**
+	 * @see fr.sorbonne_u.components.cvm.AbstractCVM#execute()
+	 */
+	@Override
+	public void			execute() throws Exception
+	{
+		super.execute();
+
+		ComponentI passive = this.uri2component.get(this.passiveURI);
+		ComponentI active = this.uri2component.get(this.activeURI);
+		ComponentI schedulable = this.uri2component.get(this.schedulableURI);
+
+		this.benchmark("runTask, passive",
+					   () -> passive.runTask(INCREMENT_TASK),
+					   null);
+		this.benchmark("runTask, active",
+					   () -> active.runTask(INCREMENT_TASK),
+					   () -> active.handleRequest(INCREMENT_REQUEST));
+		this.benchmark("handleRequest, passive",
+					   () -> passive.handleRequest(INCREMENT_REQUEST),
+					   null);
+		this.benchmark("handleRequest, active",
+					   () -> active.handleRequest(INCREMENT_REQUEST),
+					   null);
+		// the reentrant requests are issued by the thread of the component
+		active.handleRequest(
+				o -> { this.benchmark(
+							"handleRequest, active, reentrant",
+							() -> o.handleRequest(INCREMENT_REQUEST),
+							null);
+					   return true;
+					 });
+		this.benchmark("scheduleTask, schedulable",
+					   () -> schedulable.scheduleTask(
+									INCREMENT_TASK, 1L, TimeUnit.NANOSECONDS),
+					   () -> schedulable.handleRequest(INCREMENT_REQUEST));
+	}
+
+	// -------------------------------------------------------------------------
+	// Benchmark methods
+	// -------------------------------------------------------------------------
+
+	/**
+	 * return the total number of bytes allocated so far by the live threads
+	 * of the JVM or -1 if the JVM cannot measure it.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code ret >= -1}
+	 * </pre>
+	 *
+	 * @return	the total number of bytes allocated so far or -1 if unknown.
+	 */
+	protected static long	allocatedBytes()
+	{
+		ThreadMXBean tmxb = ManagementFactory.getThreadMXBean();
+		if (tmxb instanceof com.sun.management.ThreadMXBean) {
+			com.sun.management.ThreadMXBean stmxb =
+									(com.sun.management.ThreadMXBean) tmxb;
+			if (stmxb.isThreadAllocatedMemorySupported() &&
+								stmxb.isThreadAllocatedMemoryEnabled()) {
+				long ret = 0L;
+				for (long a : stmxb.getThreadAllocatedBytes(
+												stmxb.getAllThreadIds())) {
+					if (a > 0L) {
+						ret += a;
+					}
+				}
+				return ret;
+			}
+		}
+		return -1L;
+	}
+
+	/**
+	 * perform {@code WARMUP_ITERATIONS} then {@code iterations} times the
+	 * operation {@code op} and print the mean number of bytes allocated and
+	 * the mean time per operation; when the operation is asynchronous,
+	 * {@code barrier} is performed after the operations to wait for their
+	 * completion before measuring.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code label != null && op != null}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param label			label of the benchmark in the printed results.
+	 * @param op			operation to be measured.
+	 * @param barrier		operation waiting for the completion of the previous ones or null if none.
+	 * @throws Exception	<i>to do</i>.
+	 */
+	protected void		benchmark(
+		String label,
+		BenchmarkedOperation op,
+		BenchmarkedOperation barrier
+		) throws Exception
+	{
+		assert	label != null && op != null :
+				new PreconditionException("label != null && op != null");
+
+		for (int i = 0 ; i < WARMUP_ITERATIONS ; i++) {
+			op.perform();
+		}
+		if (barrier != null) {
+			barrier.perform();
+		}
+
+		long startBytes = allocatedBytes();
+		long start = System.nanoTime();
+		for (int i = 0 ; i < this.iterations ; i++) {
+			op.perform();
+		}
+		if (barrier != null) {
+			barrier.perform();
+		}
+		long elapsed = System.nanoTime() - start;
+		long endBytes = allocatedBytes();
+
+		StringBuffer sb = new StringBuffer(label).append(": ");
+		if (startBytes >= 0L && endBytes >= 0L) {
+			sb.append((endBytes - startBytes) / this.iterations).
+			   append(" bytes/op, ");
+		}
+		sb.append(elapsed / this.iterations).append(" ns/op");
+		System.out.println(sb.toString());
+	}
+
+	public static void	main(String[] args)
+	{
+		try {
+			int iterations = args.length > 0 ?
+									Integer.parseInt(args[0])
+								:	DEFAULT_ITERATIONS;
+			CVMAllocationBenchmark cvm = new CVMAllocationBenchmark(iterations);
+			cvm.startStandardLifeCycle(1000L);
+			System.exit(0);
+		} catch (Throwable e) {
+			e.printStackTrace();
+		}
+	}
+}
+// -----------------------------------------------------------------------------
@@ -0,0 +1,147 @@
+package fr.sorbonne_u.components.examples.benchmarks;
+
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a
+// basic component programming model to program with components
+// distributed applications in the Java programming language.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+import fr.sorbonne_u.components.AbstractComponent;
+import fr.sorbonne_u.components.cvm.AbstractCVM;
+import fr.sorbonne_u.components.examples.basic_cs.components.URIProvider;
+import fr.sorbonne_u.components.examples.basic_cs.connections.URIServiceConnector;
+import fr.sorbonne_u.components.examples.chm.components.ConcurrentMapComponent;
+
+// -----------------------------------------------------------------------------
+/**
+ * The class <code>CVMDispatchBenchmark</code> deploys the components of the
+ * dispatch benchmark in a single JVM.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p>
+ * The CVM deploys an URI provider from the <code>basic_cs</code> example, a
+ * concurrent map component from the <code>chm</code> example and a
+ * <code>DispatchBenchmarkClient</code> timing the calls on both. The number
+ * of timed calls per benchmark can be given as first command line argument.
+ * </p>
+ * 
+ * <p><strong>Invariant</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code true}	// no more invariant
+ * </pre>
+ * 
+ * <p>Created on : 2026-10-16</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+public class			CVMDispatchBenchmark
+extends		AbstractCVM
+{
+	/** URI of the provider component.										*/
+	protected static final String	PROVIDER_COMPONENT_URI = "bench-provider";
+	/** URI of the provider inbound port.									*/
+	protected static final String	PROVIDER_INBOUND_PORT_URI = "bench-iport";
+	/** URI of the client outbound port connected to the provider.			*/
+	protected static final String	CLIENT_OUTBOUND_PORT_URI = "bench-oport";
+	/** URI of the reflection inbound port of the concurrent map
+	 *  component.															*/
+	protected static final String	CONCURRENT_MAP_RIP_URI = "bench-cmrip";
+	/** default number of timed calls per benchmark.						*/
+	public static final int			DEFAULT_ITERATIONS = 1000000;
+
+	/** number of timed calls per benchmark.								*/
+	protected final int				iterations;
+
+	/**
+	 * create the CVM.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code iterations > 0}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param iterations	number of timed calls per benchmark.
+	 * @throws Exception	<i>to do</i>.
+	 */
+	public				CVMDispatchBenchmark(int iterations) throws Exception
+	{
+		super();
+		this.iterations = iterations;
+	}
+
+	/**
+	 * @see fr.sorbonne_u.components.cvm.AbstractCVM#deploy()
+	 */
+	@Override
+	public void			deploy() throws Exception
+	{
+		AbstractComponent.createComponent(
+				URIProvider.class.getCanonicalName(),
+				new Object[]{PROVIDER_COMPONENT_URI,
+							 PROVIDER_INBOUND_PORT_URI});
+		AbstractComponent.createComponent(
+				ConcurrentMapComponent.class.getCanonicalName(),
+				new Object[]{CONCURRENT_MAP_RIP_URI, 4});
+		String clientURI =
+			AbstractComponent.createComponent(
+				DispatchBenchmarkClient.class.getCanonicalName(),
+				new Object[]{CLIENT_OUTBOUND_PORT_URI,
+							 CONCURRENT_MAP_RIP_URI,
+							 this.iterations});
+
+		this.doPortConnection(
+				clientURI,
+				CLIENT_OUTBOUND_PORT_URI,
+				PROVIDER_INBOUND_PORT_URI,
+				URIServiceConnector.class.getCanonicalName());
+
+		super.deploy();
+	}
+
+	public static void	main(String[] args)
+	{
+		try {
+			int iterations = args.length > 0 ?
+									Integer.parseInt(args[0])
+								:	DEFAULT_ITERATIONS;
+			CVMDispatchBenchmark cvm = new CVMDispatchBenchmark(iterations);
+			cvm.startStandardLifeCycle(60000L);
+			System.exit(0);
+		} catch (Throwable e) {
+			e.printStackTrace();
+		}
+	}
+}
+// -----------------------------------------------------------------------------
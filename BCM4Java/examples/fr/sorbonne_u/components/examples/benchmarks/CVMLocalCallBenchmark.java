@@ -0,0 +1,167 @@
+package fr.sorbonne_u.components.examples.benchmarks;
+
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a
+// basic component programming model to program with components
+// distributed applications in the Java programming language.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+import fr.sorbonne_u.components.AbstractComponent;
+import fr.sorbonne_u.components.cvm.AbstractCVM;
+import fr.sorbonne_u.components.examples.basic_cs.components.URIProvider;
+import fr.sorbonne_u.components.examples.basic_cs.connections.URIServiceConnector;
+
+// -----------------------------------------------------------------------------
+/**
+ * The class <code>CVMLocalCallBenchmark</code> compares, in a single JVM,
+ * the cost of synchronous calls going through an inbound port with the cost
+ * of the same calls bound by the connector to the local invoker of the port.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p>
+ * The CVM deploys two URI providers from the <code>basic_cs</code> example
+ * and a <code>LocalCallBenchmarkClient</code> with two outbound ports. The
+ * first one is connected with {@code AbstractCVM.USE_LOCAL_INVOKERS} set to
+ * false, so that its connector calls the inbound port, and the second one
+ * with it set to true, so that its connector calls the local invoker of the
+ * inbound port. The number of timed calls per benchmark can be given as
+ * first command line argument.
+ * </p>
+ * 
+ * <p><strong>Invariant</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code true}	// no more invariant
+ * </pre>
+ * 
+ * <p>Created on : 2026-10-16</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+public class			CVMLocalCallBenchmark
+extends		AbstractCVM
+{
+	/** URI of the inbound port of the provider called through the port.	*/
+	protected static final String	PORT_PROVIDER_INBOUND_PORT_URI =
+															"bench-port-ip";
+	/** URI of the inbound port of the provider called through the local
+	 *  invoker.															*/
+	protected static final String	INVOKER_PROVIDER_INBOUND_PORT_URI =
+															"bench-invoker-ip";
+	/** URI of the client outbound port calling through the port.			*/
+	protected static final String	PORT_OUTBOUND_PORT_URI = "bench-port-op";
+	/** URI of the client outbound port calling through the local invoker.	*/
+	protected static final String	INVOKER_OUTBOUND_PORT_URI =
+															"bench-invoker-op";
+	/** default number of timed calls per benchmark.						*/
+	public static final int			DEFAULT_ITERATIONS = 1000000;
+
+	/** number of timed calls per benchmark.								*/
+	protected final int				iterations;
+
+	/**
+	 * create the CVM.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code iterations > 0}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param iterations	number of timed calls per benchmark.
+	 * @throws Exception	<i>to do</i>.
+	 */
+	public				CVMLocalCallBenchmark(int iterations) throws Exception
+	{
+		super();
+		this.iterations = iterations;
+	}
+
+	/**
+	 * @see fr.sorbonne_u.components.cvm.AbstractCVM#deploy()
+	 */
+	@Override
+	public void			deploy() throws Exception
+	{
+		AbstractComponent.createComponent(
+				URIProvider.class.getCanonicalName(),
+				new Object[]{"bench-port-provider",
+							 PORT_PROVIDER_INBOUND_PORT_URI});
+		AbstractComponent.createComponent(
+				URIProvider.class.getCanonicalName(),
+				new Object[]{"bench-invoker-provider",
+							 INVOKER_PROVIDER_INBOUND_PORT_URI});
+		String clientURI =
+			AbstractComponent.createComponent(
+				LocalCallBenchmarkClient.class.getCanonicalName(),
+				new Object[]{PORT_OUTBOUND_PORT_URI,
+							 INVOKER_OUTBOUND_PORT_URI,
+							 this.iterations});
+
+		// the local invokers are bound when the connections are made
+		boolean previous = AbstractCVM.USE_LOCAL_INVOKERS;
+		try {
+			AbstractCVM.USE_LOCAL_INVOKERS = false;
+			this.doPortConnection(
+					clientURI,
+					PORT_OUTBOUND_PORT_URI,
+					PORT_PROVIDER_INBOUND_PORT_URI,
+					URIServiceConnector.class.getCanonicalName());
+			AbstractCVM.USE_LOCAL_INVOKERS = true;
+			this.doPortConnection(
+					clientURI,
+					INVOKER_OUTBOUND_PORT_URI,
+					INVOKER_PROVIDER_INBOUND_PORT_URI,
+					URIServiceConnector.class.getCanonicalName());
+		} finally {
+			AbstractCVM.USE_LOCAL_INVOKERS = previous;
+		}
+
+		super.deploy();
+	}
+
+	public static void	main(String[] args)
+	{
+		try {
+			int iterations = args.length > 0 ?
+									Integer.parseInt(args[0])
+								:	DEFAULT_ITERATIONS;
+			CVMLocalCallBenchmark cvm = new CVMLocalCallBenchmark(iterations);
+			cvm.startStandardLifeCycle(60000L);
+			System.exit(0);
+		} catch (Throwable e) {
+			e.printStackTrace();
+		}
+	}
+}
+// -----------------------------------------------------------------------------
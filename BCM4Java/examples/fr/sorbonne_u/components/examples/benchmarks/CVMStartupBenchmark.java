@@ -0,0 +1,203 @@
+package fr.sorbonne_u.components.examples.benchmarks;
+
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a
+// basic component programming model to program with components
+// distributed applications in the Java programming language.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+import fr.sorbonne_u.components.AbstractComponent;
+import fr.sorbonne_u.components.cvm.AbstractCVM;
+import fr.sorbonne_u.exceptions.PreconditionException;
+
+// -----------------------------------------------------------------------------
+/**
+ * The class <code>CVMStartupBenchmark</code> measures the time and the heap
+ * needed to create and start a large number of components with several
+ * published inbound ports each.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p>
+ * The CVM deploys {@code nbComponents} <code>PortsBenchmarkComponent</code>
+ * each with {@code nbPorts} additional inbound ports and prints the time
+ * taken by their creation and by their start, as well as the heap retained
+ * after a garbage collection once they are started, in total and per port.
+ * The numbers of components and of additional ports per component can be
+ * given as first and second command line arguments. As the CVM is not
+ * distributed, its ports are never exported to the RMI runtime, which is the
+ * main saving measured by this benchmark.
+ * </p>
+ * 
+ * <p><strong>Invariant</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code nbComponents > 0 && nbPorts >= 0}
+ * </pre>
+ * 
+ * <p>Created on : 2026-10-16</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+public class			CVMStartupBenchmark
+extends		AbstractCVM
+{
+	// -------------------------------------------------------------------------
+	// Constants and variables
+	// -------------------------------------------------------------------------
+
+	/** default number of components.										*/
+	public static final int		DEFAULT_NB_COMPONENTS = 10000;
+	/** default number of additional inbound ports per component.			*/
+	public static final int		DEFAULT_NB_PORTS = 4;
+
+	/** number of components.												*/
+	protected final int			nbComponents;
+	/** number of additional inbound ports per component.					*/
+	protected final int			nbPorts;
+	/** heap used before the creation of the components.					*/
+	protected long				heapBefore;
+
+	// -------------------------------------------------------------------------
+	// Constructors
+	// -------------------------------------------------------------------------
+
+	/**
+	 * create the CVM.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code nbComponents > 0 && nbPorts >= 0}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param nbComponents	number of components.
+	 * @param nbPorts		number of additional inbound ports per component.
+	 * @throws Exception	<i>to do</i>.
+	 */
+	public				CVMStartupBenchmark(int nbComponents, int nbPorts)
+	throws Exception
+	{
+		super();
+
+		assert	nbComponents > 0 && nbPorts >= 0 :
+				new PreconditionException("nbComponents > 0 && nbPorts >= 0");
+
+		this.nbComponents = nbComponents;
+		this.nbPorts = nbPorts;
+	}
+
+	// -------------------------------------------------------------------------
+	// Component virtual machine life-cycle
+	// -------------------------------------------------------------------------
+
+	/**
+	 * return the heap used after a garbage collection.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code ret >= 0}
+	 * </pre>
+	 *
+	 * @return	the heap used after a garbage collection.
+	 */
+	protected static long	usedHeap()
+	{
+		Runtime r = Runtime.getRuntime();
+		for (int i = 0 ; i < 3 ; i++) {
+			System.gc();
+		}
+		return r.totalMemory() - r.freeMemory();
+	}
+
+	/**
+	 * @see fr.sorbonne_u.components.cvm.AbstractCVM#deploy()
+	 */
+	@Override
+	public void			deploy() throws Exception
+	{
+		this.heapBefore = usedHeap();
+		long start = System.nanoTime();
+		for (int i = 0 ; i < this.nbComponents ; i++) {
+			AbstractComponent.createComponent(
+				PortsBenchmarkComponent.class.getCanonicalName(),
+				new Object[]{this.nbPorts});
+		}
+		long elapsed = System.nanoTime() - start;
+		System.out.println(
+				"creation of " + this.nbComponents + " components with "
+				+ (this.nbPorts + 1) + " inbound ports each: "
+				+ elapsed / 1000000L + " ms");
+
+		super.deploy();
+	}
+
+	/**
+	 * @see fr.sorbonne_u.components.cvm.AbstractCVM#start()
+	 */
+	@Override
+	public void			start() throws Exception
+	{
+		long start = System.nanoTime();
+		super.start();
+		long elapsed = System.nanoTime() - start;
+		System.out.println("start of the components: "
+												+ elapsed / 1000000L + " ms");
+
+		long heap = usedHeap() - this.heapBefore;
+		long nbAllPorts = (long) this.nbComponents * (this.nbPorts + 1);
+		System.out.println("heap retained: " + heap / 1024L + " KiB, "
+						   + heap / nbAllPorts + " bytes per port (including"
+						   + " the rest of the components)");
+	}
+
+	public static void	main(String[] args)
+	{
+		try {
+			int nbComponents = args.length > 0 ?
+									Integer.parseInt(args[0])
+								:	DEFAULT_NB_COMPONENTS;
+			int nbPorts = args.length > 1 ?
+									Integer.parseInt(args[1])
+								:	DEFAULT_NB_PORTS;
+			CVMStartupBenchmark cvm =
+							new CVMStartupBenchmark(nbComponents, nbPorts);
+			cvm.startStandardLifeCycle(1000L);
+			System.exit(0);
+		} catch (Throwable e) {
+			e.printStackTrace();
+		}
+	}
+}
+// -----------------------------------------------------------------------------
@@ -0,0 +1,245 @@
+package fr.sorbonne_u.components.examples.benchmarks;
+
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a
+// basic component programming model to program with components
+// distributed applications in the Java programming language.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import fr.sorbonne_u.components.codecs.Codecs;
+import fr.sorbonne_u.components.examples.dpp.example.ExamplePipelineData;
+import fr.sorbonne_u.components.examples.pingpong.components.Ball;
+
+// -----------------------------------------------------------------------------
+/**
+ * The class <code>CodecsBenchmark</code> compares the encoding of the payloads
+ * of the <code>pingpong</code>, <code>basic_cs</code> and <code>dpp</code>
+ * examples by Java serialisation and by <code>Codecs</code>.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p>
+ * The payloads are a <code>Ball</code> for <code>pingpong</code>, the array
+ * of ten URIs returned by <code>provideURIs</code> for <code>basic_cs</code>
+ * and an <code>ExamplePipelineData</code> for <code>dpp</code>.  Each one is
+ * encoded in three ways: Java serialisation in a new object stream, as RMI
+ * does for each call, <code>Codecs</code> without registered codec and
+ * <code>Codecs</code> with a <code>FieldsCodec</code> registered for the
+ * class of the payload.  The benchmark prints, for each payload and way,
+ * the number of bytes and the mean times to encode and decode the payload
+ * in nanoseconds.  The number of timed operations can be given as first
+ * command line argument.
+ * </p>
+ * 
+ * <p><strong>Invariant</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code true}	// no more invariant
+ * </pre>
+ * 
+ * <p>Created on : 2026-10-16</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+public class			CodecsBenchmark
+{
+	/** default number of timed operations per measure.						*/
+	public static final int		DEFAULT_ITERATIONS = 200000;
+
+	/**
+	 * The interface <code>Encoding</code> abstracts the way a payload is
+	 * encoded and decoded.
+	 *
+	 * <p>Created on : 2026-10-16</p>
+	 * 
+	 * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+	 */
+	protected static interface	Encoding
+	{
+		/**
+		 * return the bytes encoding {@code v}.
+		 * 
+		 * @param v				value to be encoded.
+		 * @return				the bytes encoding {@code v}.
+		 * @throws Exception	<i>to do</i>.
+		 */
+		public byte[]		encode(Object v) throws Exception;
+
+		/**
+		 * return the value encoded by {@code b}.
+		 * 
+		 * @param b				bytes encoding a value.
+		 * @return				the value encoded by {@code b}.
+		 * @throws Exception	<i>to do</i>.
+		 */
+		public Object		decode(byte[] b) throws Exception;
+	}
+
+	/** Java serialisation in a new object stream per value.				*/
+	protected static final Encoding	SERIALISATION = new Encoding() {
+		@Override
+		public byte[]	encode(Object v) throws IOException
+		{
+			ByteArrayOutputStream bos = new ByteArrayOutputStream();
+			ObjectOutputStream oos = new ObjectOutputStream(bos);
+			oos.writeObject(v);
+			oos.close();
+			return bos.toByteArray();
+		}
+
+		@Override
+		public Object	decode(byte[] b)
+		throws IOException, ClassNotFoundException
+		{
+			try (ObjectInputStream ois =
+						new ObjectInputStream(new ByteArrayInputStream(b))) {
+				return ois.readObject();
+			}
+		}
+	};
+
+	/** encoding by <code>Codecs</code>.									*/
+	protected static final Encoding	CODECS = new Encoding() {
+		@Override
+		public byte[]	encode(Object v) throws IOException
+		{
+			return Codecs.encode(v);
+		}
+
+		@Override
+		public Object	decode(byte[] b)
+		throws IOException, ClassNotFoundException
+		{
+			return Codecs.decode(b);
+		}
+	};
+
+	/**
+	 * measure and print the size and the encoding and decoding times of the
+	 * payload {@code v} with {@code e}.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code name != null && v != null && e != null}
+	 * pre	{@code iterations > 0}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param name			name of the measure.
+	 * @param v				payload.
+	 * @param e				encoding.
+	 * @param iterations	number of timed operations.
+	 * @throws Exception	<i>to do</i>.
+	 */
+	protected static void	measure(
+		String name,
+		Object v,
+		Encoding e,
+		int iterations
+		) throws Exception
+	{
+		byte[] b = e.encode(v);
+		// warm up
+		for (int i = 0 ; i < iterations ; i++) {
+			e.decode(e.encode(v));
+		}
+		long start = System.nanoTime();
+		for (int i = 0 ; i < iterations ; i++) {
+			b = e.encode(v);
+		}
+		long encoding = System.nanoTime() - start;
+		Object sink = null;
+		start = System.nanoTime();
+		for (int i = 0 ; i < iterations ; i++) {
+			sink = e.decode(b);
+		}
+		long decoding = System.nanoTime() - start;
+		assert	sink != null;
+		System.out.println(String.format("%-36s %8d %12d %12d",
+										 name, b.length,
+										 encoding / iterations,
+										 decoding / iterations));
+	}
+
+	/**
+	 * run the benchmark.
+	 * 
+	 * @param args	the number of timed operations, optional.
+	 */
+	public static void	main(String[] args)
+	{
+		int iterations = DEFAULT_ITERATIONS;
+		if (args.length > 0) {
+			iterations = Integer.parseInt(args[0]);
+		}
+		try {
+			Ball ball = new Ball();
+			for (int i = 0 ; i < 17 ; i++) {
+				ball.incrementNumberOfHits();
+			}
+			String[] uris = new String[10];
+			for (int i = 0 ; i < uris.length ; i++) {
+				uris[i] = java.util.UUID.randomUUID().toString();
+			}
+			ExamplePipelineData data =
+								new ExamplePipelineData(42).setResult(1764);
+
+			System.out.println(String.format("%-36s %8s %12s %12s",
+									"payload/encoding", "bytes",
+									"encode (ns)", "decode (ns)"));
+			measure("pingpong Ball/serialisation", ball, SERIALISATION,
+					iterations);
+			measure("pingpong Ball/codecs", ball, CODECS, iterations);
+			measure("basic_cs String[10]/serialisation", uris, SERIALISATION,
+					iterations);
+			measure("basic_cs String[10]/codecs", uris, CODECS, iterations);
+			measure("dpp data/serialisation", data, SERIALISATION,
+					iterations);
+			measure("dpp data/codecs", data, CODECS, iterations);
+
+			Codecs.registerFieldsCodec(Codecs.FIRST_USER_CODEC_ID,
+									   Ball.class);
+			Codecs.registerFieldsCodec(Codecs.FIRST_USER_CODEC_ID + 1,
+									   ExamplePipelineData.class);
+			measure("pingpong Ball/fields codec", ball, CODECS, iterations);
+			measure("dpp data/fields codec", data, CODECS, iterations);
+		} catch (Exception e) {
+			e.printStackTrace();
+		}
+	}
+}
+// -----------------------------------------------------------------------------
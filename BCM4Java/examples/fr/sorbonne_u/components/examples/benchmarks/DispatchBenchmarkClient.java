@@ -0,0 +1,318 @@
+package fr.sorbonne_u.components.examples.benchmarks;
+
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a
+// basic component programming model to program with components
+// distributed applications in the Java programming language.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+import fr.sorbonne_u.components.AbstractComponent;
+import fr.sorbonne_u.components.annotations.RequiredInterfaces;
+import fr.sorbonne_u.components.examples.basic_cs.connections.URIConsumerOutboundPort;
+import fr.sorbonne_u.components.examples.basic_cs.interfaces.URIConsumerCI;
+import fr.sorbonne_u.components.examples.chm.connectors.MapReadingConnector;
+import fr.sorbonne_u.components.examples.chm.interfaces.MapReadingCI;
+import fr.sorbonne_u.components.examples.chm.ports.MapReadingOutboundPort;
+import fr.sorbonne_u.components.exceptions.ComponentShutdownException;
+import fr.sorbonne_u.components.reflection.connectors.ReflectionConnector;
+import fr.sorbonne_u.components.reflection.interfaces.ReflectionCI;
+import fr.sorbonne_u.components.reflection.ports.ReflectionOutboundPort;
+import fr.sorbonne_u.exceptions.PreconditionException;
+
+// -----------------------------------------------------------------------------
+/**
+ * The class <code>DispatchBenchmarkClient</code> implements a component
+ * timing synchronous calls on the URI provider of the <code>basic_cs</code>
+ * example and on the concurrent map component of the <code>chm</code>
+ * example.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p>
+ * Each benchmark first performs {@code WARMUP_ITERATIONS} calls to let the
+ * JIT compiler optimise the call path, then times the given number of calls
+ * and prints the mean time per call in nanoseconds on the standard output.
+ * The results of the calls are consumed to prevent the JIT compiler from
+ * eliminating them.
+ * </p>
+ * 
+ * <p><strong>White-box Invariant</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code iterations > 0}
+ * </pre>
+ * 
+ * <p><strong>Black-box Invariant</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code true}	// no more invariant
+ * </pre>
+ * 
+ * <p>Created on : 2026-10-16</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+@RequiredInterfaces(required = {ReflectionCI.class,
+								URIConsumerCI.class,
+								MapReadingCI.class})
+public class			DispatchBenchmarkClient
+extends		AbstractComponent
+{
+	// -------------------------------------------------------------------------
+	// Constants and variables
+	// -------------------------------------------------------------------------
+
+	/** number of calls performed before timing.							*/
+	public static int			WARMUP_ITERATIONS = 20000;
+
+	/** number of timed calls per benchmark.								*/
+	protected final int			iterations;
+	/** URI of the reflection inbound port of the concurrent map component.	*/
+	protected final String		chmReflectionInboundPortURI;
+	/** outbound port connected to the URI provider.						*/
+	protected final URIConsumerOutboundPort				uriPort;
+	/** outbound port connected to the concurrent map component.			*/
+	protected final MapReadingOutboundPort<String,Integer>	mapPort;
+	/** accumulator consuming the results of the calls.					*/
+	protected long				sink;
+
+	// -------------------------------------------------------------------------
+	// Constructors
+	// -------------------------------------------------------------------------
+
+	/**
+	 * create the benchmark client component.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code uriOutboundPortURI != null}
+	 * pre	{@code chmReflectionInboundPortURI != null}
+	 * pre	{@code iterations > 0}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param uriOutboundPortURI			URI of the outbound port connected to the URI provider.
+	 * @param chmReflectionInboundPortURI	URI of the reflection inbound port of the concurrent map component.
+	 * @param iterations					number of timed calls per benchmark.
+	 * @throws Exception					<i>to do</i>.
+	 */
+	protected			DispatchBenchmarkClient(
+		String uriOutboundPortURI,
+		String chmReflectionInboundPortURI,
+		int iterations
+		) throws Exception
+	{
+		super(1, 0);
+
+		assert	uriOutboundPortURI != null :
+				new PreconditionException("uriOutboundPortURI != null");
+		assert	chmReflectionInboundPortURI != null :
+				new PreconditionException(
+						"chmReflectionInboundPortURI != null");
+		assert	iterations > 0 :
+				new PreconditionException("iterations > 0");
+
+		this.iterations = iterations;
+		this.chmReflectionInboundPortURI = chmReflectionInboundPortURI;
+		this.uriPort = new URIConsumerOutboundPort(uriOutboundPortURI, this);
+		this.uriPort.publishPort();
+		this.mapPort = new MapReadingOutboundPort<String,Integer>(this);
+		this.mapPort.publishPort();
+
+		AbstractComponent.checkImplementationInvariant(this);
+		AbstractComponent.checkInvariant(this);
+	}
+
+	// -------------------------------------------------------------------------
+	// Component life-cycle
+	// -------------------------------------------------------------------------
+
+	/**
+	 * @see fr.sorbonne_u.components.AbstractComponent#execute()
+	 */
+	@Override
+	public void			execute() throws Exception
+	{
+		super.execute();
+
+		ReflectionOutboundPort rop = new ReflectionOutboundPort(this);
+		rop.publishPort();
+		this.doPortConnection(rop.getPortURI(),
+							  this.chmReflectionInboundPortURI,
+							  ReflectionConnector.class.getCanonicalName());
+		String[] readingInboundPortURIs =
+				rop.findInboundPortURIsFromInterface(MapReadingCI.class);
+		assert	readingInboundPortURIs != null &&
+									readingInboundPortURIs.length == 1;
+		this.doPortConnection(this.mapPort.getPortURI(),
+							  readingInboundPortURIs[0],
+							  MapReadingConnector.class.getCanonicalName());
+		this.doPortDisconnection(rop.getPortURI());
+		rop.unpublishPort();
+		rop.destroyPort();
+
+		this.report("basic_cs getURI", this.timeURIProvider());
+		this.report("chm get", this.timeMapGet());
+		this.report("chm containsKey", this.timeMapContainsKey());
+	}
+
+	/**
+	 * @see fr.sorbonne_u.components.AbstractComponent#finalise()
+	 */
+	@Override
+	public void			finalise() throws Exception
+	{
+		this.doPortDisconnection(this.uriPort.getPortURI());
+		this.doPortDisconnection(this.mapPort.getPortURI());
+		super.finalise();
+	}
+
+	/**
+	 * @see fr.sorbonne_u.components.AbstractComponent#shutdown()
+	 */
+	@Override
+	public void			shutdown() throws ComponentShutdownException
+	{
+		try {
+			this.uriPort.unpublishPort();
+			this.mapPort.unpublishPort();
+		} catch (Exception e) {
+			throw new ComponentShutdownException(e);
+		}
+		super.shutdown();
+	}
+
+	// -------------------------------------------------------------------------
+	// Benchmarks
+	// -------------------------------------------------------------------------
+
+	/**
+	 * time the calls to the URI provider and return the mean time per call
+	 * in nanoseconds.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @return				the mean time per call in nanoseconds.
+	 * @throws Exception	<i>to do</i>.
+	 */
+	protected double	timeURIProvider() throws Exception
+	{
+		for (int i = 0 ; i < WARMUP_ITERATIONS ; i++) {
+			this.sink += this.uriPort.getURI().length();
+		}
+		long start = System.nanoTime();
+		for (int i = 0 ; i < this.iterations ; i++) {
+			this.sink += this.uriPort.getURI().length();
+		}
+		return ((double)(System.nanoTime() - start))/this.iterations;
+	}
+
+	/**
+	 * time the calls to {@code get} on the concurrent map component and
+	 * return the mean time per call in nanoseconds.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @return				the mean time per call in nanoseconds.
+	 * @throws Exception	<i>to do</i>.
+	 */
+	protected double	timeMapGet() throws Exception
+	{
+		for (int i = 0 ; i < WARMUP_ITERATIONS ; i++) {
+			Integer v = this.mapPort.get("k");
+			this.sink += v == null ? 1 : v;
+		}
+		long start = System.nanoTime();
+		for (int i = 0 ; i < this.iterations ; i++) {
+			Integer v = this.mapPort.get("k");
+			this.sink += v == null ? 1 : v;
+		}
+		return ((double)(System.nanoTime() - start))/this.iterations;
+	}
+
+	/**
+	 * time the calls to {@code containsKey} on the concurrent map component
+	 * and return the mean time per call in nanoseconds.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @return				the mean time per call in nanoseconds.
+	 * @throws Exception	<i>to do</i>.
+	 */
+	protected double	timeMapContainsKey() throws Exception
+	{
+		for (int i = 0 ; i < WARMUP_ITERATIONS ; i++) {
+			this.sink += this.mapPort.containsKey("k") ? 1 : 2;
+		}
+		long start = System.nanoTime();
+		for (int i = 0 ; i < this.iterations ; i++) {
+			this.sink += this.mapPort.containsKey("k") ? 1 : 2;
+		}
+		return ((double)(System.nanoTime() - start))/this.iterations;
+	}
+
+	/**
+	 * print the result of a benchmark on the standard output.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code name != null}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param name			name of the benchmark.
+	 * @param nsPerCall		mean time per call in nanoseconds.
+	 */
+	protected void		report(String name, double nsPerCall)
+	{
+		System.out.println(
+				String.format("%-20s %10.1f ns/call (%d calls, sink %d)",
+							  name, nsPerCall, this.iterations, this.sink));
+	}
+}
+// -----------------------------------------------------------------------------
@@ -0,0 +1,240 @@
+package fr.sorbonne_u.components.examples.benchmarks;
+
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a
+// basic component programming model to program with components
+// distributed applications in the Java programming language.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+import fr.sorbonne_u.components.AbstractComponent;
+import fr.sorbonne_u.components.annotations.RequiredInterfaces;
+import fr.sorbonne_u.components.examples.basic_cs.connections.URIConsumerOutboundPort;
+import fr.sorbonne_u.components.examples.basic_cs.interfaces.URIConsumerCI;
+import fr.sorbonne_u.components.exceptions.ComponentShutdownException;
+import fr.sorbonne_u.exceptions.PreconditionException;
+
+// -----------------------------------------------------------------------------
+/**
+ * The class <code>LocalCallBenchmarkClient</code> implements a component
+ * timing synchronous calls on two URI providers of the same JVM, one called
+ * through its inbound port and the other through the local invoker of its
+ * inbound port.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p>
+ * As in <code>DispatchBenchmarkClient</code>, each benchmark first performs
+ * {@code WARMUP_ITERATIONS} calls, then times the given number of calls and
+ * prints the mean time per call in nanoseconds on the standard output. The
+ * two benchmarks are run twice in alternation to expose the effects of the
+ * JIT compilation order.
+ * </p>
+ * 
+ * <p><strong>White-box Invariant</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code iterations > 0}
+ * </pre>
+ * 
+ * <p><strong>Black-box Invariant</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code true}	// no more invariant
+ * </pre>
+ * 
+ * <p>Created on : 2026-10-16</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+@RequiredInterfaces(required = {URIConsumerCI.class})
+public class			LocalCallBenchmarkClient
+extends		AbstractComponent
+{
+	// -------------------------------------------------------------------------
+	// Constants and variables
+	// -------------------------------------------------------------------------
+
+	/** number of calls performed before timing.							*/
+	public static int			WARMUP_ITERATIONS = 20000;
+
+	/** number of timed calls per benchmark.								*/
+	protected final int			iterations;
+	/** outbound port whose connector calls the inbound port.				*/
+	protected final URIConsumerOutboundPort	portCallsPort;
+	/** outbound port whose connector calls the local invoker.			*/
+	protected final URIConsumerOutboundPort	invokerCallsPort;
+	/** accumulator consuming the results of the calls.					*/
+	protected long				sink;
+
+	// -------------------------------------------------------------------------
+	// Constructors
+	// -------------------------------------------------------------------------
+
+	/**
+	 * create the benchmark client component.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code portCallsPortURI != null}
+	 * pre	{@code invokerCallsPortURI != null}
+	 * pre	{@code iterations > 0}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param portCallsPortURI		URI of the outbound port whose connector calls the inbound port.
+	 * @param invokerCallsPortURI	URI of the outbound port whose connector calls the local invoker.
+	 * @param iterations			number of timed calls per benchmark.
+	 * @throws Exception			<i>to do</i>.
+	 */
+	protected			LocalCallBenchmarkClient(
+		String portCallsPortURI,
+		String invokerCallsPortURI,
+		int iterations
+		) throws Exception
+	{
+		super(1, 0);
+
+		assert	portCallsPortURI != null :
+				new PreconditionException("portCallsPortURI != null");
+		assert	invokerCallsPortURI != null :
+				new PreconditionException("invokerCallsPortURI != null");
+		assert	iterations > 0 :
+				new PreconditionException("iterations > 0");
+
+		this.iterations = iterations;
+		this.portCallsPort =
+				new URIConsumerOutboundPort(portCallsPortURI, this);
+		this.portCallsPort.publishPort();
+		this.invokerCallsPort =
+				new URIConsumerOutboundPort(invokerCallsPortURI, this);
+		this.invokerCallsPort.publishPort();
+
+		AbstractComponent.checkImplementationInvariant(this);
+		AbstractComponent.checkInvariant(this);
+	}
+
+	// -------------------------------------------------------------------------
+	// Component life-cycle
+	// -------------------------------------------------------------------------
+
+	/**
+	 * @see fr.sorbonne_u.components.AbstractComponent#execute()
+	 */
+	@Override
+	public void			execute() throws Exception
+	{
+		super.execute();
+
+		for (int i = 0 ; i < 2 ; i++) {
+			this.report("through port", this.time(this.portCallsPort));
+			this.report("local invoker", this.time(this.invokerCallsPort));
+		}
+	}
+
+	/**
+	 * @see fr.sorbonne_u.components.AbstractComponent#finalise()
+	 */
+	@Override
+	public void			finalise() throws Exception
+	{
+		this.doPortDisconnection(this.portCallsPort.getPortURI());
+		this.doPortDisconnection(this.invokerCallsPort.getPortURI());
+		super.finalise();
+	}
+
+	/**
+	 * @see fr.sorbonne_u.components.AbstractComponent#shutdown()
+	 */
+	@Override
+	public void			shutdown() throws ComponentShutdownException
+	{
+		try {
+			this.portCallsPort.unpublishPort();
+			this.invokerCallsPort.unpublishPort();
+		} catch (Exception e) {
+			throw new ComponentShutdownException(e);
+		}
+		super.shutdown();
+	}
+
+	// -------------------------------------------------------------------------
+	// Benchmarks
+	// -------------------------------------------------------------------------
+
+	/**
+	 * time the calls to the URI provider connected to {@code port} and
+	 * return the mean time per call in nanoseconds.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code port != null && port.connected()}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param port			outbound port through which the calls are made.
+	 * @return				the mean time per call in nanoseconds.
+	 * @throws Exception	<i>to do</i>.
+	 */
+	protected double	time(URIConsumerOutboundPort port) throws Exception
+	{
+		for (int i = 0 ; i < WARMUP_ITERATIONS ; i++) {
+			this.sink += port.getURI().length();
+		}
+		long start = System.nanoTime();
+		for (int i = 0 ; i < this.iterations ; i++) {
+			this.sink += port.getURI().length();
+		}
+		return ((double)(System.nanoTime() - start))/this.iterations;
+	}
+
+	/**
+	 * print the result of a benchmark on the standard output.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code name != null}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param name			name of the benchmark.
+	 * @param nsPerCall		mean time per call in nanoseconds.
+	 */
+	protected void		report(String name, double nsPerCall)
+	{
+		System.out.println(
+				String.format("%-20s %10.1f ns/call (%d calls, sink %d)",
+							  name, nsPerCall, this.iterations, this.sink));
+	}
+}
+// -----------------------------------------------------------------------------
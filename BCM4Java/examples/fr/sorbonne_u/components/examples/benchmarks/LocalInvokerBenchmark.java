@@ -0,0 +1,183 @@
+package fr.sorbonne_u.components.examples.benchmarks;
+
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a
+// basic component programming model to program with components
+// distributed applications in the Java programming language.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+import java.lang.reflect.Constructor;
+import java.util.HashMap;
+import java.util.Map;
+import fr.sorbonne_u.components.ComponentI;
+import fr.sorbonne_u.components.examples.basic_cs.components.URIProvider;
+import fr.sorbonne_u.components.examples.basic_cs.connections.URIProviderInboundPort;
+import fr.sorbonne_u.components.examples.basic_cs.interfaces.URIProviderCI;
+import fr.sorbonne_u.components.helpers.ConnectionClassesGenerator;
+import fr.sorbonne_u.components.ports.AbstractInboundPort;
+
+// -----------------------------------------------------------------------------
+/**
+ * The class <code>LocalInvokerBenchmark</code> compares, without CVM, the
+ * cost of synchronous calls on the inbound ports of an URI provider with
+ * the cost of the same calls on their local invokers, for a hand-written
+ * and a generated inbound port.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p>
+ * The benchmark creates and starts an URI provider of the
+ * <code>basic_cs</code> example, adds to it an
+ * <code>URIProviderInboundPort</code>, which local invoker is written by
+ * hand, and an inbound port generated by
+ * {@code ConnectionClassesGenerator#generateInboundPort}, which local
+ * invoker is generated with it. It then times calls to
+ * <code>provideURI</code> from the main thread on each port and each local
+ * invoker, as the connectors do when {@code AbstractCVM.USE_LOCAL_INVOKERS}
+ * is respectively false and true, and prints the mean time per call in
+ * nanoseconds. The number of timed calls can be given as first command
+ * line argument.
+ * </p>
+ * 
+ * <p><strong>Invariant</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code true}	// no more invariant
+ * </pre>
+ * 
+ * <p>Created on : 2026-10-16</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+public class			LocalInvokerBenchmark
+{
+	/** default number of timed calls per measure.							*/
+	public static final int		DEFAULT_ITERATIONS = 500000;
+	/** canonical name of the generated inbound port class.					*/
+	public static final String	GENERATED_PORT_CLASSNAME =
+		"fr.sorbonne_u.components.examples.basic_cs.interfaces."
+											+ "GeneratedURIProviderInboundPort";
+
+	/**
+	 * measure and print the mean time of a call to {@code provideURI} on
+	 * {@code callee}.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code name != null && callee != null}
+	 * pre	{@code iterations > 0}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param name			name of the measure.
+	 * @param callee		port or local invoker called.
+	 * @param iterations	number of timed calls.
+	 * @throws Exception	<i>to do</i>.
+	 */
+	protected static void	measure(
+		String name,
+		URIProviderCI callee,
+		int iterations
+		) throws Exception
+	{
+		// warm up
+		for (int i = 0 ; i < iterations ; i++) {
+			callee.provideURI();
+		}
+		String sink = null;
+		long start = System.nanoTime();
+		for (int i = 0 ; i < iterations ; i++) {
+			sink = callee.provideURI();
+		}
+		long duration = System.nanoTime() - start;
+		assert	sink != null;
+		System.out.println(String.format("%-36s %12d",
+										 name, duration / iterations));
+	}
+
+	/**
+	 * run the benchmark.
+	 * 
+	 * @param args	the number of timed calls, optional.
+	 */
+	public static void	main(String[] args)
+	{
+		int iterations = DEFAULT_ITERATIONS;
+		if (args.length > 0) {
+			iterations = Integer.parseInt(args[0]);
+		}
+		try {
+			// the constructors of the components are not public, as they
+			// are meant to be called by AbstractComponent#createComponent
+			Constructor<URIProvider> c =
+				URIProvider.class.getDeclaredConstructor(String.class,
+														 String.class);
+			c.setAccessible(true);
+			URIProvider provider =
+						c.newInstance("bench-provider", "bench-provider-ip");
+			provider.start();
+
+			AbstractInboundPort handWritten =
+				new URIProviderInboundPort("bench-hand-written-ip", provider);
+			Map<String,String> methodNames = new HashMap<>();
+			methodNames.put("provideURI", "provideURIService");
+			methodNames.put("provideURIs", "provideURIsService");
+			AbstractInboundPort generated =
+				ConnectionClassesGenerator.generateInboundPort(
+							GENERATED_PORT_CLASSNAME, URIProviderCI.class,
+							URIProvider.class, methodNames).
+						getConstructor(String.class, ComponentI.class).
+						newInstance("bench-generated-ip", provider);
+
+			System.out.println(String.format("%-36s %12s",
+											 "callee", "call (ns)"));
+			// run twice in alternation to expose the effects of the JIT
+			// compilation order
+			for (int r = 0 ; r < 2 ; r++) {
+				measure("hand-written port", (URIProviderCI) handWritten,
+						iterations);
+				measure("hand-written local invoker",
+						(URIProviderCI) handWritten.getLocalInvoker(),
+						iterations);
+				measure("generated port", (URIProviderCI) generated,
+						iterations);
+				measure("generated local invoker",
+						(URIProviderCI) generated.getLocalInvoker(),
+						iterations);
+			}
+		} catch (Exception e) {
+			e.printStackTrace();
+		}
+		System.exit(0);
+	}
+}
+// -----------------------------------------------------------------------------
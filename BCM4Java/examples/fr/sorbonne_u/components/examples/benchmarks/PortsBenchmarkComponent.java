@@ -0,0 +1,99 @@
+package fr.sorbonne_u.components.examples.benchmarks;
+
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a
+// basic component programming model to program with components
+// distributed applications in the Java programming language.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+import fr.sorbonne_u.components.AbstractComponent;
+import fr.sorbonne_u.components.ReflectionInboundPort;
+import fr.sorbonne_u.exceptions.PreconditionException;
+
+// -----------------------------------------------------------------------------
+/**
+ * The class <code>PortsBenchmarkComponent</code> implements the components
+ * deployed by the start up benchmark, which only create and publish a given
+ * number of inbound ports in addition to their reflection inbound port.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p>
+ * The additional ports are reflection inbound ports, as the reflection
+ * interface is offered by all components, hence the benchmark needs no
+ * component interface of its own.
+ * </p>
+ * 
+ * <p><strong>White-box Invariant</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code true}	// no more invariant
+ * </pre>
+ * 
+ * <p><strong>Black-box Invariant</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code true}	// no more invariant
+ * </pre>
+ * 
+ * <p>Created on : 2026-10-16</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+public class			PortsBenchmarkComponent
+extends		AbstractComponent
+{
+	/**
+	 * create a passive component with {@code nbPorts} additional published
+	 * inbound ports.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code nbPorts >= 0}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param nbPorts		number of additional inbound ports.
+	 * @throws Exception	<i>to do</i>.
+	 */
+	protected			PortsBenchmarkComponent(int nbPorts) throws Exception
+	{
+		super(0, 0);
+
+		assert	nbPorts >= 0 : new PreconditionException("nbPorts >= 0");
+
+		for (int i = 0 ; i < nbPorts ; i++) {
+			new ReflectionInboundPort(this).publishPort();
+		}
+	}
+}
+// -----------------------------------------------------------------------------
@@ -40,6 +40,22 @@ implements	PipelineDataI
 	/**	current result of the pipeline.									 	*/
 	protected int		result;
 
+	/**
+	 * create an empty piece of data, filled by the codecs decoding it (see
+	 * {@code fr.sorbonne_u.components.codecs.FieldsCodec}).
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code !isResultSet()}
+	 * </pre>
+	 */
+	protected			ExamplePipelineData()
+	{
+		this(0);
+	}
+
 	/**
 	 * create a piece of data.
 	 * 
@@ -32,7 +32,11 @@ package fr.sorbonne_u.components.plugins.asynccall;
 // The fact that you are presently reading this means that you have had
 // knowledge of the CeCILL-C license and that you accept its terms.
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import fr.sorbonne_u.components.codecs.Codecs;
 import fr.sorbonne_u.components.AbstractComponent;
 import fr.sorbonne_u.exceptions.PreconditionException;
 import fr.sorbonne_u.components.exceptions.BCMException;
@@ -130,8 +134,9 @@ implements	AsyncCallI
 	 *  call is processed.													*/
 	transient protected AsyncCallServerSidePlugin	plugin;
 
-	/** actual parameters of the call.										*/
-	protected final Serializable[]					parameters;
+	/** actual parameters of the call, written through the codecs by
+	 *  {@code writeObject}.												*/
+	transient protected Serializable[]				parameters;
 
 	/** URI of this call, when the caller waits for a result.				*/
 	protected String								callURI;
@@ -286,5 +291,50 @@ implements	AsyncCallI
 			p.asyncCall(c);
 		}
 	}
+
+	// -------------------------------------------------------------------------
+	// Serialisation
+	// -------------------------------------------------------------------------
+
+	/**
+	 * write the call, its parameters being written by {@code Codecs} so
+	 * that the codecs registered for their classes are used.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code out != null}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param out			stream on which the call is written.
+	 * @throws IOException	when a parameter can not be written.
+	 */
+	private void		writeObject(ObjectOutputStream out) throws IOException
+	{
+		out.defaultWriteObject();
+		Codecs.writeValue(out, this.parameters);
+	}
+
+	/**
+	 * read a call written by {@code writeObject}.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code in != null}
+	 * post	{@code parameters != null}
+	 * </pre>
+	 *
+	 * @param in						stream from which the call is read.
+	 * @throws IOException				when the stream is corrupted.
+	 * @throws ClassNotFoundException	when the class of a parameter is unknown.
+	 */
+	private void		readObject(ObjectInputStream in)
+	throws IOException, ClassNotFoundException
+	{
+		in.defaultReadObject();
+		this.parameters = (Serializable[]) Codecs.readValue(in);
+	}
 }
 // -----------------------------------------------------------------------------
@@ -35,6 +35,7 @@ package fr.sorbonne_u.components.plugins.dipc.ports;
 
 import fr.sorbonne_u.components.AbstractComponent;
 import fr.sorbonne_u.components.ComponentI;
+import fr.sorbonne_u.components.annotations.RequestPriority;
 import fr.sorbonne_u.components.plugins.dipc.interfaces.PushControlCI;
 import fr.sorbonne_u.components.plugins.dipc.interfaces.PushControlImplementationI;
 import fr.sorbonne_u.components.ports.AbstractInboundPort;
@@ -58,6 +59,7 @@ import fr.sorbonne_u.components.ports.AbstractInboundPort;
  * 
  * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
  */
+@RequestPriority(RequestPriority.MAX_PRIORITY)
 public class			PushControlInboundPort
 extends		AbstractInboundPort
 implements	PushControlCI
@@ -124,7 +126,7 @@ implements	PushControlCI
 	@Override
 	public boolean		isPortExisting(String portURI) throws Exception
 	{
-		return this.owner.handleRequest(
+		return this.handleRequestOnOwner(
 			new AbstractComponent.AbstractService<Boolean>(this.getPluginURI()) {
 				@Override
 				public Boolean call() throws Exception {
@@ -144,7 +146,7 @@ implements	PushControlCI
 		long interval
 		) throws Exception
 	{
-		this.owner.handleRequest(
+		this.handleRequestOnOwner(
 			new AbstractComponent.AbstractService<Void>(this.getPluginURI()) {
 				@Override
 				public Void call() throws Exception {
@@ -166,7 +168,7 @@ implements	PushControlCI
 		int n
 		) throws Exception
 	{
-		this.owner.handleRequest(
+		this.handleRequestOnOwner(
 			new AbstractComponent.AbstractService<Void>(this.getPluginURI()) {
 				@Override
 				public Void call() throws Exception {
@@ -185,7 +187,7 @@ implements	PushControlCI
 	public boolean		currentlyPushesData(String portURI)
 	throws Exception
 	{
-		return this.owner.handleRequest(
+		return this.handleRequestOnOwner(
 			new AbstractComponent.AbstractService<Boolean>(this.getPluginURI()) {
 				@Override
 				public Boolean call() throws Exception {
@@ -203,7 +205,7 @@ implements	PushControlCI
 	public void			stopPushing(String portURI)
 	throws Exception
 	{
-		this.owner.handleRequest(
+		this.handleRequestOnOwner(
 			new AbstractComponent.AbstractService<Void>(this.getPluginURI()) {
 				@Override
 				public Void call() throws Exception {
@@ -33,8 +33,11 @@ package fr.sorbonne_u.components;
 // The fact that you are presently reading this means that you have had
 // knowledge of the CeCILL-C license and that you accept its terms.
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Hashtable;
 import java.util.List;
@@ -44,9 +47,11 @@ import java.util.Vector;
 import java.util.concurrent.CancellationException;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Delayed;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.ScheduledFuture;
@@ -58,7 +63,9 @@ import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.stream.Collectors;
 import fr.sorbonne_u.components.annotations.AddPlugin;
 import fr.sorbonne_u.components.annotations.AddPlugins;
+import fr.sorbonne_u.components.annotations.CoScheduled;
 import fr.sorbonne_u.components.annotations.OfferedInterfaces;
+import fr.sorbonne_u.components.annotations.RequestPriority;
 import fr.sorbonne_u.components.annotations.RequiredInterfaces;
 import fr.sorbonne_u.components.connectors.ConnectorI;
 import fr.sorbonne_u.components.cvm.AbstractCVM;
@@ -69,8 +76,10 @@ import fr.sorbonne_u.components.exceptions.ComponentStartException;
 import fr.sorbonne_u.components.exceptions.ComponentTaskExecutionException;
 import fr.sorbonne_u.components.exceptions.ExecutorServicesManagementException;
 import fr.sorbonne_u.components.exceptions.PluginException;
+import fr.sorbonne_u.components.exceptions.RequestDeadlineExceededException;
 import fr.sorbonne_u.components.helpers.CVMDebugModes;
 import fr.sorbonne_u.components.helpers.ComponentExecutorServiceManager;
+import fr.sorbonne_u.components.helpers.ComponentExecutorServicesTable;
 import fr.sorbonne_u.components.helpers.ComponentSchedulableExecutorServiceManager;
 import fr.sorbonne_u.components.helpers.Logger;
 import fr.sorbonne_u.components.helpers.TracerI;
@@ -84,9 +93,21 @@ import fr.sorbonne_u.components.ports.PortI;
 import fr.sorbonne_u.components.reflection.interfaces.ReflectionCI;
 import fr.sorbonne_u.components.reflection.utils.ConstructorSignature;
 import fr.sorbonne_u.components.reflection.utils.ServiceSignature;
+import fr.sorbonne_u.components.tasks_management.AsyncRequestTask;
+import fr.sorbonne_u.components.tasks_management.BCM4JavaCoScheduledExecutor;
+import fr.sorbonne_u.components.tasks_management.BCM4JavaCoSchedulingGroup;
 import fr.sorbonne_u.components.tasks_management.BCM4JavaComponentThreadFactory;
+import fr.sorbonne_u.components.tasks_management.BCM4JavaMailboxExecutor;
+import fr.sorbonne_u.components.tasks_management.BCM4JavaPriorityThreadPoolExecutor;
+import fr.sorbonne_u.components.tasks_management.BCM4JavaScheduledMailboxExecutor;
 import fr.sorbonne_u.components.tasks_management.BCM4JavaScheduledThreadPoolExecutor;
+import fr.sorbonne_u.components.tasks_management.BCM4JavaSharedScheduler;
 import fr.sorbonne_u.components.tasks_management.BCM4JavaThreadPoolExecutor;
+import fr.sorbonne_u.components.tasks_management.BCM4JavaVirtualThreadFactory;
+import fr.sorbonne_u.components.tasks_management.BCM4JavaWheelScheduledExecutor;
+import fr.sorbonne_u.components.tasks_management.ExecutorServiceMetricsSnapshot;
+import fr.sorbonne_u.components.tasks_management.QueueOverflowPolicy;
+import fr.sorbonne_u.components.tasks_management.RequestDeadline;
 import fr.sorbonne_u.components.utils.tests.TestScenario;
 import fr.sorbonne_u.exceptions.ImplementationInvariantException;
 import fr.sorbonne_u.exceptions.InvariantException;
@@ -773,6 +794,13 @@ implements	ComponentI
 	 *
 	 * <p><strong>Description</strong></p>
 	 * 
+	 * <p>
+	 * When {@code AbstractCVM.USE_TIMING_WHEEL} is true, the delayed and
+	 * periodic tasks of the created executor services are triggered by the
+	 * timing wheel shared in the JVM (see
+	 * {@code BCM4JavaWheelScheduledExecutor}).
+	 * </p>
+	 * 
 	 * <p><strong>Invariant</strong></p>
 	 * 
 	 * <pre>
@@ -797,7 +825,10 @@ implements	ComponentI
 			BCM4JavaComponentThreadFactory tf =
 					new BCM4JavaComponentThreadFactory(
 						AbstractComponent.this.getReflectionInboundPortURI());
-			if (nbThreads == 1) {
+			if (AbstractCVM.USE_TIMING_WHEEL) {
+				return BCM4JavaWheelScheduledExecutor.
+									newScheduledThreadPool(nbThreads, tf);
+			} else if (nbThreads == 1) {
 				return BCM4JavaScheduledThreadPoolExecutor.
 									newSingleThreadScheduledExecutor(tf);
 			} else {
@@ -807,6 +838,389 @@ implements	ComponentI
 		}
 	}
 
+	/**
+	 * The class <code>VirtualThreadExecutorServiceFactory</code> implements a
+	 * factory creating BCM4Java thread pool executors, schedulable or not,
+	 * which threads are virtual threads when the Java virtual machine
+	 * provides them.
+	 *
+	 * <p><strong>Description</strong></p>
+	 * 
+	 * <p>
+	 * The thread pools are the standard BCM4Java ones, hence the FIFO
+	 * execution order, the serialised execution of single threaded executor
+	 * services and the notification of abnormal terminations are preserved;
+	 * only the threads are virtual, which allows to create executor services
+	 * with a large number of threads for services that mostly block waiting
+	 * for other components. When virtual threads are not available, the
+	 * executor services get standard platform threads (see
+	 * {@code BCM4JavaVirtualThreadFactory}).
+	 * </p>
+	 * 
+	 * <p><strong>Invariant</strong></p>
+	 * 
+	 * <pre>
+	 * invariant	{@code true}
+	 * </pre>
+	 * 
+	 * <p>Created on : 2026-10-16</p>
+	 * 
+	 * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+	 */
+	protected class			VirtualThreadExecutorServiceFactory
+	implements	ExecutorServiceFactory
+	{
+		/** true if the created executor services must be schedulable.	*/
+		protected final boolean	schedulable;
+
+		/**
+		 * create a factory of executor services using virtual threads.
+		 * 
+		 * <p><strong>Contract</strong></p>
+		 * 
+		 * <pre>
+		 * pre	{@code true}	// no precondition.
+		 * post	{@code true}	// no postcondition.
+		 * </pre>
+		 *
+		 * @param schedulable	if true, the created executor services are schedulable otherwise they are not.
+		 */
+		public				VirtualThreadExecutorServiceFactory(
+			boolean schedulable
+			)
+		{
+			this.schedulable = schedulable;
+		}
+
+		/**
+		 * @see fr.sorbonne_u.components.AbstractComponent.ExecutorServiceFactory#createExecutorService(int)
+		 */
+		@Override
+		public ExecutorService	createExecutorService(int nbThreads)
+		{
+			assert	nbThreads > 0 : new PreconditionException("nbThreads > 0");
+
+			BCM4JavaVirtualThreadFactory tf =
+				new BCM4JavaVirtualThreadFactory(
+						AbstractComponent.this.getReflectionInboundPortURI());
+			if (this.schedulable && AbstractCVM.USE_TIMING_WHEEL) {
+				return BCM4JavaWheelScheduledExecutor.
+										newScheduledThreadPool(nbThreads, tf);
+			} else if (this.schedulable) {
+				return BCM4JavaScheduledThreadPoolExecutor.
+										newScheduledThreadPool(nbThreads, tf);
+			} else if (nbThreads == 1) {
+				return BCM4JavaThreadPoolExecutor.newSingleThreadExecutor(tf);
+			} else {
+				return BCM4JavaThreadPoolExecutor.newFixedThreadPool(nbThreads, tf);
+			}
+		}
+	}
+
+	/**
+	 * The class <code>SharedSchedulerExecutorServiceFactory</code> implements
+	 * a factory creating mailbox executor services, schedulable or not, which
+	 * tasks are executed by the work-stealing pool shared by all of the
+	 * components in the JVM.
+	 *
+	 * <p><strong>Description</strong></p>
+	 * 
+	 * <p>
+	 * The number of threads given to the factory becomes the maximum number
+	 * of tasks of the executor service executing concurrently, hence an
+	 * executor service created with one thread still executes its tasks one
+	 * at a time in their submission order, and {@code hasSerialisedExecution}
+	 * keeps its meaning. This factory is used by default when
+	 * {@code AbstractCVM.USE_SHARED_SCHEDULER} is true.
+	 * </p>
+	 * 
+	 * <p><strong>Invariant</strong></p>
+	 * 
+	 * <pre>
+	 * invariant	{@code true}
+	 * </pre>
+	 * 
+	 * <p>Created on : 2026-10-16</p>
+	 * 
+	 * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+	 */
+	protected class			SharedSchedulerExecutorServiceFactory
+	implements	ExecutorServiceFactory
+	{
+		/** true if the created executor services must be schedulable.	*/
+		protected final boolean	schedulable;
+
+		/**
+		 * create a factory of mailbox executor services.
+		 * 
+		 * <p><strong>Contract</strong></p>
+		 * 
+		 * <pre>
+		 * pre	{@code true}	// no precondition.
+		 * post	{@code true}	// no postcondition.
+		 * </pre>
+		 *
+		 * @param schedulable	if true, the created executor services are schedulable otherwise they are not.
+		 */
+		public				SharedSchedulerExecutorServiceFactory(
+			boolean schedulable
+			)
+		{
+			this.schedulable = schedulable;
+		}
+
+		/**
+		 * @see fr.sorbonne_u.components.AbstractComponent.ExecutorServiceFactory#createExecutorService(int)
+		 */
+		@Override
+		public ExecutorService	createExecutorService(int nbThreads)
+		{
+			assert	nbThreads > 0 : new PreconditionException("nbThreads > 0");
+
+			if (this.schedulable && AbstractCVM.USE_TIMING_WHEEL) {
+				return new BCM4JavaScheduledMailboxExecutor(
+								nbThreads,
+								BCM4JavaSharedScheduler.getPool(),
+								BCM4JavaSharedScheduler.getTimingWheel());
+			} else if (this.schedulable) {
+				return new BCM4JavaScheduledMailboxExecutor(nbThreads);
+			} else {
+				return new BCM4JavaMailboxExecutor(nbThreads);
+			}
+		}
+	}
+
+	/**
+	 * The class <code>PriorityExecutorServiceFactory</code> implements a
+	 * factory creating non schedulable executor services which queue orders
+	 * the requests by priority.
+	 *
+	 * <p><strong>Description</strong></p>
+	 * 
+	 * <p>
+	 * The priorities of the requests are given by the inbound ports through
+	 * which they are submitted (see {@code RequestPriority}); requests with
+	 * the same priority are executed in their submission order.
+	 * </p>
+	 * 
+	 * <p><strong>Invariant</strong></p>
+	 * 
+	 * <pre>
+	 * invariant	{@code true}
+	 * </pre>
+	 * 
+	 * <p>Created on : 2026-10-16</p>
+	 * 
+	 * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+	 */
+	protected class			PriorityExecutorServiceFactory
+	implements	ExecutorServiceFactory
+	{
+		/** true if the created executor services must use virtual
+		 *  threads.														*/
+		protected final boolean	virtualThreads;
+
+		/**
+		 * create a factory of prioritised executor services.
+		 * 
+		 * <p><strong>Contract</strong></p>
+		 * 
+		 * <pre>
+		 * pre	{@code true}	// no precondition.
+		 * post	{@code true}	// no postcondition.
+		 * </pre>
+		 *
+		 * @param virtualThreads	if true, the created executor services use virtual threads otherwise they use platform threads.
+		 */
+		public				PriorityExecutorServiceFactory(
+			boolean virtualThreads
+			)
+		{
+			this.virtualThreads = virtualThreads;
+		}
+
+		/**
+		 * @see fr.sorbonne_u.components.AbstractComponent.ExecutorServiceFactory#createExecutorService(int)
+		 */
+		@Override
+		public ExecutorService	createExecutorService(int nbThreads)
+		{
+			assert	nbThreads > 0 : new PreconditionException("nbThreads > 0");
+
+			String componentURI =
+						AbstractComponent.this.getReflectionInboundPortURI();
+			return BCM4JavaPriorityThreadPoolExecutor.newPriorityThreadPool(
+						nbThreads,
+						this.virtualThreads ?
+							new BCM4JavaVirtualThreadFactory(componentURI)
+						:	new BCM4JavaComponentThreadFactory(componentURI));
+		}
+	}
+
+	/**
+	 * The class <code>BoundedExecutorServiceFactory</code> implements a
+	 * factory creating non schedulable executor services which queue is
+	 * bounded and applies a given policy when full.
+	 *
+	 * <p><strong>Description</strong></p>
+	 * 
+	 * <p>
+	 * The created executor services are BCM4Java thread pools or, when
+	 * {@code AbstractCVM.USE_SHARED_SCHEDULER} is true, mailboxes executed by
+	 * the pool shared in the JVM. In both cases, the rejections are signalled
+	 * by throwing {@code RequestRejectedException}.
+	 * </p>
+	 * 
+	 * <p><strong>Invariant</strong></p>
+	 * 
+	 * <pre>
+	 * invariant	{@code queueCapacity > 0}
+	 * invariant	{@code policy != null}
+	 * </pre>
+	 * 
+	 * <p>Created on : 2026-10-16</p>
+	 * 
+	 * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+	 */
+	protected class			BoundedExecutorServiceFactory
+	implements	ExecutorServiceFactory
+	{
+		/** URI of the executor service to be created.					*/
+		protected final String				executorServiceURI;
+		/** maximum number of tasks waiting in the queue.					*/
+		protected final int					queueCapacity;
+		/** policy applied when a task is submitted while the queue is
+		 *  full.															*/
+		protected final QueueOverflowPolicy	policy;
+
+		/**
+		 * create a factory of bounded executor services.
+		 * 
+		 * <p><strong>Contract</strong></p>
+		 * 
+		 * <pre>
+		 * pre	{@code queueCapacity > 0}
+		 * pre	{@code policy != null}
+		 * post	{@code true}	// no postcondition.
+		 * </pre>
+		 *
+		 * @param executorServiceURI	URI of the executor service to be created.
+		 * @param queueCapacity			maximum number of tasks waiting in the queue.
+		 * @param policy				policy applied when a task is submitted while the queue is full.
+		 */
+		public				BoundedExecutorServiceFactory(
+			String executorServiceURI,
+			int queueCapacity,
+			QueueOverflowPolicy policy
+			)
+		{
+			assert	queueCapacity > 0 :
+					new PreconditionException("queueCapacity > 0");
+			assert	policy != null : new PreconditionException("policy != null");
+
+			this.executorServiceURI = executorServiceURI;
+			this.queueCapacity = queueCapacity;
+			this.policy = policy;
+		}
+
+		/**
+		 * @see fr.sorbonne_u.components.AbstractComponent.ExecutorServiceFactory#createExecutorService(int)
+		 */
+		@Override
+		public ExecutorService	createExecutorService(int nbThreads)
+		{
+			assert	nbThreads > 0 : new PreconditionException("nbThreads > 0");
+
+			if (AbstractCVM.USE_SHARED_SCHEDULER) {
+				return new BCM4JavaMailboxExecutor(nbThreads,
+												   this.queueCapacity,
+												   this.policy,
+												   this.executorServiceURI);
+			} else {
+				return BCM4JavaThreadPoolExecutor.newBoundedThreadPool(
+						nbThreads,
+						this.queueCapacity,
+						this.policy,
+						this.executorServiceURI,
+						new BCM4JavaComponentThreadFactory(
+							AbstractComponent.this.getReflectionInboundPortURI()));
+			}
+		}
+	}
+
+	/**
+	 * The class <code>CoScheduledExecutorServiceFactory</code> implements a
+	 * factory creating executor services which execute their tasks on the
+	 * event loop of a co-scheduling group.
+	 *
+	 * <p><strong>Description</strong></p>
+	 * 
+	 * <p>
+	 * Each executor service created by the factory makes its component join
+	 * the group, which it leaves when the executor service is shut down (see
+	 * {@code BCM4JavaCoSchedulingGroup}). The executor services always have
+	 * one thread, the one of the event loop, whatever the number of threads
+	 * given to the factory.
+	 * </p>
+	 * 
+	 * <p><strong>Invariant</strong></p>
+	 * 
+	 * <pre>
+	 * invariant	{@code groupURI != null && !groupURI.isEmpty()}
+	 * </pre>
+	 * 
+	 * <p>Created on : 2026-10-16</p>
+	 * 
+	 * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+	 */
+	protected class			CoScheduledExecutorServiceFactory
+	implements	ExecutorServiceFactory
+	{
+		/** URI of the co-scheduling group.								*/
+		protected final String	groupURI;
+		/** URI of the executor service to be created.					*/
+		protected final String	executorServiceURI;
+
+		/**
+		 * create a factory of executor services for the members of the
+		 * co-scheduling group {@code groupURI}.
+		 * 
+		 * <p><strong>Contract</strong></p>
+		 * 
+		 * <pre>
+		 * pre	{@code groupURI != null && !groupURI.isEmpty()}
+		 * post	{@code true}	// no postcondition.
+		 * </pre>
+		 *
+		 * @param groupURI				URI of the co-scheduling group.
+		 * @param executorServiceURI	URI of the executor service to be created.
+		 */
+		public				CoScheduledExecutorServiceFactory(
+			String groupURI,
+			String executorServiceURI
+			)
+		{
+			assert	groupURI != null && !groupURI.isEmpty() :
+					new PreconditionException(
+							"groupURI != null && !groupURI.isEmpty()");
+
+			this.groupURI = groupURI;
+			this.executorServiceURI = executorServiceURI;
+		}
+
+		/**
+		 * @see fr.sorbonne_u.components.AbstractComponent.ExecutorServiceFactory#createExecutorService(int)
+		 */
+		@Override
+		public ExecutorService	createExecutorService(int nbThreads)
+		{
+			assert	nbThreads > 0 : new PreconditionException("nbThreads > 0");
+
+			return BCM4JavaCoSchedulingGroup.join(this.groupURI,
+												  this.executorServiceURI);
+		}
+	}
+
 	// The following implementation of executor services management for
 	// components aims at providing fast access to executor services as well
 	// as the capability to create and shutdown executor services dynamically.
@@ -820,6 +1234,13 @@ implements	ComponentI
 	// array as shutting down executor services creates "holes" (null values
 	// at these indexes). The implementation is able to reuse indexes and their
 	// corresponding placeholder when creating new executor services.
+	// The array and the map from URIs to indexes are held by an immutable
+	// ComponentExecutorServicesTable, which also precomputes the information
+	// needed on the request dispatch path (presence of threads, total number
+	// of threads, schedulability and index of the standard executor service).
+	// Creating or shutting down an executor service publishes a new table
+	// under the write lock, so that dispatching a request only performs one
+	// volatile read, without locking nor scanning.
 
 	// Implementation invariant
 	//
@@ -827,11 +1248,11 @@ implements	ComponentI
 	//
 	//     boolean uri2index = true;
 	//     for (Entry<String,Integer> entry :
-	//                                     executorServicesIndexes.entrySet()) {
+	//                   executorServicesTable.getIndexes().entrySet()) {
 	//         String uri = entry.getKey();
 	//         int index = entry.getValue();
 	//         uri2index = uri2index && 
-	//                       executorServices.get()[index].getURI().equals(uri);
+	//             executorServicesTable.getManager(index).getURI().equals(uri);
 	//     }
 	//     assert uri2index;
 
@@ -841,9 +1262,17 @@ implements	ComponentI
 	/** URI of the standard schedulable tasks handler pool of threads.		*/
 	public static final String			STANDARD_SCHEDULABLE_HANDLER_URI =
 													"STANDARD_SCHEDULABLE_H_URI";
-
-	/** lock protecting the concurrent accesses to executorServices and
-	 *  executorServicesIndexes.											*/
+	/** when true, the standard request handler of all of the components
+	 *  orders the requests by priority, so that the control ports requests
+	 *  are not queued behind the other ones; when false, only the
+	 *  components which class is annotated with {@code RequestPriority}
+	 *  have a prioritised standard request handler, the other ones keeping
+	 *  the cheaper first-in first-out one.								*/
+	public static boolean				PRIORITIZED_STANDARD_REQUEST_HANDLER =
+																		false;
+
+	/** lock serialising the modifications of the executor services table;
+	 *  readers do not take it as the published table is immutable.		*/
 	protected final ReentrantReadWriteLock	executorServicesLock =
 												new ReentrantReadWriteLock();
 	/** standard initial size of the executor services pool.				*/
@@ -851,11 +1280,16 @@ implements	ComponentI
 	/** initial size of the executor services pool for this component.		*/
 	protected int						initialExecutorServicesPoolSize =
 											INITIAL_EXECUTOR_SERVICES_POOL_SIZE;
-	/** array of executor service managers.								 	*/
-	protected final AtomicReference<ComponentExecutorServiceManager[]>
-											executorServices;
-	/** map from URI of executor services to their index in the array list.	*/
-	protected final Map<String,Integer>		executorServicesIndexes;
+	/** immutable table of the executor service managers, replaced
+	 *  (copy-on-write) each time an executor service is created or shut
+	 *  down, so that the request and task submissions do not lock.		*/
+	protected volatile ComponentExecutorServicesTable	executorServicesTable;
+	/** default value for the reentrant caller runs mode of components.		*/
+	public static boolean				DEFAULT_REENTRANT_CALLER_RUNS = true;
+	/** when true, requests submitted to an executor service by one of its
+	 *  own threads are executed directly by the caller thread.			*/
+	protected volatile boolean			reentrantCallerRuns =
+											DEFAULT_REENTRANT_CALLER_RUNS;
 
 	/**
 	 * @see fr.sorbonne_u.components.ComponentI#hasItsOwnThreads()
@@ -863,21 +1297,7 @@ implements	ComponentI
 	@Override
 	public boolean		hasItsOwnThreads()
 	{
-		this.executorServicesLock.readLock().lock();
-		try {
-			if (this.executorServices.get() == null) {
-				return false;
-			}
-			boolean ret = false;
-			ComponentExecutorServiceManager[] temp =
-											this.executorServices.get();
-			for (int i = 0 ; !ret && i < temp.length ; i++) {
-				ret = (temp[i] != null);
-			}
-			return ret;
-		} finally {
-			this.executorServicesLock.readLock().unlock();
-		}
+		return this.executorServicesTable.hasExecutorServices();
 	}
 
 	/**
@@ -886,68 +1306,72 @@ implements	ComponentI
 	@Override
 	public int			getTotalNumberOfThreads()
 	{
-		this.executorServicesLock.readLock().lock();
-		try {
-			if (this.executorServices.get() == null) {
-				return 0;
-			}
-			int nbThreads = 0;
-			ComponentExecutorServiceManager[] temp =
-											this.executorServices.get();
-			for (int i = 0 ; i < temp.length ; i++) {
-				if (temp[i] != null) {
-					nbThreads += temp[i].getNumberOfThreads();
-				}
-			}
-			return nbThreads;
-		} finally {
-			this.executorServicesLock.readLock().unlock();
-		}
+		return this.executorServicesTable.getTotalNumberOfThreads();
 	}
 
 	/**
-	 * @see fr.sorbonne_u.components.ComponentI#hasSerialisedExecution()
+	 * @see fr.sorbonne_u.components.ComponentI#getExecutorServicesMetrics()
 	 */
 	@Override
-	public boolean		hasSerialisedExecution()
-	{
-		this.executorServicesLock.readLock().lock();
-		try {
-			return this.hasItsOwnThreads() &&
-							this.getTotalNumberOfThreads() == 1;
-		} finally {
-			this.executorServicesLock.readLock().unlock();
+	public ExecutorServiceMetricsSnapshot[]	getExecutorServicesMetrics()
+	{
+		ComponentExecutorServicesTable table = this.executorServicesTable;
+		ExecutorServiceMetricsSnapshot[] ret =
+				new ExecutorServiceMetricsSnapshot[
+										table.getNumberOfExecutorServices()];
+		int n = 0;
+		for (int i = 0 ; i < table.capacity() ; i++) {
+			if (table.validIndex(i)) {
+				ret[n++] = table.getManager(i).getMetricsSnapshot();
+			}
 		}
+		return ret;
 	}
 
 	/**
-	 * @see fr.sorbonne_u.components.ComponentI#canScheduleTasks()
+	 * @see fr.sorbonne_u.components.ComponentI#getExecutorServiceMetrics(java.lang.String)
 	 */
 	@Override
-	public boolean		canScheduleTasks()
+	public ExecutorServiceMetricsSnapshot	getExecutorServiceMetrics(
+		String executorServiceURI
+		)
 	{
-		this.executorServicesLock.readLock().lock();
-		try {
-			if (this.executorServices.get() == null) {
-				return false;
-			}
-			boolean ret = false;
-			ComponentExecutorServiceManager[] temp =
-												this.executorServices.get();
-			for (int i = 0; !ret && i < temp.length ; i++) {
-				if (temp[i] != null) {
-					ret = temp[i].isSchedulable();
-				}
-			}
-			return ret;
-		} finally {
-			this.executorServicesLock.readLock().unlock();
-		}
+		ComponentExecutorServicesTable table = this.executorServicesTable;
+
+		assert	table.validURI(executorServiceURI) :
+				new PreconditionException(
+						"validExecutorServiceURI(executorServiceURI) " +
+						executorServiceURI);
+
+		return table.getManager(table.getIndex(executorServiceURI)).
+														getMetricsSnapshot();
+	}
+
+	/**
+	 * @see fr.sorbonne_u.components.ComponentI#hasSerialisedExecution()
+	 */
+	@Override
+	public boolean		hasSerialisedExecution()
+	{
+		// a single read of the table gives a consistent view
+		return this.executorServicesTable.getTotalNumberOfThreads() == 1;
+	}
+
+	/**
+	 * @see fr.sorbonne_u.components.ComponentI#canScheduleTasks()
+	 */
+	@Override
+	public boolean		canScheduleTasks()
+	{
+		return this.executorServicesTable.canScheduleTasks();
 	}
 
 	/**
 	 * create a new user-defined executor service under the given URI and
-	 * with the given number of threads.
+	 * with the given number of threads; when
+	 * {@code AbstractCVM.USE_SHARED_SCHEDULER} is true, the executor service
+	 * is a mailbox executed by the pool shared in the JVM and the number of
+	 * threads is the maximum number of its tasks executing concurrently.
 	 * 
 	 * <p><strong>Contract</strong></p>
 	 * 
@@ -969,6 +1393,12 @@ implements	ComponentI
 		boolean schedulable
 		)
 	{
+		if (AbstractCVM.USE_SHARED_SCHEDULER) {
+			return this.createNewExecutorService(
+							uri, nbThreads,
+							new SharedSchedulerExecutorServiceFactory(
+																schedulable));
+		}
 		return this.createNewExecutorService(
 							uri, nbThreads,
 							schedulable ?
@@ -977,46 +1407,196 @@ implements	ComponentI
 	}
 
 	/**
-	 * find the first placeholder for an executor service in the array of
-	 * executor services and return its index.
+	 * create a new user-defined executor service under the given URI and
+	 * with the given number of threads, which are virtual threads if
+	 * {@code virtualThreads} is true and the Java virtual machine provides
+	 * them.
 	 * 
 	 * <p><strong>Contract</strong></p>
 	 * 
 	 * <pre>
-	 * pre	{@code true}	// no precondition.
-	 * post	{@code true}	// no postcondition.
+	 * pre	{@code uri != null}
+	 * pre	{@code !validExecutorServiceURI(uri)}
+	 * pre	{@code nbThreads > 0}
+	 * post	{@code validExecutorServiceURI(uri)}
 	 * </pre>
 	 *
-	 * @return the first index at which no executor service reference exists in the array of executor services.
-	 */
-	private int			nextExecutorServicesIndex()
-	{
-		int ret = 0;
-		if (this.executorServices.get() == null) {
-			this.executorServices.set(
-				new ComponentExecutorServiceManager[
-				                  this.initialExecutorServicesPoolSize]);
-		}
-		ComponentExecutorServiceManager[] temp = this.executorServices.get();
-		boolean found = false;
-		for ( ; !found && ret < temp.length ; ret++) {
-			found = (temp[ret] == null);
-		}
-		if (!found) {
-			ComponentExecutorServiceManager[] reallocated =
-							new ComponentExecutorServiceManager[2*temp.length];
-			for (int i = 0 ; i < temp.length ; i++) {
-				reallocated[i] = temp[i];
-			}
-			this.executorServices.set(reallocated);
-			return temp.length;
+	 * @param uri				URI of the new executor service.
+	 * @param nbThreads			number of threads of the new executor service.
+	 * @param schedulable		if true, the new executor service is schedulable otherwise it is not.
+	 * @param virtualThreads	if true, the new executor service uses virtual threads otherwise it uses platform threads.
+	 * @return					the index associated with the new executor service.
+	 */
+	protected int		createNewExecutorService(
+		String uri,
+		int nbThreads,
+		boolean schedulable,
+		boolean virtualThreads
+		)
+	{
+		if (virtualThreads) {
+			return this.createNewExecutorService(
+							uri, nbThreads,
+							new VirtualThreadExecutorServiceFactory(schedulable));
+		} else {
+			return this.createNewExecutorService(uri, nbThreads, schedulable);
+		}
+	}
+
+	/**
+	 * create a new user-defined executor service under the given URI and
+	 * with the given number of threads, which are virtual threads if
+	 * {@code virtualThreads} is true and the Java virtual machine provides
+	 * them, and which orders the requests by priority if {@code prioritized}
+	 * is true; when {@code AbstractCVM.USE_SHARED_SCHEDULER} is true, the
+	 * prioritised executor services are mailboxes which ignore priorities.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code uri != null}
+	 * pre	{@code !validExecutorServiceURI(uri)}
+	 * pre	{@code nbThreads > 0}
+	 * pre	{@code !schedulable || !prioritized}
+	 * post	{@code validExecutorServiceURI(uri)}
+	 * </pre>
+	 *
+	 * @param uri				URI of the new executor service.
+	 * @param nbThreads			number of threads of the new executor service.
+	 * @param schedulable		if true, the new executor service is schedulable otherwise it is not.
+	 * @param virtualThreads	if true, the new executor service uses virtual threads otherwise it uses platform threads.
+	 * @param prioritized		if true, the new executor service orders the requests by priority otherwise it executes them in their submission order.
+	 * @return					the index associated with the new executor service.
+	 */
+	protected int		createNewExecutorService(
+		String uri,
+		int nbThreads,
+		boolean schedulable,
+		boolean virtualThreads,
+		boolean prioritized
+		)
+	{
+		assert	!schedulable || !prioritized :
+				new PreconditionException("!schedulable || !prioritized");
+
+		if (prioritized && !AbstractCVM.USE_SHARED_SCHEDULER) {
+			return this.createNewExecutorService(
+							uri, nbThreads,
+							new PriorityExecutorServiceFactory(virtualThreads));
 		} else {
-			return ret - 1;
+			return this.createNewExecutorService(uri, nbThreads, schedulable,
+												 virtualThreads);
 		}
 	}
 
 	/**
-	 * return the number of executor services in use in this component.
+	 * create a new user-defined non schedulable executor service under the
+	 * given URI and with the given number of threads, which queue is bounded
+	 * to {@code queueCapacity} tasks and applies {@code policy} when full.
+	 * 
+	 * <p>
+	 * With the policy {@code FAIL_FAST}, or when the executor service has
+	 * been shut down, submissions are rejected by throwing a
+	 * {@code RequestRejectedException}, which is also a
+	 * {@code RejectedExecutionException}, hence propagated by
+	 * {@code handleRequest} and {@code runTask} to their callers.
+	 * </p>
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code uri != null}
+	 * pre	{@code !validExecutorServiceURI(uri)}
+	 * pre	{@code nbThreads > 0}
+	 * pre	{@code queueCapacity > 0}
+	 * pre	{@code policy != null}
+	 * post	{@code validExecutorServiceURI(uri)}
+	 * </pre>
+	 *
+	 * @param uri			URI of the new executor service.
+	 * @param nbThreads		number of threads of the new executor service.
+	 * @param queueCapacity	maximum number of tasks waiting in the queue of the new executor service.
+	 * @param policy		policy applied when a task is submitted while the queue is full.
+	 * @return				the index associated with the new executor service.
+	 */
+	protected int		createNewExecutorService(
+		String uri,
+		int nbThreads,
+		int queueCapacity,
+		QueueOverflowPolicy policy
+		)
+	{
+		assert	queueCapacity > 0 :
+				new PreconditionException("queueCapacity > 0");
+		assert	policy != null : new PreconditionException("policy != null");
+
+		return this.createNewExecutorService(
+						uri, nbThreads,
+						new BoundedExecutorServiceFactory(
+											uri, queueCapacity, policy));
+	}
+
+	/**
+	 * create a new user-defined non schedulable executor service under the
+	 * given URI, which executes its tasks on the event loop of the
+	 * co-scheduling group {@code groupURI}, making this component a member of
+	 * the group until the executor service is shut down; the executor
+	 * service has one thread, the one of the loop.
+	 * 
+	 * <p>
+	 * The synchronous requests that members of the group submit to this
+	 * executor service are executed directly by the caller thread, which
+	 * avoids the queueing and the thread handoff of the calls among tightly
+	 * coupled components. Hence, the reentrant caller runs mode of this
+	 * component is turned on and can no longer be turned off (see
+	 * {@code setReentrantCallerRuns}): otherwise, a member calling another
+	 * one synchronously would queue its request on the loop and wait for it
+	 * in the thread of the loop, which would never execute it.
+	 * </p>
+	 * <p>
+	 * For the same reason, a member calling synchronously a component outside
+	 * the group must not be called back synchronously by it, neither directly
+	 * nor through another component: the call back is submitted from a thread
+	 * that is not the one of the loop, hence it is queued on the loop, which
+	 * is blocked by the member waiting for its outgoing call, a deadlock.
+	 * </p>
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code uri != null}
+	 * pre	{@code !validExecutorServiceURI(uri)}
+	 * pre	{@code groupURI != null && !groupURI.isEmpty()}
+	 * post	{@code validExecutorServiceURI(uri)}
+	 * post	{@code isCoScheduled() && isReentrantCallerRuns()}
+	 * </pre>
+	 *
+	 * @param uri			URI of the new executor service.
+	 * @param groupURI		URI of the co-scheduling group.
+	 * @return				the index associated with the new executor service.
+	 */
+	protected int		createNewCoScheduledExecutorService(
+		String uri,
+		String groupURI
+		)
+	{
+		// calls among members rely on the reentrant execution of requests
+		// submitted from the thread of the loop
+		this.reentrantCallerRuns = true;
+		int ret = this.createNewExecutorService(
+						uri, 1,
+						new CoScheduledExecutorServiceFactory(groupURI, uri));
+
+		assert	this.isCoScheduled() && this.isReentrantCallerRuns() :
+				new PostconditionException(
+						"isCoScheduled() && isReentrantCallerRuns()");
+
+		return ret;
+	}
+
+	/**
+	 * return true if this component has a co-scheduled executor service,
+	 * hence is a member of a co-scheduling group.
 	 * 
 	 * <p><strong>Contract</strong></p>
 	 * 
@@ -1025,19 +1605,19 @@ implements	ComponentI
 	 * post	{@code true}	// no postcondition.
 	 * </pre>
 	 *
-	 * @return	the number of executor services in use in this component.
+	 * @return	true if this component is a member of a co-scheduling group.
 	 */
-	private int			countExecutorServices()
+	protected boolean	isCoScheduled()
 	{
-		int count = 0;
-		if (this.executorServices.get() != null) {
-			for (int i = 0 ; i < this.executorServices.get().length ; i++) {
-				if (this.executorServices.get()[i] != null) {
-					count++;
-				}
+		ComponentExecutorServicesTable table = this.executorServicesTable;
+		for (int index : table.getIndexes().values()) {
+			ComponentExecutorServiceManager cesm = table.getManager(index);
+			if (cesm != null && cesm.getExecutorService()
+									instanceof BCM4JavaCoScheduledExecutor) {
+				return true;
 			}
 		}
-		return count;
+		return false;
 	}
 
 	/**
@@ -1064,46 +1644,142 @@ implements	ComponentI
 		int nbThreads,
 		ExecutorServiceFactory factory
 		)
+	{
+		return this.createNewElasticExecutorService(uri, nbThreads, nbThreads,
+													factory);
+	}
+
+	/**
+	 * create a new user-defined elastic executor service under the given URI,
+	 * which number of threads is adapted to its load between
+	 * {@code minThreads} and {@code maxThreads}; when
+	 * {@code AbstractCVM.USE_SHARED_SCHEDULER} is true, the executor service
+	 * is a mailbox executed by the pool shared in the JVM and the number of
+	 * threads is the maximum number of its tasks executing concurrently.
+	 * 
+	 * <p>
+	 * As an elastic executor service with more than one thread executes its
+	 * tasks concurrently, it must only be used for services that support it,
+	 * even when {@code minThreads == 1}.
+	 * </p>
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code uri != null}
+	 * pre	{@code !validExecutorServiceURI(uri)}
+	 * pre	{@code minThreads > 0}
+	 * pre	{@code minThreads <= maxThreads}
+	 * post	{@code validExecutorServiceURI(uri)}
+	 * </pre>
+	 *
+	 * @param uri			URI of the new executor service.
+	 * @param minThreads	minimum, and initial, number of threads of the new executor service.
+	 * @param maxThreads	maximum number of threads of the new executor service.
+	 * @param schedulable	if true, the new executor service is schedulable otherwise it is not.
+	 * @return				the index associated with the new executor service.
+	 */
+	protected int		createNewElasticExecutorService(
+		String uri,
+		int minThreads,
+		int maxThreads,
+		boolean schedulable
+		)
+	{
+		if (AbstractCVM.USE_SHARED_SCHEDULER) {
+			return this.createNewElasticExecutorService(
+							uri, minThreads, maxThreads,
+							new SharedSchedulerExecutorServiceFactory(
+																schedulable));
+		}
+		return this.createNewElasticExecutorService(
+							uri, minThreads, maxThreads,
+							schedulable ?
+								new StandardSheduledExecutorServiceFactory()
+							:	new StandardExecutorServiceFactory());
+	}
+
+	/**
+	 * create a new user-defined elastic executor service under the given URI,
+	 * which number of threads is adapted to its load between
+	 * {@code minThreads} and {@code maxThreads}; the factory is called with
+	 * {@code minThreads} and must create an executor service which can be
+	 * resized (see {@code ComponentExecutorServiceManager#isResizable}).
+	 * When {@code minThreads == maxThreads}, the executor service has a
+	 * fixed number of threads.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code uri != null}
+	 * pre	{@code !validExecutorServiceURI(uri)}
+	 * pre	{@code minThreads > 0}
+	 * pre	{@code minThreads <= maxThreads}
+	 * pre	{@code factory != null}
+	 * post	{@code validExecutorServiceURI(uri)}
+	 * </pre>
+	 *
+	 * @param uri			URI of the new executor service.
+	 * @param minThreads	minimum, and initial, number of threads of the new executor service.
+	 * @param maxThreads	maximum number of threads of the new executor service.
+	 * @param factory		an executor service factory used to create the new thread pool.
+	 * @return				the index associated with the new executor service.
+	 */
+	protected int		createNewElasticExecutorService(
+		String uri,
+		int minThreads,
+		int maxThreads,
+		ExecutorServiceFactory factory
+		)
 	{
 		assert	uri != null : new PreconditionException("uri != null");
-		assert	nbThreads > 0 : new PreconditionException("nbThreads > 0");
+		assert	minThreads > 0 : new PreconditionException("minThreads > 0");
+		assert	minThreads <= maxThreads :
+				new PreconditionException("minThreads <= maxThreads");
 		assert	factory != null : new PreconditionException("factory != null");
 
+		int nbThreads = minThreads;
 		int index = -1;
 		this.executorServicesLock.writeLock().lock();
 		try {
-			assert	!this.validExecutorServiceURI(uri) :
+			ComponentExecutorServicesTable table = this.executorServicesTable;
+			assert	!table.validURI(uri) :
 					new PreconditionException(
 							"!this.validExecutorServiceURI(uri)");
-			int numberOfES_pre = this.countExecutorServices();
+			int numberOfES_pre = table.getNumberOfExecutorServices();
 
-			index = this.nextExecutorServicesIndex();
-			this.executorServicesIndexes.put(uri, index);
+			index = table.firstFreeIndex();
 
 			ComponentExecutorServiceManager cesm = null;
 			ExecutorService es = factory.createExecutorService(nbThreads);
 
 			if (!(es instanceof ScheduledExecutorService)) {
-				cesm = new ComponentExecutorServiceManager(uri, nbThreads, es);
+				cesm = new ComponentExecutorServiceManager(
+										uri, minThreads, maxThreads, es);
 			} else {
 				cesm = new ComponentSchedulableExecutorServiceManager(
-													   uri, nbThreads, es);
+										uri, minThreads, maxThreads, es);
 			}
-			this.executorServices.get()[index] = cesm;
+			// publish the new table, the previous one being left unchanged
+			// for the threads currently using it
+			table = table.with(index, cesm,
+							   this.initialExecutorServicesPoolSize);
+			this.executorServicesTable = table;
 
-			assert	this.executorServicesIndexes.get(uri) == index :
+			assert	table.getIndex(uri) == index :
 					new ExecutorServicesManagementException(
 							"executor service with URI " + uri +
 							" does not have index " + index);
-			assert	this.executorServices.get()[index] != null :
+			assert	table.getManager(index) != null :
 					new ExecutorServicesManagementException(
 							"no executor service at index " + index);
-			assert	uri.equals(this.executorServices.get()[index].getURI()) :
+			assert	uri.equals(table.getManager(index).getURI()) :
 					new ExecutorServicesManagementException(
 							"the executor serviec at index " + index +
 							" does not have URI " + uri + " but rather " +
-							this.executorServices.get()[index].getURI());
-			assert	this.countExecutorServices() == numberOfES_pre + 1 :
+							table.getManager(index).getURI());
+			assert	table.getNumberOfExecutorServices() ==
+													numberOfES_pre + 1 :
 					new ExecutorServicesManagementException(
 							"the executor services pool did not increase "
 							+ "in size after creating the new one with URI "
@@ -1111,6 +1787,18 @@ implements	ComponentI
 
 			assert	this.validExecutorServiceURI(uri) :
 					new PostconditionException("validExecutorServiceURI(uri)");
+
+			if (cesm.isElastic()) {
+				// sampled by the timer shared in the JVM rather than by a
+				// thread per component
+				final ComponentExecutorServiceManager m = cesm;
+				cesm.setElasticSampler(
+					BCM4JavaSharedScheduler.getTimer().scheduleAtFixedRate(
+						() -> this.adaptElasticExecutorService(m),
+						ComponentExecutorServiceManager.ELASTIC_SAMPLING_PERIOD,
+						ComponentExecutorServiceManager.ELASTIC_SAMPLING_PERIOD,
+						TimeUnit.MILLISECONDS));
+			}
 		} finally {
 			this.executorServicesLock.writeLock().unlock();
 		}
@@ -1120,7 +1808,9 @@ implements	ComponentI
 			AbstractCVM.getCVM().logDebug(
 					CVMDebugModes.EXECUTOR_SERVICES,
 					"creating the executor service " + uri + " with index " +
-					index + " and " + nbThreads + " threads on component " +
+					index + " and " + nbThreads +
+					(minThreads < maxThreads ? " to " + maxThreads : "") +
+					" threads on component " +
 					this.reflectionInboundPortURI + " ...done.");
 		}
 
@@ -1135,12 +1825,7 @@ implements	ComponentI
 	@Override
 	public boolean		validExecutorServiceURI(String uri)
 	{
-		this.executorServicesLock.readLock().lock();
-		try {
-			return uri != null && this.executorServicesIndexes.containsKey(uri);
-		} finally {
-			this.executorServicesLock.readLock().unlock();
-		}
+		return this.executorServicesTable.validURI(uri);
 	}
 
 	/**
@@ -1149,13 +1834,7 @@ implements	ComponentI
 	@Override
 	public boolean		validExecutorServiceIndex(int index)
 	{
-		this.executorServicesLock.readLock().lock();
-		try {
-			return index >= 0 &&
-						this.executorServicesIndexes.containsValue(index);
-		} finally {
-			this.executorServicesLock.readLock().unlock();
-		}
+		return this.executorServicesTable.validIndex(index);
 	}
 
 	/**
@@ -1164,16 +1843,13 @@ implements	ComponentI
 	@Override
 	public boolean		isSchedulable(String uri)
 	{
-		this.executorServicesLock.readLock().lock();
-		try {
-			assert	this.validExecutorServiceURI(uri) :
-					new PreconditionException(
-							"validExecutorServiceURI(uri) " + uri);
+		ComponentExecutorServicesTable table = this.executorServicesTable;
 
-			return this.isSchedulable(this.getExecutorServiceIndex(uri));
-		} finally {
-			this.executorServicesLock.readLock().unlock();
-		}
+		assert	table.validURI(uri) :
+				new PreconditionException(
+						"validExecutorServiceURI(uri) " + uri);
+
+		return table.getManager(table.getIndex(uri)).isSchedulable();
 	}
 
 	/**
@@ -1182,16 +1858,14 @@ implements	ComponentI
 	@Override
 	public boolean		isSchedulable(int index)
 	{
-		this.executorServicesLock.readLock().lock();
-		try {
-			assert	this.validExecutorServiceIndex(index) :
-					new PreconditionException(
-							"validExecutorServiceIndex(index) " + index);
+		ComponentExecutorServiceManager cesm =
+								this.executorServicesTable.getManager(index);
 
-			return this.executorServices.get()[index].isSchedulable();
-		} finally {
-			this.executorServicesLock.readLock().unlock();
-		}
+		assert	cesm != null :
+				new PreconditionException(
+						"validExecutorServiceIndex(index) " + index);
+
+		return cesm.isSchedulable();
 	}
 
 	/**
@@ -1209,22 +1883,32 @@ implements	ComponentI
 	 */
 	protected int		getExecutorServiceIndex(String uri)
 	{
-		this.executorServicesLock.readLock().lock();
-		try {
-			assert	validExecutorServiceURI(uri) :
-					new PreconditionException(
-							"validExecutorServiceURI(uri) " + uri);
+		int ret = this.executorServicesTable.getIndex(uri);
 
-			int ret = this.executorServicesIndexes.get(uri);
+		assert	ret >= 0 :
+				new PreconditionException(
+						"validExecutorServiceURI(uri) " + uri);
 
-			assert	this.validExecutorServiceIndex(ret) :
-					new PostconditionException(
-							"validExecutorServiceIndex(ret) " + ret);
+		return ret;
+	}
 
-			return ret;
-		} finally {
-			this.executorServicesLock.readLock().unlock();
-		}
+	/**
+	 * get the index of the standard executor service or of the standard
+	 * schedulable executor service if no standard executor service exists,
+	 * and -1 if none of them exists.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @return	the index of the standard executor service or -1 if none exists.
+	 */
+	protected int		getStandardExecutorServiceIndex()
+	{
+		return this.executorServicesTable.getStandardIndex();
 	}
 
 	/**
@@ -1242,26 +1926,14 @@ implements	ComponentI
 	 */
 	protected ExecutorService	getExecutorService()
 	{
-		this.executorServicesLock.readLock().lock();
-		try {
-			assert	validExecutorServiceURI(STANDARD_REQUEST_HANDLER_URI)
-						|| validExecutorServiceURI(
-											STANDARD_SCHEDULABLE_HANDLER_URI) :
+		ComponentExecutorServicesTable table = this.executorServicesTable;
+
+		assert	table.getStandardIndex() >= 0 :
 				new PreconditionException(
 						"invalid standard executor service!");
 
-			int index = -1;
-			if (this.validExecutorServiceURI(STANDARD_REQUEST_HANDLER_URI)) {
-				index = this.getExecutorServiceIndex(
-											STANDARD_REQUEST_HANDLER_URI);
-			} else {
-				index = this.getExecutorServiceIndex(
-											STANDARD_SCHEDULABLE_HANDLER_URI);
-			}
-			return this.executorServices.get()[index].getExecutorService();
-		} finally {
-			this.executorServicesLock.readLock().unlock();
-		}
+		return table.getManager(table.getStandardIndex()).
+														getExecutorService();
 	}
 
 	/**
@@ -1279,107 +1951,172 @@ implements	ComponentI
 	 */
 	protected ExecutorService	getExecutorService(int index)
 	{
-		this.executorServicesLock.readLock().lock();
-		try {
-			assert	validExecutorServiceIndex(index) :
-					new PreconditionException(
-							"validExecutorServiceIndex(index) " + index);
+		ComponentExecutorServiceManager cesm =
+								this.executorServicesTable.getManager(index);
 
-			return this.executorServices.get()[index].getExecutorService();
-		} finally {
-			this.executorServicesLock.readLock().unlock();
-		}
+		assert	cesm != null :
+				new PreconditionException(
+						"validExecutorServiceIndex(index) " + index);
+
+		return cesm.getExecutorService();
 	}
 
 	/**
-	 * get the executor service at the given URI.
+	 * return true if the requests submitted to an executor service of this
+	 * component by one of its own threads are executed directly by the
+	 * caller thread.
 	 * 
 	 * <p><strong>Contract</strong></p>
 	 * 
 	 * <pre>
-	 * pre	{@code validExecutorServiceURI(uri)}
+	 * pre	{@code true}	// no precondition.
 	 * post	{@code true}	// no postcondition.
 	 * </pre>
 	 *
-	 * @param uri	URI of the sought executor service.
-	 * @return		the executor service at the given URI.
+	 * @return	true if the reentrant requests are executed by the caller thread.
 	 */
-	protected ExecutorService	getExecutorService(String uri)
+	protected boolean	isReentrantCallerRuns()
 	{
-		this.executorServicesLock.readLock().lock();
-		try {
-			assert	validExecutorServiceURI(uri) :
-					new PreconditionException(
-							"validExecutorServiceURI(uri) " + uri);
-
-			return this.getExecutorService(this.getExecutorServiceIndex(uri));
-		} finally {
-			this.executorServicesLock.readLock().unlock();
-		}
+		return this.reentrantCallerRuns;
 	}
 
 	/**
-	 * get the standard schedulable executor service.
+	 * set the reentrant caller runs mode of this component; when true, the
+	 * requests submitted to an executor service by one of its own threads,
+	 * as when a component calls itself through one of its ports, are
+	 * executed directly by the caller thread instead of being queued, which
+	 * avoids the deadlock of single threaded executor services waiting for
+	 * themselves. The mode cannot be turned off for the members of a
+	 * co-scheduling group, as their calls to each other would make the
+	 * event loop of the group wait for itself.
 	 * 
 	 * <p><strong>Contract</strong></p>
 	 * 
 	 * <pre>
-	 * pre	{@code validExecutorServiceURI(STANDARD_SCHEDULABLE_HANDLER_URI)}
-	 * post	{@code true}	// no postcondition.
+	 * pre	{@code reentrantCallerRuns || !isCoScheduled()}
+	 * post	{@code isReentrantCallerRuns() == reentrantCallerRuns}
 	 * </pre>
 	 *
-	 * @return		the standard schedulable executor service.
+	 * @param reentrantCallerRuns	true if the reentrant requests must be executed by the caller thread.
 	 */
-	protected ScheduledExecutorService	getSchedulableExecutorService()
+	protected void		setReentrantCallerRuns(boolean reentrantCallerRuns)
 	{
-		this.executorServicesLock.readLock().lock();
-		try {
-			assert	validExecutorServiceURI(STANDARD_SCHEDULABLE_HANDLER_URI) :
-					new PreconditionException(
-							"invalid standard schedulable executor service!");
+		assert	reentrantCallerRuns || !this.isCoScheduled() :
+				new PreconditionException(
+						"reentrantCallerRuns || !isCoScheduled()");
 
-			int index =
-				this.getExecutorServiceIndex(STANDARD_SCHEDULABLE_HANDLER_URI);
-			return ((ComponentSchedulableExecutorServiceManager) 
-									this.executorServices.get()[index]).
-											getScheduledExecutorService();
-		} finally {
-			this.executorServicesLock.readLock().unlock();
-		}
+		this.reentrantCallerRuns = reentrantCallerRuns;
 	}
 
 	/**
-	 * get the schedulable executor service at the given index.
+	 * return true if a request submitted by the current thread to the
+	 * executor service at {@code index} must be executed directly by the
+	 * current thread, because it is one of the threads of this executor
+	 * service and the reentrant caller runs mode is on.
 	 * 
 	 * <p><strong>Contract</strong></p>
 	 * 
 	 * <pre>
 	 * pre	{@code validExecutorServiceIndex(index)}
-	 * pre	{@code isSchedulable(index)}
 	 * post	{@code true}	// no postcondition.
 	 * </pre>
 	 *
-	 * @param index	index of the sought executor service.
-	 * @return		the executor service at the given index.
+	 * @param index	index of the executor service to which the request is submitted.
+	 * @return		true if the request must be executed by the current thread.
 	 */
-	protected ScheduledExecutorService	getSchedulableExecutorService(
-		int index
+	protected boolean	isReentrantRequest(int index)
+	{
+		if (!this.reentrantCallerRuns) {
+			return false;
+		}
+		ComponentExecutorServiceManager cesm =
+								this.executorServicesTable.getManager(index);
+
+		assert	cesm != null :
+				new PreconditionException(
+						"validExecutorServiceIndex(index) " + index);
+
+		return cesm.ownsCurrentThread();
+	}
+
+	/**
+	 * get the executor service at the given URI.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code validExecutorServiceURI(uri)}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param uri	URI of the sought executor service.
+	 * @return		the executor service at the given URI.
+	 */
+	protected ExecutorService	getExecutorService(String uri)
+	{
+		ComponentExecutorServicesTable table = this.executorServicesTable;
+
+		assert	table.validURI(uri) :
+				new PreconditionException(
+						"validExecutorServiceURI(uri) " + uri);
+
+		return table.getManager(table.getIndex(uri)).getExecutorService();
+	}
+
+	/**
+	 * get the standard schedulable executor service.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code validExecutorServiceURI(STANDARD_SCHEDULABLE_HANDLER_URI)}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @return		the standard schedulable executor service.
+	 */
+	protected ScheduledExecutorService	getSchedulableExecutorService()
+	{
+		ComponentExecutorServicesTable table = this.executorServicesTable;
+
+		assert	table.getStandardSchedulableIndex() >= 0 :
+				new PreconditionException(
+						"invalid standard schedulable executor service!");
+
+		return ((ComponentSchedulableExecutorServiceManager) 
+						table.getManager(table.getStandardSchedulableIndex())).
+											getScheduledExecutorService();
+	}
+
+	/**
+	 * get the schedulable executor service at the given index.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code validExecutorServiceIndex(index)}
+	 * pre	{@code isSchedulable(index)}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param index	index of the sought executor service.
+	 * @return		the executor service at the given index.
+	 */
+	protected ScheduledExecutorService	getSchedulableExecutorService(
+		int index
 		)
 	{
-		this.executorServicesLock.readLock().lock();
-		try {
-			assert	validExecutorServiceIndex(index) :
-					new PreconditionException(
-							"validExecutorServiceIndex(index) " + index);
-			assert	isSchedulable(index) :
-					new PreconditionException("isSchedulable(index) " + index);
+		ComponentExecutorServiceManager cesm =
+								this.executorServicesTable.getManager(index);
+
+		assert	cesm != null :
+				new PreconditionException(
+						"validExecutorServiceIndex(index) " + index);
+		assert	cesm.isSchedulable() :
+				new PreconditionException("isSchedulable(index) " + index);
 
-			return ((ComponentSchedulableExecutorServiceManager) 
-									this.executorServices.get()[index]).
+		return ((ComponentSchedulableExecutorServiceManager) cesm).
 											getScheduledExecutorService();
-		} finally {
-			this.executorServicesLock.readLock().unlock();
-		}
 	}
 
 	/**
@@ -1400,18 +2137,150 @@ implements	ComponentI
 		String uri
 		)
 	{
-		this.executorServicesLock.readLock().lock();
+		ComponentExecutorServicesTable table = this.executorServicesTable;
+
+		assert	table.validURI(uri) :
+				new PreconditionException(
+						"validExecutorServiceURI(" + uri + ")");
+
+		ComponentExecutorServiceManager cesm =
+										table.getManager(table.getIndex(uri));
+
+		assert	cesm.isSchedulable() :
+				new PreconditionException("isSchedulable(" + uri + ")");
+
+		return ((ComponentSchedulableExecutorServiceManager) cesm).
+											getScheduledExecutorService();
+	}
+
+	/**
+	 * set the number of threads of the executor service with the given URI;
+	 * its index is unchanged, hence the inbound ports and plug-ins using it
+	 * need not update their executor service index. When it decreases, the
+	 * threads in excess terminate after their current task. An elastic
+	 * executor service may later be resized again by its component within
+	 * its minimum and maximum numbers of threads.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code validExecutorServiceURI(uri)}
+	 * pre	{@code nbThreads > 0}
+	 * post	{@code getExecutorServiceIndex(uri) == getExecutorServiceIndex(uri)@pre}
+	 * </pre>
+	 *
+	 * @param uri		URI of a valid executor service on this component.
+	 * @param nbThreads	new number of threads of the executor service.
+	 */
+	protected void		resizeExecutorService(String uri, int nbThreads)
+	{
+		assert	this.validExecutorServiceURI(uri) :
+				new PreconditionException(
+								"validExecutorServiceURI(" + uri + ")");
+
+		this.resizeExecutorService(
+					this.executorServicesTable.getIndex(uri), nbThreads);
+	}
+
+	/**
+	 * set the number of threads of the executor service with the given
+	 * index; its index is unchanged, hence the inbound ports and plug-ins
+	 * using it need not update their executor service index.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code validExecutorServiceIndex(index)}
+	 * pre	{@code nbThreads > 0}
+	 * post	{@code validExecutorServiceIndex(index)}
+	 * </pre>
+	 *
+	 * @param index		index of a valid executor service on this component.
+	 * @param nbThreads	new number of threads of the executor service.
+	 */
+	protected void		resizeExecutorService(int index, int nbThreads)
+	{
+		assert	nbThreads > 0 : new PreconditionException("nbThreads > 0");
+
+		String uri = null;
+		this.executorServicesLock.writeLock().lock();
 		try {
-			assert	validExecutorServiceURI(uri) :
+			ComponentExecutorServicesTable table = this.executorServicesTable;
+			assert	table.validIndex(index) :
 					new PreconditionException(
-							"validExecutorServiceURI(" + uri + ")");
-			assert	isSchedulable(uri) :
-					new PreconditionException("isSchedulable(" + uri + ")");
+								"validExecutorServiceIndex(" + index + ")");
+			ComponentExecutorServiceManager cesm = table.getManager(index);
+			assert	cesm.isResizable() :
+					new PreconditionException(
+							"the executor service at index " + index +
+							" cannot be resized!");
 
-			return this.getSchedulableExecutorService(
-											this.getExecutorServiceIndex(uri));
+			uri = cesm.getURI();
+			cesm.resize(nbThreads);
+			this.executorServicesTable = table.refreshed();
 		} finally {
-			this.executorServicesLock.readLock().unlock();
+			this.executorServicesLock.writeLock().unlock();
+		}
+
+		AbstractComponent.checkImplementationInvariant(this);
+
+		if (AbstractCVM.DEBUG_MODE.contains(CVMDebugModes.EXECUTOR_SERVICES)) {
+			AbstractCVM.getCVM().logDebug(
+					CVMDebugModes.EXECUTOR_SERVICES,
+					"resizing the executor service " + uri + " to " +
+					nbThreads + " threads on component " +
+					this.reflectionInboundPortURI + " ...done.");
+		}
+	}
+
+	/**
+	 * resize the elastic executor service managed by {@code cesm} to the
+	 * number of threads computed from its load, if it is still one of the
+	 * executor services of this component; called periodically by the timer
+	 * shared in the JVM.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code cesm != null && cesm.isElastic()}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param cesm	manager of an elastic executor service.
+	 */
+	protected void		adaptElasticExecutorService(
+		ComponentExecutorServiceManager cesm
+		)
+	{
+		try {
+			int target = cesm.computeElasticTarget();
+			if (target != cesm.getNumberOfThreads()) {
+				// the write lock is reentrant and prevents the executor
+				// service from being shut down and its index reused meanwhile
+				this.executorServicesLock.writeLock().lock();
+				try {
+					ComponentExecutorServicesTable table =
+												this.executorServicesTable;
+					int index = table.getIndex(cesm.getURI());
+					if (table.getManager(index) == cesm && !cesm.isShutdown()) {
+						this.resizeExecutorService(index, target);
+					}
+				} finally {
+					this.executorServicesLock.writeLock().unlock();
+				}
+			}
+		} catch (Throwable e) {
+			// an exception would cancel the periodic sampling
+			String message = "adapting the elastic executor service "
+								+ cesm.getURI() + " on component "
+								+ this.reflectionInboundPortURI
+								+ " failed: " + e;
+			this.logMessage(message);
+			if (AbstractCVM.DEBUG_MODE.contains(
+										CVMDebugModes.EXECUTOR_SERVICES)) {
+				AbstractCVM.getCVM().logDebug(
+									CVMDebugModes.EXECUTOR_SERVICES, message);
+			}
 		}
 	}
 
@@ -1440,11 +2309,11 @@ implements	ComponentI
 					new PreconditionException(
 								"validExecutorServiceURI(" + uri + ")");
 
-			int index = this.getExecutorServiceIndex(uri);
-			es = this.executorServices.get()[index].getExecutorService();
-			es.shutdown();
-			this.executorServices.get()[index] = null;
-			this.executorServicesIndexes.remove(uri);
+			ComponentExecutorServicesTable table = this.executorServicesTable;
+			int index = table.getIndex(uri);
+			es = table.getManager(index).getExecutorService();
+			table.getManager(index).shutdown();
+			this.executorServicesTable = table.without(index);
 		} finally {
 			this.executorServicesLock.writeLock().unlock();
 		}
@@ -1490,11 +2359,11 @@ implements	ComponentI
 					new PreconditionException(
 							"validExecutorServiceURI(" + uri + ")");
 
-			int index = this.getExecutorServiceIndex(uri);
-			es = this.executorServices.get()[index].getExecutorService();
-			waitingTasks = es.shutdownNow();
-			this.executorServices.get()[index] = null;
-			this.executorServicesIndexes.remove(uri);
+			ComponentExecutorServicesTable table = this.executorServicesTable;
+			int index = table.getIndex(uri);
+			es = table.getManager(index).getExecutorService();
+			waitingTasks = table.getManager(index).shutdownNow();
+			this.executorServicesTable = table.without(index);
 		} finally {
 			this.executorServicesLock.writeLock().unlock();
 		}
@@ -2392,6 +3261,71 @@ implements	ComponentI
 		int nbThreads,
 		int nbSchedulableThreads
 		)
+	{
+		this(reflectionInboundPortURI, nbThreads, nbSchedulableThreads, false);
+	}
+
+	/**
+	 * create a passive component if both <code>nbThreads</code> and
+	 * <code>nbSchedulableThreads</code> are both zero, and an active one with
+	 * <code>nbThreads</code> non schedulable thread and
+	 * <code>nbSchedulableThreads</code> schedulable threads otherwise, the
+	 * threads of the standard executor services being virtual threads if
+	 * <code>virtualThreads</code> is true and the Java virtual machine
+	 * provides them.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code !(this instanceof ComponentInterface)}
+	 * pre	{@code nbThreads >= 0 && nbSchedulableThreads >= 0}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param nbThreads				number of threads to be created in the component pool.
+	 * @param nbSchedulableThreads	number of threads to be created in the component schedulable pool.
+	 * @param virtualThreads		if true, the standard executor services use virtual threads otherwise they use platform threads.
+	 */
+	protected			AbstractComponent(
+		int nbThreads,
+		int nbSchedulableThreads,
+		boolean virtualThreads
+		)
+	{
+		this(AbstractPort.generatePortURI(ReflectionCI.class),
+							nbThreads, nbSchedulableThreads, virtualThreads);
+	}
+
+	/**
+	 * create a passive component if both <code>nbThreads</code> and
+	 * <code>nbSchedulableThreads</code> are both zero, and an active one with
+	 * <code>nbThreads</code> non schedulable thread and
+	 * <code>nbSchedulableThreads</code> schedulable threads otherwise, the
+	 * threads of the standard executor services being virtual threads if
+	 * <code>virtualThreads</code> is true and the Java virtual machine
+	 * provides them.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code !(this instanceof ComponentInterface)}
+	 * pre	{@code reflectionInboundPortURI != null}
+	 * pre	{@code nbThreads >= 0}
+	 * pre	{@code nbSchedulableThreads >= 0}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param reflectionInboundPortURI	URI of the inbound port offering the <code>ReflectionI</code> interface.
+	 * @param nbThreads					number of threads to be created in the component pool.
+	 * @param nbSchedulableThreads		number of threads to be created in the component schedulable pool.
+	 * @param virtualThreads			if true, the standard executor services use virtual threads otherwise they use platform threads.
+	 */
+	protected			AbstractComponent(
+		String reflectionInboundPortURI,
+		int nbThreads,
+		int nbSchedulableThreads,
+		boolean virtualThreads
+		)
 	{
 		super();
 
@@ -2412,9 +3346,10 @@ implements	ComponentI
 		this.innerComponents =
 						new ConcurrentHashMap<String,AbstractComponent>();
 
-		this.executorServicesIndexes = new HashMap<String,Integer>();
-		this.executorServices =
-			new AtomicReference<ComponentExecutorServiceManager[]>(null);
+		this.executorServicesTable =
+				ComponentExecutorServicesTable.empty(
+										STANDARD_REQUEST_HANDLER_URI,
+										STANDARD_SCHEDULABLE_HANDLER_URI);
 		this.requiredInterfaces = new Vector<Class<? extends RequiredCI>>();
 		this.offeredInterfaces = new Vector<Class<? extends OfferedCI>>();
 		this.interfaces2ports =
@@ -2438,13 +3373,31 @@ implements	ComponentI
 		}
 
 		if (nbThreads > 0) {
-			this.createNewExecutorService(STANDARD_REQUEST_HANDLER_URI,
-										  nbThreads, false);
+			CoScheduled coScheduled =
+							this.getClass().getAnnotation(CoScheduled.class);
+			if (coScheduled != null) {
+				// the loop of the group replaces the standard threads
+				assert	nbThreads == 1 && !virtualThreads :
+						new PreconditionException(
+								"A component which class is annotated with"
+								+ " @CoScheduled must be created with exactly"
+								+ " one standard platform thread!");
+				this.createNewCoScheduledExecutorService(
+							STANDARD_REQUEST_HANDLER_URI, coScheduled.value());
+			} else {
+				this.createNewExecutorService(
+							STANDARD_REQUEST_HANDLER_URI,
+							nbThreads, false, virtualThreads,
+							PRIORITIZED_STANDARD_REQUEST_HANDLER ||
+								this.getClass().isAnnotationPresent(
+												RequestPriority.class));
+			}
 		}
 		
 		if (nbSchedulableThreads > 0) {
 			this.createNewExecutorService(STANDARD_SCHEDULABLE_HANDLER_URI,
-										  nbSchedulableThreads, true);
+										  nbSchedulableThreads, true,
+										  virtualThreads);
 		}
 
 		try {
@@ -2499,45 +3452,32 @@ implements	ComponentI
 		}
 
 		// From executor services management
-		ac.executorServicesLock.readLock().lock();
-		try {
-			assert	ac.hasItsOwnThreads() == (ac.getTotalNumberOfThreads() > 0) :
-					new ImplementationInvariantException(
-							"hasItsOwnThreads() == "
-							+ "(getTotalNumberOfThreads() > 0)");
+		ComponentExecutorServicesTable table = ac.executorServicesTable;
+		assert	table.hasExecutorServices() ==
+										(table.getTotalNumberOfThreads() > 0) :
+				new ImplementationInvariantException(
+						"hasItsOwnThreads() == "
+						+ "(getTotalNumberOfThreads() > 0)");
 
-			boolean uri2index = true;
-			for (Entry<String,Integer> entry :
-									ac.executorServicesIndexes.entrySet()) {
-				String uri = entry.getKey();
-				int index = entry.getValue();
-				uri2index = uri2index &&
-						ac.executorServices.get()[index].getURI().equals(uri);
-			}
-			assert	uri2index :
-					new ImplementationInvariantException(
-							"executorServices and executorServicesIndexes"
-							+ " not in synchrony!");
+		boolean uri2index = true;
+		for (Entry<String,Integer> entry : table.getIndexes().entrySet()) {
+			String uri = entry.getKey();
+			int index = entry.getValue();
+			uri2index = uri2index && table.validIndex(index) &&
+							table.getManager(index).getURI().equals(uri);
+		}
+		assert	uri2index :
+				new ImplementationInvariantException(
+						"executor services and their indexes"
+						+ " not in synchrony!");
 
-			if (ac.executorServices.get() != null) {
-				for (int i = 0 ; i < ac.executorServices.get().length ; i++) {
-					if (ac.executorServices.get()[i] != null) {
-						assert	ac.executorServicesIndexes.containsValue(i) :
-								new ImplementationInvariantException(
-										i + " is a valid executor service "
-										+ "index but is not in "
-										+ "executorServicesIndexes");
-					} else {
-						assert	!ac.executorServicesIndexes.containsValue(i) :
-								new ImplementationInvariantException(
-										i + " is not  a valid executor service "
-										+ "index but is in "
-										+ "executorServicesIndexes");
-					}
-				}
+		for (int i = 0 ; i < table.capacity() ; i++) {
+			if (table.validIndex(i)) {
+				assert	table.getIndexes().containsValue(i) :
+						new ImplementationInvariantException(
+								i + " is a valid executor service "
+								+ "index but has no URI");
 			}
-		} finally {
-			ac.executorServicesLock.readLock().unlock();
 		}
 
 		// For plug-in management
@@ -2673,15 +3613,12 @@ implements	ComponentI
 									+ "defining a BCM component!");
 
 		// Internal parallelism management
-		ac.executorServicesLock.readLock().lock();
-		try {
-			assert	ac.hasItsOwnThreads() == ac.getTotalNumberOfThreads() > 0 :
-					new InvariantException(
-							"hasItsOwnThreads() == "
-							+ "getTotalNumberOfThreads() > 0");
-		} finally {
-			ac.executorServicesLock.readLock().unlock();
-		}
+		ComponentExecutorServicesTable table = ac.executorServicesTable;
+		assert	table.hasExecutorServices() ==
+										table.getTotalNumberOfThreads() > 0 :
+				new InvariantException(
+						"hasItsOwnThreads() == "
+						+ "getTotalNumberOfThreads() > 0");
 
 		// Logger and tracer management
 		assert	ac.getLogger() != null || !ac.isLogging() :
@@ -4421,12 +5358,11 @@ implements	ComponentI
 				 */
 				@Override
 				public void run() {
-					if (executorServices.get() != null) {
-						for (int i = 0; i < executorServices.get().length; i++)
-						{
-							if (executorServices.get()[i] != null) {
-								executorServices.get()[i].shutdown();
-							}
+					ComponentExecutorServicesTable table =
+													executorServicesTable;
+					for (int i = 0; i < table.capacity(); i++) {
+						if (table.validIndex(i)) {
+							table.getManager(i).shutdown();
 						}
 					}
 					state.set(ComponentState.SHUTTINGDOWN);
@@ -4487,9 +5423,11 @@ implements	ComponentI
 				 */
 				@Override
 				public void run() {
-					for (int i = 0; i < executorServices.get().length; i++) {
-						if (executorServices.get()[i] != null) {
-							executorServices.get()[i].shutdown();
+					ComponentExecutorServicesTable table =
+													executorServicesTable;
+					for (int i = 0; i < table.capacity(); i++) {
+						if (table.validIndex(i)) {
+							table.getManager(i).shutdown();
 						}
 					}
 					state.set(ComponentState.SHUTDOWN);
@@ -4554,20 +5492,15 @@ implements	ComponentI
 		if (this.state.get() == ComponentState.SHUTDOWN) {
 			return true;
 		}
-		if (this.executorServices.get() == null) {
+		ComponentExecutorServicesTable table = this.executorServicesTable;
+		if (table.capacity() == 0) {
 			return true;
 		}
 
-		this.executorServicesLock.readLock().lock();
-		try {
-			for (int i = 0 ; i < this.executorServices.get().length ; i++) {
-				if (this.executorServices.get()[i] != null) {
-					isShutdown = isShutdown &&
-								this.executorServices.get()[i].isShutdown();
-				}
+		for (int i = 0 ; i < table.capacity() ; i++) {
+			if (table.validIndex(i)) {
+				isShutdown = isShutdown && table.getManager(i).isShutdown();
 			}
-		} finally {
-			this.executorServicesLock.readLock().unlock();
 		}
 		if (isShutdown) {
 			this.state.set(ComponentState.SHUTDOWN);
@@ -4586,20 +5519,16 @@ implements	ComponentI
 		if (this.state.get() == ComponentState.TERMINATED) {
 			return true;
 		}
-		if (this.executorServices.get() == null) {
+		ComponentExecutorServicesTable table = this.executorServicesTable;
+		if (table.capacity() == 0) {
 			return this.isShutdown();
 		}
 
-		this.executorServicesLock.readLock().lock();
-		try {
-			for (int i = 0 ; i < this.executorServices.get().length ; i++) {
-				if (this.executorServices.get()[i] != null) {
-					isTerminated = isTerminated &&
-								this.executorServices.get()[i].isTerminated();
-				}
+		for (int i = 0 ; i < table.capacity() ; i++) {
+			if (table.validIndex(i)) {
+				isTerminated = isTerminated &&
+									table.getManager(i).isTerminated();
 			}
-		} finally {
-			this.executorServicesLock.readLock().unlock();
 		}
 		if (isTerminated) {
 			this.state.set(ComponentState.TERMINATED);
@@ -4617,22 +5546,17 @@ implements	ComponentI
 		if (this.state.get() == ComponentState.TERMINATED) {
 			return true;
 		}
-		if (this.executorServices.get() == null) {
+		ComponentExecutorServicesTable table = this.executorServicesTable;
+		if (table.capacity() == 0) {
 			return true;
 		}
 
 		boolean status = true;
-		this.executorServicesLock.readLock().lock();
-		try {
-			for (int i = 0 ; i < this.executorServices.get().length ; i++) {
-				if (this.executorServices.get()[i] != null) {
-					status = status &&
-							this.executorServices.get()[i].awaitTermination(
-															timeout, unit);
-				}
+		for (int i = 0 ; i < table.capacity() ; i++) {
+			if (table.validIndex(i)) {
+				status = status &&
+						table.getManager(i).awaitTermination(timeout, unit);
 			}
-		} finally {
-			this.executorServicesLock.readLock().unlock();
 		}
 		if (status) {
 			this.state.set(ComponentState.TERMINATED);
@@ -4812,26 +5736,14 @@ implements	ComponentI
 				new PreconditionException("trying to run a null task!");
 
 		if (AbstractCVM.DEBUG_MODE.contains(CVMDebugModes.CALLING)) {
-			AbstractCVM.getCVM().logDebug(
-				CVMDebugModes.CALLING,
-				new StringBuffer(
-						"running a task on the executor service of index ").
-					append(executorServiceIndex).
-					append(executorServiceIndex >= 0 ?
-							new StringBuffer(" (URI ").
-								append(this.executorServices.get()[
-						                       executorServiceIndex].getURI()).
-								append(")").toString()
-							: "").
-					append(" of the component ").
-					append(this.reflectionInboundPortURI).
-					append(".").toString());
+			this.logDispatch("running a task", executorServiceIndex);
 		}
 
 		t.setOwnerReference(this);
-		if (this.hasItsOwnThreads() &&
-						this.validExecutorServiceIndex(executorServiceIndex)) {
-			return this.getExecutorService(executorServiceIndex).submit(t);
+		ComponentExecutorServiceManager cesm =
+				this.executorServicesTable.getManager(executorServiceIndex);
+		if (cesm != null) {
+			return cesm.getExecutorService().submit(t);
 		} else {
 			// execute in the calling thread
 			t.run();
@@ -4924,14 +5836,49 @@ implements	ComponentI
 		assert	t != null :
 				new PreconditionException("trying to run a null task!");
 
-		if (this.hasItsOwnThreads()) {
+		ComponentExecutorServicesTable table = this.executorServicesTable;
+		if (table.hasExecutorServices()) {
 			t.setOwnerReference(this);
-			return this.getExecutorService().submit(t);
+			return table.getManager(table.getStandardIndex()).
+											getExecutorService().submit(t);
 		} else {
 			return this.runTaskWithFuture(-1, t);
 		}			
 	}
 
+	/**
+	 * log the dispatching of a task or a request on the executor service of
+	 * the given index when the calling debug mode is active.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code what != null}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param what					description of the dispatched entity.
+	 * @param executorServiceIndex	index of the executor service, or -1 when the caller thread executes.
+	 */
+	protected void		logDispatch(String what, int executorServiceIndex)
+	{
+		ComponentExecutorServiceManager cesm =
+				this.executorServicesTable.getManager(executorServiceIndex);
+		AbstractCVM.getCVM().logDebug(
+			CVMDebugModes.CALLING,
+			new StringBuffer(what).
+					append(" on the executor service of index ").
+					append(executorServiceIndex).
+					append(cesm != null ?
+								new StringBuffer(" (URI ").
+									append(cesm.getURI()).
+									append(")").toString()
+							:	"").
+					append(" of the component ").
+					append(this.reflectionInboundPortURI).
+					append(".").toString());
+	}
+
 	/**
 	 * run the <code>ComponentTask</code> on the given executor service.
 	 * 
@@ -4959,26 +5906,14 @@ implements	ComponentI
 				new PreconditionException("trying to run a null task!");
 
 		if (AbstractCVM.DEBUG_MODE.contains(CVMDebugModes.CALLING)) {
-			AbstractCVM.getCVM().logDebug(
-				CVMDebugModes.CALLING,
-				new StringBuffer(
-						"running a task on the executor service of index ").
-					append(executorServiceIndex).
-					append(executorServiceIndex >= 0 ?
-							new StringBuffer(" (URI ").
-								append(this.executorServices.get()[
-						                       executorServiceIndex].getURI()).
-								append(")").toString()
-							: "").
-					append(" of the component ").
-					append(this.reflectionInboundPortURI).
-					append(".").toString());
+			this.logDispatch("running a task", executorServiceIndex);
 		}
 
 		t.setOwnerReference(this);
-		if (this.hasItsOwnThreads() &&
-						this.validExecutorServiceIndex(executorServiceIndex)) {
-			this.getExecutorService(executorServiceIndex).execute(t);
+		ComponentExecutorServiceManager cesm =
+				this.executorServicesTable.getManager(executorServiceIndex);
+		if (cesm != null) {
+			cesm.getExecutorService().execute(t);
 		} else {
 			// execute in the calling thread
 			t.run();
@@ -5039,9 +5974,11 @@ implements	ComponentI
 		assert	t != null :
 				new PreconditionException("trying to run a null task!");
 
-		if (this.hasItsOwnThreads()) {
+		ComponentExecutorServicesTable table = this.executorServicesTable;
+		if (table.hasExecutorServices()) {
 			t.setOwnerReference(this);
-			this.getExecutorService().execute(t);
+			table.getManager(table.getStandardIndex()).
+											getExecutorService().execute(t);
 		} else {
 			this.runTaskOnComponent(-1, t);
 		}			
@@ -5068,11 +6005,46 @@ implements	ComponentI
 	{
 		assert	t != null : new PreconditionException("t != null");
 
-		this.runTaskOnComponent(
+		int executorServiceIndex =
+						this.executorServicesTable.getStandardIndex();
+		if (executorServiceIndex < 0) {
+			// no thread to run the task, no task object needed either
+			this.runTaskInCallerThread(t);
+		} else {
+			this.runTaskOnComponent(
+					executorServiceIndex,
 					new AbstractTask() {
 							@Override
 							public void run() { this.runTaskLambda(t); }
 					});
+		}
+	}
+
+	/**
+	 * run the task lambda {@code t} directly in the caller thread, without
+	 * wrapping it into a <code>ComponentTask</code>; used when no executor
+	 * service of the component can run it.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code isStarted()}
+	 * pre	{@code t != null}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param t	lambda defining the task to be executed.
+	 */
+	protected void		runTaskInCallerThread(FComponentTask t)
+	{
+		assert	isStarted() : new PreconditionException("isStarted()");
+		assert	t != null :
+				new PreconditionException("trying to run a null task!");
+
+		if (AbstractCVM.DEBUG_MODE.contains(CVMDebugModes.CALLING)) {
+			this.logDispatch("running a task", -1);
+		}
+		t.run(this);
 	}
 
 	/**
@@ -5129,12 +6101,167 @@ implements	ComponentI
 	{
 		assert	t != null : new PreconditionException("t != null");
 
-		this.runTaskOnComponent(
+		if (this.executorServicesTable.getManager(executorServiceIndex)
+																== null) {
+			this.runTaskInCallerThread(t);
+		} else {
+			this.runTaskOnComponent(
 					executorServiceIndex,
 					new AbstractTask() {
 							@Override
 							public void run() { this.runTaskLambda(t); }
 					});
+		}
+	}
+
+	/**
+	 * submit the batch {@code tasks} to the executor service managed by
+	 * {@code cesm} as at most as many slices as it has threads, each slice
+	 * being enqueued as a single task.
+	 * 
+	 * <p><strong>Description</strong></p>
+	 * 
+	 * <p>
+	 * When the executor service rejects a slice, the tasks that are futures
+	 * in this slice and the following ones are cancelled before the
+	 * exception is propagated; the slices already submitted are executed.
+	 * </p>
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code cesm != null}
+	 * pre	{@code tasks != null}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param cesm							manager of the executor service that will run the tasks.
+	 * @param tasks							tasks to be executed.
+	 * @throws RejectedExecutionException	if a slice cannot be scheduled for execution.
+	 */
+	protected static void	submitBatch(
+		ComponentExecutorServiceManager cesm,
+		Runnable[] tasks
+		) throws RejectedExecutionException
+	{
+		assert	cesm != null : new PreconditionException("cesm != null");
+		assert	tasks != null : new PreconditionException("tasks != null");
+
+		ExecutorService es = cesm.getExecutorService();
+		int slices =
+			Math.min(tasks.length, Math.max(1, cesm.getNumberOfThreads()));
+		int from = 0;
+		for (int s = 0 ; s < slices ; s++) {
+			// spread the remaining tasks evenly among the remaining slices
+			int to = from + (tasks.length - from) / (slices - s);
+			try {
+				es.execute(new TaskBatch(tasks, from, to));
+			} catch (RejectedExecutionException e) {
+				for (int i = from ; i < tasks.length ; i++) {
+					if (tasks[i] instanceof Future) {
+						((Future<?>)tasks[i]).cancel(false);
+					}
+				}
+				throw e;
+			}
+			from = to;
+		}
+	}
+
+	/**
+	 * run the batch of <code>ComponentTask</code> {@code ts} on the executor
+	 * service of the given index, or in the caller thread if there is none.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code isStarted()}
+	 * pre	{@code ts != null && ts.stream().allMatch(t -> t != null)}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param executorServiceIndex			index of the executor service that will run the tasks, or -1 if none.
+	 * @param ts							component tasks to be executed.
+	 * @throws AssertionError				if the preconditions are not satisfied.
+	 * @throws RejectedExecutionException	if the tasks cannot be scheduled for execution.
+	 */
+	protected void		runTasksOnComponent(
+		int executorServiceIndex,
+		Collection<ComponentTask> ts
+		) throws	AssertionError,
+					RejectedExecutionException
+	{
+		assert	isStarted() : new PreconditionException("isStarted()");
+		assert	ts != null : new PreconditionException("ts != null");
+
+		if (AbstractCVM.DEBUG_MODE.contains(CVMDebugModes.CALLING)) {
+			this.logDispatch("running a batch of " + ts.size() + " tasks",
+							 executorServiceIndex);
+		}
+
+		Runnable[] tasks = new Runnable[ts.size()];
+		int i = 0;
+		for (ComponentTask t : ts) {
+			assert	t != null :
+					new PreconditionException("trying to run a null task!");
+			t.setOwnerReference(this);
+			tasks[i++] = t;
+		}
+		ComponentExecutorServiceManager cesm =
+				this.executorServicesTable.getManager(executorServiceIndex);
+		if (cesm != null) {
+			if (tasks.length > 0) {
+				submitBatch(cesm, tasks);
+			}
+		} else {
+			// execute in the calling thread
+			new TaskBatch(tasks, 0, tasks.length).run();
+		}
+	}
+
+	/**
+	 * @see fr.sorbonne_u.components.ComponentI#runTasks(java.util.Collection)
+	 */
+	@Override
+	public void			runTasks(Collection<ComponentTask> ts)
+	throws	AssertionError,
+			RejectedExecutionException
+	{
+		this.runTasksOnComponent(
+					this.executorServicesTable.getStandardIndex(), ts);
+	}
+
+	/**
+	 * @see fr.sorbonne_u.components.ComponentI#runTasks(java.lang.String, java.util.Collection)
+	 */
+	@Override
+	public void			runTasks(
+		String executorServiceURI,
+		Collection<ComponentTask> ts
+		) throws	AssertionError,
+					RejectedExecutionException
+	{
+		int executorServiceIndex =
+					this.executorServicesTable.getIndex(executorServiceURI);
+		assert	executorServiceIndex >= 0 :
+				new PreconditionException(
+						"validExecutorServiceURI(executorServiceURI) " +
+						executorServiceURI);
+
+		this.runTasksOnComponent(executorServiceIndex, ts);
+	}
+
+	/**
+	 * @see fr.sorbonne_u.components.ComponentI#runTasks(int, java.util.Collection)
+	 */
+	@Override
+	public void			runTasks(
+		int executorServiceIndex,
+		Collection<ComponentTask> ts
+		) throws	AssertionError,
+					RejectedExecutionException
+	{
+		this.runTasksOnComponent(executorServiceIndex, ts);
 	}
 
 	/**
@@ -5179,8 +6306,8 @@ implements	ComponentI
 						append(executorServiceIndex).
 						append(executorServiceIndex >= 0 ?
 									new StringBuffer(" (URI ").
-										append(this.executorServices.get()[
-						                       executorServiceIndex].getURI()).
+										append(this.executorServicesTable.getManager(
+						                       executorServiceIndex).getURI()).
 										append(")").toString()
 								: "").
 						append(" of the component ").
@@ -5431,8 +6558,8 @@ implements	ComponentI
 						append(executorServiceIndex).
 						append(executorServiceIndex >= 0 ?
 									new StringBuffer(" (URI ").
-										append(this.executorServices.get()[
-						                       executorServiceIndex].getURI()).
+										append(this.executorServicesTable.getManager(
+						                       executorServiceIndex).getURI()).
 										append(")").toString()
 								: "").
 						append(" of the component ").
@@ -5712,8 +6839,8 @@ implements	ComponentI
 						append(executorServiceIndex).
 						append(executorServiceIndex >= 0 ?
 									new StringBuffer(" (URI ").
-										append(this.executorServices.get()[
-						                       executorServiceIndex].getURI()).
+										append(this.executorServicesTable.getManager(
+						                       executorServiceIndex).getURI()).
 										append(")").toString()
 								: "").
 						append(" of the component ").
@@ -5936,318 +7063,1867 @@ implements	ComponentI
 	}
 
 	// -------------------------------------------------------------------------
-	// Request handling
+	// Task scheduling in accelerated time
 	// -------------------------------------------------------------------------
 
 	/**
-	 * The abstract class <code>AbstractService</code> provides the basic
-	 * method implementations for component service calls.
+	 * The class <code>AcceleratedPeriodicTask</code> implements the periodic
+	 * executions of a component task at instants of the accelerated clock of
+	 * the component, separated by a fixed accelerated duration.
 	 *
 	 * <p><strong>Description</strong></p>
 	 * 
+	 * <p>
+	 * Each execution is scheduled as a one shot task which real delay is
+	 * computed from the accelerated instant {@code first + k * period} of
+	 * the {@code k}-th execution; as delays are never accumulated, rounding
+	 * errors in the conversion between accelerated and real times and
+	 * latencies of executions do not drift over time, whatever the
+	 * acceleration factor. As with {@code scheduleAtFixedRate}, executions
+	 * are never concurrent, late executions are performed as soon as
+	 * possible, an exception thrown by the task suppresses the subsequent
+	 * executions and the executions stop when the end instant of the clock,
+	 * if any, is passed.
+	 * </p>
+	 * 
 	 * <p><strong>Invariant</strong></p>
 	 * 
 	 * <pre>
-	 * invariant	{@code true}
+	 * invariant	{@code task != null && clock != null}
+	 * invariant	{@code first != null && period != null && !period.isNegative() && !period.isZero()}
+	 * invariant	{@code count >= 0}
 	 * </pre>
 	 * 
-	 * <p>Created on : 2018-09-18</p>
+	 * <p>Created on : 2026-10-16</p>
 	 * 
 	 * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
 	 */
-	public static abstract class	AbstractService<V>
-	implements	ComponentI.ComponentService<V>
-	{
-		protected AbstractComponent	serviceOwner;
-		protected final String		servicePluginURI;
-		protected PluginI			servicePlugin;
+	protected class		AcceleratedPeriodicTask
+	implements	ScheduledFuture<Void>
+	{
+		/** index of the executor service executing the task.				*/
+		protected final int							executorServiceIndex;
+		/** task to be executed periodically.								*/
+		protected final ComponentTask				task;
+		/** clock giving the accelerated time.								*/
+		protected final AcceleratedClock			clock;
+		/** accelerated instant of the first execution.						*/
+		protected final Instant						first;
+		/** accelerated duration between the starts of two executions.		*/
+		protected final Duration					period;
+		/** number of executions performed so far.							*/
+		protected long								count;
+		/** one shot task of the next execution or null if none yet.		*/
+		protected volatile ScheduledFuture<?>		next;
+		/** completion of the periodic executions.							*/
+		protected final CompletableFuture<Void>		completion;
 
 		/**
-		 * create a service callable which calls a service directly
-		 * implemented by the object representing the component.
+		 * create a periodic task in accelerated time.
 		 * 
 		 * <p><strong>Contract</strong></p>
 		 * 
 		 * <pre>
-		 * pre	{@code true}	// no precondition.
+		 * pre	{@code task != null && clock != null}
+		 * pre	{@code first != null && period != null && !period.isNegative() && !period.isZero()}
 		 * post	{@code true}	// no postcondition.
 		 * </pre>
 		 *
+		 * @param executorServiceIndex	index of the executor service executing the task.
+		 * @param task					task to be executed periodically.
+		 * @param clock					clock giving the accelerated time.
+		 * @param first					accelerated instant of the first execution.
+		 * @param period				accelerated duration between the starts of two executions.
 		 */
-		public			AbstractService()
+		protected			AcceleratedPeriodicTask(
+			int executorServiceIndex,
+			ComponentTask task,
+			AcceleratedClock clock,
+			Instant first,
+			Duration period
+			)
 		{
-			this.servicePluginURI = null;
+			this.executorServiceIndex = executorServiceIndex;
+			this.task = task;
+			this.clock = clock;
+			this.first = first;
+			this.period = period;
+			this.count = 0L;
+			this.completion = new CompletableFuture<Void>();
 		}
 
 		/**
-		 * create a service callable which calls a service 
-		 * implemented by the designated plugin of the component.
+		 * schedule the next execution at its accelerated instant or complete
+		 * the periodic executions if it is after the end instant of the
+		 * clock.
 		 * 
 		 * <p><strong>Contract</strong></p>
 		 * 
 		 * <pre>
-		 * pre	{@code pluginURI != null}
+		 * pre	{@code true}	// no precondition.
 		 * post	{@code true}	// no postcondition.
 		 * </pre>
-		 *
-		 * @param pluginURI	URI of a plug-in installed on the component.
 		 */
-		public			AbstractService(String pluginURI)
+		protected void		scheduleNext()
 		{
-			assert	pluginURI != null :
-					new PreconditionException("pluginURI != null");
+			Instant i = this.first.plus(this.period.multipliedBy(this.count));
+			Instant end = this.clock.getEndInstant();
+			if (end != null && i.isAfter(end)) {
+				this.completion.complete(null);
+				return;
+			}
+			long delay = this.clock.signedNanoDelayUntilInstant(i);
+			try {
+				this.next =
+					scheduleTaskOnComponent(
+						this.executorServiceIndex,
+						new AbstractTask() {
+							@Override
+							public void run() { fire(); }
+						},
+						Math.max(1L, delay),
+						TimeUnit.NANOSECONDS);
+			} catch (RejectedExecutionException e) {
+				// the executor service is shut down
+				this.completion.cancel(false);
+			}
+		}
 
-			this.servicePluginURI = pluginURI;
+		/**
+		 * perform one execution of the task and schedule the next one.
+		 * 
+		 * <p><strong>Contract</strong></p>
+		 * 
+		 * <pre>
+		 * pre	{@code true}	// no precondition.
+		 * post	{@code true}	// no postcondition.
+		 * </pre>
+		 */
+		protected void		fire()
+		{
+			if (this.completion.isDone()) {
+				return;
+			}
+			try {
+				this.task.run();
+			} catch (Throwable e) {
+				this.completion.completeExceptionally(e);
+				return;
+			}
+			this.count++;
+			this.scheduleNext();
 		}
 
 		/**
-		 * @see fr.sorbonne_u.components.ComponentI.ComponentService#setOwnerReference(fr.sorbonne_u.components.ComponentI)
+		 * @see java.util.concurrent.Delayed#getDelay(java.util.concurrent.TimeUnit)
 		 */
 		@Override
-		public void		setOwnerReference(ComponentI owner)
+		public long			getDelay(TimeUnit unit)
 		{
-			assert	owner != null : new PreconditionException("owner != null");
-			assert	owner instanceof AbstractComponent :
-					new PreconditionException(
-							"owner instanceof AbstractComponent");
+			ScheduledFuture<?> n = this.next;
+			return n == null ? 0L : n.getDelay(unit);
+		}
 
-			try {
-				assert	this.servicePluginURI == null ||
-										owner.isInstalled(servicePluginURI) :
-						new BCMException(
-								"servicePluginURI == null || "
-								+ "owner.isInstalled(servicePluginURI)");
-			} catch (Throwable e) {
-				throw new RuntimeException(
-							new ComponentTaskExecutionException(
-									"owner does not have a plug-in with URI "
-									+ this.servicePluginURI));
+		/**
+		 * @see java.lang.Comparable#compareTo(java.lang.Object)
+		 */
+		@Override
+		public int			compareTo(Delayed o)
+		{
+			if (o == this) {
+				return 0;
 			}
+			return Long.compare(this.getDelay(TimeUnit.NANOSECONDS),
+								o.getDelay(TimeUnit.NANOSECONDS));
+		}
 
-			this.serviceOwner = (AbstractComponent)owner;
-			if (this.servicePluginURI != null) {
-				this.servicePlugin =
-						this.serviceOwner.getPlugin(this.servicePluginURI);
+		/**
+		 * @see java.util.concurrent.Future#cancel(boolean)
+		 */
+		@Override
+		public boolean		cancel(boolean mayInterruptIfRunning)
+		{
+			boolean ret = this.completion.cancel(false);
+			if (ret) {
+				ScheduledFuture<?> n = this.next;
+				if (n != null) {
+					n.cancel(mayInterruptIfRunning);
+				}
 			}
+			return ret;
 		}
 
 		/**
-		 * @see fr.sorbonne_u.components.ComponentI.ComponentService#getServiceOwner()
+		 * @see java.util.concurrent.Future#isCancelled()
 		 */
 		@Override
-		public AbstractComponent	getServiceOwner()
+		public boolean		isCancelled()
 		{
-			return this.serviceOwner;
+			return this.completion.isCancelled();
 		}
 
 		/**
-		 * @see fr.sorbonne_u.components.ComponentI.ComponentService#getServiceProviderReference()
+		 * @see java.util.concurrent.Future#isDone()
 		 */
 		@Override
-		public Object	getServiceProviderReference()
+		public boolean		isDone()
 		{
-			if (this.servicePluginURI == null) {
-				return this.serviceOwner;
-			} else {
-				return this.servicePlugin;
-			}
+			return this.completion.isDone();
 		}
 
 		/**
-		 * call a service lambda on the owner component passing the correct
-		 * parameters.
-		 * 
-		 * <p><strong>Contract</strong></p>
-		 * 
-		 * <pre>
-		 * pre	{@code sl != null}
-		 * post	{@code true}	// no postcondition.
-		 * </pre>
-		 *
-		 * @param sl			lambda expression representing a service execution.
-		 * @return				the result of the lambda expression.
-		 * @throws Exception	<i>to do.</i>
+		 * @see java.util.concurrent.Future#get()
 		 */
-		protected V		callServiceLambda(FComponentService<V> sl)
-		throws Exception
+		@Override
+		public Void			get() throws InterruptedException, ExecutionException
 		{
-			assert	sl != null :
-					new PreconditionException("trying to run a null request!");
+			return this.completion.get();
+		}
 
-			return sl.apply(this.getServiceOwner());
+		/**
+		 * @see java.util.concurrent.Future#get(long, java.util.concurrent.TimeUnit)
+		 */
+		@Override
+		public Void			get(long timeout, TimeUnit unit)
+		throws	InterruptedException,
+				ExecutionException,
+				TimeoutException
+		{
+			return this.completion.get(timeout, unit);
 		}
 	}
 
 	/**
-	 * execute a request represented by a <code>ComponentService</code> on the
-	 * component.
-	 * 
-	 * <p><strong>Description</strong></p>
-	 * 
-	 * Uniform API entry to execute a call on the component.  The call, that
-	 * represents a method call on the object representing the component, is
-	 * embedded in a <code>ComponentService</code> object.  In concurrent
-	 * components, the Java executor framework is used to handle such requests.
-	 * Sequential components may simply use this method to handle requests, or
-	 * they may bypass it by directly calling the method on the object
-	 * representing the component for the sought of efficiency.
+	 * schedule a <code>ComponentTask</code> to be run at the accelerated
+	 * instant {@code i} of the clock of the component on the given executor
+	 * service; the real delay is computed from the clock when scheduling
+	 * and instants already past lead to an execution as soon as possible.
 	 * 
 	 * <p><strong>Contract</strong></p>
 	 * 
 	 * <pre>
 	 * pre	{@code isStarted()}
-	 * pre	{@code request != null}
+	 * pre	{@code isClockInitialised()}
+	 * pre	{@code validExecutorServiceIndex(executorServiceIndex)}
+	 * pre	{@code isSchedulable(executorServiceIndex)}
+	 * pre	{@code t != null && i != null}
+	 * pre	{@code i.equals(getClock().getStartInstant()) || i.isAfter(getClock().getStartInstant())}
 	 * post	{@code true}	// no postcondition.
 	 * </pre>
 	 *
-	 * @param <T>							the type of the value returned by the request.
 	 * @param executorServiceIndex			index of the executor service that will run the task.
-	 * @param request						service request to be executed on the component.
-	 * @return								a future value embedding the result of the task.
-	 * @throws AssertionError				if the component is not started, the index is not valid or the request is null.
+	 * @param t								task to be scheduled.
+	 * @param i								accelerated instant at which the task must be run.
+	 * @return								a scheduled future allowing to cancel and synchronize on the task execution.
+	 * @throws AssertionError				if the preconditions are not satisfied.
 	 * @throws RejectedExecutionException	if the task cannot be scheduled for execution.
 	 */
-	protected <T> Future<T>		baselineHandleRequest(
+	protected ScheduledFuture<?>	scheduleTaskAtOnComponent(
 		int executorServiceIndex,
-		ComponentService<T> request
+		ComponentTask t,
+		Instant i
 		) throws	AssertionError,
 					RejectedExecutionException
 	{
-		assert	isStarted() : new PreconditionException("isStarted()");
-		assert	request != null : new PreconditionException("request != null");
+		assert	isClockInitialised() :
+				new PreconditionException("isClockInitialised()");
+		assert	t != null && i != null :
+				new PreconditionException("t != null && i != null");
 
-		if (AbstractCVM.DEBUG_MODE.contains(CVMDebugModes.CALLING)) {
-			AbstractCVM.getCVM().logDebug(
-				CVMDebugModes.CALLING,
-				new StringBuffer(
-						"handling a request on the executor service of index ").
-						append(executorServiceIndex).
-						append(executorServiceIndex >= 0 ?
-									new StringBuffer(" (URI ").
-										append(this.executorServices.get()[
-						                       executorServiceIndex].getURI()).
-										append(")").toString()
-								: "").
-						append(" of the component ").
+		long delay = this.clock.getNow(null).signedNanoDelayUntilInstant(i);
+		return this.scheduleTaskOnComponent(executorServiceIndex, t,
+											Math.max(1L, delay),
+											TimeUnit.NANOSECONDS);
+	}
+
+	/**
+	 * schedule a <code>ComponentTask</code> to be run at the accelerated
+	 * instant {@code i} of the clock of the component on the standard
+	 * schedulable executor service.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code isStarted()}
+	 * pre	{@code isClockInitialised()}
+	 * pre	{@code canScheduleTasks()}
+	 * pre	{@code t != null && i != null}
+	 * pre	{@code i.equals(getClock().getStartInstant()) || i.isAfter(getClock().getStartInstant())}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param t								task to be scheduled.
+	 * @param i								accelerated instant at which the task must be run.
+	 * @return								a scheduled future allowing to cancel and synchronize on the task execution.
+	 * @throws AssertionError				if the preconditions are not satisfied.
+	 * @throws RejectedExecutionException	if the task cannot be scheduled for execution.
+	 */
+	protected ScheduledFuture<?>	scheduleTaskAt(ComponentTask t, Instant i)
+	throws	AssertionError,
+			RejectedExecutionException
+	{
+		return this.scheduleTaskAtOnComponent(
+					this.executorServicesTable.getStandardSchedulableIndex(),
+					t, i);
+	}
+
+	/**
+	 * schedule a <code>FComponentTask</code> to be run at the accelerated
+	 * instant {@code i} of the clock of the component on the standard
+	 * schedulable executor service.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code isStarted()}
+	 * pre	{@code isClockInitialised()}
+	 * pre	{@code canScheduleTasks()}
+	 * pre	{@code t != null && i != null}
+	 * pre	{@code i.equals(getClock().getStartInstant()) || i.isAfter(getClock().getStartInstant())}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param t								task to be scheduled.
+	 * @param i								accelerated instant at which the task must be run.
+	 * @return								a scheduled future allowing to cancel and synchronize on the task execution.
+	 * @throws AssertionError				if the preconditions are not satisfied.
+	 * @throws RejectedExecutionException	if the task cannot be scheduled for execution.
+	 */
+	protected ScheduledFuture<?>	scheduleTaskAt(FComponentTask t, Instant i)
+	throws	AssertionError,
+			RejectedExecutionException
+	{
+		assert	t != null : new PreconditionException("t != null");
+
+		return this.scheduleTaskAt(
+						new AbstractTask() {
+							@Override
+							public void run() { this.runTaskLambda(t); }
+						}, i);
+	}
+
+	/**
+	 * schedule a <code>ComponentTask</code> to be run at the accelerated
+	 * instant {@code i} of the clock of the component on the given executor
+	 * service.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code isStarted()}
+	 * pre	{@code isClockInitialised()}
+	 * pre	{@code validExecutorServiceURI(executorServiceURI)}
+	 * pre	{@code isSchedulable(executorServiceURI)}
+	 * pre	{@code t != null && i != null}
+	 * pre	{@code i.equals(getClock().getStartInstant()) || i.isAfter(getClock().getStartInstant())}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param executorServiceURI			URI of the executor service that will run the task.
+	 * @param t								task to be scheduled.
+	 * @param i								accelerated instant at which the task must be run.
+	 * @return								a scheduled future allowing to cancel and synchronize on the task execution.
+	 * @throws AssertionError				if the preconditions are not satisfied.
+	 * @throws RejectedExecutionException	if the task cannot be scheduled for execution.
+	 */
+	protected ScheduledFuture<?>	scheduleTaskAt(
+		String executorServiceURI,
+		ComponentTask t,
+		Instant i
+		) throws	AssertionError,
+					RejectedExecutionException
+	{
+		int executorServiceIndex =
+					this.executorServicesTable.getIndex(executorServiceURI);
+		assert	executorServiceIndex >= 0 :
+				new PreconditionException(
+						"validExecutorServiceURI(executorServiceURI) " +
+						executorServiceURI);
+
+		return this.scheduleTaskAtOnComponent(executorServiceIndex, t, i);
+	}
+
+	/**
+	 * schedule a <code>ComponentTask</code> to be run periodically on the
+	 * given executor service, first at the accelerated instant {@code first}
+	 * of the clock of the component and then every accelerated duration
+	 * {@code period}; the real delay of each execution is recomputed from
+	 * the clock so that no drift accumulates (see
+	 * {@code AcceleratedPeriodicTask}).
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code isStarted()}
+	 * pre	{@code isClockInitialised()}
+	 * pre	{@code validExecutorServiceIndex(executorServiceIndex)}
+	 * pre	{@code isSchedulable(executorServiceIndex)}
+	 * pre	{@code t != null && first != null && period != null}
+	 * pre	{@code !period.isNegative() && !period.isZero()}
+	 * pre	{@code first.equals(getClock().getStartInstant()) || first.isAfter(getClock().getStartInstant())}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param executorServiceIndex			index of the executor service that will run the task.
+	 * @param t								task to be scheduled.
+	 * @param first							accelerated instant of the first execution.
+	 * @param period						accelerated duration between the starts of two executions.
+	 * @return								a scheduled future allowing to cancel the executions.
+	 * @throws AssertionError				if the preconditions are not satisfied.
+	 * @throws RejectedExecutionException	if the task cannot be scheduled for execution.
+	 */
+	protected ScheduledFuture<?>	scheduleTaskAtFixedRateOnComponent(
+		int executorServiceIndex,
+		ComponentTask t,
+		Instant first,
+		Duration period
+		) throws	AssertionError,
+					RejectedExecutionException
+	{
+		assert	isStarted() : new PreconditionException("isStarted()");
+		assert	isClockInitialised() :
+				new PreconditionException("isClockInitialised()");
+		assert	t != null && first != null && period != null :
+				new PreconditionException(
+						"t != null && first != null && period != null");
+		assert	!period.isNegative() && !period.isZero() :
+				new PreconditionException(
+						"!period.isNegative() && !period.isZero()");
+
+		t.setOwnerReference(this);
+		AcceleratedPeriodicTask ret =
+			new AcceleratedPeriodicTask(executorServiceIndex, t,
+										this.clock.getNow(null), first, period);
+		ret.scheduleNext();
+		if (ret.isCancelled()) {
+			throw new RejectedExecutionException(
+							"executor service of index " + executorServiceIndex
+							+ " is shut down.");
+		}
+		return ret;
+	}
+
+	/**
+	 * schedule a <code>ComponentTask</code> to be run periodically on the
+	 * standard schedulable executor service, first at the accelerated instant
+	 * {@code first} of the clock of the component and then every accelerated
+	 * duration {@code period}.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code isStarted()}
+	 * pre	{@code isClockInitialised()}
+	 * pre	{@code canScheduleTasks()}
+	 * pre	{@code t != null && first != null && period != null}
+	 * pre	{@code !period.isNegative() && !period.isZero()}
+	 * pre	{@code first.equals(getClock().getStartInstant()) || first.isAfter(getClock().getStartInstant())}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param t								task to be scheduled.
+	 * @param first							accelerated instant of the first execution.
+	 * @param period						accelerated duration between the starts of two executions.
+	 * @return								a scheduled future allowing to cancel the executions.
+	 * @throws AssertionError				if the preconditions are not satisfied.
+	 * @throws RejectedExecutionException	if the task cannot be scheduled for execution.
+	 */
+	protected ScheduledFuture<?>	scheduleTaskAtFixedRate(
+		ComponentTask t,
+		Instant first,
+		Duration period
+		) throws	AssertionError,
+					RejectedExecutionException
+	{
+		return this.scheduleTaskAtFixedRateOnComponent(
+					this.executorServicesTable.getStandardSchedulableIndex(),
+					t, first, period);
+	}
+
+	/**
+	 * schedule a <code>FComponentTask</code> to be run periodically on the
+	 * standard schedulable executor service, first at the accelerated instant
+	 * {@code first} of the clock of the component and then every accelerated
+	 * duration {@code period}.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code isStarted()}
+	 * pre	{@code isClockInitialised()}
+	 * pre	{@code canScheduleTasks()}
+	 * pre	{@code t != null && first != null && period != null}
+	 * pre	{@code !period.isNegative() && !period.isZero()}
+	 * pre	{@code first.equals(getClock().getStartInstant()) || first.isAfter(getClock().getStartInstant())}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param t								task to be scheduled.
+	 * @param first							accelerated instant of the first execution.
+	 * @param period						accelerated duration between the starts of two executions.
+	 * @return								a scheduled future allowing to cancel the executions.
+	 * @throws AssertionError				if the preconditions are not satisfied.
+	 * @throws RejectedExecutionException	if the task cannot be scheduled for execution.
+	 */
+	protected ScheduledFuture<?>	scheduleTaskAtFixedRate(
+		FComponentTask t,
+		Instant first,
+		Duration period
+		) throws	AssertionError,
+					RejectedExecutionException
+	{
+		assert	t != null : new PreconditionException("t != null");
+
+		return this.scheduleTaskAtFixedRate(
+						new AbstractTask() {
+							@Override
+							public void run() { this.runTaskLambda(t); }
+						}, first, period);
+	}
+
+	/**
+	 * schedule a <code>ComponentTask</code> to be run periodically on the
+	 * given executor service, first at the accelerated instant {@code first}
+	 * of the clock of the component and then every accelerated duration
+	 * {@code period}.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code isStarted()}
+	 * pre	{@code isClockInitialised()}
+	 * pre	{@code validExecutorServiceURI(executorServiceURI)}
+	 * pre	{@code isSchedulable(executorServiceURI)}
+	 * pre	{@code t != null && first != null && period != null}
+	 * pre	{@code !period.isNegative() && !period.isZero()}
+	 * pre	{@code first.equals(getClock().getStartInstant()) || first.isAfter(getClock().getStartInstant())}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param executorServiceURI			URI of the executor service that will run the task.
+	 * @param t								task to be scheduled.
+	 * @param first							accelerated instant of the first execution.
+	 * @param period						accelerated duration between the starts of two executions.
+	 * @return								a scheduled future allowing to cancel the executions.
+	 * @throws AssertionError				if the preconditions are not satisfied.
+	 * @throws RejectedExecutionException	if the task cannot be scheduled for execution.
+	 */
+	protected ScheduledFuture<?>	scheduleTaskAtFixedRate(
+		String executorServiceURI,
+		ComponentTask t,
+		Instant first,
+		Duration period
+		) throws	AssertionError,
+					RejectedExecutionException
+	{
+		int executorServiceIndex =
+					this.executorServicesTable.getIndex(executorServiceURI);
+		assert	executorServiceIndex >= 0 :
+				new PreconditionException(
+						"validExecutorServiceURI(executorServiceURI) " +
+						executorServiceURI);
+
+		return this.scheduleTaskAtFixedRateOnComponent(
+										executorServiceIndex, t, first, period);
+	}
+
+	// -------------------------------------------------------------------------
+	// Request handling
+	// -------------------------------------------------------------------------
+
+	/**
+	 * The abstract class <code>AbstractService</code> provides the basic
+	 * method implementations for component service calls.
+	 *
+	 * <p><strong>Description</strong></p>
+	 * 
+	 * <p><strong>Invariant</strong></p>
+	 * 
+	 * <pre>
+	 * invariant	{@code true}
+	 * </pre>
+	 * 
+	 * <p>Created on : 2018-09-18</p>
+	 * 
+	 * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+	 */
+	public static abstract class	AbstractService<V>
+	implements	ComponentI.ComponentService<V>
+	{
+		protected AbstractComponent	serviceOwner;
+		protected final String		servicePluginURI;
+		protected PluginI			servicePlugin;
+
+		/**
+		 * create a service callable which calls a service directly
+		 * implemented by the object representing the component.
+		 * 
+		 * <p><strong>Contract</strong></p>
+		 * 
+		 * <pre>
+		 * pre	{@code true}	// no precondition.
+		 * post	{@code true}	// no postcondition.
+		 * </pre>
+		 *
+		 */
+		public			AbstractService()
+		{
+			this.servicePluginURI = null;
+		}
+
+		/**
+		 * create a service callable which calls a service 
+		 * implemented by the designated plugin of the component.
+		 * 
+		 * <p><strong>Contract</strong></p>
+		 * 
+		 * <pre>
+		 * pre	{@code pluginURI != null}
+		 * post	{@code true}	// no postcondition.
+		 * </pre>
+		 *
+		 * @param pluginURI	URI of a plug-in installed on the component.
+		 */
+		public			AbstractService(String pluginURI)
+		{
+			assert	pluginURI != null :
+					new PreconditionException("pluginURI != null");
+
+			this.servicePluginURI = pluginURI;
+		}
+
+		/**
+		 * @see fr.sorbonne_u.components.ComponentI.ComponentService#setOwnerReference(fr.sorbonne_u.components.ComponentI)
+		 */
+		@Override
+		public void		setOwnerReference(ComponentI owner)
+		{
+			assert	owner != null : new PreconditionException("owner != null");
+			assert	owner instanceof AbstractComponent :
+					new PreconditionException(
+							"owner instanceof AbstractComponent");
+
+			try {
+				assert	this.servicePluginURI == null ||
+										owner.isInstalled(servicePluginURI) :
+						new BCMException(
+								"servicePluginURI == null || "
+								+ "owner.isInstalled(servicePluginURI)");
+			} catch (Throwable e) {
+				throw new RuntimeException(
+							new ComponentTaskExecutionException(
+									"owner does not have a plug-in with URI "
+									+ this.servicePluginURI));
+			}
+
+			this.serviceOwner = (AbstractComponent)owner;
+			if (this.servicePluginURI != null) {
+				this.servicePlugin =
+						this.serviceOwner.getPlugin(this.servicePluginURI);
+			}
+		}
+
+		/**
+		 * @see fr.sorbonne_u.components.ComponentI.ComponentService#getServiceOwner()
+		 */
+		@Override
+		public AbstractComponent	getServiceOwner()
+		{
+			return this.serviceOwner;
+		}
+
+		/**
+		 * @see fr.sorbonne_u.components.ComponentI.ComponentService#getServiceProviderReference()
+		 */
+		@Override
+		public Object	getServiceProviderReference()
+		{
+			if (this.servicePluginURI == null) {
+				return this.serviceOwner;
+			} else {
+				return this.servicePlugin;
+			}
+		}
+
+		/**
+		 * call a service lambda on the owner component passing the correct
+		 * parameters.
+		 * 
+		 * <p><strong>Contract</strong></p>
+		 * 
+		 * <pre>
+		 * pre	{@code sl != null}
+		 * post	{@code true}	// no postcondition.
+		 * </pre>
+		 *
+		 * @param sl			lambda expression representing a service execution.
+		 * @return				the result of the lambda expression.
+		 * @throws Exception	<i>to do.</i>
+		 */
+		protected V		callServiceLambda(FComponentService<V> sl)
+		throws Exception
+		{
+			assert	sl != null :
+					new PreconditionException("trying to run a null request!");
+
+			return sl.apply(this.getServiceOwner());
+		}
+	}
+
+	/**
+	 * The class <code>FComponentServiceHolder</code> implements a reusable
+	 * service carrying a <code>FComponentService</code> lambda to an executor
+	 * service of a component.
+	 *
+	 * <p><strong>Description</strong></p>
+	 * 
+	 * <p>
+	 * Each thread owns one holder, obtained through {@code acquire}. As a
+	 * synchronous request blocks its caller until the request has been
+	 * executed, the holder of the caller thread is free again when the next
+	 * request is issued, hence the same object carries all of the
+	 * synchronous requests of the thread. The holder is released by the
+	 * thread executing the request, after the lambda returns and before the
+	 * result is made available to the caller. When the holder is not free
+	 * (nested call within a managed blocking, interrupted or cancelled call),
+	 * {@code acquire} returns null and callers fall back to a fresh service.
+	 * </p>
+	 * 
+	 * <p><strong>Invariant</strong></p>
+	 * 
+	 * <pre>
+	 * invariant	{@code !inUse || request != null}
+	 * </pre>
+	 * 
+	 * <p>Created on : 2026-10-16</p>
+	 * 
+	 * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+	 */
+	protected static final class	FComponentServiceHolder<V>
+	extends		AbstractService<V>
+	{
+		/** holder of each thread.											*/
+		protected static final ThreadLocal<FComponentServiceHolder<?>>
+								HOLDERS = ThreadLocal.withInitial(
+												FComponentServiceHolder::new);
+
+		/** request currently carried by the holder.						*/
+		protected FComponentService<V>	request;
+		/** true while the holder carries a request not yet executed.		*/
+		protected volatile boolean		inUse;
+
+		/**
+		 * return the holder of the current thread set to carry
+		 * {@code request} or null if this holder is already in use.
+		 * 
+		 * <p><strong>Contract</strong></p>
+		 * 
+		 * <pre>
+		 * pre	{@code request != null}
+		 * post	{@code ret == null || ret.inUse}
+		 * </pre>
+		 *
+		 * @param <V>		the type of the value returned by the request.
+		 * @param request	request to be carried.
+		 * @return			the holder of the current thread or null if it is in use.
+		 */
+		@SuppressWarnings("unchecked")
+		protected static <V> FComponentServiceHolder<V>	acquire(
+			FComponentService<V> request
+			)
+		{
+			assert	request != null :
+					new PreconditionException("request != null");
+
+			FComponentServiceHolder<V> h =
+							(FComponentServiceHolder<V>) HOLDERS.get();
+			if (h.inUse) {
+				return null;
+			} else {
+				h.request = request;
+				h.inUse = true;
+				return h;
+			}
+		}
+
+		/**
+		 * release the holder, dropping the references to the request and
+		 * to its owner so that they do not outlive the call.
+		 * 
+		 * <p><strong>Contract</strong></p>
+		 * 
+		 * <pre>
+		 * pre	{@code true}	// no precondition.
+		 * post	{@code !inUse}
+		 * </pre>
+		 *
+		 */
+		protected void	release()
+		{
+			this.request = null;
+			this.serviceOwner = null;
+			this.inUse = false;
+		}
+
+		/**
+		 * @see java.util.concurrent.Callable#call()
+		 */
+		@Override
+		public V		call() throws Exception
+		{
+			try {
+				return this.callServiceLambda(this.request);
+			} finally {
+				this.release();
+			}
+		}
+	}
+
+	/**
+	 * The class <code>DeadlineService</code> implements a service carrying a
+	 * request with its deadline to an executor service of a component.
+	 *
+	 * <p><strong>Description</strong></p>
+	 * 
+	 * <p>
+	 * When dequeued after its deadline, the request is dropped: it is not
+	 * executed and its future completes with a
+	 * {@code RequestDeadlineExceededException}. Otherwise, the request is
+	 * executed with its deadline as current deadline of the executing
+	 * thread, so that the requests it issues inherit it.
+	 * </p>
+	 * 
+	 * <p><strong>Invariant</strong></p>
+	 * 
+	 * <pre>
+	 * invariant	{@code request != null}
+	 * invariant	{@code deadline != RequestDeadline.NO_DEADLINE}
+	 * </pre>
+	 * 
+	 * <p>Created on : 2026-10-16</p>
+	 * 
+	 * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+	 */
+	protected static final class	DeadlineService<V>
+	implements	ComponentService<V>
+	{
+		/** request to be executed before the deadline.						*/
+		protected final ComponentService<V>	request;
+		/** deadline of the request in milliseconds since the Unix epoch.	*/
+		protected final long				deadline;
+
+		/**
+		 * create a service carrying {@code request} with {@code deadline}.
+		 * 
+		 * <p><strong>Contract</strong></p>
+		 * 
+		 * <pre>
+		 * pre	{@code request != null}
+		 * pre	{@code deadline != RequestDeadline.NO_DEADLINE}
+		 * post	{@code true}	// no postcondition.
+		 * </pre>
+		 *
+		 * @param request	request to be executed before the deadline.
+		 * @param deadline	deadline of the request in milliseconds since the Unix epoch.
+		 */
+		protected		DeadlineService(
+			ComponentService<V> request,
+			long deadline
+			)
+		{
+			assert	request != null :
+					new PreconditionException("request != null");
+			assert	deadline != RequestDeadline.NO_DEADLINE :
+					new PreconditionException(
+							"deadline != RequestDeadline.NO_DEADLINE");
+
+			this.request = request;
+			this.deadline = deadline;
+		}
+
+		/**
+		 * @see fr.sorbonne_u.components.ComponentI.ComponentService#setOwnerReference(fr.sorbonne_u.components.ComponentI)
+		 */
+		@Override
+		public void		setOwnerReference(ComponentI owner)
+		{
+			this.request.setOwnerReference(owner);
+		}
+
+		/**
+		 * @see fr.sorbonne_u.components.ComponentI.ComponentService#getServiceOwner()
+		 */
+		@Override
+		public AbstractComponent	getServiceOwner()
+		{
+			return this.request.getServiceOwner();
+		}
+
+		/**
+		 * @see fr.sorbonne_u.components.ComponentI.ComponentService#getServiceProviderReference()
+		 */
+		@Override
+		public Object	getServiceProviderReference()
+		{
+			return this.request.getServiceProviderReference();
+		}
+
+		/**
+		 * @see java.util.concurrent.Callable#call()
+		 */
+		@Override
+		public V		call() throws Exception
+		{
+			if (RequestDeadline.hasPassed(this.deadline)) {
+				throw new RequestDeadlineExceededException(this.deadline);
+			}
+			long previous =
+					RequestDeadline.restrictCurrentDeadline(this.deadline);
+			try {
+				return this.request.call();
+			} finally {
+				RequestDeadline.setCurrentDeadline(previous);
+			}
+		}
+	}
+
+	/**
+	 * The class <code>TaskBatch</code> runs in sequence a slice of a batch of
+	 * tasks submitted at once to an executor service, the whole slice being
+	 * enqueued as a single task.
+	 *
+	 * <p><strong>Description</strong></p>
+	 * 
+	 * <p>
+	 * An exception thrown by a task of the slice is reported to the uncaught
+	 * exception handler of the executing thread, as it would have been had
+	 * the task been submitted alone, and the following tasks are executed.
+	 * </p>
+	 * 
+	 * <p><strong>Invariant</strong></p>
+	 * 
+	 * <pre>
+	 * invariant	{@code tasks != null}
+	 * invariant	{@code from >= 0 && from <= to && to <= tasks.length}
+	 * </pre>
+	 * 
+	 * <p>Created on : 2026-10-16</p>
+	 * 
+	 * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+	 */
+	protected static final class	TaskBatch
+	implements	Runnable
+	{
+		/** tasks of the batch.												*/
+		protected final Runnable[]	tasks;
+		/** index of the first task of the slice.							*/
+		protected final int			from;
+		/** index following the last task of the slice.						*/
+		protected final int			to;
+
+		/**
+		 * create a slice of the batch {@code tasks} running the tasks from
+		 * index {@code from} included to index {@code to} excluded.
+		 * 
+		 * <p><strong>Contract</strong></p>
+		 * 
+		 * <pre>
+		 * pre	{@code tasks != null}
+		 * pre	{@code from >= 0 && from <= to && to <= tasks.length}
+		 * post	{@code true}	// no postcondition.
+		 * </pre>
+		 *
+		 * @param tasks	tasks of the batch.
+		 * @param from	index of the first task of the slice.
+		 * @param to	index following the last task of the slice.
+		 */
+		protected		TaskBatch(Runnable[] tasks, int from, int to)
+		{
+			assert	tasks != null : new PreconditionException("tasks != null");
+			assert	from >= 0 && from <= to && to <= tasks.length :
+					new PreconditionException(
+							"from >= 0 && from <= to && to <= tasks.length");
+
+			this.tasks = tasks;
+			this.from = from;
+			this.to = to;
+		}
+
+		/**
+		 * @see java.lang.Runnable#run()
+		 */
+		@Override
+		public void		run()
+		{
+			for (int i = this.from ; i < this.to ; i++) {
+				try {
+					this.tasks[i].run();
+				} catch (Throwable e) {
+					Thread t = Thread.currentThread();
+					t.getUncaughtExceptionHandler().uncaughtException(t, e);
+				}
+			}
+		}
+	}
+
+	/**
+	 * The class <code>DeferredFutureTask</code> implements the futures
+	 * returned for requests on components without executor services, which
+	 * are executed by the first thread getting their result.
+	 *
+	 * <p><strong>Description</strong></p>
+	 * 
+	 * <p>
+	 * The request is executed at most once, and not at all if the future is
+	 * cancelled before its result is asked for.
+	 * </p>
+	 * 
+	 * <p><strong>Invariant</strong></p>
+	 * 
+	 * <pre>
+	 * invariant	{@code true}	// no more invariant
+	 * </pre>
+	 * 
+	 * <p>Created on : 2026-10-16</p>
+	 * 
+	 * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+	 */
+	protected static final class	DeferredFutureTask<V>
+	extends		FutureTask<V>
+	{
+		/**
+		 * create a future executing {@code request} when its result is first
+		 * asked for.
+		 * 
+		 * <p><strong>Contract</strong></p>
+		 * 
+		 * <pre>
+		 * pre	{@code request != null}
+		 * post	{@code true}	// no postcondition.
+		 * </pre>
+		 *
+		 * @param request	request to be executed.
+		 */
+		protected		DeferredFutureTask(ComponentService<V> request)
+		{
+			super(request);
+		}
+
+		/**
+		 * @see java.util.concurrent.FutureTask#get()
+		 */
+		@Override
+		public V		get() throws InterruptedException, ExecutionException
+		{
+			// no effect if already executed, executing or cancelled
+			this.run();
+			return super.get();
+		}
+
+		/**
+		 * @see java.util.concurrent.FutureTask#get(long, java.util.concurrent.TimeUnit)
+		 */
+		@Override
+		public V		get(long timeout, TimeUnit unit)
+		throws	InterruptedException,
+				ExecutionException,
+				TimeoutException
+		{
+			this.run();
+			return super.get(timeout, unit);
+		}
+	}
+
+	/**
+	 * return {@code request} carrying the current deadline of the caller
+	 * thread, or {@code request} itself if there is none.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code request != null}
+	 * post	{@code ret != null}
+	 * </pre>
+	 *
+	 * @param <T>								the type of the value returned by the request.
+	 * @param request							service request to be executed on the component.
+	 * @return									{@code request} carrying the current deadline of the caller thread.
+	 * @throws RequestDeadlineExceededException	if the current deadline has already passed.
+	 */
+	protected static <T> ComponentService<T>	withCurrentDeadline(
+		ComponentService<T> request
+		) throws RequestDeadlineExceededException
+	{
+		long deadline = RequestDeadline.getCurrentDeadline();
+		if (deadline == RequestDeadline.NO_DEADLINE) {
+			return request;
+		} else if (RequestDeadline.hasPassed(deadline)) {
+			throw new RequestDeadlineExceededException(deadline);
+		} else {
+			return new DeadlineService<T>(request, deadline);
+		}
+	}
+
+	/**
+	 * wait for the result of the request executed by {@code f} until the
+	 * current deadline of the caller thread, if any; when the deadline
+	 * passes or the caller thread is interrupted, the request is cancelled
+	 * so that it is not executed if it is still queued.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code f != null}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param <T>								the type of the value returned by the request.
+	 * @param f									future of a request submitted by the caller thread.
+	 * @return									the result of the request.
+	 * @throws RequestDeadlineExceededException	if the deadline passed before the result was available.
+	 * @throws CancellationException			if the request has been cancelled.
+	 * @throws InterruptedException				if the caller thread has been interrupted while waiting for the result.
+	 * @throws ExecutionException				if the request has thrown an exception.
+	 */
+	protected static <T> T	waitForResult(Future<T> f)
+	throws	RequestDeadlineExceededException,
+			CancellationException,
+			InterruptedException,
+			ExecutionException
+	{
+		long deadline = RequestDeadline.getCurrentDeadline();
+		try {
+			if (deadline == RequestDeadline.NO_DEADLINE) {
+				return f.get();
+			}
+			try {
+				return f.get(RequestDeadline.remainingNanos(deadline),
+							 TimeUnit.NANOSECONDS);
+			} catch (TimeoutException e) {
+				if (f.cancel(false) || f.isCancelled()) {
+					throw new RequestDeadlineExceededException(deadline);
+				}
+				// completed between the time out and the cancellation
+				return f.get();
+			}
+		} catch (InterruptedException e) {
+			// the caller gives up, hence the request needs not be executed
+			f.cancel(false);
+			throw e;
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RequestDeadlineExceededException) {
+				throw (RequestDeadlineExceededException) e.getCause();
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * execute a request represented by a <code>ComponentService</code> on the
+	 * component.
+	 * 
+	 * <p><strong>Description</strong></p>
+	 * 
+	 * Uniform API entry to execute a call on the component.  The call, that
+	 * represents a method call on the object representing the component, is
+	 * embedded in a <code>ComponentService</code> object.  In concurrent
+	 * components, the Java executor framework is used to handle such requests.
+	 * Sequential components may simply use this method to handle requests, or
+	 * they may bypass it by directly calling the method on the object
+	 * representing the component for the sought of efficiency.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code isStarted()}
+	 * pre	{@code request != null}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param <T>							the type of the value returned by the request.
+	 * @param executorServiceIndex			index of the executor service that will run the task.
+	 * @param request						service request to be executed on the component.
+	 * @return								a future value embedding the result of the task.
+	 * @throws AssertionError				if the component is not started, the index is not valid or the request is null.
+	 * @throws RejectedExecutionException	if the task cannot be scheduled for execution.
+	 */
+	protected <T> Future<T>		baselineHandleRequest(
+		int executorServiceIndex,
+		ComponentService<T> request
+		) throws	AssertionError,
+					RejectedExecutionException
+	{
+		assert	isStarted() : new PreconditionException("isStarted()");
+		assert	request != null : new PreconditionException("request != null");
+
+		if (AbstractCVM.DEBUG_MODE.contains(CVMDebugModes.CALLING)) {
+			this.logDispatch("handling a request", executorServiceIndex);
+		}
+
+		request = withCurrentDeadline(request);
+		request.setOwnerReference(this);
+		// a single read of the immutable table, without locking
+		ComponentExecutorServiceManager cesm =
+				this.executorServicesTable.getManager(executorServiceIndex);
+		if (cesm != null) {
+			if (this.reentrantCallerRuns && cesm.ownsCurrentThread()) {
+				return this.runInCallerThread(request);
+			} else {
+				return cesm.getExecutorService().submit(request);
+			}
+		} else {
+			// executed by the first thread getting the result, unless the
+			// future is cancelled before
+			return new DeferredFutureTask<T>(request);
+		}
+	}
+
+	/**
+	 * execute a request represented by a <code>ComponentService</code> on the
+	 * component.
+	 * 
+	 * <p><strong>Description</strong></p>
+	 * 
+	 * This method is meant to be used when programmers need to manage within
+	 * a component requests with futures. It can be requests executed as
+	 * services of the component or calls to other components which are
+	 * synchronous but that the calling component wants to manage as
+	 * asynchronous tasks.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code isStarted()}
+	 * pre	{@code validExecutorServiceURI(executorServiceURI)}
+	 * pre	{@code request != null}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param <T>							the type of the value returned by the request.
+	 * @param executorServiceURI			URI of the executor service that will run the task.
+	 * @param request						service request to be executed on the component.
+	 * @return								a future value embedding the result of the task.
+	 * @throws AssertionError				if the component is not started, the URI is not valid or the request is null.
+	 * @throws RejectedExecutionException	if the task cannot be scheduled for execution.
+	 */
+	protected <T> Future<T>		baselineHandleRequest(
+		String executorServiceURI,
+		ComponentService<T> request
+		) throws	AssertionError,
+					RejectedExecutionException
+	{
+		assert	isStarted() : new PreconditionException("isStarted()");
+		assert	request != null : new PreconditionException("request != null");
+
+		request = withCurrentDeadline(request);
+		request.setOwnerReference(this);
+		ComponentExecutorServicesTable table = this.executorServicesTable;
+		ComponentExecutorServiceManager cesm =
+						table.getManager(table.getIndex(executorServiceURI));
+
+		assert	cesm != null :
+				new PreconditionException(
+						"validExecutorServiceURI(executorServiceURI) " +
+						executorServiceURI);
+
+		if (this.reentrantCallerRuns && cesm.ownsCurrentThread()) {
+			return this.runInCallerThread(request);
+		} else {
+			return cesm.getExecutorService().submit(request);
+		}
+	}
+
+	/**
+	 * execute a request represented by a <code>ComponentService</code> on the
+	 * component.
+	 * 
+	 * <p><strong>Description</strong></p>
+	 * 
+	 * This method is meant to be used when programmers need to manage within
+	 * a component requests with futures. It can be requests executed as
+	 * services of the component or calls to other components which are
+	 * synchronous but that the calling component wants to manage as
+	 * asynchronous tasks.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code isStarted()}
+	 * pre	{@code request != null}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param <T>							the type of the value returned by the request.
+	 * @param request						service request to be executed on the component.
+	 * @return								a future value embedding the result of the task.
+	 * @throws AssertionError				if the component is not started or the request is null.
+	 * @throws RejectedExecutionException	if the task cannot be scheduled for execution.
+	 */
+	protected <T> Future<T>		baselineHandleRequest(
+		ComponentService<T> request
+		) throws	AssertionError,
+					RejectedExecutionException
+	{
+		assert	isStarted() : new PreconditionException("isStarted()");
+		assert	request != null : new PreconditionException("request != null");
+
+		ComponentExecutorServicesTable table = this.executorServicesTable;
+		if (table.hasExecutorServices()) {
+			request = withCurrentDeadline(request);
+			request.setOwnerReference(this);
+			ComponentExecutorServiceManager cesm =
+								table.getManager(table.getStandardIndex());
+			if (this.reentrantCallerRuns && cesm.ownsCurrentThread()) {
+				return this.runInCallerThread(request);
+			} else {
+				return cesm.getExecutorService().submit(request);
+			}
+		} else {
+			return this.baselineHandleRequest(-1, request);
+		}
+	}
+
+	/**
+	 * execute {@code request} directly in the caller thread and return a
+	 * completed future embedding its result or its exception.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code request != null}
+	 * post	{@code ret.isDone()}
+	 * </pre>
+	 *
+	 * @param <T>		the type of the value returned by the request.
+	 * @param request	service request to be executed on the component.
+	 * @return			a completed future embedding the result of the request.
+	 */
+	protected <T> Future<T>		runInCallerThread(ComponentService<T> request)
+	{
+		assert	request != null : new PreconditionException("request != null");
+
+		if (AbstractCVM.DEBUG_MODE.contains(CVMDebugModes.CALLING)) {
+			AbstractCVM.getCVM().logDebug(
+				CVMDebugModes.CALLING,
+				new StringBuffer("executing a reentrant request in the ").
+						append("caller thread of the component ").
 						append(this.reflectionInboundPortURI).
 						append(".").toString());
 		}
 
-		request.setOwnerReference(this);
-		if (this.hasItsOwnThreads() &&
-						this.validExecutorServiceIndex(executorServiceIndex)) {
-			return this.getExecutorService(executorServiceIndex).
-															submit(request);
+		FutureTask<T> f = new FutureTask<T>(request);
+		f.run();
+		return f;
+	}
+
+	/**
+	 * @see fr.sorbonne_u.components.ComponentI#handleRequest(int, fr.sorbonne_u.components.ComponentI.ComponentService)
+	 */
+	@Override
+	public <T> T		handleRequest(
+		int executorServiceIndex,
+		ComponentService<T> request
+		) throws	AssertionError,
+					RejectedExecutionException,
+					CancellationException,
+					InterruptedException,
+					ExecutionException
+	{
+		return this.handleRequestSync(executorServiceIndex, request);
+	}
+
+	/**
+	 * @see fr.sorbonne_u.components.ComponentI#handleRequest(fr.sorbonne_u.components.ComponentI.ComponentService)
+	 */
+	@Override
+	public <T> T		handleRequest(ComponentService<T> request)
+	throws	AssertionError,
+			RejectedExecutionException,
+			CancellationException,
+			InterruptedException,
+			ExecutionException
+	{
+		return this.handleRequestSync(
+					this.executorServicesTable.getStandardIndex(), request);
+	}
+
+	/**
+	 * @see fr.sorbonne_u.components.ComponentI#handleRequest(fr.sorbonne_u.components.ComponentI.FComponentService)
+	 */
+	@Override
+	public <T> T		handleRequest(
+		FComponentService<T> request
+		) throws	AssertionError,
+					RejectedExecutionException,
+					CancellationException,
+					InterruptedException,
+					ExecutionException
+	{
+		return this.handleRequestSync(
+					this.executorServicesTable.getStandardIndex(), request);
+	}
+
+	/**
+	 * @see fr.sorbonne_u.components.ComponentI#handleRequest(java.lang.String, fr.sorbonne_u.components.ComponentI.ComponentService)
+	 */
+	@Override
+	public <T> T		handleRequest(
+		String executorServiceURI,
+		ComponentService<T> request
+		) throws	AssertionError,
+					RejectedExecutionException,
+					CancellationException,
+					InterruptedException,
+					ExecutionException
+	{
+		int executorServiceIndex =
+					this.executorServicesTable.getIndex(executorServiceURI);
+		assert	executorServiceIndex >= 0 :
+				new PreconditionException(
+						"validExecutorServiceURI(executorServiceURI) " +
+						executorServiceURI);
+
+		return this.handleRequestSync(executorServiceIndex, request);
+	}
+
+	/**
+	 * @see fr.sorbonne_u.components.ComponentI#handleRequest(java.lang.String, fr.sorbonne_u.components.ComponentI.FComponentService)
+	 */
+	@Override
+	public <T> T		handleRequest(
+		String executorServiceURI,
+		FComponentService<T> request
+		) throws	AssertionError,
+					RejectedExecutionException,
+					CancellationException,
+					InterruptedException,
+					ExecutionException
+	{
+		int executorServiceIndex =
+					this.executorServicesTable.getIndex(executorServiceURI);
+		assert	executorServiceIndex >= 0 :
+				new PreconditionException(
+						"validExecutorServiceURI(executorServiceURI) " +
+						executorServiceURI);
+
+		return this.handleRequestSync(executorServiceIndex, request);
+	}
+
+	/**
+	 * @see fr.sorbonne_u.components.ComponentI#handleRequest(int, fr.sorbonne_u.components.ComponentI.FComponentService)
+	 */
+	@Override
+	public <T> T		handleRequest(
+		int executorServiceIndex,
+		FComponentService<T> request
+		) throws	AssertionError,
+					RejectedExecutionException,
+					CancellationException,
+					InterruptedException,
+					ExecutionException
+	{
+		return this.handleRequestSync(executorServiceIndex, request);
+	}
+
+	/**
+	 * submit the batch of requests {@code requests} to the executor service
+	 * of the given index and return their futures in the same order.
+	 * 
+	 * <p><strong>Description</strong></p>
+	 * 
+	 * <p>
+	 * When the caller thread must execute the requests (see
+	 * {@code runsInCallerThread}), they are handled one by one as
+	 * {@code baselineHandleRequest} does; otherwise, they are wrapped into
+	 * futures submitted at once (see {@code submitBatch}).
+	 * </p>
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code isStarted()}
+	 * pre	{@code requests != null && requests.stream().allMatch(r -> r != null)}
+	 * post	{@code ret.size() == requests.size()}
+	 * </pre>
+	 *
+	 * @param <T>							the type of the value returned by the requests.
+	 * @param executorServiceIndex			index of the executor service that will run the requests, or -1 if none.
+	 * @param requests						service requests to be executed on the component.
+	 * @return								the futures of the requests.
+	 * @throws AssertionError				if the component is not started or a request is null.
+	 * @throws RejectedExecutionException	if the requests cannot be scheduled for execution.
+	 */
+	protected <T> List<Future<T>>	baselineHandleRequests(
+		int executorServiceIndex,
+		List<ComponentService<T>> requests
+		) throws	AssertionError,
+					RejectedExecutionException
+	{
+		assert	isStarted() : new PreconditionException("isStarted()");
+		assert	requests != null :
+				new PreconditionException("requests != null");
+
+		List<Future<T>> ret = new ArrayList<Future<T>>(requests.size());
+		ComponentExecutorServiceManager cesm =
+				this.executorServicesTable.getManager(executorServiceIndex);
+		if (this.runsInCallerThread(cesm)) {
+			for (ComponentService<T> request : requests) {
+				ret.add(this.baselineHandleRequest(executorServiceIndex,
+												   request));
+			}
 		} else {
-			final ComponentService<T> t = request;
-			return new Future<T>() {
-							@Override
-							public boolean	cancel(boolean mayInterruptIfRunning)
-							{ return false; }
+			if (AbstractCVM.DEBUG_MODE.contains(CVMDebugModes.CALLING)) {
+				this.logDispatch(
+						"handling a batch of " + requests.size() + " requests",
+						executorServiceIndex);
+			}
+			Runnable[] tasks = new Runnable[requests.size()];
+			for (ComponentService<T> request : requests) {
+				assert	request != null :
+						new PreconditionException("request != null");
+				request = withCurrentDeadline(request);
+				request.setOwnerReference(this);
+				FutureTask<T> f = new FutureTask<T>(request);
+				tasks[ret.size()] = f;
+				ret.add(f);
+			}
+			if (tasks.length > 0) {
+				submitBatch(cesm, tasks);
+			}
+		}
+		return ret;
+	}
 
-							@Override
-							public T		get()
-							throws	InterruptedException,
-									ExecutionException
-							{
-								try {
-									return t.call();
-								} catch (Throwable e) {
-									throw new ExecutionException(e);
-								}
-							}
+	/**
+	 * synchronously execute the batch of requests {@code requests} on the
+	 * executor service of the given index and return their results in the
+	 * same order.
+	 * 
+	 * <p><strong>Description</strong></p>
+	 * 
+	 * <p>
+	 * The results are waited for in the order of {@code requests}; when one
+	 * of them is not obtained, the requests of the batch that are not yet
+	 * executed are cancelled before the exception is propagated.
+	 * </p>
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code isStarted()}
+	 * pre	{@code requests != null && requests.stream().allMatch(r -> r != null)}
+	 * post	{@code ret.size() == requests.size()}
+	 * </pre>
+	 *
+	 * @param <T>							the type of the value returned by the requests.
+	 * @param executorServiceIndex			index of the executor service that will run the requests, or -1 if none.
+	 * @param requests						service requests to be executed on the component.
+	 * @return								the results of the requests.
+	 * @throws AssertionError				if the component is not started or a request is null.
+	 * @throws RejectedExecutionException	if the requests cannot be scheduled for execution.
+	 * @throws CancellationException		if a request has been cancelled.
+	 * @throws InterruptedException			if the caller thread has been interrupted while waiting for the results.
+	 * @throws ExecutionException			if a request has thrown an exception.
+	 */
+	protected <T> List<T>	handleRequestsSync(
+		int executorServiceIndex,
+		List<ComponentService<T>> requests
+		) throws	AssertionError,
+					RejectedExecutionException,
+					CancellationException,
+					InterruptedException,
+					ExecutionException
+	{
+		List<Future<T>> fs =
+				this.baselineHandleRequests(executorServiceIndex, requests);
+		List<T> ret = new ArrayList<T>(fs.size());
+		try {
+			for (Future<T> f : fs) {
+				ret.add(waitForResult(f));
+			}
+		} finally {
+			if (ret.size() < fs.size()) {
+				// no effect on the requests already executed
+				for (Future<T> f : fs) {
+					f.cancel(false);
+				}
+			}
+		}
+		return ret;
+	}
 
-							@Override
-							public T		get(long timeout, TimeUnit unit)
-							throws	InterruptedException,
-									ExecutionException,
-									TimeoutException
-							{ 	try {
-									return t.call();
-								} catch (Throwable e) {
-									throw new ExecutionException(e);
-								}
-							}
+	/**
+	 * @see fr.sorbonne_u.components.ComponentI#handleRequests(java.util.List)
+	 */
+	@Override
+	public <T> List<T>	handleRequests(
+		List<ComponentService<T>> requests
+		) throws	AssertionError,
+					RejectedExecutionException,
+					CancellationException,
+					InterruptedException,
+					ExecutionException
+	{
+		return this.handleRequestsSync(
+					this.executorServicesTable.getStandardIndex(), requests);
+	}
 
-							@Override
-							public boolean	isCancelled()
-							{ return false; }
+	/**
+	 * @see fr.sorbonne_u.components.ComponentI#handleRequests(java.lang.String, java.util.List)
+	 */
+	@Override
+	public <T> List<T>	handleRequests(
+		String executorServiceURI,
+		List<ComponentService<T>> requests
+		) throws	AssertionError,
+					RejectedExecutionException,
+					CancellationException,
+					InterruptedException,
+					ExecutionException
+	{
+		int executorServiceIndex =
+					this.executorServicesTable.getIndex(executorServiceURI);
+		assert	executorServiceIndex >= 0 :
+				new PreconditionException(
+						"validExecutorServiceURI(executorServiceURI) " +
+						executorServiceURI);
 
-							@Override
-							public boolean	isDone()
-							{ return true; }
-						};
+		return this.handleRequestsSync(executorServiceIndex, requests);
+	}
+
+	/**
+	 * @see fr.sorbonne_u.components.ComponentI#handleRequests(int, java.util.List)
+	 */
+	@Override
+	public <T> List<T>	handleRequests(
+		int executorServiceIndex,
+		List<ComponentService<T>> requests
+		) throws	AssertionError,
+					RejectedExecutionException,
+					CancellationException,
+					InterruptedException,
+					ExecutionException
+	{
+		return this.handleRequestsSync(executorServiceIndex, requests);
+	}
+
+	/**
+	 * return true if a request dispatched to the executor service manager
+	 * {@code cesm} must be executed directly by the caller thread, either
+	 * because the component has no such executor service or because the
+	 * caller thread already belongs to it and reentrant calls run in the
+	 * caller thread.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param cesm	executor service manager or null if none.
+	 * @return		true if the caller thread must execute the request.
+	 */
+	protected boolean	runsInCallerThread(ComponentExecutorServiceManager cesm)
+	{
+		return cesm == null ||
+						(this.reentrantCallerRuns && cesm.ownsCurrentThread());
+	}
+
+	/**
+	 * synchronously execute a request represented by a
+	 * <code>ComponentService</code> on the executor service of the given
+	 * index and return its result.
+	 * 
+	 * <p><strong>Description</strong></p>
+	 * 
+	 * <p>
+	 * When the caller thread must execute the request (see
+	 * {@code runsInCallerThread}), the request is called directly, without
+	 * creating a future to hold its result; otherwise, it is submitted to
+	 * the executor service and the caller waits for its result.
+	 * </p>
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code isStarted()}
+	 * pre	{@code request != null}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param <T>							the type of the value returned by the request.
+	 * @param executorServiceIndex			index of the executor service that will run the request, or -1 if none.
+	 * @param request						service request to be executed on the component.
+	 * @return								the result of the request.
+	 * @throws AssertionError				if the component is not started or the request is null.
+	 * @throws RejectedExecutionException	if the request cannot be scheduled for execution.
+	 * @throws CancellationException		if the request has been cancelled.
+	 * @throws InterruptedException			if the caller thread has been interrupted while waiting for the result.
+	 * @throws ExecutionException			if the request has thrown an exception.
+	 */
+	protected <T> T		handleRequestSync(
+		int executorServiceIndex,
+		ComponentService<T> request
+		) throws	AssertionError,
+					RejectedExecutionException,
+					CancellationException,
+					InterruptedException,
+					ExecutionException
+	{
+		assert	isStarted() : new PreconditionException("isStarted()");
+		assert	request != null : new PreconditionException("request != null");
+
+		if (this.runsInCallerThread(
+				this.executorServicesTable.getManager(executorServiceIndex))) {
+			if (AbstractCVM.DEBUG_MODE.contains(CVMDebugModes.CALLING)) {
+				this.logDispatch("handling a request in the caller thread",
+								 executorServiceIndex);
+			}
+			long deadline = RequestDeadline.getCurrentDeadline();
+			if (RequestDeadline.hasPassed(deadline)) {
+				throw new RequestDeadlineExceededException(deadline);
+			}
+			request.setOwnerReference(this);
+			try {
+				return request.call();
+			} catch (Throwable e) {
+				throw new ExecutionException(e);
+			}
+		} else {
+			return waitForResult(
+						this.baselineHandleRequest(executorServiceIndex,
+												   request));
 		}
 	}
 
 	/**
-	 * execute a request represented by a <code>ComponentService</code> on the
-	 * component.
+	 * synchronously execute a request represented by a
+	 * <code>FComponentService</code> lambda on the executor service of the
+	 * given index and return its result.
 	 * 
 	 * <p><strong>Description</strong></p>
 	 * 
-	 * This method is meant to be used when programmers need to manage within
-	 * a component requests with futures. It can be requests executed as
-	 * services of the component or calls to other components which are
-	 * synchronous but that the calling component wants to manage as
-	 * asynchronous tasks.
+	 * <p>
+	 * When the caller thread must execute the request (see
+	 * {@code runsInCallerThread}), the lambda is applied directly to the
+	 * component, without any wrapping object. Otherwise, the lambda is
+	 * carried to the executor service by the service holder of the caller
+	 * thread, which is reused from one call to the next; a fresh
+	 * <code>AbstractService</code> is created only when that holder is
+	 * still in use, for instance when a previous call from the same thread
+	 * has been interrupted or cancelled before its execution.
+	 * </p>
 	 * 
 	 * <p><strong>Contract</strong></p>
 	 * 
 	 * <pre>
 	 * pre	{@code isStarted()}
-	 * pre	{@code validExecutorServiceURI(executorServiceURI)}
 	 * pre	{@code request != null}
 	 * post	{@code true}	// no postcondition.
 	 * </pre>
 	 *
 	 * @param <T>							the type of the value returned by the request.
-	 * @param executorServiceURI			URI of the executor service that will run the task.
+	 * @param executorServiceIndex			index of the executor service that will run the request, or -1 if none.
 	 * @param request						service request to be executed on the component.
-	 * @return								a future value embedding the result of the task.
-	 * @throws AssertionError				if the component is not started, the URI is not valid or the request is null.
-	 * @throws RejectedExecutionException	if the task cannot be scheduled for execution.
+	 * @return								the result of the request.
+	 * @throws AssertionError				if the component is not started or the request is null.
+	 * @throws RejectedExecutionException	if the request cannot be scheduled for execution.
+	 * @throws CancellationException		if the request has been cancelled.
+	 * @throws InterruptedException			if the caller thread has been interrupted while waiting for the result.
+	 * @throws ExecutionException			if the request has thrown an exception.
 	 */
-	protected <T> Future<T>		baselineHandleRequest(
-		String executorServiceURI,
-		ComponentService<T> request
+	protected <T> T		handleRequestSync(
+		int executorServiceIndex,
+		FComponentService<T> request
 		) throws	AssertionError,
-					RejectedExecutionException
+					RejectedExecutionException,
+					CancellationException,
+					InterruptedException,
+					ExecutionException
 	{
 		assert	isStarted() : new PreconditionException("isStarted()");
 		assert	request != null : new PreconditionException("request != null");
 
-		request.setOwnerReference(this);
-		return this.getExecutorService(executorServiceURI).submit(request);
+		if (this.runsInCallerThread(
+				this.executorServicesTable.getManager(executorServiceIndex))) {
+			if (AbstractCVM.DEBUG_MODE.contains(CVMDebugModes.CALLING)) {
+				this.logDispatch("handling a request in the caller thread",
+								 executorServiceIndex);
+			}
+			long deadline = RequestDeadline.getCurrentDeadline();
+			if (RequestDeadline.hasPassed(deadline)) {
+				throw new RequestDeadlineExceededException(deadline);
+			}
+			try {
+				return request.apply(this);
+			} catch (Throwable e) {
+				throw new ExecutionException(e);
+			}
+		} else {
+			// a request with a deadline may be cancelled before being
+			// executed, which would leave the holder in use
+			FComponentServiceHolder<T> holder =
+				RequestDeadline.getCurrentDeadline() == RequestDeadline.NO_DEADLINE ?
+					FComponentServiceHolder.acquire(request)
+				:	null;
+			ComponentService<T> s = holder;
+			if (holder == null) {
+				s = new AbstractService<T>() {
+							@Override
+							public T call() throws Exception {
+								return this.callServiceLambda(request);
+							}
+						};
+			}
+			Future<T> f;
+			try {
+				f = this.baselineHandleRequest(executorServiceIndex, s);
+			} catch (RuntimeException | Error e) {
+				if (holder != null) {
+					holder.release();
+				}
+				throw e;
+			}
+			return waitForResult(f);
+		}
 	}
 
 	/**
 	 * execute a request represented by a <code>ComponentService</code> on the
-	 * component.
+	 * component, returning a completable future completed by the thread
+	 * executing the request.
 	 * 
 	 * <p><strong>Description</strong></p>
 	 * 
-	 * This method is meant to be used when programmers need to manage within
-	 * a component requests with futures. It can be requests executed as
-	 * services of the component or calls to other components which are
-	 * synchronous but that the calling component wants to manage as
-	 * asynchronous tasks.
+	 * <p>
+	 * Contrary to {@code baselineHandleRequest}, the returned future needs
+	 * not to be waited for: callers can chain their processing of the result
+	 * on it, so that no thread is parked while the request waits in the
+	 * queue of the executor service. Cancelling the future before the
+	 * request starts prevents its execution. A request shed by the overflow
+	 * policy of a bounded executor service completes the future with a
+	 * {@code CancellationException}. Reentrant requests and requests on
+	 * components without threads are executed directly by the caller thread.
+	 * </p>
 	 * 
 	 * <p><strong>Contract</strong></p>
 	 * 
 	 * <pre>
 	 * pre	{@code isStarted()}
 	 * pre	{@code request != null}
-	 * post	{@code true}	// no postcondition.
+	 * post	{@code ret != null}
 	 * </pre>
 	 *
 	 * @param <T>							the type of the value returned by the request.
+	 * @param executorServiceIndex			index of the executor service that will run the task or -1 to use the standard one.
 	 * @param request						service request to be executed on the component.
-	 * @return								a future value embedding the result of the task.
+	 * @return								a completable future completed with the result or the exception of the request.
 	 * @throws AssertionError				if the component is not started or the request is null.
 	 * @throws RejectedExecutionException	if the task cannot be scheduled for execution.
 	 */
-	protected <T> Future<T>		baselineHandleRequest(
+	protected <T> CompletableFuture<T>	baselineHandleRequestAsync(
+		int executorServiceIndex,
 		ComponentService<T> request
 		) throws	AssertionError,
 					RejectedExecutionException
@@ -6255,131 +8931,162 @@ implements	ComponentI
 		assert	isStarted() : new PreconditionException("isStarted()");
 		assert	request != null : new PreconditionException("request != null");
 
-		if (this.hasItsOwnThreads()) {
-			request.setOwnerReference(this);
-			return this.getExecutorService().submit(request);
+		if (AbstractCVM.DEBUG_MODE.contains(CVMDebugModes.CALLING)) {
+			AbstractCVM.getCVM().logDebug(
+				CVMDebugModes.CALLING,
+				new StringBuffer(
+						"handling an asynchronous request on the executor ").
+						append("service of index ").
+						append(executorServiceIndex).
+						append(" of the component ").
+						append(this.reflectionInboundPortURI).
+						append(".").toString());
+		}
+
+		final ComponentService<T> r = withCurrentDeadline(request);
+		r.setOwnerReference(this);
+		final CompletableFuture<T> ret = new CompletableFuture<T>();
+		// a future task, so that the overflow policies cancelling the tasks
+		// they shed also cancel the completable future of the caller
+		final AsyncRequestTask<T> completion =
+							new AsyncRequestTask<T>(r, ret);
+		final long deadline = RequestDeadline.getCurrentDeadline();
+		if (deadline != RequestDeadline.NO_DEADLINE) {
+			// the caller is not blocked, hence the future is expired by the
+			// timer shared in the JVM
+			final ScheduledFuture<?> expiry =
+				BCM4JavaSharedScheduler.getTimer().schedule(
+					() -> ret.completeExceptionally(
+							new RequestDeadlineExceededException(deadline)),
+					RequestDeadline.remainingNanos(deadline),
+					TimeUnit.NANOSECONDS);
+			ret.whenComplete((v, e) -> expiry.cancel(false));
+		}
+
+		ComponentExecutorServicesTable table = this.executorServicesTable;
+		ComponentExecutorServiceManager cesm =
+				table.getManager(executorServiceIndex < 0 ?
+									table.getStandardIndex()
+								:	executorServiceIndex);
+		if (cesm != null &&
+					!(this.reentrantCallerRuns && cesm.ownsCurrentThread())) {
+			cesm.getExecutorService().execute(completion);
 		} else {
-			return this.baselineHandleRequest(-1, request);
+			completion.run();
 		}
+		return ret;
 	}
 
 	/**
-	 * @see fr.sorbonne_u.components.ComponentI#handleRequest(int, fr.sorbonne_u.components.ComponentI.ComponentService)
+	 * @see fr.sorbonne_u.components.ComponentI#handleRequestAsync(fr.sorbonne_u.components.ComponentI.ComponentService)
 	 */
 	@Override
-	public <T> T		handleRequest(
-		int executorServiceIndex,
+	public <T> CompletableFuture<T>	handleRequestAsync(
 		ComponentService<T> request
 		) throws	AssertionError,
-					RejectedExecutionException,
-					CancellationException,
-					InterruptedException,
-					ExecutionException
-	{
-		return this.baselineHandleRequest(executorServiceIndex, request).get();
-	}
-
-	/**
-	 * @see fr.sorbonne_u.components.ComponentI#handleRequest(fr.sorbonne_u.components.ComponentI.ComponentService)
-	 */
-	@Override
-	public <T> T		handleRequest(ComponentService<T> request)
-	throws	AssertionError,
-			RejectedExecutionException,
-			CancellationException,
-			InterruptedException,
-			ExecutionException
+					RejectedExecutionException
 	{
-		return this.baselineHandleRequest(request).get();
+		return this.baselineHandleRequestAsync(-1, request);
 	}
 
 	/**
-	 * @see fr.sorbonne_u.components.ComponentI#handleRequest(fr.sorbonne_u.components.ComponentI.FComponentService)
+	 * @see fr.sorbonne_u.components.ComponentI#handleRequestAsync(fr.sorbonne_u.components.ComponentI.FComponentService)
 	 */
 	@Override
-	public <T> T		handleRequest(
+	public <T> CompletableFuture<T>	handleRequestAsync(
 		FComponentService<T> request
 		) throws	AssertionError,
-					RejectedExecutionException,
-					CancellationException,
-					InterruptedException,
-					ExecutionException
+					RejectedExecutionException
 	{
 		assert	request != null : new PreconditionException("request != null");
 
-		return this.baselineHandleRequest(
+		return this.baselineHandleRequestAsync(
+							-1,
 							new AbstractService<T>() {
 								@Override
 								public T call() throws Exception {
 									return this.callServiceLambda(request);
-								}								
-							}).get();
+								}
+							});
 	}
 
 	/**
-	 * @see fr.sorbonne_u.components.ComponentI#handleRequest(java.lang.String, fr.sorbonne_u.components.ComponentI.ComponentService)
+	 * @see fr.sorbonne_u.components.ComponentI#handleRequestAsync(java.lang.String, fr.sorbonne_u.components.ComponentI.ComponentService)
 	 */
 	@Override
-	public <T> T		handleRequest(
+	public <T> CompletableFuture<T>	handleRequestAsync(
 		String executorServiceURI,
 		ComponentService<T> request
 		) throws	AssertionError,
-					RejectedExecutionException,
-					CancellationException,
-					InterruptedException,
-					ExecutionException
+					RejectedExecutionException
 	{
-		return this.baselineHandleRequest(executorServiceURI, request).get();
+		assert	validExecutorServiceURI(executorServiceURI) :
+				new PreconditionException(
+						"validExecutorServiceURI(executorServiceURI)");
+
+		return this.baselineHandleRequestAsync(
+						this.getExecutorServiceIndex(executorServiceURI),
+						request);
 	}
 
 	/**
-	 * @see fr.sorbonne_u.components.ComponentI#handleRequest(java.lang.String, fr.sorbonne_u.components.ComponentI.FComponentService)
+	 * @see fr.sorbonne_u.components.ComponentI#handleRequestAsync(java.lang.String, fr.sorbonne_u.components.ComponentI.FComponentService)
 	 */
 	@Override
-	public <T> T		handleRequest(
+	public <T> CompletableFuture<T>	handleRequestAsync(
 		String executorServiceURI,
 		FComponentService<T> request
 		) throws	AssertionError,
-					RejectedExecutionException,
-					CancellationException,
-					InterruptedException,
-					ExecutionException
+					RejectedExecutionException
 	{
+		assert	validExecutorServiceURI(executorServiceURI) :
+				new PreconditionException(
+						"validExecutorServiceURI(executorServiceURI)");
 		assert	request != null : new PreconditionException("request != null");
 
-		return this.baselineHandleRequest(
-							executorServiceURI,
+		return this.baselineHandleRequestAsync(
+							this.getExecutorServiceIndex(executorServiceURI),
 							new AbstractService<T>() {
 								@Override
 								public T call() throws Exception {
 									return this.callServiceLambda(request);
 								}
-							}).get();
+							});
 	}
 
 	/**
-	 * @see fr.sorbonne_u.components.ComponentI#handleRequest(int, fr.sorbonne_u.components.ComponentI.FComponentService)
+	 * @see fr.sorbonne_u.components.ComponentI#handleRequestAsync(int, fr.sorbonne_u.components.ComponentI.ComponentService)
 	 */
 	@Override
-	public <T> T		handleRequest(
+	public <T> CompletableFuture<T>	handleRequestAsync(
+		int executorServiceIndex,
+		ComponentService<T> request
+		) throws	AssertionError,
+					RejectedExecutionException
+	{
+		return this.baselineHandleRequestAsync(executorServiceIndex, request);
+	}
+
+	/**
+	 * @see fr.sorbonne_u.components.ComponentI#handleRequestAsync(int, fr.sorbonne_u.components.ComponentI.FComponentService)
+	 */
+	@Override
+	public <T> CompletableFuture<T>	handleRequestAsync(
 		int executorServiceIndex,
 		FComponentService<T> request
 		) throws	AssertionError,
-					RejectedExecutionException,
-					CancellationException,
-					InterruptedException,
-					ExecutionException
+					RejectedExecutionException
 	{
 		assert	request != null : new PreconditionException("request != null");
 
-		return this.baselineHandleRequest(
+		return this.baselineHandleRequestAsync(
 							executorServiceIndex,
 							new AbstractService<T>() {
 								@Override
 								public T call() throws Exception {
 									return this.callServiceLambda(request);
 								}
-							}).get();
+							});
 	}
 
 	/**
@@ -6424,8 +9131,8 @@ implements	ComponentI
 						append(executorServiceIndex).
 						append(executorServiceIndex >= 0 ?
 									new StringBuffer(" (URI ").
-										append(this.executorServices.get()[
-						                       executorServiceIndex].getURI()).
+										append(this.executorServicesTable.getManager(
+						                       executorServiceIndex).getURI()).
 										append(")").toString()
 								: "").
 						append(" of the component ").
@@ -6433,6 +9140,7 @@ implements	ComponentI
 						append(".").toString());
 		}
 
+		request = withCurrentDeadline(request);
 		request.setOwnerReference(this);
 		return this.getSchedulableExecutorService(executorServiceIndex).
 													schedule(request, delay, u);
@@ -6472,6 +9180,7 @@ implements	ComponentI
 		assert	delay >= 0 && u != null :
 				new PreconditionException("delay >= 0 && u != null");
 
+		request = withCurrentDeadline(request);
 		request.setOwnerReference(this);
 		return this.getSchedulableExecutorService(executorServiceURI).
 													schedule(request, delay, u);
@@ -6509,6 +9218,7 @@ implements	ComponentI
 		assert	delay >= 0 && u != null :
 				new PreconditionException("delay >= 0 && u != null");
 
+		request = withCurrentDeadline(request);
 		request.setOwnerReference(this);
 		return this.getSchedulableExecutorService().schedule(request, delay, u);
 	}
@@ -6528,8 +9238,9 @@ implements	ComponentI
 					InterruptedException,
 					ExecutionException
 	{
-		return this.scheduleRequest(
-						executorServiceIndex, request, delay, u).get();
+		return waitForResult(
+				this.scheduleRequest(
+						executorServiceIndex, request, delay, u));
 	}
 
 	/**
@@ -6546,7 +9257,8 @@ implements	ComponentI
 					InterruptedException,
 					ExecutionException
 	{
-		return this.scheduleRequest(request, delay, u).get();
+		return waitForResult(
+				this.scheduleRequest(request, delay, u));
 	}
 
 	/**
@@ -6567,13 +9279,14 @@ implements	ComponentI
 				new PreconditionException(
 						"request != null && delay >= 0 && u != null");
 
-		return this.scheduleRequest(
+		return waitForResult(
+				this.scheduleRequest(
 								new AbstractService<T>() {
 									@Override
 									public T call() throws Exception {
 										return this.callServiceLambda(request);
 									}
-								}, delay, u).get();
+								}, delay, u));
 	}
 
 	/**
@@ -6591,8 +9304,9 @@ implements	ComponentI
 					InterruptedException,
 					ExecutionException
 	{
-		return this.scheduleRequest(
-							executorServiceURI, request, delay, u).get();
+		return waitForResult(
+				this.scheduleRequest(
+							executorServiceURI, request, delay, u));
 	}
 
 	/**
@@ -6614,14 +9328,15 @@ implements	ComponentI
 				new PreconditionException(
 						"request != null && delay >= 0 && u != null");
 
-		return this.scheduleRequest(
+		return waitForResult(
+				this.scheduleRequest(
 								executorServiceURI,
 								new AbstractService<T>() {
 									@Override
 									public T call() throws Exception {
 										return this.callServiceLambda(request);
 									}
-								}, delay, u).get();
+								}, delay, u));
 	}
 
 	/**
@@ -6643,14 +9358,157 @@ implements	ComponentI
 				new PreconditionException(
 						"request != null && delay >= 0 && u != null");
 
-		return this.scheduleRequest(
+		return waitForResult(
+				this.scheduleRequest(
 								executorServiceIndex,
 								new AbstractService<T>() {
 									@Override
 									public T call() throws Exception {
 										return this.callServiceLambda(request);
 									}
-								}, delay, u).get();
+								}, delay, u));
+	}
+
+	/**
+	 * @see fr.sorbonne_u.components.ComponentI#handleRequestWithDeadline(long, fr.sorbonne_u.components.ComponentI.ComponentService)
+	 */
+	@Override
+	public <T> T		handleRequestWithDeadline(
+		long deadline,
+		ComponentService<T> request
+		) throws	AssertionError,
+					RejectedExecutionException,
+					CancellationException,
+					InterruptedException,
+					ExecutionException
+	{
+		assert	request != null : new PreconditionException("request != null");
+
+		long previous = RequestDeadline.restrictCurrentDeadline(deadline);
+		try {
+			return this.handleRequest(request);
+		} finally {
+			RequestDeadline.setCurrentDeadline(previous);
+		}
+	}
+
+	/**
+	 * @see fr.sorbonne_u.components.ComponentI#handleRequestWithDeadline(long, fr.sorbonne_u.components.ComponentI.FComponentService)
+	 */
+	@Override
+	public <T> T		handleRequestWithDeadline(
+		long deadline,
+		FComponentService<T> request
+		) throws	AssertionError,
+					RejectedExecutionException,
+					CancellationException,
+					InterruptedException,
+					ExecutionException
+	{
+		assert	request != null : new PreconditionException("request != null");
+
+		long previous = RequestDeadline.restrictCurrentDeadline(deadline);
+		try {
+			return this.handleRequest(request);
+		} finally {
+			RequestDeadline.setCurrentDeadline(previous);
+		}
+	}
+
+	/**
+	 * @see fr.sorbonne_u.components.ComponentI#handleRequestWithDeadline(java.lang.String, long, fr.sorbonne_u.components.ComponentI.ComponentService)
+	 */
+	@Override
+	public <T> T		handleRequestWithDeadline(
+		String executorServiceURI,
+		long deadline,
+		ComponentService<T> request
+		) throws	AssertionError,
+					RejectedExecutionException,
+					CancellationException,
+					InterruptedException,
+					ExecutionException
+	{
+		assert	request != null : new PreconditionException("request != null");
+
+		long previous = RequestDeadline.restrictCurrentDeadline(deadline);
+		try {
+			return this.handleRequest(executorServiceURI, request);
+		} finally {
+			RequestDeadline.setCurrentDeadline(previous);
+		}
+	}
+
+	/**
+	 * @see fr.sorbonne_u.components.ComponentI#handleRequestWithDeadline(java.lang.String, long, fr.sorbonne_u.components.ComponentI.FComponentService)
+	 */
+	@Override
+	public <T> T		handleRequestWithDeadline(
+		String executorServiceURI,
+		long deadline,
+		FComponentService<T> request
+		) throws	AssertionError,
+					RejectedExecutionException,
+					CancellationException,
+					InterruptedException,
+					ExecutionException
+	{
+		assert	request != null : new PreconditionException("request != null");
+
+		long previous = RequestDeadline.restrictCurrentDeadline(deadline);
+		try {
+			return this.handleRequest(executorServiceURI, request);
+		} finally {
+			RequestDeadline.setCurrentDeadline(previous);
+		}
+	}
+
+	/**
+	 * @see fr.sorbonne_u.components.ComponentI#handleRequestWithDeadline(int, long, fr.sorbonne_u.components.ComponentI.ComponentService)
+	 */
+	@Override
+	public <T> T		handleRequestWithDeadline(
+		int executorServiceIndex,
+		long deadline,
+		ComponentService<T> request
+		) throws	AssertionError,
+					RejectedExecutionException,
+					CancellationException,
+					InterruptedException,
+					ExecutionException
+	{
+		assert	request != null : new PreconditionException("request != null");
+
+		long previous = RequestDeadline.restrictCurrentDeadline(deadline);
+		try {
+			return this.handleRequest(executorServiceIndex, request);
+		} finally {
+			RequestDeadline.setCurrentDeadline(previous);
+		}
+	}
+
+	/**
+	 * @see fr.sorbonne_u.components.ComponentI#handleRequestWithDeadline(int, long, fr.sorbonne_u.components.ComponentI.FComponentService)
+	 */
+	@Override
+	public <T> T		handleRequestWithDeadline(
+		int executorServiceIndex,
+		long deadline,
+		FComponentService<T> request
+		) throws	AssertionError,
+					RejectedExecutionException,
+					CancellationException,
+					InterruptedException,
+					ExecutionException
+	{
+		assert	request != null : new PreconditionException("request != null");
+
+		long previous = RequestDeadline.restrictCurrentDeadline(deadline);
+		try {
+			return this.handleRequest(executorServiceIndex, request);
+		} finally {
+			RequestDeadline.setCurrentDeadline(previous);
+		}
 	}
 
 	// -------------------------------------------------------------------------
@@ -6746,13 +9604,7 @@ implements	ComponentI
 			pTypes[i] = params[i].getClass();
 		}
 		Method m = this.getClass().getMethod(name, pTypes);
-		int index;
-		if (this.validExecutorServiceURI(STANDARD_REQUEST_HANDLER_URI)) {
-			index = this.getExecutorServiceIndex(STANDARD_REQUEST_HANDLER_URI);
-		} else {
-			index = this.getExecutorServiceIndex(
-										STANDARD_SCHEDULABLE_HANDLER_URI);
-		}
+		int index = this.getStandardExecutorServiceIndex();
 		return this.baselineHandleRequest(
 						index,
 						new AbstractService<Object>() {
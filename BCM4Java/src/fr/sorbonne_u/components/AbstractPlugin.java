@@ -41,6 +41,7 @@ import fr.sorbonne_u.components.ports.PortI;
 import fr.sorbonne_u.components.reflection.connectors.ReflectionConnector;
 import fr.sorbonne_u.components.reflection.interfaces.ReflectionCI;
 import fr.sorbonne_u.components.reflection.ports.ReflectionOutboundPort;
+import fr.sorbonne_u.components.tasks_management.QueueOverflowPolicy;
 import fr.sorbonne_u.exceptions.AssertionChecking;
 import fr.sorbonne_u.exceptions.PostconditionException;
 import fr.sorbonne_u.exceptions.PreconditionException;
@@ -958,6 +959,131 @@ implements	PluginI
 						createNewExecutorService(uri, nbThreads, schedulable);
 	}
 
+	/**
+	 * create a new user-defined executor service under the given URI and
+	 * with the given number of threads, which are virtual threads if
+	 * {@code virtualThreads} is true and the Java virtual machine provides
+	 * them.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code uri != null}
+	 * pre	{@code nbThreads > 0}
+	 * pre 	{@code getOwner() != null}
+	 * pre	{@code !getOwner().validExecutorServiceURI(uri)}
+	 * post	{@code getOwner().validExecutorServiceURI(uri)}
+	 * </pre>
+	 *
+	 * @param uri				URI of the new executor service.
+	 * @param nbThreads			number of threads of the new executor service.
+	 * @param schedulable		if true, the new executor service is schedulable otherwise it is not.
+	 * @param virtualThreads	if true, the new executor service uses virtual threads otherwise it uses platform threads.
+	 * @return					the index associated with the new executor service.
+	 */
+	protected int			createNewExecutorService(
+		String uri,
+		int nbThreads,
+		boolean schedulable,
+		boolean virtualThreads
+		)
+	{
+		assert	getOwner() != null :
+				new PreconditionException("getOwner() != null");
+		assert	!getOwner().validExecutorServiceURI(uri) :
+				new PreconditionException(
+						"getOwner().validExecutorServiceURI(uri)");
+
+		return ((AbstractComponent)this.getOwner()).
+						createNewExecutorService(uri, nbThreads, schedulable,
+												 virtualThreads);
+	}
+
+	/**
+	 * create a new user-defined executor service under the given URI and
+	 * with the given number of threads, which are virtual threads if
+	 * {@code virtualThreads} is true and the Java virtual machine provides
+	 * them, and which orders the requests by priority if {@code prioritized}
+	 * is true.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code uri != null}
+	 * pre	{@code nbThreads > 0}
+	 * pre 	{@code getOwner() != null}
+	 * pre	{@code !getOwner().validExecutorServiceURI(uri)}
+	 * pre	{@code !schedulable || !prioritized}
+	 * post	{@code getOwner().validExecutorServiceURI(uri)}
+	 * </pre>
+	 *
+	 * @param uri				URI of the new executor service.
+	 * @param nbThreads			number of threads of the new executor service.
+	 * @param schedulable		if true, the new executor service is schedulable otherwise it is not.
+	 * @param virtualThreads	if true, the new executor service uses virtual threads otherwise it uses platform threads.
+	 * @param prioritized		if true, the new executor service orders the requests by priority otherwise it executes them in their submission order.
+	 * @return					the index associated with the new executor service.
+	 */
+	protected int			createNewExecutorService(
+		String uri,
+		int nbThreads,
+		boolean schedulable,
+		boolean virtualThreads,
+		boolean prioritized
+		)
+	{
+		assert	getOwner() != null :
+				new PreconditionException("getOwner() != null");
+		assert	!getOwner().validExecutorServiceURI(uri) :
+				new PreconditionException(
+						"getOwner().validExecutorServiceURI(uri)");
+
+		return ((AbstractComponent)this.getOwner()).
+						createNewExecutorService(uri, nbThreads, schedulable,
+												 virtualThreads, prioritized);
+	}
+
+	/**
+	 * create a new user-defined non schedulable executor service under the
+	 * given URI and with the given number of threads, which queue is bounded
+	 * to {@code queueCapacity} tasks and applies {@code policy} when full.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code uri != null}
+	 * pre	{@code nbThreads > 0}
+	 * pre 	{@code getOwner() != null}
+	 * pre	{@code !getOwner().validExecutorServiceURI(uri)}
+	 * pre	{@code queueCapacity > 0}
+	 * pre	{@code policy != null}
+	 * post	{@code getOwner().validExecutorServiceURI(uri)}
+	 * </pre>
+	 *
+	 * @param uri			URI of the new executor service.
+	 * @param nbThreads		number of threads of the new executor service.
+	 * @param queueCapacity	maximum number of tasks waiting in the queue of the new executor service.
+	 * @param policy		policy applied when a task is submitted while the queue is full.
+	 * @return				the index associated with the new executor service.
+	 */
+	protected int			createNewExecutorService(
+		String uri,
+		int nbThreads,
+		int queueCapacity,
+		QueueOverflowPolicy policy
+		)
+	{
+		assert	getOwner() != null :
+				new PreconditionException("getOwner() != null");
+		assert	!getOwner().validExecutorServiceURI(uri) :
+				new PreconditionException(
+						"getOwner().validExecutorServiceURI(uri)");
+
+		return ((AbstractComponent)this.getOwner()).
+						createNewExecutorService(uri, nbThreads, queueCapacity,
+												 policy);
+	}
+
 	/**
 	 * create a new user-defined executor service under the given URI and
 	 * with the given number of threads.
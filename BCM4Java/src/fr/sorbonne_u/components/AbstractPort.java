@@ -44,6 +44,11 @@ import fr.sorbonne_u.exceptions.PostconditionException;
 import fr.sorbonne_u.exceptions.PreconditionException;
 import fr.sorbonne_u.utils.URIGenerator;
 
+import java.io.InvalidObjectException;
+import java.io.ObjectStreamException;
+import java.rmi.RemoteException;
+import java.rmi.server.RemoteObject;
+import java.rmi.server.RemoteServer;
 import java.rmi.server.UnicastRemoteObject;
 import java.util.concurrent.atomic.AtomicBoolean;
 
@@ -61,6 +66,19 @@ import java.util.concurrent.atomic.AtomicBoolean;
  * in components to handle calls or data exchanges among them. 
  * </p>
  * 
+ * <p><i>RMI export</i></p>
+ * 
+ * <p>
+ * Ports are remote objects but, as most of them are only ever used locally,
+ * they are exported to the RMI runtime lazily: a port is exported when it
+ * is published in the RMI registry by <code>publishPort</code> in a
+ * distributed CVM, or when a reference to it is marshalled by RMI, and it
+ * is unexported by <code>unpublishPort</code> and <code>destroyPort</code>.
+ * Hence, ports of purely local CVMs never consume RMI resources, and
+ * neither do the ports of JVM offering them through the socket transport
+ * or their dispatcher, unless passed as arguments of remote calls.
+ * </p>
+ * 
  * <p><i>Connection protocol</i></p>
  * 
  * <p>
@@ -138,7 +156,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
  * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
  */
 public abstract class	AbstractPort
-extends		UnicastRemoteObject
+extends		RemoteServer
 implements	PortI
 {
 	// -------------------------------------------------------------------------
@@ -213,6 +231,9 @@ implements	PortI
 													new AtomicBoolean(false);
 	/** true when the port has been destroyed, false otherwise.				*/
 	protected final AtomicBoolean		isDestroyed = new AtomicBoolean(false);
+	/** true when the port is exported to the RMI runtime.					*/
+	protected final transient AtomicBoolean	isExported =
+													new AtomicBoolean(false);
 
 	/**
 	 * check the implementation invariant of the class.
@@ -579,7 +600,15 @@ implements	PortI
 												+ this.getPortURI() + "]") ;
 
 		if (AbstractCVM.isDistributed) {
-			AbstractDistributedCVM.publishPort(this) ;
+			if (AbstractDistributedCVM.exportsPorts()) {
+				this.exportPort();
+			}
+			try {
+				AbstractDistributedCVM.publishPort(this) ;
+			} catch (Exception e) {
+				this.unexportPort();
+				throw e;
+			}
 			this.isPublished.set(true);
 			this.isDistributedlyPublished.set(true);
 		} else {
@@ -609,6 +638,7 @@ implements	PortI
 
 		if (this.isDistributedlyPublished()) {
 			AbstractDistributedCVM.unpublishPort(this) ;
+			this.unexportPort();
 		} else {
 			AbstractCVM.localUnpublishPort(this) ;
 		}
@@ -616,6 +646,98 @@ implements	PortI
 		this.isDistributedlyPublished.set(false);
 	}
 
+	/**
+	 * return true if the port is currently exported to the RMI runtime.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @return	true if the port is currently exported to the RMI runtime.
+	 */
+	public boolean		isExported()
+	{
+		return this.isExported.get();
+	}
+
+	/**
+	 * export the port to the RMI runtime on an anonymous TCP port, with the
+	 * RMI socket factories of the distributed CVM if any, if it is not
+	 * already exported.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code isExported()}
+	 * </pre>
+	 *
+	 * @throws RemoteException	if the export failed.
+	 */
+	protected void		exportPort() throws RemoteException
+	{
+		synchronized (this.isExported) {
+			if (!this.isExported.get()) {
+				AbstractDistributedCVM.exportRemoteObject(this);
+				this.isExported.set(true);
+			}
+		}
+	}
+
+	/**
+	 * unexport the port from the RMI runtime, if it is exported, forcing
+	 * the calls in progress to be aborted.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code !isExported()}
+	 * </pre>
+	 *
+	 * @throws RemoteException	if the unexport failed.
+	 */
+	protected void		unexportPort() throws RemoteException
+	{
+		synchronized (this.isExported) {
+			if (this.isExported.get()) {
+				UnicastRemoteObject.unexportObject(this, true);
+				this.isExported.set(false);
+			}
+		}
+	}
+
+	/**
+	 * replace the port by its RMI stub when it is marshalled, exporting it
+	 * if necessary, as RMI would do for an exported remote object.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code isExported()}
+	 * </pre>
+	 *
+	 * @return							the RMI stub of the port.
+	 * @throws ObjectStreamException	if the port could not be exported.
+	 */
+	protected Object	writeReplace() throws ObjectStreamException
+	{
+		try {
+			this.exportPort();
+			return RemoteObject.toStub(this);
+		} catch (RemoteException e) {
+			InvalidObjectException ioe =
+				new InvalidObjectException(
+						"port " + this.uri + " could not be exported.");
+			ioe.initCause(e);
+			throw ioe;
+		}
+	}
+
 	// -------------------------------------------------------------------------
 	// Life-cycle management
 	// -------------------------------------------------------------------------
@@ -640,6 +762,7 @@ implements	PortI
 		// assert	!this.connected() ;
 
 		this.owner.removePort(this.getPortURI());
+		this.unexportPort();
 		this.isDestroyed.set(true);
 
 		assert	this.isDestroyed() :
@@ -34,8 +34,11 @@ package fr.sorbonne_u.components;
 // knowledge of the CeCILL-C license and that you accept its terms.
 
 import java.lang.annotation.Annotation;
+import java.util.Collection;
+import java.util.List;
 import java.util.concurrent.Callable;
 import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
@@ -47,6 +50,7 @@ import fr.sorbonne_u.components.helpers.TracerI;
 import fr.sorbonne_u.components.interfaces.ComponentInterface;
 import fr.sorbonne_u.components.interfaces.OfferedCI;
 import fr.sorbonne_u.components.interfaces.RequiredCI;
+import fr.sorbonne_u.components.tasks_management.ExecutorServiceMetricsSnapshot;
 import fr.sorbonne_u.components.reflection.utils.ConstructorSignature;
 import fr.sorbonne_u.components.reflection.utils.ServiceSignature;
 import java.io.FileNotFoundException;
@@ -182,6 +186,39 @@ public interface		ComponentI
 	 */
 	public int			getTotalNumberOfThreads();
 
+	/**
+	 * return snapshots of the metrics of all the executor services of the
+	 * component, in the order of their indexes.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	true		// no precondition.
+	 * post	{@code ret != null}
+	 * </pre>
+	 *
+	 * @return	snapshots of the metrics of all the executor services of the component.
+	 */
+	public ExecutorServiceMetricsSnapshot[]	getExecutorServicesMetrics();
+
+	/**
+	 * return a snapshot of the metrics of the executor service with URI
+	 * {@code executorServiceURI}.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code validExecutorServiceURI(executorServiceURI)}
+	 * post	{@code ret != null}
+	 * </pre>
+	 *
+	 * @param executorServiceURI	URI of the executor service.
+	 * @return						a snapshot of the metrics of the executor service.
+	 */
+	public ExecutorServiceMetricsSnapshot	getExecutorServiceMetrics(
+		String executorServiceURI
+		);
+
 	/**
 	 * return true if the component guarantees a serialised execution of its 
 	 * services.
@@ -1295,6 +1332,96 @@ public interface		ComponentI
 		FComponentTask t
 		) throws	AssertionError, RejectedExecutionException;
 
+	/**
+	 * run the batch of <code>ComponentTask</code> {@code ts} on the standard executor service,
+	 * submitting it at once rather than task by task.
+	 * 
+	 * <p>
+	 * The tasks are split into at most as many slices as the executor service
+	 * has threads, each slice being enqueued as a single task running its
+	 * tasks in sequence; hence, the tasks of a slice are executed in the
+	 * order of {@code ts} but the batch only uses one queue operation per
+	 * slice. An exception thrown by a task is reported as uncaught and does
+	 * not prevent the execution of the following ones.
+	 * </p>
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code isStarted()}
+	 * pre	{@code ts != null && ts.stream().allMatch(t -> t != null)}
+	 * post	true		// no postcondition.
+	 * </pre>
+	 *
+	 * @param ts							component tasks to be executed.
+	 * @throws AssertionError				if the preconditions are not satisfied.
+	 * @throws RejectedExecutionException	if the tasks cannot be scheduled for execution.
+	 */
+	public void			runTasks(Collection<ComponentTask> ts)
+	throws	AssertionError, RejectedExecutionException;
+
+	/**
+	 * run the batch of <code>ComponentTask</code> {@code ts} on the given executor service,
+	 * submitting it at once rather than task by task.
+	 * 
+	 * <p>
+	 * The tasks are split into at most as many slices as the executor service
+	 * has threads, each slice being enqueued as a single task running its
+	 * tasks in sequence; hence, the tasks of a slice are executed in the
+	 * order of {@code ts} but the batch only uses one queue operation per
+	 * slice. An exception thrown by a task is reported as uncaught and does
+	 * not prevent the execution of the following ones.
+	 * </p>
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code isStarted()}
+	 * pre	{@code ts != null && ts.stream().allMatch(t -> t != null)}
+	 * post	true		// no postcondition.
+	 * </pre>
+	 *
+	 * @param executorServiceURI			URI of the executor service that will run the tasks.
+	 * @param ts							component tasks to be executed.
+	 * @throws AssertionError				if the preconditions are not satisfied.
+	 * @throws RejectedExecutionException	if the tasks cannot be scheduled for execution.
+	 */
+	public void			runTasks(
+		String executorServiceURI,
+		Collection<ComponentTask> ts
+		) throws	AssertionError, RejectedExecutionException;
+
+	/**
+	 * run the batch of <code>ComponentTask</code> {@code ts} on the given executor service,
+	 * submitting it at once rather than task by task.
+	 * 
+	 * <p>
+	 * The tasks are split into at most as many slices as the executor service
+	 * has threads, each slice being enqueued as a single task running its
+	 * tasks in sequence; hence, the tasks of a slice are executed in the
+	 * order of {@code ts} but the batch only uses one queue operation per
+	 * slice. An exception thrown by a task is reported as uncaught and does
+	 * not prevent the execution of the following ones.
+	 * </p>
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code isStarted()}
+	 * pre	{@code ts != null && ts.stream().allMatch(t -> t != null)}
+	 * post	true		// no postcondition.
+	 * </pre>
+	 *
+	 * @param executorServiceIndex			index of the executor service that will run the tasks.
+	 * @param ts							component tasks to be executed.
+	 * @throws AssertionError				if the preconditions are not satisfied.
+	 * @throws RejectedExecutionException	if the tasks cannot be scheduled for execution.
+	 */
+	public void			runTasks(
+		int executorServiceIndex,
+		Collection<ComponentTask> ts
+		) throws	AssertionError, RejectedExecutionException;
+
 
 	/**
 	 * schedule a <code>ComponentTask</code> to be run after a given delay.
@@ -2181,6 +2308,279 @@ public interface		ComponentI
 					InterruptedException,
 					ExecutionException;
 
+	/**
+	 * execute the batch of requests {@code requests} on the standard executor service
+	 * synchronously, submitting it at once rather than request by request,
+	 * and return their results in the order of {@code requests}.
+	 * 
+	 * <p>
+	 * The requests are enqueued as <code>runTasks</code> enqueues tasks. If a
+	 * request fails or the caller stops waiting, the requests of the batch
+	 * that are not yet executed are cancelled and the exception of the first
+	 * failing request, in the order of {@code requests}, is thrown.
+	 * </p>
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code isStarted()}
+	 * pre	{@code requests != null && requests.stream().allMatch(r -> r != null)}
+	 * post	{@code ret.size() == requests.size()}
+	 * </pre>
+	 *
+	 * @param <T>							the type of the value returned by the requests.
+	 * @param requests						service requests to be executed on the component.
+	 * @return								the results of the requests.
+	 * @throws AssertionError				if the preconditions are not satisfied.
+	 * @throws RejectedExecutionException	if the requests cannot be scheduled for execution.
+	 * @throws CancellationException		if a request has been cancelled.
+	 * @throws InterruptedException			if the current thread was interrupted while waiting.
+	 * @throws ExecutionException			if a request threw an exception.
+	 */
+	public <T> List<T>	handleRequests(
+		List<ComponentService<T>> requests
+		) throws	AssertionError,
+					RejectedExecutionException,
+					CancellationException,
+					InterruptedException,
+					ExecutionException;
+
+	/**
+	 * execute the batch of requests {@code requests} on the given executor service
+	 * synchronously, submitting it at once rather than request by request,
+	 * and return their results in the order of {@code requests}.
+	 * 
+	 * <p>
+	 * The requests are enqueued as <code>runTasks</code> enqueues tasks. If a
+	 * request fails or the caller stops waiting, the requests of the batch
+	 * that are not yet executed are cancelled and the exception of the first
+	 * failing request, in the order of {@code requests}, is thrown.
+	 * </p>
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code isStarted()}
+	 * pre	{@code requests != null && requests.stream().allMatch(r -> r != null)}
+	 * post	{@code ret.size() == requests.size()}
+	 * </pre>
+	 *
+	 * @param <T>							the type of the value returned by the requests.
+	 * @param executorServiceURI			URI of the executor service that will run the requests.
+	 * @param requests						service requests to be executed on the component.
+	 * @return								the results of the requests.
+	 * @throws AssertionError				if the preconditions are not satisfied.
+	 * @throws RejectedExecutionException	if the requests cannot be scheduled for execution.
+	 * @throws CancellationException		if a request has been cancelled.
+	 * @throws InterruptedException			if the current thread was interrupted while waiting.
+	 * @throws ExecutionException			if a request threw an exception.
+	 */
+	public <T> List<T>	handleRequests(
+		String executorServiceURI,
+		List<ComponentService<T>> requests
+		) throws	AssertionError,
+					RejectedExecutionException,
+					CancellationException,
+					InterruptedException,
+					ExecutionException;
+
+	/**
+	 * execute the batch of requests {@code requests} on the given executor service
+	 * synchronously, submitting it at once rather than request by request,
+	 * and return their results in the order of {@code requests}.
+	 * 
+	 * <p>
+	 * The requests are enqueued as <code>runTasks</code> enqueues tasks. If a
+	 * request fails or the caller stops waiting, the requests of the batch
+	 * that are not yet executed are cancelled and the exception of the first
+	 * failing request, in the order of {@code requests}, is thrown.
+	 * </p>
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code isStarted()}
+	 * pre	{@code requests != null && requests.stream().allMatch(r -> r != null)}
+	 * post	{@code ret.size() == requests.size()}
+	 * </pre>
+	 *
+	 * @param <T>							the type of the value returned by the requests.
+	 * @param executorServiceIndex			index of the executor service that will run the requests.
+	 * @param requests						service requests to be executed on the component.
+	 * @return								the results of the requests.
+	 * @throws AssertionError				if the preconditions are not satisfied.
+	 * @throws RejectedExecutionException	if the requests cannot be scheduled for execution.
+	 * @throws CancellationException		if a request has been cancelled.
+	 * @throws InterruptedException			if the current thread was interrupted while waiting.
+	 * @throws ExecutionException			if a request threw an exception.
+	 */
+	public <T> List<T>	handleRequests(
+		int executorServiceIndex,
+		List<ComponentService<T>> requests
+		) throws	AssertionError,
+					RejectedExecutionException,
+					CancellationException,
+					InterruptedException,
+					ExecutionException;
+
+	/**
+	 * execute a request represented by a <code>ComponentService</code> on the
+	 * component asynchronously, returning a completable future that is
+	 * completed by the component thread executing the request, hence the
+	 * caller is never blocked waiting for the execution of the request.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code isStarted()}
+	 * pre	{@code request != null}
+	 * post	{@code ret != null}
+	 * </pre>
+	 *
+	 * @param <T>							the type of the value returned by the request.
+	 * @param request						service request to be executed on the component.
+	 * @return								a completable future completed with the result or the exception of the request.
+	 * @throws AssertionError				if the preconditions are not satisfied.
+	 * @throws RejectedExecutionException	if the task cannot be scheduled for execution.
+	 */
+	public <T> CompletableFuture<T>	handleRequestAsync(
+		ComponentService<T> request
+		) 	throws	AssertionError,
+					RejectedExecutionException;
+
+	/**
+	 * execute a request represented by a lambda expression on the
+	 * component asynchronously, returning a completable future that is
+	 * completed by the component thread executing the request, hence the
+	 * caller is never blocked waiting for the execution of the request.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code isStarted()}
+	 * pre	{@code request != null}
+	 * post	{@code ret != null}
+	 * </pre>
+	 *
+	 * @param <T>							the type of the value returned by the request.
+	 * @param request						service request to be executed on the component.
+	 * @return								a completable future completed with the result or the exception of the request.
+	 * @throws AssertionError				if the preconditions are not satisfied.
+	 * @throws RejectedExecutionException	if the task cannot be scheduled for execution.
+	 */
+	public <T> CompletableFuture<T>	handleRequestAsync(
+		FComponentService<T> request
+		) 	throws	AssertionError,
+					RejectedExecutionException;
+
+	/**
+	 * execute a request represented by a <code>ComponentService</code> on the
+	 * component asynchronously, returning a completable future that is
+	 * completed by the component thread executing the request, hence the
+	 * caller is never blocked waiting for the execution of the request.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code isStarted()}
+	 * pre	{@code request != null}
+	 * post	{@code ret != null}
+	 * </pre>
+	 *
+	 * @param <T>							the type of the value returned by the request.
+	 * @param executorServiceURI			URI of the executor service that will run the task.
+	 * @param request						service request to be executed on the component.
+	 * @return								a completable future completed with the result or the exception of the request.
+	 * @throws AssertionError				if the preconditions are not satisfied.
+	 * @throws RejectedExecutionException	if the task cannot be scheduled for execution.
+	 */
+	public <T> CompletableFuture<T>	handleRequestAsync(
+		String executorServiceURI,
+		ComponentService<T> request
+		) 	throws	AssertionError,
+					RejectedExecutionException;
+
+	/**
+	 * execute a request represented by a lambda expression on the
+	 * component asynchronously, returning a completable future that is
+	 * completed by the component thread executing the request, hence the
+	 * caller is never blocked waiting for the execution of the request.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code isStarted()}
+	 * pre	{@code request != null}
+	 * post	{@code ret != null}
+	 * </pre>
+	 *
+	 * @param <T>							the type of the value returned by the request.
+	 * @param executorServiceURI			URI of the executor service that will run the task.
+	 * @param request						service request to be executed on the component.
+	 * @return								a completable future completed with the result or the exception of the request.
+	 * @throws AssertionError				if the preconditions are not satisfied.
+	 * @throws RejectedExecutionException	if the task cannot be scheduled for execution.
+	 */
+	public <T> CompletableFuture<T>	handleRequestAsync(
+		String executorServiceURI,
+		FComponentService<T> request
+		) 	throws	AssertionError,
+					RejectedExecutionException;
+
+	/**
+	 * execute a request represented by a <code>ComponentService</code> on the
+	 * component asynchronously, returning a completable future that is
+	 * completed by the component thread executing the request, hence the
+	 * caller is never blocked waiting for the execution of the request.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code isStarted()}
+	 * pre	{@code request != null}
+	 * post	{@code ret != null}
+	 * </pre>
+	 *
+	 * @param <T>							the type of the value returned by the request.
+	 * @param executorServiceIndex			index of the executor service that will run the task.
+	 * @param request						service request to be executed on the component.
+	 * @return								a completable future completed with the result or the exception of the request.
+	 * @throws AssertionError				if the preconditions are not satisfied.
+	 * @throws RejectedExecutionException	if the task cannot be scheduled for execution.
+	 */
+	public <T> CompletableFuture<T>	handleRequestAsync(
+		int executorServiceIndex,
+		ComponentService<T> request
+		) 	throws	AssertionError,
+					RejectedExecutionException;
+
+	/**
+	 * execute a request represented by a lambda expression on the
+	 * component asynchronously, returning a completable future that is
+	 * completed by the component thread executing the request, hence the
+	 * caller is never blocked waiting for the execution of the request.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code isStarted()}
+	 * pre	{@code request != null}
+	 * post	{@code ret != null}
+	 * </pre>
+	 *
+	 * @param <T>							the type of the value returned by the request.
+	 * @param executorServiceIndex			index of the executor service that will run the task.
+	 * @param request						service request to be executed on the component.
+	 * @return								a completable future completed with the result or the exception of the request.
+	 * @throws AssertionError				if the preconditions are not satisfied.
+	 * @throws RejectedExecutionException	if the task cannot be scheduled for execution.
+	 */
+	public <T> CompletableFuture<T>	handleRequestAsync(
+		int executorServiceIndex,
+		FComponentService<T> request
+		) 	throws	AssertionError,
+					RejectedExecutionException;
+
 	/**
 	 * schedule a <code>ComponentService</code> for execution after a given
 	 * delay, forcing the caller to wait for the result.
@@ -2393,6 +2793,260 @@ public interface		ComponentI
 					InterruptedException,
 					ExecutionException;
 
+	/**
+	 * execute a request represented by a <code>ComponentService</code> on the
+	 * component synchronously, as <code>handleRequest</code> does, but
+	 * abandoning it when <code>deadline</code> passes: the request is dropped
+	 * if it is still queued at that time and the caller stops waiting, the
+	 * pending future being cancelled.
+	 * 
+	 * <p>
+	 * The deadline, expressed in milliseconds since the epoch (see
+	 * {@code RequestDeadline#in}), is also made current for the thread that
+	 * runs the request, so nested local calls inherit it; when a deadline is
+	 * already current for the caller, the earlier of the two applies.
+	 * </p>
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code isStarted()}
+	 * pre	{@code request != null}
+	 * post	true		// no postcondition.
+	 * </pre>
+	 *
+	 * @param <T>							the type of the value returned by the request.
+	 * @param deadline						time in milliseconds since the epoch after which the request is abandoned.
+	 * @param request						service request to be executed on the component.
+	 * @return								the result of the task.
+	 * @throws AssertionError				if the preconditions are not satisfied.
+	 * @throws RejectedExecutionException	if the task cannot be scheduled for execution.
+	 * @throws CancellationException		if the task has been cancelled, notably a {@code RequestDeadlineExceededException} when the deadline passed.
+	 * @throws InterruptedException			if the current thread was interrupted while waiting.
+	 * @throws ExecutionException			if the computation threw an exception.
+	 */
+	public <T> T		handleRequestWithDeadline(
+		long deadline,
+		ComponentService<T> request
+		) throws	AssertionError,
+					RejectedExecutionException,
+					CancellationException,
+					InterruptedException,
+					ExecutionException;
+
+	/**
+	 * execute a request represented by a lambda expression on the
+	 * component synchronously, as <code>handleRequest</code> does, but
+	 * abandoning it when <code>deadline</code> passes: the request is dropped
+	 * if it is still queued at that time and the caller stops waiting, the
+	 * pending future being cancelled.
+	 * 
+	 * <p>
+	 * The deadline, expressed in milliseconds since the epoch (see
+	 * {@code RequestDeadline#in}), is also made current for the thread that
+	 * runs the request, so nested local calls inherit it; when a deadline is
+	 * already current for the caller, the earlier of the two applies.
+	 * </p>
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code isStarted()}
+	 * pre	{@code request != null}
+	 * post	true		// no postcondition.
+	 * </pre>
+	 *
+	 * @param <T>							the type of the value returned by the request.
+	 * @param deadline						time in milliseconds since the epoch after which the request is abandoned.
+	 * @param request						service request to be executed on the component.
+	 * @return								the result of the task.
+	 * @throws AssertionError				if the preconditions are not satisfied.
+	 * @throws RejectedExecutionException	if the task cannot be scheduled for execution.
+	 * @throws CancellationException		if the task has been cancelled, notably a {@code RequestDeadlineExceededException} when the deadline passed.
+	 * @throws InterruptedException			if the current thread was interrupted while waiting.
+	 * @throws ExecutionException			if the computation threw an exception.
+	 */
+	public <T> T		handleRequestWithDeadline(
+		long deadline,
+		FComponentService<T> request
+		) throws	AssertionError,
+					RejectedExecutionException,
+					CancellationException,
+					InterruptedException,
+					ExecutionException;
+
+	/**
+	 * execute a request represented by a <code>ComponentService</code> on the
+	 * component synchronously, as <code>handleRequest</code> does, but
+	 * abandoning it when <code>deadline</code> passes: the request is dropped
+	 * if it is still queued at that time and the caller stops waiting, the
+	 * pending future being cancelled.
+	 * 
+	 * <p>
+	 * The deadline, expressed in milliseconds since the epoch (see
+	 * {@code RequestDeadline#in}), is also made current for the thread that
+	 * runs the request, so nested local calls inherit it; when a deadline is
+	 * already current for the caller, the earlier of the two applies.
+	 * </p>
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code isStarted()}
+	 * pre	{@code request != null}
+	 * post	true		// no postcondition.
+	 * </pre>
+	 *
+	 * @param <T>							the type of the value returned by the request.
+	 * @param executorServiceURI			URI of the executor service that will run the task.
+	 * @param deadline						time in milliseconds since the epoch after which the request is abandoned.
+	 * @param request						service request to be executed on the component.
+	 * @return								the result of the task.
+	 * @throws AssertionError				if the preconditions are not satisfied.
+	 * @throws RejectedExecutionException	if the task cannot be scheduled for execution.
+	 * @throws CancellationException		if the task has been cancelled, notably a {@code RequestDeadlineExceededException} when the deadline passed.
+	 * @throws InterruptedException			if the current thread was interrupted while waiting.
+	 * @throws ExecutionException			if the computation threw an exception.
+	 */
+	public <T> T		handleRequestWithDeadline(
+		String executorServiceURI,
+		long deadline,
+		ComponentService<T> request
+		) throws	AssertionError,
+					RejectedExecutionException,
+					CancellationException,
+					InterruptedException,
+					ExecutionException;
+
+	/**
+	 * execute a request represented by a lambda expression on the
+	 * component synchronously, as <code>handleRequest</code> does, but
+	 * abandoning it when <code>deadline</code> passes: the request is dropped
+	 * if it is still queued at that time and the caller stops waiting, the
+	 * pending future being cancelled.
+	 * 
+	 * <p>
+	 * The deadline, expressed in milliseconds since the epoch (see
+	 * {@code RequestDeadline#in}), is also made current for the thread that
+	 * runs the request, so nested local calls inherit it; when a deadline is
+	 * already current for the caller, the earlier of the two applies.
+	 * </p>
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code isStarted()}
+	 * pre	{@code request != null}
+	 * post	true		// no postcondition.
+	 * </pre>
+	 *
+	 * @param <T>							the type of the value returned by the request.
+	 * @param executorServiceURI			URI of the executor service that will run the task.
+	 * @param deadline						time in milliseconds since the epoch after which the request is abandoned.
+	 * @param request						service request to be executed on the component.
+	 * @return								the result of the task.
+	 * @throws AssertionError				if the preconditions are not satisfied.
+	 * @throws RejectedExecutionException	if the task cannot be scheduled for execution.
+	 * @throws CancellationException		if the task has been cancelled, notably a {@code RequestDeadlineExceededException} when the deadline passed.
+	 * @throws InterruptedException			if the current thread was interrupted while waiting.
+	 * @throws ExecutionException			if the computation threw an exception.
+	 */
+	public <T> T		handleRequestWithDeadline(
+		String executorServiceURI,
+		long deadline,
+		FComponentService<T> request
+		) throws	AssertionError,
+					RejectedExecutionException,
+					CancellationException,
+					InterruptedException,
+					ExecutionException;
+
+	/**
+	 * execute a request represented by a <code>ComponentService</code> on the
+	 * component synchronously, as <code>handleRequest</code> does, but
+	 * abandoning it when <code>deadline</code> passes: the request is dropped
+	 * if it is still queued at that time and the caller stops waiting, the
+	 * pending future being cancelled.
+	 * 
+	 * <p>
+	 * The deadline, expressed in milliseconds since the epoch (see
+	 * {@code RequestDeadline#in}), is also made current for the thread that
+	 * runs the request, so nested local calls inherit it; when a deadline is
+	 * already current for the caller, the earlier of the two applies.
+	 * </p>
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code isStarted()}
+	 * pre	{@code request != null}
+	 * post	true		// no postcondition.
+	 * </pre>
+	 *
+	 * @param <T>							the type of the value returned by the request.
+	 * @param executorServiceIndex			index of the executor service that will run the task.
+	 * @param deadline						time in milliseconds since the epoch after which the request is abandoned.
+	 * @param request						service request to be executed on the component.
+	 * @return								the result of the task.
+	 * @throws AssertionError				if the preconditions are not satisfied.
+	 * @throws RejectedExecutionException	if the task cannot be scheduled for execution.
+	 * @throws CancellationException		if the task has been cancelled, notably a {@code RequestDeadlineExceededException} when the deadline passed.
+	 * @throws InterruptedException			if the current thread was interrupted while waiting.
+	 * @throws ExecutionException			if the computation threw an exception.
+	 */
+	public <T> T		handleRequestWithDeadline(
+		int executorServiceIndex,
+		long deadline,
+		ComponentService<T> request
+		) throws	AssertionError,
+					RejectedExecutionException,
+					CancellationException,
+					InterruptedException,
+					ExecutionException;
+
+	/**
+	 * execute a request represented by a lambda expression on the
+	 * component synchronously, as <code>handleRequest</code> does, but
+	 * abandoning it when <code>deadline</code> passes: the request is dropped
+	 * if it is still queued at that time and the caller stops waiting, the
+	 * pending future being cancelled.
+	 * 
+	 * <p>
+	 * The deadline, expressed in milliseconds since the epoch (see
+	 * {@code RequestDeadline#in}), is also made current for the thread that
+	 * runs the request, so nested local calls inherit it; when a deadline is
+	 * already current for the caller, the earlier of the two applies.
+	 * </p>
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code isStarted()}
+	 * pre	{@code request != null}
+	 * post	true		// no postcondition.
+	 * </pre>
+	 *
+	 * @param <T>							the type of the value returned by the request.
+	 * @param executorServiceIndex			index of the executor service that will run the task.
+	 * @param deadline						time in milliseconds since the epoch after which the request is abandoned.
+	 * @param request						service request to be executed on the component.
+	 * @return								the result of the task.
+	 * @throws AssertionError				if the preconditions are not satisfied.
+	 * @throws RejectedExecutionException	if the task cannot be scheduled for execution.
+	 * @throws CancellationException		if the task has been cancelled, notably a {@code RequestDeadlineExceededException} when the deadline passed.
+	 * @throws InterruptedException			if the current thread was interrupted while waiting.
+	 * @throws ExecutionException			if the computation threw an exception.
+	 */
+	public <T> T		handleRequestWithDeadline(
+		int executorServiceIndex,
+		long deadline,
+		FComponentService<T> request
+		) throws	AssertionError,
+					RejectedExecutionException,
+					CancellationException,
+					InterruptedException,
+					ExecutionException;
+
 	// -------------------------------------------------------------------------
 	// Reflection facility
 	// -------------------------------------------------------------------------
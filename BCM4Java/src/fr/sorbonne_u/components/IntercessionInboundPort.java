@@ -33,6 +33,7 @@ package fr.sorbonne_u.components;
 // The fact that you are presently reading this means that you have had
 // knowledge of the CeCILL-C license and that you accept its terms.
 
+import fr.sorbonne_u.components.annotations.RequestPriority;
 import fr.sorbonne_u.components.helpers.Logger;
 import fr.sorbonne_u.components.helpers.TracerI;
 import fr.sorbonne_u.components.interfaces.OfferedCI;
@@ -57,6 +58,7 @@ import fr.sorbonne_u.components.reflection.interfaces.IntercessionCI;
  * 
  * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
  */
+@RequestPriority(RequestPriority.MAX_PRIORITY)
 public class				IntercessionInboundPort
 extends		AbstractInboundPort
 implements	IntercessionCI
@@ -109,7 +111,7 @@ implements	IntercessionCI
 	@Override
 	public void			installPlugin(final PluginI plugin) throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequestOnOwner(
 					new AbstractComponent.AbstractService<Void>() {
 						@Override
 						public Void call() throws Exception {
@@ -126,7 +128,7 @@ implements	IntercessionCI
 	public void			initialisePlugin(final String pluginURI)
 	throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequestOnOwner(
 					new AbstractComponent.AbstractService<Void>() {
 						@Override
 						public Void call() throws Exception {
@@ -142,7 +144,7 @@ implements	IntercessionCI
 	@Override
 	public void			finalisePlugin(String pluginURI) throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequestOnOwner(
 					new AbstractComponent.AbstractService<Void>() {
 						@Override
 						public Void call() throws Exception {
@@ -159,7 +161,7 @@ implements	IntercessionCI
 	@Override
 	public void			uninstallPlugin(final String pluginId) throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequestOnOwner(
 					new AbstractComponent.AbstractService<Void>() {
 						@Override
 						public Void call() throws Exception {
@@ -179,7 +181,7 @@ implements	IntercessionCI
 	@Override
 	public void			toggleLogging() throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequestOnOwner(
 					new AbstractComponent.AbstractService<Void>() {
 						@Override
 						public Void call() throws Exception {
@@ -195,7 +197,7 @@ implements	IntercessionCI
 	@Override
 	public void			setLogger(Logger logger) throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequestOnOwner(
 				new AbstractComponent.AbstractService<Void>() {
 					@Override
 					public Void call() throws Exception {
@@ -211,7 +213,7 @@ implements	IntercessionCI
 	@Override
 	public void			toggleTracing() throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequestOnOwner(
 					new AbstractComponent.AbstractService<Void>() {
 						@Override
 						public Void call() throws Exception {
@@ -227,7 +229,7 @@ implements	IntercessionCI
 	@Override
 	public void			setTracer(TracerI tracer) throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequestOnOwner(
 				new AbstractComponent.AbstractService<Void>() {
 					@Override
 					public Void call() throws Exception {
@@ -243,7 +245,7 @@ implements	IntercessionCI
 	@Override
 	public void			logMessage(final String message) throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequestOnOwner(
 					new AbstractComponent.AbstractService<Void>() {
 						@Override
 						public Void call() throws Exception {
@@ -259,7 +261,7 @@ implements	IntercessionCI
 	@Override
 	public void			printExecutionLog() throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequestOnOwner(
 					new AbstractComponent.AbstractService<Void>() {
 						@Override
 						public Void call() throws Exception {
@@ -276,7 +278,7 @@ implements	IntercessionCI
 	public void			printExecutionLogOnFile(final String fileName)
 	throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequestOnOwner(
 					new AbstractComponent.AbstractService<Void>() {
 						@Override
 						public Void call() throws Exception {
@@ -293,7 +295,7 @@ implements	IntercessionCI
 	@Override
 	public void			traceMessage(String message) throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequestOnOwner(
 				new AbstractComponent.AbstractService<Void>() {
 					@Override
 					public Void call() throws Exception {
@@ -315,7 +317,7 @@ implements	IntercessionCI
 		final Class<? extends RequiredCI> inter
 		) throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequestOnOwner(
 					new AbstractComponent.AbstractService<Void>() {
 						@Override
 						public Void call() throws Exception {
@@ -334,7 +336,7 @@ implements	IntercessionCI
 		final Class<? extends RequiredCI> inter
 		) throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequestOnOwner(
 					new AbstractComponent.AbstractService<Void>() {
 						@Override
 						public Void call() throws Exception {
@@ -353,7 +355,7 @@ implements	IntercessionCI
 		final Class<? extends OfferedCI> inter
 		) throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequestOnOwner(
 					new AbstractComponent.AbstractService<Void>() {
 						@Override
 						public Void call() throws Exception {
@@ -371,7 +373,7 @@ implements	IntercessionCI
 		final Class<? extends OfferedCI> inter
 		) throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequestOnOwner(
 					new AbstractComponent.AbstractService<Void>() {
 						@Override
 						public Void call() throws Exception {
@@ -396,7 +398,7 @@ implements	IntercessionCI
 		final String ccname
 		) throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequestOnOwner(
 				new AbstractComponent.AbstractService<Void>() {
 					@Override
 					public Void call() throws Exception {
@@ -414,7 +416,7 @@ implements	IntercessionCI
 	public void			doPortDisconnection(final String portURI)
 	throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequestOnOwner(
 				new AbstractComponent.AbstractService<Void>() {
 					@Override
 					public Void call() throws Exception {
@@ -435,7 +437,7 @@ implements	IntercessionCI
 	public Object		invokeService(String name, Object[] params)
 	throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequestOnOwner(
 					new AbstractComponent.AbstractService<Object>() {
 						@Override
 						public Object call() throws Exception {
@@ -452,7 +454,7 @@ implements	IntercessionCI
 	public Object		invokeServiceSync(String name, Object[] params)
 	throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequestOnOwner(
 					new AbstractComponent.AbstractService<Object>() {
 						@Override
 						public Object call() throws Exception {
@@ -469,7 +471,7 @@ implements	IntercessionCI
 	public void			invokeServiceAsync(String name, Object[] params)
 	throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequestOnOwner(
 			new AbstractComponent.AbstractService<Void>() {
 				@Override
 				public Void call() throws Exception {
@@ -485,7 +487,7 @@ implements	IntercessionCI
 	@Override
 	public void			execute() throws Exception
 	{
-		this.getOwner().runTask(
+		this.runTaskOnOwner(
 			new AbstractComponent.AbstractTask() {
 				@Override
 				public void run() {
@@ -552,7 +554,7 @@ implements	IntercessionCI
 		String code
 		) throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequestOnOwner(
 				new AbstractComponent.AbstractService<Void>() {
 					@Override
 					public Void call() throws Exception {
@@ -575,7 +577,7 @@ implements	IntercessionCI
 		String code
 		) throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequestOnOwner(
 				new AbstractComponent.AbstractService<Void>() {
 					@Override
 					public Void call() throws Exception {
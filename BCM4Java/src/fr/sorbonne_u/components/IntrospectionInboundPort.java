@@ -34,6 +34,7 @@ package fr.sorbonne_u.components;
 // knowledge of the CeCILL-C license and that you accept its terms.
 
 import java.lang.annotation.Annotation;
+import fr.sorbonne_u.components.annotations.RequestPriority;
 import fr.sorbonne_u.components.interfaces.ComponentInterface;
 import fr.sorbonne_u.components.interfaces.OfferedCI;
 import fr.sorbonne_u.components.interfaces.RequiredCI;
@@ -41,6 +42,7 @@ import fr.sorbonne_u.components.ports.AbstractInboundPort;
 import fr.sorbonne_u.components.reflection.interfaces.IntrospectionCI;
 import fr.sorbonne_u.components.reflection.utils.ConstructorSignature;
 import fr.sorbonne_u.components.reflection.utils.ServiceSignature;
+import fr.sorbonne_u.components.tasks_management.ExecutorServiceMetricsSnapshot;
 
 // -----------------------------------------------------------------------------
 /**
@@ -59,6 +61,7 @@ import fr.sorbonne_u.components.reflection.utils.ServiceSignature;
  * 
  * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
  */
+@RequestPriority(RequestPriority.MAX_PRIORITY)
 public class			IntrospectionInboundPort
 extends		AbstractInboundPort
 implements	IntrospectionCI
@@ -111,7 +114,7 @@ implements	IntrospectionCI
 	@Override
 	public boolean		hasInstalledPlugins() throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequestOnOwner(
 					new AbstractComponent.AbstractService<Boolean>() {
 						@Override
 						public Boolean call() throws Exception {
@@ -126,7 +129,7 @@ implements	IntrospectionCI
 	@Override
 	public boolean		isInstalled(final String pluginId) throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequestOnOwner(
 					new AbstractComponent.AbstractService<Boolean>() {
 						@Override
 						public Boolean call() throws Exception {
@@ -142,7 +145,7 @@ implements	IntrospectionCI
 	public PluginI		getPlugin(final String pluginURI)
 	throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequestOnOwner(
 					new AbstractComponent.AbstractService<PluginI>() {
 						@Override
 						public PluginI call() throws Exception {
@@ -158,7 +161,7 @@ implements	IntrospectionCI
 	public boolean		isInitialised(final String pluginURI)
 	throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequestOnOwner(
 					new AbstractComponent.AbstractService<Boolean>() {
 						@Override
 						public Boolean call() throws Exception {
@@ -177,7 +180,7 @@ implements	IntrospectionCI
 	@Override
 	public boolean		isLogging() throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequestOnOwner(
 					new AbstractComponent.AbstractService<Boolean>() {
 						@Override
 						public Boolean call() throws Exception {
@@ -192,7 +195,7 @@ implements	IntrospectionCI
 	@Override
 	public boolean		isTracing() throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequestOnOwner(
 					new AbstractComponent.AbstractService<Boolean>() {
 						@Override
 						public Boolean call() throws Exception {
@@ -212,7 +215,7 @@ implements	IntrospectionCI
 	public boolean		isInStateAmong(final ComponentStateI[] states)
 	throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequestOnOwner(
 					new AbstractComponent.AbstractService<Boolean>() {
 						@Override
 						public Boolean call() throws Exception {
@@ -228,7 +231,7 @@ implements	IntrospectionCI
 	public boolean		notInStateAmong(final ComponentStateI[] states)
 	throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequestOnOwner(
 					new AbstractComponent.AbstractService<Boolean>() {
 						@Override
 						public Boolean call() throws Exception {
@@ -243,7 +246,7 @@ implements	IntrospectionCI
 	@Override
 	public boolean		hasItsOwnThreads() throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequestOnOwner(
 					new AbstractComponent.AbstractService<Boolean>() {
 						@Override
 						public Boolean call() throws Exception {
@@ -258,7 +261,7 @@ implements	IntrospectionCI
 	@Override
 	public boolean		hasSerialisedExecution() throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequestOnOwner(
 					new AbstractComponent.AbstractService<Boolean>() {
 						@Override
 						public Boolean call() throws Exception {
@@ -273,7 +276,7 @@ implements	IntrospectionCI
 	@Override
 	public boolean		canScheduleTasks() throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequestOnOwner(
 					new AbstractComponent.AbstractService<Boolean>() {
 						@Override
 						public Boolean call() throws Exception {
@@ -288,7 +291,7 @@ implements	IntrospectionCI
 	@Override
 	public int			getTotalNumberOfThreads() throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequestOnOwner(
 					new AbstractComponent.AbstractService<Integer>() {
 						@Override
 						public Integer call() throws Exception {
@@ -297,6 +300,47 @@ implements	IntrospectionCI
 					});
 	}
 
+	/**
+	 * @see fr.sorbonne_u.components.reflection.interfaces.IntrospectionCI#getExecutorServicesMetrics()
+	 */
+	@Override
+	public ExecutorServiceMetricsSnapshot[]	getExecutorServicesMetrics()
+	throws Exception
+	{
+		return this.handleRequestOnOwner(
+					new AbstractComponent.AbstractService<
+											ExecutorServiceMetricsSnapshot[]>() {
+						@Override
+						public ExecutorServiceMetricsSnapshot[] call()
+						throws Exception
+						{
+							return this.getServiceOwner().
+												getExecutorServicesMetrics();
+						}
+					});
+	}
+
+	/**
+	 * @see fr.sorbonne_u.components.reflection.interfaces.IntrospectionCI#getExecutorServiceMetrics(java.lang.String)
+	 */
+	@Override
+	public ExecutorServiceMetricsSnapshot	getExecutorServiceMetrics(
+		String executorServiceURI
+		) throws Exception
+	{
+		return this.handleRequestOnOwner(
+					new AbstractComponent.AbstractService<
+											ExecutorServiceMetricsSnapshot>() {
+						@Override
+						public ExecutorServiceMetricsSnapshot call()
+						throws Exception
+						{
+							return this.getServiceOwner().
+								getExecutorServiceMetrics(executorServiceURI);
+						}
+					});
+	}
+
 	// ------------------------------------------------------------------------
 	// Implemented interfaces management
 	// ------------------------------------------------------------------------
@@ -308,7 +352,7 @@ implements	IntrospectionCI
 	public Class<? extends ComponentInterface>[]	getInterfaces()
 	throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequestOnOwner(
 					new AbstractComponent.AbstractService<
 									Class<? extends ComponentInterface>[]>() {
 						@Override
@@ -328,7 +372,7 @@ implements	IntrospectionCI
 		final Class<? extends ComponentInterface> inter
 		) throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequestOnOwner(
 				new AbstractComponent.AbstractService<
 									Class<? extends ComponentInterface>>() {
 					@Override
@@ -346,7 +390,7 @@ implements	IntrospectionCI
 	@Override
 	public Class<? extends RequiredCI>[]	getRequiredInterfaces() throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequestOnOwner(
 					new AbstractComponent.AbstractService<
 											Class<? extends RequiredCI>[]>() {
 						@Override
@@ -366,7 +410,7 @@ implements	IntrospectionCI
 		final Class<? extends RequiredCI> inter
 		) throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequestOnOwner(
 				new AbstractComponent.AbstractService<
 											Class<? extends RequiredCI>>() {
 					@Override
@@ -382,7 +426,7 @@ implements	IntrospectionCI
 	@Override
 	public Class<? extends OfferedCI>[]	getOfferedInterfaces() throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequestOnOwner(
 					new AbstractComponent.AbstractService<
 											Class<? extends OfferedCI>[]>() {
 						@Override
@@ -402,7 +446,7 @@ implements	IntrospectionCI
 		final Class<? extends OfferedCI> inter
 		) throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequestOnOwner(
 				new AbstractComponent.AbstractService<
 											Class<? extends OfferedCI>>() {
 					@Override
@@ -421,7 +465,7 @@ implements	IntrospectionCI
 		final Class<? extends ComponentInterface> inter
 		) throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequestOnOwner(
 					new AbstractComponent.AbstractService<Boolean>() {
 						@Override
 						public Boolean call() throws Exception {
@@ -438,7 +482,7 @@ implements	IntrospectionCI
 		final Class<? extends RequiredCI> inter
 		) throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequestOnOwner(
 					new AbstractComponent.AbstractService<Boolean>() {
 						@Override
 						public Boolean call() throws Exception {
@@ -455,7 +499,7 @@ implements	IntrospectionCI
 		final Class<? extends OfferedCI> inter
 		) throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequestOnOwner(
 					new AbstractComponent.AbstractService<Boolean>() {
 						@Override
 						public Boolean call() throws Exception {
@@ -476,7 +520,7 @@ implements	IntrospectionCI
 		final Class<? extends ComponentInterface> inter
 		) throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequestOnOwner(
 					new AbstractComponent.AbstractService<String[]>() {
 						@Override
 						public String[] call() throws Exception {
@@ -493,7 +537,7 @@ implements	IntrospectionCI
 		final Class<? extends OfferedCI> inter
 		) throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequestOnOwner(
 					new AbstractComponent.AbstractService<String[]>() {
 						@Override
 						public String[] call() throws Exception {
@@ -510,7 +554,7 @@ implements	IntrospectionCI
 		final Class<? extends RequiredCI> inter
 		) throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequestOnOwner(
 					new AbstractComponent.AbstractService<String[]>() {
 						@Override
 						public String[] call() throws Exception {
@@ -527,7 +571,7 @@ implements	IntrospectionCI
 		final String portURI
 		) throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequestOnOwner(
 					new AbstractComponent.AbstractService<
 										Class<? extends ComponentInterface>>() {
 						@Override
@@ -545,7 +589,7 @@ implements	IntrospectionCI
 	@Override
 	public boolean			isPortExisting(String portURI) throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequestOnOwner(
 					new AbstractComponent.AbstractService<Boolean>() {
 						@Override
 						public Boolean call() throws Exception {
@@ -561,7 +605,7 @@ implements	IntrospectionCI
 	public boolean		isPortConnected(final String portURI)
 	throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequestOnOwner(
 					new AbstractComponent.AbstractService<Boolean>() {
 						@Override
 						public Boolean call() throws Exception {
@@ -580,7 +624,7 @@ implements	IntrospectionCI
 	@Override
 	public String		getComponentDefinitionClassName() throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequestOnOwner(
 					new AbstractComponent.AbstractService<String>() {
 						@Override
 						public String call() throws Exception {
@@ -595,7 +639,7 @@ implements	IntrospectionCI
 	@Override
 	public Annotation[]	getComponentAnnotations() throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequestOnOwner(
 					new AbstractComponent.AbstractService<Annotation[]>() {
 						@Override
 						public Annotation[] call() throws Exception {
@@ -610,7 +654,7 @@ implements	IntrospectionCI
 	@Override
 	public ClassLoader	getComponentLoader() throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequestOnOwner(
 					new AbstractComponent.AbstractService<ClassLoader>() {
 						@Override
 						public ClassLoader call() throws Exception {
@@ -626,7 +670,7 @@ implements	IntrospectionCI
 	public ServiceSignature[]	getComponentServiceSignatures()
 	throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequestOnOwner(
 					new AbstractComponent.AbstractService<ServiceSignature[]>() {
 						@Override
 						public ServiceSignature[] call() throws Exception {
@@ -642,7 +686,7 @@ implements	IntrospectionCI
 	public ConstructorSignature[]	getComponentConstructorSignatures()
 	throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequestOnOwner(
 					new AbstractComponent.AbstractService<ConstructorSignature[]>() {
 						@Override
 						public ConstructorSignature[] call() throws Exception {
@@ -34,6 +34,7 @@ package fr.sorbonne_u.components;
 // knowledge of the CeCILL-C license and that you accept its terms.
 
 import java.lang.annotation.Annotation;
+import fr.sorbonne_u.components.annotations.RequestPriority;
 import fr.sorbonne_u.components.helpers.Logger;
 import fr.sorbonne_u.components.helpers.TracerI;
 import fr.sorbonne_u.components.interfaces.ComponentInterface;
@@ -43,6 +44,7 @@ import fr.sorbonne_u.components.ports.AbstractInboundPort;
 import fr.sorbonne_u.components.reflection.interfaces.ReflectionCI;
 import fr.sorbonne_u.components.reflection.utils.ConstructorSignature;
 import fr.sorbonne_u.components.reflection.utils.ServiceSignature;
+import fr.sorbonne_u.components.tasks_management.ExecutorServiceMetricsSnapshot;
 
 // -----------------------------------------------------------------------------
 /**
@@ -61,6 +63,7 @@ import fr.sorbonne_u.components.reflection.utils.ServiceSignature;
  * 
  * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
  */
+@RequestPriority(RequestPriority.MAX_PRIORITY)
 public class				ReflectionInboundPort
 extends		AbstractInboundPort
 implements	ReflectionCI
@@ -113,7 +116,7 @@ implements	ReflectionCI
 	@Override
 	public void			installPlugin(final PluginI plugin) throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequestOnOwner(
 					new AbstractComponent.AbstractService<Void>() {
 						@Override
 						public Void call() throws Exception {
@@ -129,7 +132,7 @@ implements	ReflectionCI
 	@Override
 	public boolean		hasInstalledPlugins() throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequestOnOwner(
 					new AbstractComponent.AbstractService<Boolean>() {
 						@Override
 						public Boolean call() throws Exception {
@@ -145,7 +148,7 @@ implements	ReflectionCI
 	@Override
 	public void			finalisePlugin(final String pluginURI) throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequestOnOwner(
 					new AbstractComponent.AbstractService<Void>() {
 						@Override
 						public Void call() throws Exception {
@@ -161,7 +164,7 @@ implements	ReflectionCI
 	@Override
 	public void			uninstallPlugin(final String pluginId) throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequestOnOwner(
 					new AbstractComponent.AbstractService<Void>() {
 						@Override
 						public Void call() throws Exception {
@@ -177,7 +180,7 @@ implements	ReflectionCI
 	@Override
 	public boolean		isInstalled(final String pluginId) throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequestOnOwner(
 					new AbstractComponent.AbstractService<Boolean>() {
 						@Override
 						public Boolean call() throws Exception {
@@ -193,7 +196,7 @@ implements	ReflectionCI
 	public PluginI		getPlugin(final String pluginURI)
 	throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequestOnOwner(
 					new AbstractComponent.AbstractService<PluginI>() {
 						@Override
 						public PluginI call() throws Exception {
@@ -209,7 +212,7 @@ implements	ReflectionCI
 	public void			initialisePlugin(final String pluginURI)
 	throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequestOnOwner(
 					new AbstractComponent.AbstractService<Void>() {
 						@Override
 						public Void call() throws Exception {
@@ -226,7 +229,7 @@ implements	ReflectionCI
 	public boolean		isInitialised(final String pluginURI)
 	throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequestOnOwner(
 					new AbstractComponent.AbstractService<Boolean>() {
 						@Override
 						public Boolean call() throws Exception {
@@ -246,7 +249,7 @@ implements	ReflectionCI
 	@Override
 	public void			toggleLogging() throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequestOnOwner(
 					new AbstractComponent.AbstractService<Void>() {
 						@Override
 						public Void call() throws Exception {
@@ -262,7 +265,7 @@ implements	ReflectionCI
 	@Override
 	public void			setLogger(Logger logger) throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequestOnOwner(
 				new AbstractComponent.AbstractService<Void>() {
 					@Override
 					public Void call() throws Exception {
@@ -278,7 +281,7 @@ implements	ReflectionCI
 	@Override
 	public void			toggleTracing() throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequestOnOwner(
 					new AbstractComponent.AbstractService<Void>() {
 						@Override
 						public Void call() throws Exception {
@@ -294,7 +297,7 @@ implements	ReflectionCI
 	@Override
 	public void			setTracer(TracerI tracer) throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequestOnOwner(
 				new AbstractComponent.AbstractService<Void>() {
 					@Override
 					public Void call() throws Exception {
@@ -310,7 +313,7 @@ implements	ReflectionCI
 	@Override
 	public void			logMessage(final String message) throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequestOnOwner(
 					new AbstractComponent.AbstractService<Void>() {
 						@Override
 						public Void call() throws Exception {
@@ -326,7 +329,7 @@ implements	ReflectionCI
 	@Override
 	public boolean		isLogging() throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequestOnOwner(
 					new AbstractComponent.AbstractService<Boolean>() {
 						@Override
 						public Boolean call() throws Exception {
@@ -341,7 +344,7 @@ implements	ReflectionCI
 	@Override
 	public boolean		isTracing() throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequestOnOwner(
 					new AbstractComponent.AbstractService<Boolean>() {
 						@Override
 						public Boolean call() throws Exception {
@@ -356,7 +359,7 @@ implements	ReflectionCI
 	@Override
 	public void			printExecutionLog() throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequestOnOwner(
 					new AbstractComponent.AbstractService<Void>() {
 						@Override
 						public Void call() throws Exception {
@@ -373,7 +376,7 @@ implements	ReflectionCI
 	public void			printExecutionLogOnFile(final String fileName)
 	throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequestOnOwner(
 					new AbstractComponent.AbstractService<Void>() {
 						@Override
 						public Void call() throws Exception {
@@ -390,7 +393,7 @@ implements	ReflectionCI
 	@Override
 	public void			traceMessage(String message) throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequestOnOwner(
 				new AbstractComponent.AbstractService<Void>() {
 					@Override
 					public Void call() throws Exception {
@@ -411,7 +414,7 @@ implements	ReflectionCI
 	public boolean		isInStateAmong(final ComponentStateI[] states)
 	throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequestOnOwner(
 					new AbstractComponent.AbstractService<Boolean>() {
 						@Override
 						public Boolean call() throws Exception {
@@ -428,7 +431,7 @@ implements	ReflectionCI
 	public boolean		notInStateAmong(final ComponentStateI[] states)
 	throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequestOnOwner(
 					new AbstractComponent.AbstractService<Boolean>() {
 						@Override
 						public Boolean call() throws Exception {
@@ -444,7 +447,7 @@ implements	ReflectionCI
 	@Override
 	public boolean		hasItsOwnThreads() throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequestOnOwner(
 					new AbstractComponent.AbstractService<Boolean>() {
 						@Override
 						public Boolean call() throws Exception {
@@ -459,7 +462,7 @@ implements	ReflectionCI
 	@Override
 	public boolean		hasSerialisedExecution() throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequestOnOwner(
 					new AbstractComponent.AbstractService<Boolean>() {
 						@Override
 						public Boolean call() throws Exception {
@@ -475,7 +478,7 @@ implements	ReflectionCI
 	@Override
 	public boolean		canScheduleTasks() throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequestOnOwner(
 					new AbstractComponent.AbstractService<Boolean>() {
 						@Override
 						public Boolean call() throws Exception {
@@ -490,7 +493,7 @@ implements	ReflectionCI
 	@Override
 	public int			getTotalNumberOfThreads() throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequestOnOwner(
 					new AbstractComponent.AbstractService<Integer>() {
 						@Override
 						public Integer call() throws Exception {
@@ -500,6 +503,47 @@ implements	ReflectionCI
 					});
 	}
 
+	/**
+	 * @see fr.sorbonne_u.components.reflection.interfaces.IntrospectionCI#getExecutorServicesMetrics()
+	 */
+	@Override
+	public ExecutorServiceMetricsSnapshot[]	getExecutorServicesMetrics()
+	throws Exception
+	{
+		return this.handleRequestOnOwner(
+					new AbstractComponent.AbstractService<
+											ExecutorServiceMetricsSnapshot[]>() {
+						@Override
+						public ExecutorServiceMetricsSnapshot[] call()
+						throws Exception
+						{
+							return this.getServiceOwner().
+												getExecutorServicesMetrics();
+						}
+					});
+	}
+
+	/**
+	 * @see fr.sorbonne_u.components.reflection.interfaces.IntrospectionCI#getExecutorServiceMetrics(java.lang.String)
+	 */
+	@Override
+	public ExecutorServiceMetricsSnapshot	getExecutorServiceMetrics(
+		String executorServiceURI
+		) throws Exception
+	{
+		return this.handleRequestOnOwner(
+					new AbstractComponent.AbstractService<
+											ExecutorServiceMetricsSnapshot>() {
+						@Override
+						public ExecutorServiceMetricsSnapshot call()
+						throws Exception
+						{
+							return this.getServiceOwner().
+								getExecutorServiceMetrics(executorServiceURI);
+						}
+					});
+	}
+
 	// -------------------------------------------------------------------------
 	// Implemented interfaces management
 	// -------------------------------------------------------------------------
@@ -510,7 +554,7 @@ implements	ReflectionCI
 	@Override
 	public Class<? extends ComponentInterface>[]	getInterfaces() throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequestOnOwner(
 					new AbstractComponent.AbstractService<
 									Class<? extends ComponentInterface>[]>() {
 						@Override
@@ -530,7 +574,7 @@ implements	ReflectionCI
 		final Class<? extends ComponentInterface> inter
 		) throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequestOnOwner(
 				new AbstractComponent.AbstractService<
 									Class<? extends ComponentInterface>>() {
 					@Override
@@ -549,7 +593,7 @@ implements	ReflectionCI
 	public Class<? extends RequiredCI>[]	getRequiredInterfaces()
 	throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequestOnOwner(
 					new AbstractComponent.AbstractService<
 											Class<? extends RequiredCI>[]>() {
 						@Override
@@ -570,7 +614,7 @@ implements	ReflectionCI
 		final Class<? extends RequiredCI> inter
 		) throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequestOnOwner(
 				new AbstractComponent.AbstractService<
 											Class<? extends RequiredCI>>() {
 					@Override
@@ -588,7 +632,7 @@ implements	ReflectionCI
 	@Override
 	public Class<? extends OfferedCI>[]	getOfferedInterfaces() throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequestOnOwner(
 					new AbstractComponent.AbstractService<
 											Class<? extends OfferedCI>[]>() {
 						@Override
@@ -608,7 +652,7 @@ implements	ReflectionCI
 	public Class<? extends OfferedCI>	getOfferedInterface(final Class<? extends OfferedCI> inter)
 	throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequestOnOwner(
 				new AbstractComponent.AbstractService<
 											Class<? extends OfferedCI>>() {
 					@Override
@@ -628,7 +672,7 @@ implements	ReflectionCI
 		final Class<? extends RequiredCI> inter
 		) throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequestOnOwner(
 					new AbstractComponent.AbstractService<Void>() {
 						@Override
 						public Void call() throws Exception {
@@ -647,7 +691,7 @@ implements	ReflectionCI
 		final Class<? extends RequiredCI> inter
 		) throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequestOnOwner(
 					new AbstractComponent.AbstractService<Void>() {
 						@Override
 						public Void call() throws Exception {
@@ -666,7 +710,7 @@ implements	ReflectionCI
 		final Class<? extends OfferedCI> inter
 		) throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequestOnOwner(
 					new AbstractComponent.AbstractService<Void>() {
 						@Override
 						public Void call() throws Exception {
@@ -685,7 +729,7 @@ implements	ReflectionCI
 		final Class<? extends OfferedCI> inter
 		) throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequestOnOwner(
 					new AbstractComponent.AbstractService<Void>() {
 						@Override
 						public Void call() throws Exception {
@@ -704,7 +748,7 @@ implements	ReflectionCI
 		final Class<? extends ComponentInterface> inter
 		) throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequestOnOwner(
 					new AbstractComponent.AbstractService<Boolean>() {
 						@Override
 						public Boolean call() throws Exception {
@@ -721,7 +765,7 @@ implements	ReflectionCI
 		final Class<? extends RequiredCI> inter
 		) throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequestOnOwner(
 					new AbstractComponent.AbstractService<Boolean>() {
 						@Override
 						public Boolean call() throws Exception {
@@ -739,7 +783,7 @@ implements	ReflectionCI
 		final Class<? extends OfferedCI> inter
 		) throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequestOnOwner(
 					new AbstractComponent.AbstractService<Boolean>() {
 						@Override
 						public Boolean call() throws Exception {
@@ -761,7 +805,7 @@ implements	ReflectionCI
 		final Class<? extends ComponentInterface> inter
 		) throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequestOnOwner(
 					new AbstractComponent.AbstractService<String[]>() {
 						@Override
 						public String[] call() throws Exception {
@@ -779,7 +823,7 @@ implements	ReflectionCI
 		final Class<? extends OfferedCI> inter
 		) throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequestOnOwner(
 					new AbstractComponent.AbstractService<String[]>() {
 						@Override
 						public String[] call() throws Exception {
@@ -797,7 +841,7 @@ implements	ReflectionCI
 		final Class<? extends RequiredCI> inter
 		) throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequestOnOwner(
 					new AbstractComponent.AbstractService<String[]>() {
 						@Override
 						public String[] call() throws Exception {
@@ -815,7 +859,7 @@ implements	ReflectionCI
 		final String portURI
 		) throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequestOnOwner(
 					new AbstractComponent.AbstractService<
 										Class<? extends ComponentInterface>>() {
 						@Override
@@ -834,7 +878,7 @@ implements	ReflectionCI
 	@Override
 	public boolean			isPortExisting(String portURI) throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequestOnOwner(
 					new AbstractComponent.AbstractService<Boolean>() {
 						@Override
 						public Boolean call() throws Exception {
@@ -851,7 +895,7 @@ implements	ReflectionCI
 	public boolean		isPortConnected(final String portURI)
 	throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequestOnOwner(
 					new AbstractComponent.AbstractService<Boolean>() {
 						@Override
 						public Boolean call() throws Exception {
@@ -871,7 +915,7 @@ implements	ReflectionCI
 		final String ccname
 		) throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequestOnOwner(
 				new AbstractComponent.AbstractService<Void>() {
 					@Override
 					public Void call() throws Exception {
@@ -889,7 +933,7 @@ implements	ReflectionCI
 	public void			doPortDisconnection(final String portURI)
 	throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequestOnOwner(
 				new AbstractComponent.AbstractService<Void>() {
 					@Override
 					public Void call() throws Exception {
@@ -909,7 +953,7 @@ implements	ReflectionCI
 	@Override
 	public String		getComponentDefinitionClassName() throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequestOnOwner(
 					new AbstractComponent.AbstractService<String>() {
 						@Override
 						public String call() throws Exception {
@@ -925,7 +969,7 @@ implements	ReflectionCI
 	@Override
 	public Annotation[]	getComponentAnnotations() throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequestOnOwner(
 					new AbstractComponent.AbstractService<Annotation[]>() {
 						@Override
 						public Annotation[] call() throws Exception {
@@ -941,7 +985,7 @@ implements	ReflectionCI
 	@Override
 	public ClassLoader	getComponentLoader() throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequestOnOwner(
 					new AbstractComponent.AbstractService<ClassLoader>() {
 						@Override
 						public ClassLoader call() throws Exception {
@@ -958,7 +1002,7 @@ implements	ReflectionCI
 	public ServiceSignature[]	getComponentServiceSignatures()
 	throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequestOnOwner(
 					new AbstractComponent.AbstractService<ServiceSignature[]>() {
 						@Override
 						public ServiceSignature[] call() throws Exception {
@@ -975,7 +1019,7 @@ implements	ReflectionCI
 	public ConstructorSignature[]	getComponentConstructorSignatures()
 	throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequestOnOwner(
 					new AbstractComponent.AbstractService<ConstructorSignature[]>() {
 						@Override
 						public ConstructorSignature[] call() throws Exception {
@@ -992,7 +1036,7 @@ implements	ReflectionCI
 	public Object		invokeService(String name, Object[] params)
 	throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequestOnOwner(
 					new AbstractComponent.AbstractService<Object>() {
 						@Override
 						public Object call() throws Exception {
@@ -1009,7 +1053,7 @@ implements	ReflectionCI
 	public Object		invokeServiceSync(String name, Object[] params)
 	throws Exception
 	{
-		return this.getOwner().handleRequest(
+		return this.handleRequestOnOwner(
 					new AbstractComponent.AbstractService<Object>() {
 						@Override
 						public Object call() throws Exception {
@@ -1026,7 +1070,7 @@ implements	ReflectionCI
 	public void			invokeServiceAsync(String name, Object[] params)
 	throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequestOnOwner(
 			new AbstractComponent.AbstractService<Void>() {
 				@Override
 				public Void call() throws Exception {
@@ -1042,7 +1086,7 @@ implements	ReflectionCI
 	@Override
 	public void			execute() throws Exception
 	{
-		this.getOwner().runTask(
+		this.runTaskOnOwner(
 			new AbstractComponent.AbstractTask() {
 				@Override
 				public void run() {
@@ -1109,7 +1153,7 @@ implements	ReflectionCI
 		String code
 		) throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequestOnOwner(
 				new AbstractComponent.AbstractService<Void>() {
 					@Override
 					public Void call() throws Exception {
@@ -1130,7 +1174,7 @@ implements	ReflectionCI
 		String code
 		) throws Exception
 	{
-		this.getOwner().handleRequest(
+		this.handleRequestOnOwner(
 				new AbstractComponent.AbstractService<Void>() {
 					@Override
 					public Void call() throws Exception {
@@ -47,6 +47,17 @@ import java.lang.annotation.Target;
  *
  * <p><strong>Description</strong></p>
  * 
+ * <p>
+ * The annotation is honoured by the inbound ports when the service is
+ * submitted with {@code handleRequestOnOwner(String serviceName, ...)},
+ * as generated ports do: the request is enqueued as a task on the executor
+ * service of the port and the port method returns at once, locally as well
+ * as through RMI, the caller never waiting for the execution. Only services
+ * returning {@code void} can be one-way; on a method returning a value, the
+ * annotation is ignored. The exceptions raised by a one-way service are
+ * thrown in the thread executing it and are never returned to the caller.
+ * </p>
+ * 
  * <p><strong>Implementation Invariants</strong></p>
  * 
  * <pre>
@@ -0,0 +1,103 @@
+package fr.sorbonne_u.components.annotations;
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a
+// basic component programming model to program with components
+// distributed applications in the Java programming language.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+// -----------------------------------------------------------------------------
+/**
+ * The annotation <code>CoScheduled</code> declares that the instances of a
+ * component class are members of a co-scheduling group, which URI is given
+ * as value.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p>
+ * When a component which class carries the annotation is created with
+ * standard threads, its standard request handler executor service executes
+ * its tasks on the event loop shared by the members of the group in the JVM
+ * instead of owning its threads (see {@code BCM4JavaCoSchedulingGroup}).
+ * As the loop has one platform thread and executes the tasks in their
+ * order of submission, the component must be created with exactly one
+ * standard thread and without virtual threads, which the constructor of
+ * {@code AbstractComponent} asserts, and the prioritisation of the standard
+ * request handler does not apply. Its schedulable executor service, if
+ * any, is not concerned.
+ * </p>
+ * <p>
+ * The synchronous calls among members of the same group through their
+ * ports become direct calls in the thread of the loop, as the reentrant
+ * caller runs mode of the members is forced on and cannot be turned off
+ * (see {@code AbstractComponent#setReentrantCallerRuns}); turning it off
+ * would make the loop wait for itself. A member calling synchronously a
+ * component outside the group must not be called back synchronously by
+ * it, neither directly nor through other components: the call back would
+ * be queued on the loop, blocked by the member waiting for its call, a
+ * deadlock.
+ * </p>
+ * 
+ * <p><strong>Invariants</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code value() != null && !value().isEmpty()}
+ * </pre>
+ * 
+ * <p>Created on : 2026-10-16</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+@Inherited
+@Retention(RUNTIME)
+@Target(TYPE)
+public @interface		CoScheduled
+{
+	/**
+	 * return the URI of the co-scheduling group.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	true			// no precondition.
+	 * post	{@code ret != null && !ret.isEmpty()}
+	 * </pre>
+	 *
+	 * @return	the URI of the co-scheduling group.
+	 */
+	String				value();
+}
+// -----------------------------------------------------------------------------
@@ -0,0 +1,105 @@
+package fr.sorbonne_u.components.annotations;
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a
+// basic component programming model to program with components
+// distributed applications in the Java programming language.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+// -----------------------------------------------------------------------------
+/**
+ * The annotation <code>RequestPriority</code> declares the priority with
+ * which the requests are queued in prioritised executor services of the
+ * owner component.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p>
+ * Put on an inbound port class or on an offered interface, the annotation
+ * gives the priority of all of the requests submitted through the port; put
+ * on a method of an offered interface, it gives the priority of the requests
+ * executing this service when the port submits them with the name of the
+ * service (see {@code AbstractInboundPort#handleRequestOnOwner(String, ComponentService)}).
+ * Requests with higher priorities are executed first, requests with the same
+ * priority are executed in their submission order. Executor services that are
+ * not prioritised ignore the priorities.
+ * </p>
+ * <p>
+ * Prioritised executor services are opt-in: they are created by
+ * {@code AbstractComponent#createNewExecutorService(String, int, boolean, boolean, boolean)}
+ * and, put on a component class, the annotation makes the standard request
+ * handler of the component prioritised, its value being then ignored
+ * (see {@code AbstractComponent#PRIORITIZED_STANDARD_REQUEST_HANDLER}).
+ * </p>
+ * 
+ * <p><strong>Invariants</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code MIN_PRIORITY <= value() && value() <= MAX_PRIORITY}
+ * </pre>
+ * 
+ * <p>Created on : 2026-10-16</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+@Inherited
+@Retention(RUNTIME)
+@Target({TYPE, METHOD})
+public @interface		RequestPriority
+{
+	/** lowest priority of requests.										*/
+	public static final int	MIN_PRIORITY = 0;
+	/** priority of requests which priority is not declared.				*/
+	public static final int	NORM_PRIORITY = 5;
+	/** highest priority of requests, used by the control ports.			*/
+	public static final int	MAX_PRIORITY = 10;
+
+	/**
+	 * return the priority of the requests.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	true			// no precondition.
+	 * post	{@code MIN_PRIORITY <= ret && ret <= MAX_PRIORITY}
+	 * </pre>
+	 *
+	 * @return	the priority of the requests.
+	 */
+	int					value();
+}
+// -----------------------------------------------------------------------------
@@ -46,6 +46,12 @@ import java.lang.annotation.Target;
  *
  * <p><strong>Description</strong></p>
  * 
+ * <p>
+ * Services are synchronous by default; the annotation documents it
+ * explicitly and takes precedence over {@code AsynchronousCall} when both
+ * annotate methods of the same name.
+ * </p>
+ * 
  * <p><strong>Implementation Invariants</strong></p>
  * 
  * <pre>
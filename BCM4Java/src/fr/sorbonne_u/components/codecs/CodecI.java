@@ -0,0 +1,114 @@
+package fr.sorbonne_u.components.codecs;
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a
+// basic component programming model to program with components
+// distributed applications in the Java programming language.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+// -----------------------------------------------------------------------------
+/**
+ * The interface <code>CodecI</code> declares the signature of the codecs
+ * encoding the values of one class exchanged among components of different
+ * JVM.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p>
+ * A codec is registered in <code>Codecs</code> with an identifier that must
+ * be the same in all of the JVM of the deployment; the values which exact
+ * class is the class of the codec are then written by the codec after this
+ * identifier instead of being serialised.  A codec writes the fields of the
+ * value with the methods of <code>DataOutput</code> and may use
+ * <code>Codecs.writeValue</code> for the fields holding references, reading
+ * them back in the same order in <code>decode</code>.
+ * </p>
+ * 
+ * <p>Created on : 2026-10-16</p>
+ * 
+ * @param <T>	type of the values encoded by the codec.
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+public interface		CodecI<T>
+{
+	/**
+	 * return the class of the values encoded by this codec.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code return != null}
+	 * </pre>
+	 *
+	 * @return	the class of the values encoded by this codec.
+	 */
+	public Class<T>		getEncodedClass();
+
+	/**
+	 * write the value {@code v} on {@code out}.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code out != null && v != null}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param out			output on which the value is written.
+	 * @param v				value to be written.
+	 * @throws IOException	when the value can not be written.
+	 */
+	public void			encode(DataOutput out, T v) throws IOException;
+
+	/**
+	 * read a value written by {@code encode} from {@code in}.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code in != null}
+	 * post	{@code return != null}
+	 * </pre>
+	 *
+	 * @param in						input from which the value is read.
+	 * @return							the value read.
+	 * @throws IOException				when the input is corrupted.
+	 * @throws ClassNotFoundException	when the class of a value is unknown.
+	 */
+	public T			decode(DataInput in)
+	throws IOException, ClassNotFoundException;
+}
+// -----------------------------------------------------------------------------
@@ -0,0 +1,668 @@
+package fr.sorbonne_u.components.codecs;
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a
+// basic component programming model to program with components
+// distributed applications in the Java programming language.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.ObjectInput;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutput;
+import java.io.ObjectOutputStream;
+import java.lang.reflect.Array;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ConcurrentHashMap;
+import fr.sorbonne_u.exceptions.PreconditionException;
+
+// -----------------------------------------------------------------------------
+/**
+ * The class <code>Codecs</code> implements the registry of the codecs and
+ * the encoding of the values exchanged among components of different JVM.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p>
+ * A value is written as a one byte tag followed by its content:
+ * </p>
+ * <ul>
+ * <li><code>null</code>, the primitive wrappers and the strings are written
+ *   directly;</li>
+ * <li>the arrays of primitive types are written raw, as their length
+ *   followed by the bytes of their elements;</li>
+ * <li>the other arrays are written as the name of their component type,
+ *   their length and their elements written as values;</li>
+ * <li>the values which exact class has a registered codec are written as the
+ *   identifier of the codec followed by what the codec writes;</li>
+ * <li>the other values are serialised, directly in the stream when it is an
+ *   object stream and in a nested object stream otherwise.</li>
+ * </ul>
+ * <p>
+ * As codecs are designated by their identifier, they must be registered
+ * with the same identifiers in all of the JVM of a deployment, before any
+ * value of their class is exchanged.  The identifiers from 0 to
+ * <code>FIRST_USER_CODEC_ID - 1</code> are reserved to BCM4Java.
+ * </p>
+ * 
+ * <p><strong>Invariant</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code true}	// no more invariant
+ * </pre>
+ * 
+ * <p>Created on : 2026-10-16</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+public class			Codecs
+{
+	// -------------------------------------------------------------------------
+	// Constants and variables
+	// -------------------------------------------------------------------------
+
+	/** first codec identifier available to applications.					*/
+	public static final int		FIRST_USER_CODEC_ID = 64;
+
+	/** tag of null.														*/
+	protected static final byte	NULL_TAG = 0;
+	/** tag of booleans.													*/
+	protected static final byte	BOOLEAN_TAG = 1;
+	/** tag of bytes.														*/
+	protected static final byte	BYTE_TAG = 2;
+	/** tag of characters.													*/
+	protected static final byte	CHAR_TAG = 3;
+	/** tag of shorts.														*/
+	protected static final byte	SHORT_TAG = 4;
+	/** tag of integers.													*/
+	protected static final byte	INT_TAG = 5;
+	/** tag of longs.														*/
+	protected static final byte	LONG_TAG = 6;
+	/** tag of floats.														*/
+	protected static final byte	FLOAT_TAG = 7;
+	/** tag of doubles.														*/
+	protected static final byte	DOUBLE_TAG = 8;
+	/** tag of strings.														*/
+	protected static final byte	STRING_TAG = 9;
+	/** tag of arrays of booleans.											*/
+	protected static final byte	BOOLEANS_TAG = 10;
+	/** tag of arrays of bytes.												*/
+	protected static final byte	BYTES_TAG = 11;
+	/** tag of arrays of characters.										*/
+	protected static final byte	CHARS_TAG = 12;
+	/** tag of arrays of shorts.											*/
+	protected static final byte	SHORTS_TAG = 13;
+	/** tag of arrays of integers.											*/
+	protected static final byte	INTS_TAG = 14;
+	/** tag of arrays of longs.												*/
+	protected static final byte	LONGS_TAG = 15;
+	/** tag of arrays of floats.											*/
+	protected static final byte	FLOATS_TAG = 16;
+	/** tag of arrays of doubles.											*/
+	protected static final byte	DOUBLES_TAG = 17;
+	/** tag of arrays of references.										*/
+	protected static final byte	OBJECTS_TAG = 18;
+	/** tag of the values written by a registered codec.					*/
+	protected static final byte	CODEC_TAG = 19;
+	/** tag of the values serialised in a nested object stream.				*/
+	protected static final byte	SERIALIZED_TAG = 20;
+	/** tag of the values serialised directly in an object stream.			*/
+	protected static final byte	STREAM_OBJECT_TAG = 21;
+
+	/** codecs by encoded class.											*/
+	protected static final ConcurrentHashMap<Class<?>,CodecI<?>>
+										CODECS_BY_CLASS =
+											new ConcurrentHashMap<>();
+	/** codecs by identifier.												*/
+	protected static final ConcurrentHashMap<Integer,CodecI<?>>
+										CODECS_BY_ID =
+											new ConcurrentHashMap<>();
+	/** identifiers of the codecs, by encoded class.						*/
+	protected static final ConcurrentHashMap<Class<?>,Integer>
+										IDS_BY_CLASS =
+											new ConcurrentHashMap<>();
+
+	// -------------------------------------------------------------------------
+	// Registry
+	// -------------------------------------------------------------------------
+
+	/**
+	 * register the codec {@code codec} with the identifier {@code id}.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code id >= FIRST_USER_CODEC_ID && id <= Short.MAX_VALUE}
+	 * pre	{@code codec != null}
+	 * pre	{@code getCodec(id) == null}
+	 * pre	{@code getCodec(codec.getEncodedClass()) == null}
+	 * post	{@code getCodec(codec.getEncodedClass()) == codec}
+	 * </pre>
+	 *
+	 * @param id	identifier of the codec, the same in all of the JVM.
+	 * @param codec	codec to be registered.
+	 */
+	public static synchronized void	register(int id, CodecI<?> codec)
+	{
+		assert	id >= FIRST_USER_CODEC_ID && id <= Short.MAX_VALUE :
+				new PreconditionException(
+						"id >= FIRST_USER_CODEC_ID && id <= Short.MAX_VALUE");
+		assert	codec != null : new PreconditionException("codec != null");
+		assert	getCodec(id) == null :
+				new PreconditionException("getCodec(id) == null");
+		assert	getCodec(codec.getEncodedClass()) == null :
+				new PreconditionException(
+						"getCodec(codec.getEncodedClass()) == null");
+
+		CODECS_BY_ID.put(id, codec);
+		IDS_BY_CLASS.put(codec.getEncodedClass(), id);
+		CODECS_BY_CLASS.put(codec.getEncodedClass(), codec);
+	}
+
+	/**
+	 * register a <code>FieldsCodec</code> for the class {@code c} with the
+	 * identifier {@code id}.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code id >= FIRST_USER_CODEC_ID && id <= Short.MAX_VALUE}
+	 * pre	{@code c != null && getCodec(c) == null}
+	 * pre	{@code c} declares a constructor without parameters.
+	 * post	{@code getCodec(c) != null}
+	 * </pre>
+	 *
+	 * @param <T>	type of the values encoded by the codec.
+	 * @param id	identifier of the codec, the same in all of the JVM.
+	 * @param c		class of the values encoded by the codec.
+	 */
+	public static <T> void	registerFieldsCodec(int id, Class<T> c)
+	{
+		Codecs.register(id, new FieldsCodec<T>(c));
+	}
+
+	/**
+	 * unregister the codec of the class {@code c}, if any.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code c != null}
+	 * post	{@code getCodec(c) == null}
+	 * </pre>
+	 *
+	 * @param c	class which codec is unregistered.
+	 */
+	public static synchronized void	unregister(Class<?> c)
+	{
+		assert	c != null : new PreconditionException("c != null");
+
+		Integer id = IDS_BY_CLASS.remove(c);
+		if (id != null) {
+			CODECS_BY_ID.remove(id);
+			CODECS_BY_CLASS.remove(c);
+		}
+	}
+
+	/**
+	 * return the codec registered for the class {@code c} or null if none.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code c != null}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param c	a class.
+	 * @return	the codec registered for {@code c} or null if none.
+	 */
+	public static CodecI<?>	getCodec(Class<?> c)
+	{
+		return CODECS_BY_CLASS.get(c);
+	}
+
+	/**
+	 * return the codec registered with the identifier {@code id} or null if
+	 * none.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param id	a codec identifier.
+	 * @return		the codec registered with {@code id} or null if none.
+	 */
+	public static CodecI<?>	getCodec(int id)
+	{
+		return CODECS_BY_ID.get(id);
+	}
+
+	// -------------------------------------------------------------------------
+	// Encoding and decoding
+	// -------------------------------------------------------------------------
+
+	/**
+	 * return the bytes encoding the value {@code v}.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code return != null}
+	 * </pre>
+	 *
+	 * @param v				value to be encoded, possibly null.
+	 * @return				the bytes encoding {@code v}.
+	 * @throws IOException	when the value can not be encoded.
+	 */
+	public static byte[]	encode(Object v) throws IOException
+	{
+		ByteArrayOutputStream bos = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(bos);
+		Codecs.writeValue(out, v);
+		out.flush();
+		return bos.toByteArray();
+	}
+
+	/**
+	 * return the value encoded by {@code bytes}.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code bytes != null}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param bytes						bytes returned by {@code encode}.
+	 * @return							the value encoded by {@code bytes}.
+	 * @throws IOException				when the bytes are corrupted.
+	 * @throws ClassNotFoundException	when the class of a value is unknown.
+	 */
+	public static Object	decode(byte[] bytes)
+	throws IOException, ClassNotFoundException
+	{
+		return Codecs.readValue(
+					new DataInputStream(new ByteArrayInputStream(bytes)));
+	}
+
+	/**
+	 * write the value {@code v} on {@code out}.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code out != null}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param out			output on which the value is written.
+	 * @param v				value to be written, possibly null.
+	 * @throws IOException	when the value can not be written.
+	 */
+	@SuppressWarnings("unchecked")
+	public static void		writeValue(DataOutput out, Object v)
+	throws IOException
+	{
+		if (v == null) {
+			out.writeByte(NULL_TAG);
+			return;
+		}
+		Class<?> c = v.getClass();
+		if (c == String.class) {
+			byte[] b = ((String)v).getBytes(StandardCharsets.UTF_8);
+			out.writeByte(STRING_TAG);
+			out.writeInt(b.length);
+			out.write(b);
+		} else if (c == Integer.class) {
+			out.writeByte(INT_TAG);
+			out.writeInt((Integer)v);
+		} else if (c == Long.class) {
+			out.writeByte(LONG_TAG);
+			out.writeLong((Long)v);
+		} else if (c == Double.class) {
+			out.writeByte(DOUBLE_TAG);
+			out.writeDouble((Double)v);
+		} else if (c == Boolean.class) {
+			out.writeByte(BOOLEAN_TAG);
+			out.writeBoolean((Boolean)v);
+		} else if (c == Float.class) {
+			out.writeByte(FLOAT_TAG);
+			out.writeFloat((Float)v);
+		} else if (c == Short.class) {
+			out.writeByte(SHORT_TAG);
+			out.writeShort((Short)v);
+		} else if (c == Byte.class) {
+			out.writeByte(BYTE_TAG);
+			out.writeByte((Byte)v);
+		} else if (c == Character.class) {
+			out.writeByte(CHAR_TAG);
+			out.writeChar((Character)v);
+		} else if (c.isArray()) {
+			Codecs.writeArray(out, v);
+		} else {
+			CodecI<Object> codec = (CodecI<Object>) CODECS_BY_CLASS.get(c);
+			if (codec != null) {
+				out.writeByte(CODEC_TAG);
+				out.writeShort(IDS_BY_CLASS.get(c));
+				codec.encode(out, v);
+			} else if (out instanceof ObjectOutput) {
+				out.writeByte(STREAM_OBJECT_TAG);
+				((ObjectOutput)out).writeObject(v);
+			} else {
+				ByteArrayOutputStream bos = new ByteArrayOutputStream();
+				ObjectOutputStream oos = new ObjectOutputStream(bos);
+				oos.writeObject(v);
+				oos.close();
+				out.writeByte(SERIALIZED_TAG);
+				out.writeInt(bos.size());
+				out.write(bos.toByteArray());
+			}
+		}
+	}
+
+	/**
+	 * write the array {@code a} on {@code out}.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code out != null && a != null && a.getClass().isArray()}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param out			output on which the array is written.
+	 * @param a				array to be written.
+	 * @throws IOException	when the array can not be written.
+	 */
+	protected static void	writeArray(DataOutput out, Object a)
+	throws IOException
+	{
+		Class<?> ct = a.getClass().getComponentType();
+		int n = Array.getLength(a);
+		if (!ct.isPrimitive()) {
+			out.writeByte(OBJECTS_TAG);
+			out.writeUTF(ct.getName());
+			out.writeInt(n);
+			Object[] objects = (Object[])a;
+			for (int i = 0 ; i < n ; i++) {
+				Codecs.writeValue(out, objects[i]);
+			}
+		} else if (ct == byte.class) {
+			out.writeByte(BYTES_TAG);
+			out.writeInt(n);
+			out.write((byte[])a);
+		} else if (ct == boolean.class) {
+			out.writeByte(BOOLEANS_TAG);
+			out.writeInt(n);
+			boolean[] booleans = (boolean[])a;
+			byte[] b = new byte[n];
+			for (int i = 0 ; i < n ; i++) {
+				b[i] = (byte)(booleans[i] ? 1 : 0);
+			}
+			out.write(b);
+		} else {
+			// the other primitive arrays are copied in one bulk operation
+			ByteBuffer b;
+			if (ct == int.class) {
+				out.writeByte(INTS_TAG);
+				b = ByteBuffer.allocate(n * Integer.BYTES);
+				b.asIntBuffer().put((int[])a);
+			} else if (ct == long.class) {
+				out.writeByte(LONGS_TAG);
+				b = ByteBuffer.allocate(n * Long.BYTES);
+				b.asLongBuffer().put((long[])a);
+			} else if (ct == double.class) {
+				out.writeByte(DOUBLES_TAG);
+				b = ByteBuffer.allocate(n * Double.BYTES);
+				b.asDoubleBuffer().put((double[])a);
+			} else if (ct == float.class) {
+				out.writeByte(FLOATS_TAG);
+				b = ByteBuffer.allocate(n * Float.BYTES);
+				b.asFloatBuffer().put((float[])a);
+			} else if (ct == short.class) {
+				out.writeByte(SHORTS_TAG);
+				b = ByteBuffer.allocate(n * Short.BYTES);
+				b.asShortBuffer().put((short[])a);
+			} else {
+				assert	ct == char.class;
+				out.writeByte(CHARS_TAG);
+				b = ByteBuffer.allocate(n * Character.BYTES);
+				b.asCharBuffer().put((char[])a);
+			}
+			out.writeInt(n);
+			out.write(b.array());
+		}
+	}
+
+	/**
+	 * read a value written by {@code writeValue} from {@code in}.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code in != null}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param in						input from which the value is read.
+	 * @return							the value read, possibly null.
+	 * @throws IOException				when the input is corrupted.
+	 * @throws ClassNotFoundException	when the class of a value is unknown.
+	 */
+	public static Object	readValue(DataInput in)
+	throws IOException, ClassNotFoundException
+	{
+		byte tag = in.readByte();
+		switch (tag) {
+		case NULL_TAG:
+			return null;
+		case BOOLEAN_TAG:
+			return in.readBoolean();
+		case BYTE_TAG:
+			return in.readByte();
+		case CHAR_TAG:
+			return in.readChar();
+		case SHORT_TAG:
+			return in.readShort();
+		case INT_TAG:
+			return in.readInt();
+		case LONG_TAG:
+			return in.readLong();
+		case FLOAT_TAG:
+			return in.readFloat();
+		case DOUBLE_TAG:
+			return in.readDouble();
+		case STRING_TAG:
+			return new String(Codecs.readBytes(in, in.readInt()),
+							  StandardCharsets.UTF_8);
+		case BYTES_TAG:
+			return Codecs.readBytes(in, in.readInt());
+		case BOOLEANS_TAG: {
+			byte[] b = Codecs.readBytes(in, in.readInt());
+			boolean[] ret = new boolean[b.length];
+			for (int i = 0 ; i < b.length ; i++) {
+				ret[i] = b[i] != 0;
+			}
+			return ret;
+		}
+		case INTS_TAG: {
+			int[] ret = new int[in.readInt()];
+			Codecs.readBuffer(in, ret.length * Integer.BYTES).
+											asIntBuffer().get(ret);
+			return ret;
+		}
+		case LONGS_TAG: {
+			long[] ret = new long[in.readInt()];
+			Codecs.readBuffer(in, ret.length * Long.BYTES).
+											asLongBuffer().get(ret);
+			return ret;
+		}
+		case DOUBLES_TAG: {
+			double[] ret = new double[in.readInt()];
+			Codecs.readBuffer(in, ret.length * Double.BYTES).
+											asDoubleBuffer().get(ret);
+			return ret;
+		}
+		case FLOATS_TAG: {
+			float[] ret = new float[in.readInt()];
+			Codecs.readBuffer(in, ret.length * Float.BYTES).
+											asFloatBuffer().get(ret);
+			return ret;
+		}
+		case SHORTS_TAG: {
+			short[] ret = new short[in.readInt()];
+			Codecs.readBuffer(in, ret.length * Short.BYTES).
+											asShortBuffer().get(ret);
+			return ret;
+		}
+		case CHARS_TAG: {
+			char[] ret = new char[in.readInt()];
+			Codecs.readBuffer(in, ret.length * Character.BYTES).
+											asCharBuffer().get(ret);
+			return ret;
+		}
+		case OBJECTS_TAG: {
+			Class<?> ct = Codecs.loadClass(in.readUTF());
+			Object[] ret = (Object[]) Array.newInstance(ct, in.readInt());
+			for (int i = 0 ; i < ret.length ; i++) {
+				ret[i] = Codecs.readValue(in);
+			}
+			return ret;
+		}
+		case CODEC_TAG: {
+			int id = in.readShort();
+			CodecI<?> codec = CODECS_BY_ID.get(id);
+			if (codec == null) {
+				throw new IOException("no codec registered with id " + id);
+			}
+			return codec.decode(in);
+		}
+		case SERIALIZED_TAG: {
+			byte[] b = Codecs.readBytes(in, in.readInt());
+			try (ObjectInputStream ois =
+						new ObjectInputStream(new ByteArrayInputStream(b))) {
+				return ois.readObject();
+			}
+		}
+		case STREAM_OBJECT_TAG:
+			if (!(in instanceof ObjectInput)) {
+				throw new IOException("object written in an object stream "
+									  + "read from a data stream");
+			}
+			return ((ObjectInput)in).readObject();
+		default:
+			throw new IOException("unknown value tag: " + tag);
+		}
+	}
+
+	/**
+	 * read {@code n} bytes from {@code in}.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code in != null && n >= 0}
+	 * post	{@code return.length == n}
+	 * </pre>
+	 *
+	 * @param in			input from which the bytes are read.
+	 * @param n				number of bytes.
+	 * @return				the bytes read.
+	 * @throws IOException	when the input is corrupted.
+	 */
+	protected static byte[]	readBytes(DataInput in, int n) throws IOException
+	{
+		if (n < 0) {
+			throw new IOException("negative length: " + n);
+		}
+		byte[] b = new byte[n];
+		in.readFully(b);
+		return b;
+	}
+
+	/**
+	 * read {@code n} bytes from {@code in} and return them in a byte buffer.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code in != null && n >= 0}
+	 * post	{@code return.remaining() == n}
+	 * </pre>
+	 *
+	 * @param in			input from which the bytes are read.
+	 * @param n				number of bytes.
+	 * @return				a byte buffer on the bytes read.
+	 * @throws IOException	when the input is corrupted.
+	 */
+	protected static ByteBuffer	readBuffer(DataInput in, int n)
+	throws IOException
+	{
+		return ByteBuffer.wrap(Codecs.readBytes(in, n));
+	}
+
+	/**
+	 * return the class named {@code name}, loaded by the context class loader
+	 * of the current thread or else by the loader of this class.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code name != null}
+	 * post	{@code return != null}
+	 * </pre>
+	 *
+	 * @param name						name of the class.
+	 * @return							the class named {@code name}.
+	 * @throws ClassNotFoundException	when the class is unknown.
+	 */
+	protected static Class<?>	loadClass(String name)
+	throws ClassNotFoundException
+	{
+		ClassLoader loader = Thread.currentThread().getContextClassLoader();
+		if (loader == null) {
+			loader = Codecs.class.getClassLoader();
+		}
+		return Class.forName(name, false, loader);
+	}
+}
+// -----------------------------------------------------------------------------
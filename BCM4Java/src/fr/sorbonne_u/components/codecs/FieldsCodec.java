@@ -0,0 +1,240 @@
+package fr.sorbonne_u.components.codecs;
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a
+// basic component programming model to program with components
+// distributed applications in the Java programming language.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import fr.sorbonne_u.exceptions.PreconditionException;
+
+// -----------------------------------------------------------------------------
+/**
+ * The class <code>FieldsCodec</code> implements codecs writing the fields of
+ * the values of a class, in the way an <code>Externalizable</code>
+ * implementation would, but derived once from the class by reflection.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p>
+ * The non static and non transient fields of the class and of its
+ * superclasses are written in a fixed order, from the topmost superclass
+ * down and by name within a class, without any class descriptor: the
+ * primitive fields are written raw and the reference fields as values of
+ * <code>Codecs</code>.  Decoding creates the value with the constructor
+ * without parameters of its class, which can be private, and then sets its
+ * fields, hence the class must declare one.  Contrary to Java
+ * serialisation, shared references are not preserved, so the codec must be
+ * used for values which object graph is a tree, which is the case of the
+ * usual data objects exchanged among components.
+ * </p>
+ * 
+ * <p><strong>Invariant</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code encodedClass != null && fields != null}
+ * </pre>
+ * 
+ * <p>Created on : 2026-10-16</p>
+ * 
+ * @param <T>	type of the values encoded by the codec.
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+public class			FieldsCodec<T>
+implements	CodecI<T>
+{
+	// -------------------------------------------------------------------------
+	// Constants and variables
+	// -------------------------------------------------------------------------
+
+	/** class of the values encoded by this codec.							*/
+	protected final Class<T>			encodedClass;
+	/** fields written by this codec, in order.								*/
+	protected final Field[]				fields;
+	/** constructor without parameters creating the values before their
+	 *  fields are set.														*/
+	protected final Constructor<T>		constructor;
+
+	// -------------------------------------------------------------------------
+	// Constructors
+	// -------------------------------------------------------------------------
+
+	/**
+	 * create a codec for the values of the class {@code c}.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code c != null}
+	 * pre	{@code !c.isInterface() && !c.isArray() && !c.isPrimitive()}
+	 * pre	{@code !Modifier.isAbstract(c.getModifiers())}
+	 * pre	{@code c} declares a constructor without parameters.
+	 * post	{@code getEncodedClass() == c}
+	 * </pre>
+	 *
+	 * @param c							class of the values encoded by the codec.
+	 * @throws IllegalArgumentException	if {@code c} does not declare a constructor without parameters.
+	 */
+	public				FieldsCodec(Class<T> c) throws IllegalArgumentException
+	{
+		assert	c != null : new PreconditionException("c != null");
+		assert	!c.isInterface() && !c.isArray() && !c.isPrimitive() :
+				new PreconditionException(
+						"!c.isInterface() && !c.isArray() && !c.isPrimitive()");
+		assert	!Modifier.isAbstract(c.getModifiers()) :
+				new PreconditionException(
+								"!Modifier.isAbstract(c.getModifiers())");
+
+		this.encodedClass = c;
+		ArrayList<Class<?>> hierarchy = new ArrayList<Class<?>>();
+		for (Class<?> k = c ; k != Object.class ; k = k.getSuperclass()) {
+			hierarchy.add(0, k);
+		}
+		ArrayList<Field> fs = new ArrayList<Field>();
+		for (Class<?> k : hierarchy) {
+			Field[] declared = k.getDeclaredFields();
+			Arrays.sort(declared, Comparator.comparing(Field::getName));
+			for (Field f : declared) {
+				int m = f.getModifiers();
+				if (!Modifier.isStatic(m) && !Modifier.isTransient(m)) {
+					f.setAccessible(true);
+					fs.add(f);
+				}
+			}
+		}
+		this.fields = fs.toArray(new Field[0]);
+		try {
+			this.constructor = c.getDeclaredConstructor();
+			this.constructor.setAccessible(true);
+		} catch (NoSuchMethodException e) {
+			throw new IllegalArgumentException(
+						c.getName() + " has no constructor without parameters",
+						e);
+		}
+	}
+
+	// -------------------------------------------------------------------------
+	// Methods
+	// -------------------------------------------------------------------------
+
+	/**
+	 * @see fr.sorbonne_u.components.codecs.CodecI#getEncodedClass()
+	 */
+	@Override
+	public Class<T>		getEncodedClass()
+	{
+		return this.encodedClass;
+	}
+
+	/**
+	 * @see fr.sorbonne_u.components.codecs.CodecI#encode(java.io.DataOutput, java.lang.Object)
+	 */
+	@Override
+	public void			encode(DataOutput out, T v) throws IOException
+	{
+		try {
+			for (Field f : this.fields) {
+				Class<?> t = f.getType();
+				if (!t.isPrimitive()) {
+					Codecs.writeValue(out, f.get(v));
+				} else if (t == int.class) {
+					out.writeInt(f.getInt(v));
+				} else if (t == long.class) {
+					out.writeLong(f.getLong(v));
+				} else if (t == double.class) {
+					out.writeDouble(f.getDouble(v));
+				} else if (t == boolean.class) {
+					out.writeBoolean(f.getBoolean(v));
+				} else if (t == float.class) {
+					out.writeFloat(f.getFloat(v));
+				} else if (t == short.class) {
+					out.writeShort(f.getShort(v));
+				} else if (t == byte.class) {
+					out.writeByte(f.getByte(v));
+				} else {
+					out.writeChar(f.getChar(v));
+				}
+			}
+		} catch (IllegalAccessException e) {
+			throw new InvalidClassException(
+						this.encodedClass.getName(), e.getMessage());
+		}
+	}
+
+	/**
+	 * @see fr.sorbonne_u.components.codecs.CodecI#decode(java.io.DataInput)
+	 */
+	@Override
+	public T			decode(DataInput in)
+	throws IOException, ClassNotFoundException
+	{
+		try {
+			T v = this.constructor.newInstance();
+			for (Field f : this.fields) {
+				Class<?> t = f.getType();
+				if (!t.isPrimitive()) {
+					f.set(v, Codecs.readValue(in));
+				} else if (t == int.class) {
+					f.setInt(v, in.readInt());
+				} else if (t == long.class) {
+					f.setLong(v, in.readLong());
+				} else if (t == double.class) {
+					f.setDouble(v, in.readDouble());
+				} else if (t == boolean.class) {
+					f.setBoolean(v, in.readBoolean());
+				} else if (t == float.class) {
+					f.setFloat(v, in.readFloat());
+				} else if (t == short.class) {
+					f.setShort(v, in.readShort());
+				} else if (t == byte.class) {
+					f.setByte(v, in.readByte());
+				} else {
+					f.setChar(v, in.readChar());
+				}
+			}
+			return v;
+		} catch (ReflectiveOperationException | IllegalArgumentException e) {
+			throw new InvalidClassException(
+						this.encodedClass.getName(), e.getMessage());
+		}
+	}
+}
+// -----------------------------------------------------------------------------
@@ -36,6 +36,7 @@ package fr.sorbonne_u.components.connectors;
 import fr.sorbonne_u.components.cvm.AbstractCVM;
 import fr.sorbonne_u.components.interfaces.OfferedCI;
 import fr.sorbonne_u.components.interfaces.RequiredCI;
+import fr.sorbonne_u.components.ports.AbstractInboundPort;
 import fr.sorbonne_u.components.ports.PortI;
 import fr.sorbonne_u.exceptions.ImplementationInvariantException;
 import fr.sorbonne_u.exceptions.PostconditionException;
@@ -78,6 +79,9 @@ implements	ConnectorI
 	protected String		requiringPortURI;
 	/** true if the requiring port runs on a remote JVM.					*/
 	protected boolean		isRequiringRemote;
+	/** local invoker of the offering port bound when both ports run in
+	 *  the JVM of the connector, or null if calls go through the port.	*/
+	protected OfferedCI		localInvoker;
 
 	// -------------------------------------------------------------------------
 	// Constructors
@@ -146,7 +150,8 @@ implements	ConnectorI
 
 	/**
 	 * determine and memorise which of the offering and the requiring ports
-	 * are remote compared to the connector.
+	 * are remote compared to the connector and, when both are local, bind
+	 * the local invoker of the offering port if it provides one.
 	 * 
 	 * <p><strong>Contract</strong></p>
 	 * 
@@ -175,6 +180,33 @@ implements	ConnectorI
 		this.requiringPortURI = requiringPortURI;
 		this.isRequiringRemote =
 				!AbstractCVM.isPublishedInLocalRegistry(requiringPortURI);
+		this.localInvoker = null;
+		if (AbstractCVM.USE_LOCAL_INVOKERS && !this.isOfferingRemote
+						&& !this.isRequiringRemote
+						&& this.offering instanceof AbstractInboundPort) {
+			this.localInvoker =
+				((AbstractInboundPort)this.offering).getLocalInvoker();
+		}
+	}
+
+	/**
+	 * return the object to which the calls of the connector must be
+	 * forwarded, the local invoker of the offering port if one has been
+	 * bound by {@code setRemoteStatus} or else the offering port.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code connected()}
+	 * post	{@code ret != null}
+	 * </pre>
+	 *
+	 * @return	the object to which the calls of the connector must be forwarded.
+	 */
+	protected OfferedCI	getCallee()
+	{
+		OfferedCI ret = this.localInvoker;
+		return ret != null ? ret : this.offering;
 	}
 
 	/**
@@ -333,6 +365,7 @@ implements	ConnectorI
 		this.requiring = null;
 		this.offeringPortURI = null;
 		this.requiringPortURI = null;
+		this.localInvoker = null;
 
 		AbstractConnector.checkImplementationInvariant(this);
 		assert	!this.connected() : new PostconditionException("!connected()");
@@ -114,6 +114,25 @@ implements	ComponentVirtualMachineI
 												new HashSet<CVMDebugModesI>();
 	/** suffix for the dynamic component creator component inbound port URI.*/
 	public static final String				DCC_INBOUNDPORT_URI_SUFFIX = "-dcc";
+	/** when true, the executor services created by the components are
+	 *  mailboxes executed by a work-stealing pool shared in the JVM rather
+	 *  than thread pools of their own (see {@code BCM4JavaSharedScheduler});
+	 *  must be set before creating the components.							*/
+	public static boolean					USE_SHARED_SCHEDULER = false;
+	/** when true, the delayed and periodic tasks of the schedulable
+	 *  executor services created by the components are triggered by a
+	 *  hierarchical timing wheel shared in the JVM rather than kept in
+	 *  the delay queue of each executor service (see
+	 *  {@code BCM4JavaTimingWheel}); must be set before creating the
+	 *  components.														*/
+	public static boolean					USE_TIMING_WHEEL = false;
+	/** when true, the connectors between two ports published in this JVM
+	 *  bind their calls to the local invoker of the inbound port, when
+	 *  the latter provides one, rather than to the port itself (see
+	 *  {@code AbstractLocalInvoker}); read when the connections are made.
+	 *  False by default, as the calls handed off to the threads of the
+	 *  owner show no measurable gain (see {@code LocalInvokerBenchmark}).	*/
+	public static boolean					USE_LOCAL_INVOKERS = false;
 
 	// ------------------------------------------------------------------------
 	// Assertions status checking
@@ -34,19 +34,31 @@ package fr.sorbonne_u.components.cvm;
 // knowledge of the CeCILL-C license and that you accept its terms.
 
 import java.io.File;
-import java.net.MalformedURLException;
 import java.rmi.AccessException;
-import java.rmi.Naming;
 import java.rmi.NotBoundException;
 import java.rmi.Remote;
 import java.rmi.RemoteException;
 import java.rmi.registry.LocateRegistry;
 import java.rmi.registry.Registry;
+import java.rmi.server.RMIClientSocketFactory;
+import java.rmi.server.RMIServerSocketFactory;
+import java.rmi.server.UnicastRemoteObject;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import fr.sorbonne_u.components.AbstractComponent;
 import fr.sorbonne_u.components.cvm.config.ConfigurationFileParser;
 import fr.sorbonne_u.components.cvm.config.ConfigurationParameters;
 import fr.sorbonne_u.components.cvm.config.exceptions.ConfigurationException;
+import fr.sorbonne_u.components.cvm.transport.DispatcherPortProxy;
+import fr.sorbonne_u.components.cvm.transport.RemoteDispatcher;
+import fr.sorbonne_u.components.cvm.transport.RemoteDispatcherI;
+import fr.sorbonne_u.components.cvm.transport.SocketTransport;
+import fr.sorbonne_u.components.cvm.transport.TunedRMISocketFactory;
 import fr.sorbonne_u.components.cvm.utils.DCVMCyclicBarrierClient;
 import fr.sorbonne_u.components.exceptions.BCMException;
 import fr.sorbonne_u.components.exceptions.DistributedExecutionException;
@@ -103,6 +115,7 @@ import fr.sorbonne_u.exceptions.PreconditionException;
  *   cyclicBarrier,         # configuration of the cyclic barrier
  *   globalRegistry,        # configuration of the global registry
  *   rmiRegistryPort,       # configuration of the RMI registry
+ *   rmiSocketFactories?,   # socket factories of the RMI remote objects
  *   jvms2hostnames         # mapping from JVM to hosts running them
  * }
  * codebase = element codebase {
@@ -127,6 +140,13 @@ import fr.sorbonne_u.exceptions.PreconditionException;
  * rmiRegistryPort = element rmiRegistryPort {
  *   attribute no        { xsd:int }  # port number listen by the RMI registry
  * }
+ * rmiSocketFactories = element rmiSocketFactories {
+ *   attribute client { text }?,            # class name of the client factory
+ *   attribute server { text }?,            # class name of the server factory
+ *                                          # buffer sizes of the built-in factory
+ *   attribute sendBufferSize { xsd:int }?,
+ *   attribute receiveBufferSize { xsd:int }?
+ * }
  * jvms2hostnames = element jvms2hostnames { jvm2hostname+ }
  * jvm2hostname = element jvm2hostname {
  *   attribute jvmuri { xsd:anyURI },      # JVM URI
@@ -134,7 +154,11 @@ import fr.sorbonne_u.exceptions.PreconditionException;
  *   attribute rmiRegistryCreator { xsd:boolean },
  *   attribute hostname { text }           # name of the host running that JVM
  *   attribute mainclass { text },		# canonical class name of the main class
- *   attribute reflective { xsd:boolean }?
+ *   attribute reflective { xsd:boolean }?,
+ *                                         # transport used to offer its ports
+ *   attribute transport { "rmi" | "socket" | "dispatcher" }?,
+ *                                         # port number of the socket transport
+ *   attribute socketPort { xsd:int }?
  * }
  * </pre>
  * <p>
@@ -155,6 +179,37 @@ import fr.sorbonne_u.exceptions.PreconditionException;
  * mean for synchronisation to this end.
  * </p>
  * <p>
+ * By default, the ports of a JVM are offered through RMI.  When the entry
+ * <code>jvm2hostname</code> of a JVM has the attribute
+ * <code>transport="socket"</code>, its ports are rather offered through the
+ * socket transport of the package
+ * <code>fr.sorbonne_u.components.cvm.transport</code>, listening on the
+ * port number given by the attribute <code>socketPort</code> or any free
+ * one; the JVM of the deployment can call ports offered through either
+ * transport.  Calls to ports offered through the socket transport by a JVM
+ * of the same host go through shared memory rather than TCP.
+ * </p>
+ * <p>
+ * With the attribute <code>transport="dispatcher"</code>, the ports of a
+ * JVM are still called through RMI but neither exported nor bound one by
+ * one: the JVM exports a single dispatcher, bound in the RMI registry under
+ * the name <code>dispatcher-</code> followed by the JVM URI, and each call
+ * carries the URI of the targeted port, found by the dispatcher in the
+ * local registry.  This avoids RMI registry entries, export table entries
+ * and distributed garbage collection leases growing with the number of
+ * ports.
+ * </p>
+ * <p>
+ * When the configuration has a <code>rmiSocketFactories</code> element, the
+ * RMI remote objects and registries of the JVM use the client and server
+ * socket factories it designates, by default the built-in
+ * <code>TunedRMISocketFactory</code> which disables the Nagle algorithm,
+ * enables keep-alive, sets the socket buffer sizes and counts the
+ * connections and bytes exchanged per remote JVM.  Other client factories
+ * must be serialisable and have value equality for RMI to reuse its
+ * connections.
+ * </p>
+ * <p>
  * Starting a component-based application entails:
  * </p>
  * <ol>
@@ -204,6 +259,24 @@ implements	DistributedComponentVirtualMachineI
 	protected static int				rmiRegistryPort;
 	/**	reference to the RMI registry.										*/
 	protected static Registry			theRMIRegistry;
+	/** port number of the socket transport server of this JVM or -1 when
+	 *  its ports are offered through RMI.									*/
+	protected static int				socketTransportPort = -1;
+	/** dispatcher through which the ports of this JVM are offered or null
+	 *  when they are offered through one remote object each.				*/
+	protected static RemoteDispatcher	dispatcher;
+	/** name under which the dispatcher of this JVM is bound in the RMI
+	 *  registry.															*/
+	protected static String				dispatcherName;
+	/** name of the host of the RMI registry in which the dispatcher of this
+	 *  JVM is bound.														*/
+	protected static String				dispatcherHostname;
+	/** client socket factory of the remote objects and RMI registries of
+	 *  this JVM, null for the RMI default sockets.							*/
+	protected static RMIClientSocketFactory	rmiClientSocketFactory;
+	/** server socket factory of the remote objects and RMI registries of
+	 *  this JVM, null for the RMI default sockets.							*/
+	protected static RMIServerSocketFactory	rmiServerSocketFactory;
 
 	// -------------------------------------------------------------------------
 	// Accessing the current component virtual machine
@@ -227,6 +300,87 @@ implements	DistributedComponentVirtualMachineI
 		return (AbstractDistributedCVM) AbstractCVM.theCVM;
 	}
 
+	/**
+	 * return true if the ports of this JVM are offered through the socket
+	 * transport rather than through RMI.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @return	true if the ports of this JVM are offered through the socket transport.
+	 */
+	public static boolean	usesSocketTransport()
+	{
+		return AbstractDistributedCVM.socketTransportPort > 0;
+	}
+
+	/**
+	 * return true if the ports of this JVM are offered through the single
+	 * dispatcher of this JVM rather than exported one by one.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @return	true if the ports of this JVM are offered through its dispatcher.
+	 */
+	public static boolean	usesDispatcher()
+	{
+		return AbstractDistributedCVM.dispatcher != null;
+	}
+
+	/**
+	 * export the remote object {@code o} on an anonymous port, with the RMI
+	 * socket factories of this JVM if any, and return its stub.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code o != null}
+	 * post	{@code return != null}
+	 * </pre>
+	 *
+	 * @param o					remote object to be exported.
+	 * @return					the stub of {@code o}.
+	 * @throws RemoteException	if the export fails.
+	 */
+	public static Remote	exportRemoteObject(Remote o) throws RemoteException
+	{
+		assert	o != null : new PreconditionException("o != null");
+
+		return UnicastRemoteObject.exportObject(
+								o, 0,
+								AbstractDistributedCVM.rmiClientSocketFactory,
+								AbstractDistributedCVM.rmiServerSocketFactory);
+	}
+
+	/**
+	 * return true if the published ports of this JVM must be exported and
+	 * bound in the RMI registry, <i>i.e.</i>, if they are offered neither
+	 * through the socket transport nor through the dispatcher.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @return	true if the published ports of this JVM must be exported.
+	 */
+	public static boolean	exportsPorts()
+	{
+		return !AbstractDistributedCVM.usesSocketTransport() &&
+							!AbstractDistributedCVM.usesDispatcher();
+	}
+
 	// -------------------------------------------------------------------------
 	// Registry management
 	// -------------------------------------------------------------------------
@@ -235,6 +389,26 @@ implements	DistributedComponentVirtualMachineI
 	protected final static GlobalRegistryClient	GLOBAL_REGISTRY_CLIENT =
 													new GlobalRegistryClient();
 
+	/** when true, the connection data and RMI stubs obtained by
+	 *  {@code getRemoteReference} are cached per JVM.						*/
+	public static boolean						CACHE_REMOTE_REFERENCES = true;
+	/** maximum number of threads used to prefetch remote references.		*/
+	public static int							PREFETCH_THREADS = 8;
+	/** cache of the connection data obtained from the global registry.		*/
+	protected final static ConcurrentHashMap<String,ConnectionData>
+								CONNECTION_DATA_CACHE =
+											new ConcurrentHashMap<>();
+	/** cache of the remote references obtained from the RMI registries.	*/
+	protected final static ConcurrentHashMap<String,Remote>
+								REMOTE_REFERENCES_CACHE =
+											new ConcurrentHashMap<>();
+	/** stubs of the RMI registries of the hosts, by host name.				*/
+	protected final static ConcurrentHashMap<String,Registry>
+								RMI_REGISTRIES = new ConcurrentHashMap<>();
+	/** stubs of the dispatchers of the other JVM, by connection data.		*/
+	protected final static ConcurrentHashMap<String,RemoteDispatcherI>
+								DISPATCHERS = new ConcurrentHashMap<>();
+
 	/**
 	 * return true if the key is bound in the registry.
 	 * 
@@ -309,7 +483,27 @@ implements	DistributedComponentVirtualMachineI
 								((PortI)port).getPortURI() + " ...");
 			}
 
-			AbstractDistributedCVM.theRMIRegistry.bind(portURI, (Remote) port);
+			ConnectionData cd;
+			if (AbstractDistributedCVM.usesSocketTransport()) {
+				// the socket transport finds the port in the local registry
+				cd = new ConnectionData(
+							ConnectionType.SOCKET,
+							AbstractCVM.getHostname(),
+							AbstractDistributedCVM.socketTransportPort);
+			} else if (AbstractDistributedCVM.usesDispatcher()) {
+				// the dispatcher finds the port in the local registry
+				cd = new ConnectionData(
+							AbstractDistributedCVM.dispatcherHostname,
+							AbstractDistributedCVM.rmiRegistryPort,
+							AbstractDistributedCVM.dispatcherName);
+			} else {
+				AbstractDistributedCVM.theRMIRegistry.bind(
+														portURI, (Remote) port);
+				cd = new ConnectionData(
+							ConnectionType.RMI,
+							AbstractCVM.getHostname(),
+							AbstractDistributedCVM.rmiRegistryPort);
+			}
 
 			if (AbstractCVM.DEBUG_MODE.contains(CVMDebugModes.PORTS)) {
 				AbstractCVM.getCVM().logDebug(CVMDebugModes.PORTS,
@@ -321,11 +515,7 @@ implements	DistributedComponentVirtualMachineI
 			}
 
 			AbstractDistributedCVM.GLOBAL_REGISTRY_CLIENT.
-				put(portURI,
-					(new ConnectionData(
-						ConnectionType.RMI,
-						AbstractCVM.getHostname(),
-						AbstractDistributedCVM.rmiRegistryPort)).toString());
+										put(portURI, cd.toString());
 
 			if (AbstractCVM.DEBUG_MODE.contains(CVMDebugModes.PORTS)) {
 				AbstractCVM.getCVM().logDebug(CVMDebugModes.PORTS,
@@ -379,8 +569,11 @@ implements	DistributedComponentVirtualMachineI
 					new RegistrationException(
 							"AbstractDistributedCVM.theRMIRegistry != null");
 
-			AbstractDistributedCVM.theRMIRegistry.unbind(portURI);
+			if (AbstractDistributedCVM.exportsPorts()) {
+				AbstractDistributedCVM.theRMIRegistry.unbind(portURI);
+			}
 			AbstractDistributedCVM.GLOBAL_REGISTRY_CLIENT.remove(portURI);
+			AbstractDistributedCVM.invalidateRemoteReference(portURI);
 		}
 
 		//	LOCAL_REGISTRY.containsKey(port.getPortURI())
@@ -391,6 +584,14 @@ implements	DistributedComponentVirtualMachineI
 	/**
 	 * find the remote reference corresponding to a port URI.
 	 * 
+	 * <p>
+	 * When {@code CACHE_REMOTE_REFERENCES} is true, the connection data and
+	 * the RMI stub are taken from the caches of this JVM if present and put
+	 * in them otherwise; the entries remain valid until the port is
+	 * unpublished or a connection to it is removed in this JVM (see
+	 * {@code invalidateRemoteReference}).
+	 * </p>
+	 * 
 	 * <p><strong>Contract</strong></p>
 	 * 
 	 * <pre>
@@ -409,31 +610,27 @@ implements	DistributedComponentVirtualMachineI
 				new PreconditionException("remoteURI != null");
 
 		Remote reference = null;
-		String response =
-			AbstractDistributedCVM.GLOBAL_REGISTRY_CLIENT.lookup(remoteURI);
-		ConnectionData cd =
-			(ConnectionData)
-				((LookupResponse)Response.string2response(response)).
-																interpret();
-		if (cd.getType() == ConnectionType.RMI) {
-			try {
-				reference = Naming.lookup(
-								"//" + cd.getHostname() +
-								":" + AbstractDistributedCVM.rmiRegistryPort +
-								"/" + remoteURI);
-			} catch (MalformedURLException e) {
-				System.out.println("MalformedURLException thrown when trying to get the remote reference of "+ remoteURI);
-				throw e;
-			} catch (RemoteException e) {
-				System.out.println("RemoteException thrown when trying to get the remote reference of "+ remoteURI);
-				throw e;
-			} catch (NotBoundException e) {
-				System.out.println("NotBoundException thrown when trying to get the remote reference of "+ remoteURI);
-				throw e;
+		if (CACHE_REMOTE_REFERENCES) {
+			reference = REMOTE_REFERENCES_CACHE.get(remoteURI);
+		}
+		if (reference == null) {
+			ConnectionData cd = null;
+			if (CACHE_REMOTE_REFERENCES) {
+				cd = CONNECTION_DATA_CACHE.get(remoteURI);
+			}
+			if (cd == null) {
+				String response =
+					AbstractDistributedCVM.GLOBAL_REGISTRY_CLIENT.
+															lookup(remoteURI);
+				cd = AbstractDistributedCVM.response2connectionData(response);
+				if (CACHE_REMOTE_REFERENCES) {
+					CONNECTION_DATA_CACHE.put(remoteURI, cd);
+				}
+			}
+			reference = this.lookupRemoteReference(remoteURI, cd);
+			if (CACHE_REMOTE_REFERENCES) {
+				REMOTE_REFERENCES_CACHE.put(remoteURI, reference);
 			}
-		} else {
-			// cd.getType() == ConnectionType.SOCKET -- NOT YET TERMINATED
-			throw new Exception("not a RMI port!");
 		}
 
 		if (AbstractCVM.DEBUG_MODE.contains(CVMDebugModes.PORTS) &&
@@ -447,6 +644,217 @@ implements	DistributedComponentVirtualMachineI
 		return reference;
 	}
 
+	/**
+	 * remove the cached connection data and remote reference of the port
+	 * with URI {@code remoteURI} from the caches of this JVM.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code remoteURI != null && !remoteURI.isEmpty()}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param remoteURI		URI identifying the port in the registry.
+	 */
+	public static void	invalidateRemoteReference(String remoteURI)
+	{
+		assert	remoteURI != null && !remoteURI.isEmpty() :
+				new PreconditionException("remoteURI != null");
+
+		REMOTE_REFERENCES_CACHE.remove(remoteURI);
+		CONNECTION_DATA_CACHE.remove(remoteURI);
+	}
+
+	/**
+	 * fill the caches of this JVM with the remote references of the ports
+	 * in {@code remoteURIs}, looking up the global registry in one batch and
+	 * the RMI registries in parallel; ports published locally or already
+	 * cached are skipped and failures are ignored, the later calls to
+	 * {@code getRemoteReference} retrying and reporting them.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code remoteURIs != null}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param remoteURIs	URIs of the ports to be looked up.
+	 * @throws Exception	<i>to do</i>.
+	 */
+	public void			prefetchRemoteReferences(
+		Collection<String> remoteURIs
+		) throws Exception
+	{
+		assert	remoteURIs != null :
+				new PreconditionException("remoteURIs != null");
+
+		if (!CACHE_REMOTE_REFERENCES || remoteURIs.isEmpty()) {
+			return;
+		}
+
+		ArrayList<String> toFetch = new ArrayList<String>();
+		for (String uri : remoteURIs) {
+			if (!AbstractCVM.isPublishedInLocalRegistry(uri) &&
+							!REMOTE_REFERENCES_CACHE.containsKey(uri) &&
+												!toFetch.contains(uri)) {
+				toFetch.add(uri);
+			}
+		}
+		if (toFetch.isEmpty()) {
+			return;
+		}
+
+		String[] responses =
+			AbstractDistributedCVM.GLOBAL_REGISTRY_CLIENT.lookup(
+										toFetch.toArray(new String[0]));
+		ExecutorService pool =
+			Executors.newFixedThreadPool(
+						Math.min(PREFETCH_THREADS, toFetch.size()));
+		try {
+			for (int i = 0 ; i < responses.length ; i++) {
+				final String uri = toFetch.get(i);
+				final String response = responses[i];
+				pool.execute(() -> {
+					try {
+						ConnectionData cd =
+							AbstractDistributedCVM.
+									response2connectionData(response);
+						CONNECTION_DATA_CACHE.put(uri, cd);
+						REMOTE_REFERENCES_CACHE.put(
+								uri, this.lookupRemoteReference(uri, cd));
+					} catch (Throwable e) {
+						// left to getRemoteReference
+					}
+				});
+			}
+		} finally {
+			pool.shutdown();
+			pool.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+		}
+
+		if (AbstractCVM.DEBUG_MODE.contains(CVMDebugModes.PORTS)) {
+			AbstractCVM.getCVM().logDebug(CVMDebugModes.PORTS,
+					"called prefetchRemoteReferences on " + toFetch.size() +
+					" ports on the host " + AbstractCVM.getHostname());
+		}
+	}
+
+	/**
+	 * return the URIs of the remote ports which references must be
+	 * prefetched just before {@code interconnect} is called in
+	 * {@code deploy}; by default, returns an empty set, subclasses
+	 * redefining it with the ports they connect to in {@code interconnect}.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code return != null}
+	 * </pre>
+	 *
+	 * @return	the URIs of the remote ports to be prefetched.
+	 */
+	protected Collection<String>	getRemoteReferencesToPrefetch()
+	{
+		return new ArrayList<String>();
+	}
+
+	/**
+	 * return the connection data carried by the global registry lookup
+	 * response {@code response}.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code response != null}
+	 * post	{@code return != null}
+	 * </pre>
+	 *
+	 * @param response		response to a lookup request.
+	 * @return				the connection data carried by the response.
+	 * @throws Exception	<i>to do</i>.
+	 */
+	protected static ConnectionData	response2connectionData(String response)
+	throws Exception
+	{
+		return (ConnectionData)
+					((LookupResponse)Response.string2response(response)).
+																interpret();
+	}
+
+	/**
+	 * look up the remote reference of the port {@code remoteURI} designated
+	 * by {@code cd}, either in the RMI registry of its host, reusing the
+	 * registry stub of the host when already obtained, as a proxy calling
+	 * the dispatcher of its JVM, itself looked up once in the RMI registry,
+	 * or as a proxy of the socket transport.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code remoteURI != null && cd != null}
+	 * post	{@code return != null}
+	 * </pre>
+	 *
+	 * @param remoteURI		URI identifying the port in the registry.
+	 * @param cd			connection data of the port.
+	 * @return				reference to the component port.
+	 * @throws Exception	<i>to do</i>.
+	 */
+	protected Remote	lookupRemoteReference(
+		String remoteURI,
+		ConnectionData cd
+		) throws Exception
+	{
+		Remote reference = null;
+		if (cd.getType() == ConnectionType.RMI ||
+								cd.getType() == ConnectionType.DISPATCHER) {
+			try {
+				Registry registry =
+					RMI_REGISTRIES.computeIfAbsent(
+						cd.getHostname(),
+						h -> { try {
+									return LocateRegistry.getRegistry(
+										h,
+										AbstractDistributedCVM.rmiRegistryPort,
+										AbstractDistributedCVM.
+												rmiClientSocketFactory);
+							   } catch (RemoteException e) {
+									throw new RuntimeException(e);
+							   }
+							 });
+				if (cd.getType() == ConnectionType.RMI) {
+					reference = registry.lookup(remoteURI);
+				} else {
+					RemoteDispatcherI d = DISPATCHERS.get(cd.toString());
+					if (d == null) {
+						d = (RemoteDispatcherI)
+									registry.lookup(cd.getDispatcherName());
+						DISPATCHERS.put(cd.toString(), d);
+					}
+					reference =
+						DispatcherPortProxy.getRemoteReference(d, remoteURI);
+				}
+			} catch (RemoteException e) {
+				System.out.println("RemoteException thrown when trying to get the remote reference of "+ remoteURI);
+				RMI_REGISTRIES.remove(cd.getHostname());
+				DISPATCHERS.remove(cd.toString());
+				throw e;
+			} catch (NotBoundException e) {
+				System.out.println("NotBoundException thrown when trying to get the remote reference of "+ remoteURI);
+				throw e;
+			}
+		} else {
+			assert	cd.getType() == ConnectionType.SOCKET :
+					new BCMException("unknown connection type " + cd);
+			reference = SocketTransport.getTransport().
+											getRemoteReference(remoteURI, cd);
+		}
+		return reference;
+	}
+
 	// -------------------------------------------------------------------------
 	// Cyclic barrier management
 	// -------------------------------------------------------------------------
@@ -533,13 +941,31 @@ implements	DistributedComponentVirtualMachineI
 					this.configurationParameters.getRmiRegistryHosts();
 		AbstractDistributedCVM.rmiRegistryPort =
 					this.configurationParameters.getRmiregistryPort();
+		AbstractDistributedCVM.rmiClientSocketFactory =
+			(RMIClientSocketFactory) this.newSocketFactory(
+				this.configurationParameters.
+										getRmiClientSocketFactoryClassname());
+		AbstractDistributedCVM.rmiServerSocketFactory =
+			(RMIServerSocketFactory) this.newSocketFactory(
+				this.configurationParameters.
+										getRmiServerSocketFactoryClassname());
+		Integer socketPort =
+			this.configurationParameters.getSocketTransportJVM_URIs2ports().
+											get(AbstractCVM.getThisJVMURI());
+		if (socketPort != null) {
+			AbstractDistributedCVM.socketTransportPort =
+				SocketTransport.getTransport().startServer(socketPort);
+		}
 		this.state = CVMState.CREATED;
 
 		// RMI registry creation
 		if (AbstractDistributedCVM.rmiRegistryCreators.contains(
 												AbstractCVM.getThisJVMURI())) {
 			AbstractDistributedCVM.theRMIRegistry =
-							LocateRegistry.createRegistry(rmiRegistryPort);
+				LocateRegistry.createRegistry(
+							rmiRegistryPort,
+							AbstractDistributedCVM.rmiClientSocketFactory,
+							AbstractDistributedCVM.rmiServerSocketFactory);
 		} else {
 			AbstractDistributedCVM.theRMIRegistry = null;
 		}
@@ -586,6 +1012,9 @@ implements	DistributedComponentVirtualMachineI
 		// different registry.
 		this.instantiateAndPublish();
 		this.waitOnCyclicBarrier();
+		// Prefetch the references of the remote ports declared by the
+		// subclass in one batch.
+		this.prefetchRemoteReferences(this.getRemoteReferencesToPrefetch());
 		// Interconnect the components, lookup for their ports on the
 		// different registry.
 		this.interconnect();
@@ -602,7 +1031,8 @@ implements	DistributedComponentVirtualMachineI
 
 	/**
 	 * initialise the RMI registry reference for JVM that are not responsible
-	 * for its creation.
+	 * for its creation and export the dispatcher of this JVM when it offers
+	 * its ports through one.
 	 * 
 	 * <p><strong>Contract</strong></p>
 	 * 
@@ -621,6 +1051,7 @@ implements	DistributedComponentVirtualMachineI
 				new PreconditionException("!isInitialised()");
 
 		// RMI registry reference
+		String registryHostname = thisHostname;
 		if (AbstractDistributedCVM.theRMIRegistry == null) {
 			// looking for a host that has a running RMI registry
 			// BEWARE: with Oracle RMI registry implementation, the registry
@@ -628,20 +1059,24 @@ implements	DistributedComponentVirtualMachineI
 			//         publisher!!
 			//         If another vendor's registry is used, the following code
 			//         assumes that only one registry will be running.
-			String registryHostname = null;
 			if (!AbstractDistributedCVM.
 								rmiRegistryHosts.contains(thisHostname)) {
 				// Take the first, most probably the only one in this case
 				registryHostname =
 						AbstractDistributedCVM.rmiRegistryHosts.
 														iterator().next();
-			} else {
-				registryHostname = thisHostname;
 			}
 			AbstractDistributedCVM.theRMIRegistry =
 					LocateRegistry.getRegistry(
 								registryHostname,
-								AbstractDistributedCVM.rmiRegistryPort);
+								AbstractDistributedCVM.rmiRegistryPort,
+								AbstractDistributedCVM.rmiClientSocketFactory);
+		}
+		// the dispatcher is bound in the registry just resolved, before the
+		// ports are published in instantiateAndPublish
+		if (this.configurationParameters.getDispatcherJVM_URIs().contains(
+												AbstractCVM.getThisJVMURI())) {
+			this.exportDispatcher(registryHostname);
 		}
 
 		this.state = CVMState.INITIALISED;
@@ -805,6 +1240,106 @@ implements	DistributedComponentVirtualMachineI
 		super.finalise();
 	}
 
+	/**
+	 * return a new RMI socket factory of the class {@code classname}, the
+	 * built-in one being created with the buffer sizes of the configuration
+	 * and the others with their public constructor without parameter, or
+	 * null if {@code classname} is null.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code classname == null || return != null}
+	 * </pre>
+	 *
+	 * @param classname		class name of the factory or null.
+	 * @return				a new socket factory or null.
+	 * @throws Exception	if the factory can not be created.
+	 */
+	protected Object	newSocketFactory(String classname) throws Exception
+	{
+		if (classname == null) {
+			return null;
+		} else if (classname.equals(TunedRMISocketFactory.class.getName())) {
+			return new TunedRMISocketFactory(
+					this.configurationParameters.getRmiSocketSendBufferSize(),
+					this.configurationParameters.
+											getRmiSocketReceiveBufferSize());
+		} else {
+			return Class.forName(classname).getDeclaredConstructor().
+																newInstance();
+		}
+	}
+
+	/**
+	 * export the dispatcher of this JVM and bind it in the RMI registry
+	 * used by this JVM, running on {@code registryHostname}, under a name
+	 * made from the URI of this JVM.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code registryHostname != null}
+	 * pre	{@code AbstractDistributedCVM.theRMIRegistry != null}
+	 * pre	{@code !usesDispatcher()}
+	 * post	{@code usesDispatcher()}
+	 * </pre>
+	 *
+	 * @param registryHostname	name of the host running {@code theRMIRegistry}.
+	 * @throws Exception		<i>to do</i>.
+	 */
+	protected void		exportDispatcher(String registryHostname)
+	throws Exception
+	{
+		assert	registryHostname != null :
+				new PreconditionException("registryHostname != null");
+		assert	AbstractDistributedCVM.theRMIRegistry != null :
+				new PreconditionException(
+						"AbstractDistributedCVM.theRMIRegistry != null");
+		assert	!AbstractDistributedCVM.usesDispatcher() :
+				new PreconditionException("!usesDispatcher()");
+
+		RemoteDispatcher d = new RemoteDispatcher();
+		Remote stub = AbstractDistributedCVM.exportRemoteObject(d);
+		AbstractDistributedCVM.dispatcherName =
+							"dispatcher-" + AbstractCVM.getThisJVMURI();
+		AbstractDistributedCVM.dispatcherHostname = registryHostname;
+		AbstractDistributedCVM.theRMIRegistry.rebind(
+									AbstractDistributedCVM.dispatcherName, stub);
+		AbstractDistributedCVM.dispatcher = d;
+
+		assert	AbstractDistributedCVM.usesDispatcher() :
+				new PostconditionException("usesDispatcher()");
+	}
+
+	/**
+	 * unbind and unexport the dispatcher of this JVM if any.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code !usesDispatcher()}
+	 * </pre>
+	 *
+	 * @throws Exception	<i>to do</i>.
+	 */
+	protected void		unexportDispatcher() throws Exception
+	{
+		RemoteDispatcher d = AbstractDistributedCVM.dispatcher;
+		if (d != null) {
+			AbstractDistributedCVM.dispatcher = null;
+			try {
+				AbstractDistributedCVM.theRMIRegistry.unbind(
+									AbstractDistributedCVM.dispatcherName);
+			} catch (NotBoundException e) {
+				// already unbound, nothing more to do
+			}
+			UnicastRemoteObject.unexportObject(d, true);
+		}
+	}
+
 	/**
 	 * @see fr.sorbonne_u.components.cvm.AbstractCVM#shutdown()
 	 */
@@ -819,6 +1354,8 @@ implements	DistributedComponentVirtualMachineI
 		this.waitOnCyclicBarrier();
 		this.cyclicBarrierClient.closeBarrier();
 		AbstractDistributedCVM.GLOBAL_REGISTRY_CLIENT.shutdown();
+		SocketTransport.shutdownTransport();
+		this.unexportDispatcher();
 
 		assert	this.isShutdown() :
 				new PostconditionException("isShutdown()");
@@ -838,6 +1375,8 @@ implements	DistributedComponentVirtualMachineI
 		this.waitOnCyclicBarrier();
 		this.cyclicBarrierClient.closeBarrier();
 		AbstractDistributedCVM.GLOBAL_REGISTRY_CLIENT.shutdown();
+		SocketTransport.shutdownTransport();
+		this.unexportDispatcher();
 
 		assert	this.isShutdown() :
 				new PostconditionException("isShutdown()");
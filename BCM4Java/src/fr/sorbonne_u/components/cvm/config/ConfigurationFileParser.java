@@ -57,6 +57,7 @@ import org.w3c.dom.NodeList;
 import org.xml.sax.SAXException;
 import fr.sorbonne_u.components.cvm.AbstractDistributedCVM;
 import fr.sorbonne_u.components.cvm.config.exceptions.ConfigurationException;
+import fr.sorbonne_u.components.cvm.transport.TunedRMISocketFactory;
 
 // -----------------------------------------------------------------------------
 /**
@@ -135,6 +136,26 @@ public class			ConfigurationFileParser
 	protected static final String	RMI_REGISTRY_PORT_XPATH =
 										"/deployment/rmiRegistryPort/@no";
 
+	/** {@code /deployment/rmiSocketFactories} XPath.						*/
+	protected static final String	RMI_SOCKET_FACTORIES_XPATH =
+										"/deployment/rmiSocketFactories";
+	/** {@code /deployment/rmiSocketFactories/@client} XPath relative to
+	 *  {@code RMI_SOCKET_FACTORIES_XPATH}.									*/
+	protected static final String	RMI_SOCKET_FACTORIES_CLIENT_XSUBPATH =
+																"@client";
+	/** {@code /deployment/rmiSocketFactories/@server} XPath relative to
+	 *  {@code RMI_SOCKET_FACTORIES_XPATH}.									*/
+	protected static final String	RMI_SOCKET_FACTORIES_SERVER_XSUBPATH =
+																"@server";
+	/** {@code /deployment/rmiSocketFactories/@sendBufferSize} XPath
+	 *  relative to {@code RMI_SOCKET_FACTORIES_XPATH}.						*/
+	protected static final String	RMI_SOCKET_FACTORIES_SEND_XSUBPATH =
+														"@sendBufferSize";
+	/** {@code /deployment/rmiSocketFactories/@receiveBufferSize} XPath
+	 *  relative to {@code RMI_SOCKET_FACTORIES_XPATH}.						*/
+	protected static final String	RMI_SOCKET_FACTORIES_RECEIVE_XSUBPATH =
+														"@receiveBufferSize";
+
 	/** {@code /deployment/jvms2hostnames/jvm2hostname/@jvmuri} XPath.		*/
 	protected static final String	JVMURI_XPATH =
 										"/deployment/jvms2hostnames/jvm2hostname/@jvmuri";
@@ -154,6 +175,12 @@ public class			ConfigurationFileParser
 	/** {@code /deployment/jvms2hostnames/jvm2hostname/@reflective} XPath
 	 *  relative to {@code /deployment/jvms2hostnames/jvm2hostname}.		*/
 	protected static final String	JVM2HOSTNAME_REFLECTIVE_XSUBPATH = "@reflective";
+	/** {@code /deployment/jvms2hostnames/jvm2hostname/@transport} XPath
+	 *  relative to {@code /deployment/jvms2hostnames/jvm2hostname}.		*/
+	protected static final String	JVM2HOSTNAME_TRANSPORT_XSUBPATH = "@transport";
+	/** {@code /deployment/jvms2hostnames/jvm2hostname/@socketPort} XPath
+	 *  relative to {@code /deployment/jvms2hostnames/jvm2hostname}.		*/
+	protected static final String	JVM2HOSTNAME_SOCKETPORT_XSUBPATH = "@socketPort";
 	/** {@code /deployment/jvms2hostnames/jvm2hostname/@rmiRegistryCreator}
 	 *  XPath relative to {@code /deployment/jvms2hostnames/jvm2hostname}.	*/
 	protected static final String	JVM2HOSTNAME_RMIREGISTRYCREATOR_XSUBPATH = 
@@ -480,6 +507,71 @@ public class			ConfigurationFileParser
 							"RMI registry port illegal: "
 										   + rmiRegistryPort + "!") ;
 
+		String rmiClientSocketFactoryClassname = null ;
+		String rmiServerSocketFactoryClassname = null ;
+		int rmiSocketSendBufferSize = 0 ;
+		int rmiSocketReceiveBufferSize = 0 ;
+		Node factoriesNode;
+		Node clientNode;
+		Node serverNode;
+		Node sendNode;
+		Node receiveNode;
+		try {
+			factoriesNode = ((Node)xpathEvaluator.evaluate(
+											RMI_SOCKET_FACTORIES_XPATH,
+											doc,
+											XPathConstants.NODE));
+			clientNode = ((Node)xpathEvaluator.evaluate(
+								RMI_SOCKET_FACTORIES_XPATH + "/" +
+									RMI_SOCKET_FACTORIES_CLIENT_XSUBPATH,
+								doc, XPathConstants.NODE));
+			serverNode = ((Node)xpathEvaluator.evaluate(
+								RMI_SOCKET_FACTORIES_XPATH + "/" +
+									RMI_SOCKET_FACTORIES_SERVER_XSUBPATH,
+								doc, XPathConstants.NODE));
+			sendNode = ((Node)xpathEvaluator.evaluate(
+								RMI_SOCKET_FACTORIES_XPATH + "/" +
+									RMI_SOCKET_FACTORIES_SEND_XSUBPATH,
+								doc, XPathConstants.NODE));
+			receiveNode = ((Node)xpathEvaluator.evaluate(
+								RMI_SOCKET_FACTORIES_XPATH + "/" +
+									RMI_SOCKET_FACTORIES_RECEIVE_XSUBPATH,
+								doc, XPathConstants.NODE));
+		} catch (XPathExpressionException e) {
+			throw new ConfigurationException(
+						"error fetching the rmiSocketFactories node", e) ;
+		}
+		if (factoriesNode != null) {
+			// the built-in factory unless another one is given
+			rmiClientSocketFactoryClassname =
+						clientNode != null ?
+							clientNode.getNodeValue()
+						:	TunedRMISocketFactory.class.getName() ;
+			rmiServerSocketFactoryClassname =
+						serverNode != null ?
+							serverNode.getNodeValue()
+						:	TunedRMISocketFactory.class.getName() ;
+			try {
+				if (sendNode != null) {
+					rmiSocketSendBufferSize =
+								Integer.parseInt(sendNode.getNodeValue()) ;
+				}
+				if (receiveNode != null) {
+					rmiSocketReceiveBufferSize =
+								Integer.parseInt(receiveNode.getNodeValue()) ;
+				}
+			} catch (NumberFormatException e) {
+				throw new ConfigurationException(
+						"RMI socket buffer size not a number!", e) ;
+			}
+			assert	rmiSocketSendBufferSize >= 0 &&
+										rmiSocketReceiveBufferSize >= 0 :
+					new ConfigurationException(
+							"RMI socket buffer sizes illegal: "
+							+ rmiSocketSendBufferSize + ", "
+							+ rmiSocketReceiveBufferSize + "!") ;
+		}
+
 		NodeList ns;
 		try {
 			ns = (NodeList)xpathEvaluator.evaluate(
@@ -508,6 +600,9 @@ public class			ConfigurationFileParser
 		}
 		Set<String> allHostnames = new HashSet<String>() ;
 		Set<String> reflectiveJVM_URIs = new HashSet<String>() ;
+		Hashtable<String,Integer> socketTransportJVM_URIs2ports =
+											new Hashtable<String,Integer>() ;
+		Set<String> dispatcherJVM_URIs = new HashSet<String>() ;
 		for (int i = 0 ; i < ns.getLength() ; i++) {
 			String uri;
 			try {
@@ -584,6 +679,45 @@ public class			ConfigurationFileParser
 				reflectiveJVM_URIs.add(uri) ;
 			}
 
+			Node transportNode;
+			Node socketPortNode;
+			try {
+				transportNode =
+						((Node)xpathEvaluator.evaluate(
+								JVM2HOSTNAME_TRANSPORT_XSUBPATH,
+								ns.item(i), XPathConstants.NODE));
+				socketPortNode =
+						((Node)xpathEvaluator.evaluate(
+								JVM2HOSTNAME_SOCKETPORT_XSUBPATH,
+								ns.item(i), XPathConstants.NODE));
+			} catch (XPathExpressionException e) {
+				throw new ConfigurationException(
+							"error fetching the transport attributes of "
+							+ "the jvm2hostname node " + uri + "!", e) ;
+			}
+			if (transportNode != null &&
+								transportNode.getNodeValue().equals("socket")) {
+				int socketPort = 0 ;
+				if (socketPortNode != null) {
+					try {
+						socketPort =
+							Integer.parseInt(socketPortNode.getNodeValue()) ;
+					} catch (NumberFormatException e) {
+						throw new ConfigurationException(
+								"socket port number of the JVM " + uri +
+								" not a number!", e) ;
+					}
+				}
+				assert	socketPort >= 0 && socketPort <= 65535 :
+						new ConfigurationException(
+								"Socket port of the JVM " + uri + " illegal: "
+								+ socketPort + "!") ;
+				socketTransportJVM_URIs2ports.put(uri, socketPort) ;
+			} else if (transportNode != null &&
+						transportNode.getNodeValue().equals("dispatcher")) {
+				dispatcherJVM_URIs.add(uri) ;
+			}
+
 			String rmiRegistryCreator;
 			try {
 				rmiRegistryCreator =
@@ -637,7 +771,13 @@ public class			ConfigurationFileParser
 										   jvmURIs2mainclasses,
 										   rmiRegistryCreators,
 										   rmiRegistryHosts,
-										   reflectiveJVM_URIs) ;
+										   reflectiveJVM_URIs,
+										   socketTransportJVM_URIs2ports,
+										   dispatcherJVM_URIs,
+										   rmiClientSocketFactoryClassname,
+										   rmiServerSocketFactoryClassname,
+										   rmiSocketSendBufferSize,
+										   rmiSocketReceiveBufferSize) ;
 	}
 }
 // -----------------------------------------------------------------------------
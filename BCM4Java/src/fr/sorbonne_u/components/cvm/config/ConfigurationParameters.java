@@ -56,6 +56,7 @@ import java.util.Set;
  *   cyclicBarrier,         # configuration of the cyclic barrier
  *   globalRegistry,        # configuration of the global registry
  *   rmiRegistryPort,       # configuration of the RMI registry
+ *   rmiSocketFactories?,   # socket factories of the RMI remote objects
  *   jvms2hostnames         # mapping from JVM to hosts running them
  * }
  * codebase = element codebase {
@@ -80,6 +81,13 @@ import java.util.Set;
  * rmiRegistryPort = element rmiRegistryPort {
  *   attribute no        { xsd:int }  # port number listen by the RMI registry
  * }
+ * rmiSocketFactories = element rmiSocketFactories {
+ *   attribute client { text }?,            # class name of the client factory
+ *   attribute server { text }?,            # class name of the server factory
+ *                                          # buffer sizes of the built-in factory
+ *   attribute sendBufferSize { xsd:int }?,
+ *   attribute receiveBufferSize { xsd:int }?
+ * }
  * jvms2hostnames = element jvms2hostnames { jvm2hostname+ }
  * jvm2hostname = element jvm2hostname {
  *   attribute jvmuri { xsd:anyURI },      # JVM URI
@@ -87,7 +95,11 @@ import java.util.Set;
  *   attribute rmiRegistryCreator { xsd:boolean },
  *   attribute hostname { text },          # name of the host running that JVM
  *   attribute mainclass { text },		# canonical class name of the main class
- *   attribute reflective { xsd:boolean }?
+ *   attribute reflective { xsd:boolean }?,
+ *                                         # transport used to offer its ports
+ *   attribute transport { "rmi" | "socket" | "dispatcher" }?,
+ *                                         # port number of the socket transport
+ *   attribute socketPort { xsd:int }?
  * }
  * </pre>
  * <p>
@@ -143,6 +155,24 @@ public class				ConfigurationParameters
 	/** set of URI of the JVM that requires support for reflective
 	 *  actions.															*/
 	protected Set<String>				reflectiveJVM_URIs ;
+	/** map from URI of the JVM offering their ports through the socket
+	 *  transport to the port number of their socket server (0 for any).	*/
+	protected Hashtable<String,Integer>	socketTransportJVM_URIs2ports ;
+	/** set of URI of the JVM offering their ports through a single RMI
+	 *  dispatcher.															*/
+	protected Set<String>				dispatcherJVM_URIs ;
+	/** class name of the client socket factory of the RMI remote objects
+	 *  and registries, null if RMI default sockets are used.				*/
+	protected String					rmiClientSocketFactoryClassname ;
+	/** class name of the server socket factory of the RMI remote objects
+	 *  and registries, null if RMI default sockets are used.				*/
+	protected String					rmiServerSocketFactoryClassname ;
+	/** send buffer size of the sockets of the built-in RMI socket factory,
+	 *  0 for the system default.											*/
+	protected int						rmiSocketSendBufferSize ;
+	/** receive buffer size of the sockets of the built-in RMI socket
+	 *  factory, 0 for the system default.									*/
+	protected int						rmiSocketReceiveBufferSize ;
 
 	/**
 	 * create a configuration parameters holder.
@@ -168,6 +198,12 @@ public class				ConfigurationParameters
 	 * @param rmiRegistryCreators		set of URI of the JVM that will create the rmi registries (one per host, other JVM simply connect to the rmi registry running on the same host as they do).
 	 * @param rmiRegistryHosts			set of hostnames of the computers that will run a rmi registry.
 	 * @param reflectiveJVM_URIs		set of URI of the JVM that requires support for reflective actions.
+	 * @param socketTransportJVM_URIs2ports	map from URI of the JVM offering their ports through the socket transport to the port number of their socket server.
+	 * @param dispatcherJVM_URIs		set of URI of the JVM offering their ports through a single RMI dispatcher.
+	 * @param rmiClientSocketFactoryClassname	class name of the client socket factory of the RMI remote objects and registries, null if RMI default sockets are used.
+	 * @param rmiServerSocketFactoryClassname	class name of the server socket factory of the RMI remote objects and registries, null if RMI default sockets are used.
+	 * @param rmiSocketSendBufferSize		send buffer size of the sockets of the built-in RMI socket factory, 0 for the system default.
+	 * @param rmiSocketReceiveBufferSize	receive buffer size of the sockets of the built-in RMI socket factory, 0 for the system default.
 	 */
 	public				ConfigurationParameters(
 		String						codebaseHostname,
@@ -183,7 +219,13 @@ public class				ConfigurationParameters
 		Hashtable<String,String>	jvmURIs2mainclasses,
 		Set<String>					rmiRegistryCreators,
 		Set<String>					rmiRegistryHosts,
-		Set<String>					reflectiveJVM_URIs
+		Set<String>					reflectiveJVM_URIs,
+		Hashtable<String,Integer>	socketTransportJVM_URIs2ports,
+		Set<String>					dispatcherJVM_URIs,
+		String						rmiClientSocketFactoryClassname,
+		String						rmiServerSocketFactoryClassname,
+		int							rmiSocketSendBufferSize,
+		int							rmiSocketReceiveBufferSize
 		)
 	{
 		super();
@@ -201,6 +243,12 @@ public class				ConfigurationParameters
 		this.rmiRegistryCreators = rmiRegistryCreators ;
 		this.rmiRegistryHosts = rmiRegistryHosts ;
 		this.reflectiveJVM_URIs = reflectiveJVM_URIs ;
+		this.socketTransportJVM_URIs2ports = socketTransportJVM_URIs2ports ;
+		this.dispatcherJVM_URIs = dispatcherJVM_URIs ;
+		this.rmiClientSocketFactoryClassname = rmiClientSocketFactoryClassname ;
+		this.rmiServerSocketFactoryClassname = rmiServerSocketFactoryClassname ;
+		this.rmiSocketSendBufferSize = rmiSocketSendBufferSize ;
+		this.rmiSocketReceiveBufferSize = rmiSocketReceiveBufferSize ;
 	}
 
 	/**
@@ -288,6 +336,48 @@ public class				ConfigurationParameters
 		return reflectiveJVM_URIs;
 	}
 
+	/**
+	 * @return the socketTransportJVM_URIs2ports
+	 */
+	public Hashtable<String,Integer>	getSocketTransportJVM_URIs2ports() {
+		return this.socketTransportJVM_URIs2ports;
+	}
+
+	/**
+	 * @return the dispatcherJVM_URIs
+	 */
+	public Set<String>	getDispatcherJVM_URIs() {
+		return this.dispatcherJVM_URIs;
+	}
+
+	/**
+	 * @return the rmiClientSocketFactoryClassname
+	 */
+	public String		getRmiClientSocketFactoryClassname() {
+		return this.rmiClientSocketFactoryClassname;
+	}
+
+	/**
+	 * @return the rmiServerSocketFactoryClassname
+	 */
+	public String		getRmiServerSocketFactoryClassname() {
+		return this.rmiServerSocketFactoryClassname;
+	}
+
+	/**
+	 * @return the rmiSocketSendBufferSize
+	 */
+	public int			getRmiSocketSendBufferSize() {
+		return this.rmiSocketSendBufferSize;
+	}
+
+	/**
+	 * @return the rmiSocketReceiveBufferSize
+	 */
+	public int			getRmiSocketReceiveBufferSize() {
+		return this.rmiSocketReceiveBufferSize;
+	}
+
 	/**
 	 * @return the rmiRegistryCreators
 	 */
@@ -356,6 +446,9 @@ public class				ConfigurationParameters
 					append("jvm URIs: ").append(rjvms).append("; ").
 					append("main classes: ").append(theMainClasses).append("; ").
 					append("reflective JVM URIs: ").append(theReflectives).append("; ").
+					append("socket transport JVM URIs: ").append(this.socketTransportJVM_URIs2ports).append("; ").
+					append("dispatcher JVM URIs: ").append(this.dispatcherJVM_URIs).append("; ").
+					append("RMI socket factories: ").append(this.rmiClientSocketFactoryClassname).append(", ").append(this.rmiServerSocketFactoryClassname).append("; ").
 					append("]").toString() ;
 	}
 }
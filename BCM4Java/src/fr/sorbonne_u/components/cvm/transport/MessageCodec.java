@@ -0,0 +1,464 @@
+package fr.sorbonne_u.components.cvm.transport;
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a
+// basic component programming model to program with components
+// distributed applications in the Java programming language.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.ByteBuffer;
+import java.rmi.Remote;
+import java.rmi.RemoteException;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// -----------------------------------------------------------------------------
+/**
+ * The class <code>MessageCodec</code> defines the frames exchanged by the
+ * socket transport and the encoding of the values they carry.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p>
+ * A frame is a 4 bytes length followed by as many bytes of payload.  The
+ * payload begins with a kind byte and a call identifier (a long) used to
+ * match responses with requests, followed by:
+ * </p>
+ * <pre>
+ * REQUEST        port URI, method signature, argument count, arguments
+ * DESCRIBE       port URI
+ * RESPONSE       result
+ * EXCEPTION      exception thrown by the call
+ * SHARED_MEMORY  path of the memory-mapped file holding the rings
+ * </pre>
+ * <p>
+ * Values, <i>i.e.</i>, arguments, results and exceptions, are written by
+ * <code>Codecs</code>, hence with the codecs registered for their class.
+ * </p>
+ * 
+ * <p><strong>Invariant</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code true}	// no more invariant
+ * </pre>
+ * 
+ * <p>Created on : 2026-10-16</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+public class			MessageCodec
+{
+	// -------------------------------------------------------------------------
+	// Constants and variables
+	// -------------------------------------------------------------------------
+
+	/** kind of the frames calling a method on a port.						*/
+	public static final byte	REQUEST = 0;
+	/** kind of the frames asking for the interfaces implemented by a port.	*/
+	public static final byte	DESCRIBE = 1;
+	/** kind of the frames returning the result of a call.					*/
+	public static final byte	RESPONSE = 2;
+	/** kind of the frames returning the exception thrown by a call.		*/
+	public static final byte	EXCEPTION = 3;
+	/** kind of the frames asking to share the rings of a memory-mapped
+	 *  file.																*/
+	public static final byte	SHARED_MEMORY = 4;
+	/** size of the header of the payload, kind and call identifier.		*/
+	public static final int		HEADER_SIZE = 9;
+	/** signatures of the methods called on remote ports, computed once.	*/
+	protected static final ConcurrentHashMap<Method,String>	SIGNATURES =
+									new ConcurrentHashMap<Method,String>();
+	/** methods of the interfaces of the classes of the ports called from
+	 *  other JVM, by class and then by signature.							*/
+	protected static final ConcurrentHashMap<Class<?>,Map<String,Method>>
+									METHODS =
+						new ConcurrentHashMap<Class<?>,Map<String,Method>>();
+
+	// -------------------------------------------------------------------------
+	// Frames
+	// -------------------------------------------------------------------------
+
+	/**
+	 * The class <code>FrameBuilder</code> accumulates the payload of a frame
+	 * after a place holder for its length, which is set when the frame is
+	 * turned into a byte buffer.
+	 *
+	 * <p><strong>Invariant</strong></p>
+	 * 
+	 * <pre>
+	 * invariant	{@code size() >= 4}
+	 * </pre>
+	 * 
+	 * <p>Created on : 2026-10-16</p>
+	 * 
+	 * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+	 */
+	public static class	FrameBuilder
+	extends		ByteArrayOutputStream
+	{
+		/**
+		 * create a frame builder with a place holder for the length.
+		 * 
+		 * <p><strong>Contract</strong></p>
+		 * 
+		 * <pre>
+		 * pre	{@code true}	// no precondition.
+		 * post	{@code size() == 4}
+		 * </pre>
+		 *
+		 */
+		public			FrameBuilder()
+		{
+			super(256);
+			this.count = 4;
+		}
+
+		/**
+		 * restart the frame from an empty payload.
+		 * 
+		 * <p><strong>Contract</strong></p>
+		 * 
+		 * <pre>
+		 * pre	{@code true}	// no precondition.
+		 * post	{@code size() == 4}
+		 * </pre>
+		 *
+		 */
+		@Override
+		public synchronized void	reset()
+		{
+			this.count = 4;
+		}
+
+		/**
+		 * return a byte buffer ready to be written on a channel holding the
+		 * frame, its length included; the buffer shares the content of this
+		 * builder.
+		 * 
+		 * <p><strong>Contract</strong></p>
+		 * 
+		 * <pre>
+		 * pre	{@code true}	// no precondition.
+		 * post	{@code return.remaining() == size()}
+		 * </pre>
+		 *
+		 * @return	a byte buffer holding the frame.
+		 */
+		public ByteBuffer	toByteBuffer()
+		{
+			ByteBuffer ret = ByteBuffer.wrap(this.buf, 0, this.count);
+			ret.putInt(0, this.count - 4);
+			return ret;
+		}
+	}
+
+	/**
+	 * return a data output stream on a new frame builder where the header
+	 * of the payload has been written.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code fb != null}
+	 * post	{@code return != null}
+	 * </pre>
+	 *
+	 * @param fb			frame builder to be written.
+	 * @param kind			kind of the frame.
+	 * @param callId		identifier of the call.
+	 * @return				a data output stream on {@code fb}.
+	 * @throws IOException	<i>to do</i>.
+	 */
+	public static DataOutputStream	startFrame(
+		FrameBuilder fb,
+		byte kind,
+		long callId
+		) throws IOException
+	{
+		DataOutputStream out = new DataOutputStream(fb);
+		out.writeByte(kind);
+		out.writeLong(callId);
+		return out;
+	}
+
+	/**
+	 * return a data input stream on the payload {@code payload} positioned
+	 * after its header.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code payload != null && payload.length >= HEADER_SIZE}
+	 * post	{@code return != null}
+	 * </pre>
+	 *
+	 * @param payload	payload of a frame.
+	 * @return			a data input stream on the body of the payload.
+	 */
+	public static DataInputStream	openPayload(byte[] payload)
+	{
+		return new DataInputStream(
+						new ByteArrayInputStream(
+								payload, HEADER_SIZE,
+								payload.length - HEADER_SIZE));
+	}
+
+	/**
+	 * return the kind of the frame which payload is {@code payload}.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code payload != null && payload.length >= HEADER_SIZE}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param payload	payload of a frame.
+	 * @return			the kind of the frame.
+	 */
+	public static byte		getKind(byte[] payload)
+	{
+		return payload[0];
+	}
+
+	/**
+	 * return the call identifier of the frame which payload is
+	 * {@code payload}.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code payload != null && payload.length >= HEADER_SIZE}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param payload	payload of a frame.
+	 * @return			the call identifier of the frame.
+	 */
+	public static long		getCallId(byte[] payload)
+	{
+		return ByteBuffer.wrap(payload, 1, 8).getLong();
+	}
+
+	/**
+	 * return the signature of {@code m} as sent in requests, <i>i.e.</i>, its
+	 * name followed by the names of its parameter types between parentheses.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code m != null}
+	 * post	{@code return != null}
+	 * </pre>
+	 *
+	 * @param m	a method.
+	 * @return	the signature of {@code m}.
+	 */
+	public static String	signature(Method m)
+	{
+		StringBuilder sb = new StringBuilder(m.getName()).append('(');
+		Class<?>[] pts = m.getParameterTypes();
+		for (int i = 0 ; i < pts.length ; i++) {
+			if (i > 0) {
+				sb.append(',');
+			}
+			sb.append(pts[i].getName());
+		}
+		return sb.append(')').toString();
+	}
+
+	/**
+	 * return the signature of {@code m} as sent in requests, computed once
+	 * per method.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code m != null}
+	 * post	{@code return != null}
+	 * </pre>
+	 *
+	 * @param m	a method.
+	 * @return	the signature of {@code m}.
+	 */
+	public static String	getSignature(Method m)
+	{
+		return SIGNATURES.computeIfAbsent(m, MessageCodec::signature);
+	}
+
+	/**
+	 * return the method which signature is {@code signature} among the
+	 * methods of the interfaces implemented by the class {@code c} and its
+	 * superclasses, <i>i.e.</i>, the interfaces offered to the other JVM
+	 * when describing a port; the methods of a class are looked up once.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code c != null && signature != null}
+	 * post	{@code return != null}
+	 * </pre>
+	 *
+	 * @param c					class of the called port.
+	 * @param signature			signature of the called method.
+	 * @return					the method to be called.
+	 * @throws RemoteException	if no such method exists.
+	 */
+	public static Method	findMethod(Class<?> c, String signature)
+	throws RemoteException
+	{
+		Method m = METHODS.computeIfAbsent(c, MessageCodec::interfaceMethods).
+															get(signature);
+		if (m == null) {
+			throw new RemoteException(
+							"unknown method " + signature + " on " + c);
+		}
+		return m;
+	}
+
+	/**
+	 * return the methods of the interfaces implemented by the class
+	 * {@code c} and its superclasses, by signature.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code c != null}
+	 * post	{@code return != null}
+	 * </pre>
+	 *
+	 * @param c	class of a port.
+	 * @return	the methods of the interfaces of {@code c}, by signature.
+	 */
+	protected static Map<String,Method>	interfaceMethods(Class<?> c)
+	{
+		HashMap<String,Method> ret = new HashMap<String,Method>();
+		for (Class<?> i : interfaces(c)) {
+			for (Method m : i.getMethods()) {
+				ret.putIfAbsent(signature(m), m);
+			}
+		}
+		return ret;
+	}
+
+	/**
+	 * return the interfaces implemented by the class {@code c} and its
+	 * superclasses, in the order of the class hierarchy from {@code c} up.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code c != null}
+	 * post	{@code return != null}
+	 * </pre>
+	 *
+	 * @param c	class of a port.
+	 * @return	the interfaces implemented by {@code c}.
+	 */
+	protected static LinkedHashSet<Class<?>>	interfaces(Class<?> c)
+	{
+		LinkedHashSet<Class<?>> ret = new LinkedHashSet<Class<?>>();
+		for ( ; c != null ; c = c.getSuperclass()) {
+			for (Class<?> i : c.getInterfaces()) {
+				ret.add(i);
+			}
+		}
+		return ret;
+	}
+
+	/**
+	 * return the names of the interfaces implemented by the class {@code c}
+	 * and its superclasses, as sent to describe a port.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code c != null}
+	 * post	{@code return != null}
+	 * </pre>
+	 *
+	 * @param c	class of a port.
+	 * @return	the names of the interfaces implemented by {@code c}.
+	 */
+	public static String[]	interfaceNames(Class<?> c)
+	{
+		LinkedHashSet<String> names = new LinkedHashSet<String>();
+		for (Class<?> i : interfaces(c)) {
+			names.add(i.getName());
+		}
+		return names.toArray(new String[0]);
+	}
+
+	/**
+	 * return a proxy implementing the interfaces which names are
+	 * {@code interfaceNames} and <code>Remote</code>, which calls are
+	 * forwarded to {@code h}.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code interfaceNames != null && h != null}
+	 * post	{@code return != null}
+	 * </pre>
+	 *
+	 * @param interfaceNames			names of the interfaces of the remote port.
+	 * @param h							handler of the calls of the proxy.
+	 * @return							a proxy of the remote port.
+	 * @throws ClassNotFoundException	if an interface is unknown in this JVM.
+	 */
+	public static Remote	newPortProxy(
+		String[] interfaceNames,
+		InvocationHandler h
+		) throws ClassNotFoundException
+	{
+		ClassLoader loader = Thread.currentThread().getContextClassLoader();
+		if (loader == null) {
+			loader = MessageCodec.class.getClassLoader();
+		}
+		LinkedHashSet<Class<?>> interfaces = new LinkedHashSet<Class<?>>();
+		for (String name : interfaceNames) {
+			interfaces.add(Class.forName(name, false, loader));
+		}
+		interfaces.add(Remote.class);
+		return (Remote) Proxy.newProxyInstance(
+							loader, interfaces.toArray(new Class<?>[0]), h);
+	}
+}
+// -----------------------------------------------------------------------------
@@ -0,0 +1,159 @@
+package fr.sorbonne_u.components.cvm.transport;
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a
+// basic component programming model to program with components
+// distributed applications in the Java programming language.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.rmi.NoSuchObjectException;
+import fr.sorbonne_u.components.cvm.AbstractCVM;
+import fr.sorbonne_u.components.ports.PortI;
+import fr.sorbonne_u.exceptions.PreconditionException;
+
+// -----------------------------------------------------------------------------
+/**
+ * The class <code>RemoteDispatcher</code> implements the remote object
+ * through which a JVM offers all of its ports when it uses a single RMI
+ * dispatcher rather than one exported object per port.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p>
+ * The dispatcher is exported and bound in the RMI registry once per JVM, so
+ * that the cost of the RMI registry, export tables and distributed garbage
+ * collection leases no longer grows with the number of ports.  The calls
+ * are demultiplexed by finding the targeted port in the local registry of
+ * the CVM and its method by signature among the methods of its interfaces
+ * (see {@code MessageCodec#findMethod}).  The ports passed as arguments or results of calls remain
+ * marshalled as RMI stubs.
+ * </p>
+ * 
+ * <p><strong>Invariant</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code true}	// no more invariant
+ * </pre>
+ * 
+ * <p>Created on : 2026-10-16</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+public class			RemoteDispatcher
+implements	RemoteDispatcherI
+{
+	// -------------------------------------------------------------------------
+	// Constructors
+	// -------------------------------------------------------------------------
+
+	/**
+	 * create a dispatcher, which must then be exported.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 */
+	public				RemoteDispatcher()
+	{
+		super();
+	}
+
+	// -------------------------------------------------------------------------
+	// Methods
+	// -------------------------------------------------------------------------
+
+	/**
+	 * return the port {@code portURI} published in this JVM.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code portURI != null && !portURI.isEmpty()}
+	 * post	{@code return != null}
+	 * </pre>
+	 *
+	 * @param portURI					URI of the port.
+	 * @return							the port {@code portURI}.
+	 * @throws Exception				a {@code NoSuchObjectException} if the port is not published in this JVM.
+	 */
+	protected PortI		getPort(String portURI) throws Exception
+	{
+		assert	portURI != null && !portURI.isEmpty() :
+				new PreconditionException(
+								"portURI != null && !portURI.isEmpty()");
+
+		PortI port = AbstractCVM.getFromLocalRegistry(portURI);
+		if (port == null) {
+			throw new NoSuchObjectException(
+					"port " + portURI + " is not published in this JVM.");
+		}
+		return port;
+	}
+
+	/**
+	 * @see fr.sorbonne_u.components.cvm.transport.RemoteDispatcherI#describe(java.lang.String)
+	 */
+	@Override
+	public String[]		describe(String portURI) throws Exception
+	{
+		return MessageCodec.interfaceNames(this.getPort(portURI).getClass());
+	}
+
+	/**
+	 * @see fr.sorbonne_u.components.cvm.transport.RemoteDispatcherI#dispatch(java.lang.String, java.lang.String, java.lang.Object[])
+	 */
+	@Override
+	public Object		dispatch(String portURI, String signature, Object[] args)
+	throws Exception
+	{
+		assert	signature != null :
+				new PreconditionException("signature != null");
+
+		PortI port = this.getPort(portURI);
+		Method m = MessageCodec.findMethod(port.getClass(), signature);
+		try {
+			return m.invoke(port, args);
+		} catch (InvocationTargetException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof Exception) {
+				throw (Exception) cause;
+			} else {
+				throw (Error) cause;
+			}
+		}
+	}
+}
+// -----------------------------------------------------------------------------
@@ -0,0 +1,98 @@
+package fr.sorbonne_u.components.cvm.transport;
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a
+// basic component programming model to program with components
+// distributed applications in the Java programming language.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+import java.rmi.Remote;
+
+// -----------------------------------------------------------------------------
+/**
+ * The interface <code>RemoteDispatcherI</code> declares the services of the
+ * single remote object through which a JVM may offer all of its ports to
+ * the other JVM of a distributed component virtual machine.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p>
+ * Each call carries the URI of the targeted port, which the dispatcher finds
+ * in the local registry of the CVM, and the signature of the called method
+ * as computed by <code>MessageCodec.signature</code>.
+ * </p>
+ * 
+ * <p>Created on : 2026-10-16</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+public interface		RemoteDispatcherI
+extends		Remote
+{
+	/**
+	 * return the names of the interfaces implemented by the port
+	 * {@code portURI}.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code portURI != null && !portURI.isEmpty()}
+	 * post	{@code return != null}
+	 * </pre>
+	 *
+	 * @param portURI		URI of a port published in the JVM of the dispatcher.
+	 * @return				the names of the interfaces implemented by the port.
+	 * @throws Exception	if the port is not published in the JVM of the dispatcher.
+	 */
+	public String[]		describe(String portURI) throws Exception;
+
+	/**
+	 * call the method which signature is {@code signature} with the
+	 * arguments {@code args} on the port {@code portURI} and return its
+	 * result.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code portURI != null && !portURI.isEmpty()}
+	 * pre	{@code signature != null}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param portURI		URI of a port published in the JVM of the dispatcher.
+	 * @param signature		signature of the called method.
+	 * @param args			arguments of the call, null if none.
+	 * @return				the result of the call.
+	 * @throws Exception	the exception thrown by the call.
+	 */
+	public Object		dispatch(String portURI, String signature, Object[] args)
+	throws Exception;
+}
+// -----------------------------------------------------------------------------
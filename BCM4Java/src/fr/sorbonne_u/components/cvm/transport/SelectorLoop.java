@@ -0,0 +1,263 @@
+package fr.sorbonne_u.components.cvm.transport;
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a
+// basic component programming model to program with components
+// distributed applications in the Java programming language.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+import java.io.IOException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+// -----------------------------------------------------------------------------
+/**
+ * The class <code>SelectorLoop</code> implements the threads of the socket
+ * transport, each of them multiplexing the reads and writes of a subset of
+ * the connections of the JVM with one NIO selector.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p>
+ * Registrations are queued by the other threads and performed by the loop
+ * itself, which avoids contending with the selection in progress.  The
+ * loop only moves bytes: complete request frames are handed over to the
+ * transport which executes them on its worker threads.
+ * </p>
+ * 
+ * <p><strong>Invariant</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code selector != null}
+ * </pre>
+ * 
+ * <p>Created on : 2026-10-16</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+public class			SelectorLoop
+extends		Thread
+{
+	// -------------------------------------------------------------------------
+	// Constants and variables
+	// -------------------------------------------------------------------------
+
+	/** transport owning this loop.											*/
+	protected final SocketTransport					transport;
+	/** selector multiplexing the channels of this loop.					*/
+	protected final Selector						selector;
+	/** registrations to be performed by the loop thread.					*/
+	protected final ConcurrentLinkedQueue<Runnable>	registrations;
+	/** true until the loop is shut down.									*/
+	protected volatile boolean						running;
+
+	// -------------------------------------------------------------------------
+	// Constructors
+	// -------------------------------------------------------------------------
+
+	/**
+	 * create a selector loop for {@code transport}.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code transport != null}
+	 * post	{@code !isAlive()}
+	 * </pre>
+	 *
+	 * @param transport		transport owning this loop.
+	 * @param name			name of the thread.
+	 * @throws IOException	if the selector can not be opened.
+	 */
+	public				SelectorLoop(SocketTransport transport, String name)
+	throws IOException
+	{
+		super(name);
+		this.transport = transport;
+		this.selector = Selector.open();
+		this.registrations = new ConcurrentLinkedQueue<Runnable>();
+		this.running = true;
+		this.setDaemon(true);
+	}
+
+	// -------------------------------------------------------------------------
+	// Methods
+	// -------------------------------------------------------------------------
+
+	/**
+	 * register the connection {@code c} for reading with this loop.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code c != null}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param c	connection to be registered.
+	 */
+	public void			register(SocketConnection c)
+	{
+		this.registrations.add(() -> {
+			try {
+				c.registered(this.selector);
+			} catch (IOException e) {
+				c.close(e);
+			}
+		});
+		this.selector.wakeup();
+	}
+
+	/**
+	 * register the server channel {@code ssc} for accepting connections
+	 * with this loop.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code ssc != null}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param ssc	server channel to be registered.
+	 */
+	public void			register(ServerSocketChannel ssc)
+	{
+		this.registrations.add(() -> {
+			try {
+				ssc.register(this.selector, SelectionKey.OP_ACCEPT, ssc);
+			} catch (IOException e) {
+				this.transport.logError(e);
+			}
+		});
+		this.selector.wakeup();
+	}
+
+	/**
+	 * wake up the loop so that it takes into account a change in the
+	 * interest set of one of its channels.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 */
+	public void			wakeup()
+	{
+		this.selector.wakeup();
+	}
+
+	/**
+	 * stop the loop and close its selector.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 */
+	public void			shutdown()
+	{
+		this.running = false;
+		this.selector.wakeup();
+	}
+
+	/**
+	 * @see java.lang.Thread#run()
+	 */
+	@Override
+	public void			run()
+	{
+		try {
+			while (this.running) {
+				this.selector.select();
+				Runnable r;
+				while ((r = this.registrations.poll()) != null) {
+					r.run();
+				}
+				Iterator<SelectionKey> iter =
+									this.selector.selectedKeys().iterator();
+				while (iter.hasNext()) {
+					SelectionKey key = iter.next();
+					iter.remove();
+					if (key.attachment() instanceof ServerSocketChannel) {
+						try {
+							if (key.isValid() && key.isAcceptable()) {
+								this.transport.accept(
+									(ServerSocketChannel)key.attachment());
+							}
+						} catch (RuntimeException e) {
+							this.transport.logError(e);
+						}
+					} else {
+						SocketConnection c =
+									(SocketConnection)key.attachment();
+						try {
+							if (key.isValid() && key.isReadable()) {
+								c.handleRead();
+							}
+							if (key.isValid() && key.isWritable()) {
+								c.handleWrite();
+							}
+						} catch (IOException | RuntimeException e) {
+							// including the rejection of the requests by
+							// the workers, only this connection is closed
+							c.close(e);
+						}
+					}
+				}
+			}
+		} catch (IOException e) {
+			this.transport.logError(e);
+		} finally {
+			for (SelectionKey key :
+							new ArrayList<SelectionKey>(this.selector.keys())) {
+				if (key.attachment() instanceof SocketConnection) {
+					((SocketConnection)key.attachment()).close(null);
+				}
+			}
+			try {
+				this.selector.close();
+			} catch (IOException e) {
+				this.transport.logError(e);
+			}
+		}
+	}
+}
+// -----------------------------------------------------------------------------
@@ -0,0 +1,377 @@
+package fr.sorbonne_u.components.cvm.transport;
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a
+// basic component programming model to program with components
+// distributed applications in the Java programming language.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.locks.LockSupport;
+import fr.sorbonne_u.exceptions.PreconditionException;
+
+// -----------------------------------------------------------------------------
+/**
+ * The class <code>SharedMemoryChannel</code> implements the exchange of the
+ * frames of a socket connection between two JVM of the same host through a
+ * memory-mapped file holding one <code>SharedMemoryRing</code> per direction.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p>
+ * The JVM opening the connection creates the file, maps it and passes its
+ * path to the other JVM over the socket, which maps it in turn; the first
+ * ring carries the frames sent by the creator and the second the frames sent
+ * to it.  Once attached to its connection, the channel takes the frames sent
+ * by the connection that fit in the ring, the larger ones still going
+ * through the socket, and a reader thread passes the frames found in the
+ * incoming ring to the connection as if they were read from the socket.
+ * Frames hence avoid the TCP stack and are copied once into the ring and once
+ * out of it.
+ * </p>
+ * <p>
+ * When the incoming ring is empty, the reader thread spins for
+ * <code>SPIN_TRIES</code> polls, only on multiprocessors where the other
+ * JVM may run meanwhile, then yields the processor for
+ * <code>YIELD_TRIES</code> polls and finally sleeps for increasing times
+ * bounded by <code>MAX_IDLE_PARK_NANOS</code>, trading the latency of the
+ * first frame after an idle period against the processor time spent
+ * polling.  The spinning calls {@code Thread.onSpinWait()}, obtained
+ * through reflection as it appeared in Java 9.
+ * </p>
+ * 
+ * <p><strong>Invariant</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code connection != null && out != null && in != null}
+ * </pre>
+ * 
+ * <p>Created on : 2026-10-16</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+public class			SharedMemoryChannel
+{
+	// -------------------------------------------------------------------------
+	// Constants and variables
+	// -------------------------------------------------------------------------
+
+	/** number of polls of an empty ring spinning before yielding.			*/
+	public static int				SPIN_TRIES =
+			Runtime.getRuntime().availableProcessors() > 1 ? 1000 : 0;
+	/** number of polls of an empty ring yielding before sleeping.			*/
+	public static int				YIELD_TRIES = 100;
+	/** maximum time the reader thread sleeps on an empty ring, in
+	 *  nanoseconds.														*/
+	public static long				MAX_IDLE_PARK_NANOS = 1000000;
+	/** the method {@code Thread.onSpinWait()} or null if the Java virtual
+	 *  machine does not provide it.										*/
+	protected static final MethodHandle	ON_SPIN_WAIT;
+
+	static {
+		MethodHandle onSpinWait = null;
+		try {
+			onSpinWait = MethodHandles.publicLookup().findStatic(
+									Thread.class, "onSpinWait",
+									MethodType.methodType(void.class));
+		} catch (ReflectiveOperationException e) {
+			onSpinWait = null;
+		}
+		ON_SPIN_WAIT = onSpinWait;
+	}
+
+	/** connection which frames are exchanged through the channel.			*/
+	protected final SocketConnection	connection;
+	/** path of the memory-mapped file.										*/
+	protected final Path				file;
+	/** ring carrying the frames sent by this JVM.							*/
+	protected final SharedMemoryRing	out;
+	/** ring carrying the frames sent to this JVM.							*/
+	protected final SharedMemoryRing	in;
+	/** thread reading the incoming ring.									*/
+	protected final Thread				reader;
+	/** true when the channel has been closed.								*/
+	protected volatile boolean			closed;
+
+	// -------------------------------------------------------------------------
+	// Constructors
+	// -------------------------------------------------------------------------
+
+	/**
+	 * create a channel for the connection {@code connection}, either
+	 * creating the file {@code file} with rings of {@code ringSize} bytes
+	 * when {@code ringSize} is positive or mapping the file created by the
+	 * other JVM otherwise.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code connection != null && file != null}
+	 * pre	{@code ringSize <= 0 || Integer.bitCount(ringSize) == 1}
+	 * post	{@code !isClosed()}
+	 * </pre>
+	 *
+	 * @param connection	connection which frames are exchanged.
+	 * @param file			path of the memory-mapped file.
+	 * @param ringSize		capacity of the rings when creating the file, 0 when mapping an existing one.
+	 * @throws IOException	if the file can not be created or mapped, or if the Java virtual machine does not provide the accesses needed by the rings.
+	 */
+	public				SharedMemoryChannel(
+		SocketConnection connection,
+		Path file,
+		int ringSize
+		) throws IOException
+	{
+		assert	connection != null && file != null :
+				new PreconditionException(
+								"connection != null && file != null");
+		assert	ringSize <= 0 || Integer.bitCount(ringSize) == 1 :
+				new PreconditionException(
+						"ringSize <= 0 || Integer.bitCount(ringSize) == 1");
+
+		if (!SharedMemoryRing.ACQUIRE_RELEASE_AVAILABLE) {
+			throw new IOException("shared memory rings need Java 9 or later");
+		}
+
+		this.connection = connection;
+		this.file = file;
+		boolean creator = ringSize > 0;
+		MappedByteBuffer mapped;
+		try (FileChannel fc = FileChannel.open(
+									file, StandardOpenOption.READ,
+									StandardOpenOption.WRITE)) {
+			long size = creator ?
+							2L * (SharedMemoryRing.HEADER_SIZE + ringSize)
+						:	fc.size();
+			// a new file is filled with zeroes, hence with empty rings
+			mapped = fc.map(FileChannel.MapMode.READ_WRITE, 0, size);
+		}
+		int half = mapped.capacity() / 2;
+		mapped.limit(half);
+		SharedMemoryRing first = new SharedMemoryRing(mapped.slice());
+		mapped.limit(2 * half);
+		mapped.position(half);
+		SharedMemoryRing second = new SharedMemoryRing(mapped.slice());
+		this.out = creator ? first : second;
+		this.in = creator ? second : first;
+		this.closed = false;
+		this.reader = new Thread(this::readLoop, "shared-memory-" + file);
+		this.reader.setDaemon(true);
+	}
+
+	// -------------------------------------------------------------------------
+	// Methods
+	// -------------------------------------------------------------------------
+
+	/**
+	 * return the directory where the memory-mapped files are created, the
+	 * memory file system of the host when it exists.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code return != null}
+	 * </pre>
+	 *
+	 * @return	the directory where the memory-mapped files are created.
+	 */
+	public static Path	getDirectory()
+	{
+		Path shm = Paths.get("/dev/shm");
+		if (Files.isDirectory(shm) && Files.isWritable(shm)) {
+			return shm;
+		} else {
+			return Paths.get(System.getProperty("java.io.tmpdir"));
+		}
+	}
+
+	/**
+	 * return true if the channel has been closed.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @return	true if the channel has been closed.
+	 */
+	public boolean		isClosed()
+	{
+		return this.closed;
+	}
+
+	/**
+	 * start the thread reading the incoming ring.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code !isClosed()}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 */
+	public void			start()
+	{
+		assert	!this.isClosed() : new PreconditionException("!isClosed()");
+
+		this.reader.start();
+	}
+
+	/**
+	 * send the frame {@code frame}, its length included, through the
+	 * outgoing ring and return true, or return false if the frame is too
+	 * large for the ring or the channel is closed, leaving the frame to the
+	 * socket.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code frame != null}
+	 * post	{@code !return || !frame.hasRemaining()}
+	 * </pre>
+	 *
+	 * @param frame	frame to be sent.
+	 * @return		true if the frame has been sent.
+	 */
+	public boolean		send(ByteBuffer frame)
+	{
+		if (this.closed || !this.out.accepts(frame.remaining())) {
+			return false;
+		}
+		synchronized (this.out) {
+			// the ring has a single producer
+			return this.out.offer(frame);
+		}
+	}
+
+	/**
+	 * pass the frames of the incoming ring to the connection until the
+	 * channel is closed.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 */
+	protected void		readLoop()
+	{
+		int idle = 0;
+		long parkNanos = 1000;
+		while (!this.closed) {
+			byte[] payload = this.in.poll();
+			if (payload != null) {
+				try {
+					this.connection.dispatch(payload);
+				} catch (RuntimeException e) {
+					// e.g., the rejection of the request by the workers
+					this.connection.close(e);
+				}
+				idle = 0;
+				parkNanos = 1000;
+			} else if (idle < SPIN_TRIES) {
+				idle++;
+				onSpinWait();
+			} else if (idle < SPIN_TRIES + YIELD_TRIES) {
+				idle++;
+				Thread.yield();
+			} else {
+				LockSupport.parkNanos(parkNanos);
+				parkNanos = Math.min(2 * parkNanos, MAX_IDLE_PARK_NANOS);
+			}
+		}
+	}
+
+	/**
+	 * hint the processor that the current thread is spinning when the Java
+	 * virtual machine provides {@code Thread.onSpinWait()}.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 */
+	protected static void	onSpinWait()
+	{
+		if (ON_SPIN_WAIT != null) {
+			try {
+				ON_SPIN_WAIT.invokeExact();
+			} catch (Throwable e) {
+				// a mere hint, never fails
+			}
+		}
+	}
+
+	/**
+	 * close the channel, stopping its reader thread and the producers
+	 * waiting for free space in the outgoing ring; the mapping itself is
+	 * released when the channel is garbage collected.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code isClosed()}
+	 * </pre>
+	 *
+	 */
+	public void			close()
+	{
+		this.closed = true;
+		this.out.close();
+		LockSupport.unpark(this.reader);
+		try {
+			Files.deleteIfExists(this.file);
+		} catch (IOException e) {
+			// still mapped on some platforms, deleted on exit at the latest
+			this.file.toFile().deleteOnExit();
+		}
+	}
+}
+// -----------------------------------------------------------------------------
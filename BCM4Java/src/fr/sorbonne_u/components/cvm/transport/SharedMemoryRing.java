@@ -0,0 +1,427 @@
+package fr.sorbonne_u.components.cvm.transport;
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a
+// basic component programming model to program with components
+// distributed applications in the Java programming language.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.concurrent.locks.LockSupport;
+import fr.sorbonne_u.components.exceptions.BCMRuntimeException;
+import fr.sorbonne_u.exceptions.PreconditionException;
+
+// -----------------------------------------------------------------------------
+/**
+ * The class <code>SharedMemoryRing</code> implements a single producer single
+ * consumer queue of frames in a region of a memory-mapped file shared by two
+ * JVM of the same host.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p>
+ * The region begins with a header holding the write position, updated only
+ * by the producer, and the read position, updated only by the consumer, on
+ * different cache lines; both positions increase forever and are taken
+ * modulo the capacity, a power of two, to index the data that follows the
+ * header.  A frame is written as its length followed by its payload, possibly
+ * wrapping around the end of the data, and is published by storing the new
+ * write position with release semantics, the consumer reading it with acquire
+ * semantics, which orders the accesses to the data between the two JVM.
+ * </p>
+ * <p>
+ * The acquire and release accesses use a {@code VarHandle} viewing the
+ * buffer as longs, which appeared in Java 9; as the code base also
+ * targets Java 8, the access methods are obtained through reflection as
+ * method handles, and <code>ACQUIRE_RELEASE_AVAILABLE</code> is false
+ * when the Java virtual machine does not provide them, in which case no
+ * ring may be created and the connections keep using their sockets.
+ * </p>
+ * <p>
+ * As the queue has a single producer, callers must serialise their calls to
+ * <code>offer</code>, and likewise for <code>poll</code>.
+ * </p>
+ * 
+ * <p><strong>Invariant</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code Integer.bitCount(capacity) == 1}
+ * invariant	{@code 0 <= writePosition() - readPosition() <= capacity}
+ * </pre>
+ * 
+ * <p>Created on : 2026-10-16</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+public class			SharedMemoryRing
+{
+	// -------------------------------------------------------------------------
+	// Constants and variables
+	// -------------------------------------------------------------------------
+
+	/** size of the header of a ring in the shared region.					*/
+	public static final int			HEADER_SIZE = 128;
+	/** offset of the write position in the header.							*/
+	protected static final int		WRITE_POSITION_OFFSET = 0;
+	/** offset of the read position in the header, on another cache line.	*/
+	protected static final int		READ_POSITION_OFFSET = 64;
+	/** maximum time a waiting producer sleeps before retrying, in
+	 *  nanoseconds.														*/
+	protected static final long		MAX_PARK_NANOS = 100000;
+	/** opaque read of a long of a buffer, {@code (ByteBuffer,int)long}, or
+	 *  null if the Java virtual machine does not provide it.				*/
+	protected static final MethodHandle	GET_OPAQUE;
+	/** acquire read of a long of a buffer, {@code (ByteBuffer,int)long},
+	 *  or null if the Java virtual machine does not provide it.			*/
+	protected static final MethodHandle	GET_ACQUIRE;
+	/** release write of a long of a buffer,
+	 *  {@code (ByteBuffer,int,long)void}, or null if the Java virtual
+	 *  machine does not provide it.										*/
+	protected static final MethodHandle	SET_RELEASE;
+	/** true if the Java virtual machine provides the acquire and release
+	 *  accesses to buffers, <i>i.e.</i>, runs Java 9 or later.			*/
+	public static final boolean			ACQUIRE_RELEASE_AVAILABLE;
+
+	static {
+		MethodHandle getOpaque = null;
+		MethodHandle getAcquire = null;
+		MethodHandle setRelease = null;
+		try {
+			Method view = MethodHandles.class.getMethod(
+									"byteBufferViewVarHandle",
+									Class.class, ByteOrder.class);
+			Object longs = view.invoke(null, long[].class,
+									   ByteOrder.nativeOrder());
+			Class<?> varHandle = Class.forName("java.lang.invoke.VarHandle");
+			Class<?> accessMode =
+					Class.forName("java.lang.invoke.VarHandle$AccessMode");
+			Method toMethodHandle =
+					varHandle.getMethod("toMethodHandle", accessMode);
+			Method valueOf = accessMode.getMethod("valueOf", String.class);
+			getOpaque = (MethodHandle) toMethodHandle.invoke(
+							longs, valueOf.invoke(null, "GET_OPAQUE"));
+			getAcquire = (MethodHandle) toMethodHandle.invoke(
+							longs, valueOf.invoke(null, "GET_ACQUIRE"));
+			setRelease = (MethodHandle) toMethodHandle.invoke(
+							longs, valueOf.invoke(null, "SET_RELEASE"));
+		} catch (ReflectiveOperationException e) {
+			getOpaque = null;
+			getAcquire = null;
+			setRelease = null;
+		}
+		GET_OPAQUE = getOpaque;
+		GET_ACQUIRE = getAcquire;
+		SET_RELEASE = setRelease;
+		ACQUIRE_RELEASE_AVAILABLE = setRelease != null;
+	}
+
+	/** buffer holding the header and the data of the ring.					*/
+	protected final ByteBuffer		buffer;
+	/** view of {@code buffer} which position is moved by the producer.	*/
+	protected final ByteBuffer		producerView;
+	/** view of {@code buffer} which position is moved by the consumer.	*/
+	protected final ByteBuffer		consumerView;
+	/** capacity of the data of the ring, in bytes.							*/
+	protected final int				capacity;
+	/** mask giving the index of a position in the data.					*/
+	protected final int				mask;
+	/** true when the ring has been closed.									*/
+	protected volatile boolean		closed;
+
+	// -------------------------------------------------------------------------
+	// Constructors
+	// -------------------------------------------------------------------------
+
+	/**
+	 * create a ring on the direct buffer {@code buffer}, which holds the
+	 * header followed by the data.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code ACQUIRE_RELEASE_AVAILABLE}
+	 * pre	{@code buffer != null && buffer.isDirect()}
+	 * pre	{@code Integer.bitCount(buffer.capacity() - HEADER_SIZE) == 1}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param buffer	direct buffer holding the ring.
+	 */
+	public				SharedMemoryRing(ByteBuffer buffer)
+	{
+		assert	ACQUIRE_RELEASE_AVAILABLE :
+				new PreconditionException("ACQUIRE_RELEASE_AVAILABLE");
+		assert	buffer != null && buffer.isDirect() :
+				new PreconditionException(
+								"buffer != null && buffer.isDirect()");
+		assert	Integer.bitCount(buffer.capacity() - HEADER_SIZE) == 1 :
+				new PreconditionException(
+						"Integer.bitCount(buffer.capacity() - HEADER_SIZE)"
+						+ " == 1");
+
+		this.buffer = buffer;
+		this.producerView = buffer.duplicate();
+		this.consumerView = buffer.duplicate();
+		this.capacity = buffer.capacity() - HEADER_SIZE;
+		this.mask = this.capacity - 1;
+		this.closed = false;
+	}
+
+	// -------------------------------------------------------------------------
+	// Methods
+	// -------------------------------------------------------------------------
+
+	/**
+	 * return the capacity of the data of the ring, in bytes.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code return > 0}
+	 * </pre>
+	 *
+	 * @return	the capacity of the data of the ring, in bytes.
+	 */
+	public int			getCapacity()
+	{
+		return this.capacity;
+	}
+
+	/**
+	 * return true if a frame of {@code size} bytes, its length included, may
+	 * be put in the ring, <i>i.e.</i>, is not larger than a quarter of its
+	 * capacity, the larger frames being left to the socket.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code size > 0}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param size	size of the frame, its length included.
+	 * @return		true if the frame may be put in the ring.
+	 */
+	public boolean		accepts(int size)
+	{
+		return size <= this.capacity / 4;
+	}
+
+	/**
+	 * put the frame {@code frame}, its length included, in the ring, waiting
+	 * for free space if necessary, or return false if the ring does not
+	 * accept frames of this size or is closed while waiting.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code frame != null && frame.remaining() > 4}
+	 * post	{@code !return || !frame.hasRemaining()}
+	 * </pre>
+	 *
+	 * @param frame		frame to be put in the ring.
+	 * @return			true if the frame has been put in the ring.
+	 */
+	public boolean		offer(ByteBuffer frame)
+	{
+		int size = frame.remaining();
+		if (!this.accepts(size)) {
+			return false;
+		}
+		long write = this.getOpaque(WRITE_POSITION_OFFSET);
+		long parkNanos = 1000;
+		while (write + size - this.getAcquire(READ_POSITION_OFFSET)
+															> this.capacity) {
+			if (this.closed) {
+				return false;
+			}
+			LockSupport.parkNanos(parkNanos);
+			parkNanos = Math.min(2 * parkNanos, MAX_PARK_NANOS);
+		}
+		int index = (int)(write & this.mask);
+		int first = Math.min(size, this.capacity - index);
+		int limit = frame.limit();
+		frame.limit(frame.position() + first);
+		this.producerView.position(HEADER_SIZE + index);
+		this.producerView.put(frame);
+		frame.limit(limit);
+		if (first < size) {
+			this.producerView.position(HEADER_SIZE);
+			this.producerView.put(frame);
+		}
+		this.setRelease(WRITE_POSITION_OFFSET, write + size);
+		return true;
+	}
+
+	/**
+	 * return the payload of the next frame of the ring or null if the ring
+	 * is empty.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @return	the payload of the next frame or null if the ring is empty.
+	 */
+	public byte[]		poll()
+	{
+		long read = this.getOpaque(READ_POSITION_OFFSET);
+		long write = this.getAcquire(WRITE_POSITION_OFFSET);
+		if (read == write) {
+			return null;
+		}
+		byte[] length = new byte[4];
+		this.get(read, length);
+		byte[] payload = new byte[ByteBuffer.wrap(length).getInt()];
+		this.get(read + 4, payload);
+		this.setRelease(READ_POSITION_OFFSET, read + 4 + payload.length);
+		return payload;
+	}
+
+	/**
+	 * close the ring, making the producer waiting for free space give up.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 */
+	public void			close()
+	{
+		this.closed = true;
+	}
+
+	/**
+	 * copy the bytes of the data from the position {@code position} into
+	 * {@code dst}, wrapping around the end of the data if necessary.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code dst != null}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param position	position of the first byte.
+	 * @param dst		array receiving the bytes.
+	 */
+	protected void		get(long position, byte[] dst)
+	{
+		int index = (int)(position & this.mask);
+		int first = Math.min(dst.length, this.capacity - index);
+		this.consumerView.position(HEADER_SIZE + index);
+		this.consumerView.get(dst, 0, first);
+		if (first < dst.length) {
+			this.consumerView.position(HEADER_SIZE);
+			this.consumerView.get(dst, first, dst.length - first);
+		}
+	}
+
+	/**
+	 * return the long at {@code offset} in the header read with opaque
+	 * semantics, the position being written by the current thread.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code offset == WRITE_POSITION_OFFSET || offset == READ_POSITION_OFFSET}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param offset	offset of the position in the header.
+	 * @return			the value of the position.
+	 */
+	protected long		getOpaque(int offset)
+	{
+		try {
+			return (long) GET_OPAQUE.invokeExact(this.buffer, offset);
+		} catch (Throwable e) {
+			throw new BCMRuntimeException(e);
+		}
+	}
+
+	/**
+	 * return the long at {@code offset} in the header read with acquire
+	 * semantics, the position being written by the other JVM.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code offset == WRITE_POSITION_OFFSET || offset == READ_POSITION_OFFSET}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param offset	offset of the position in the header.
+	 * @return			the value of the position.
+	 */
+	protected long		getAcquire(int offset)
+	{
+		try {
+			return (long) GET_ACQUIRE.invokeExact(this.buffer, offset);
+		} catch (Throwable e) {
+			throw new BCMRuntimeException(e);
+		}
+	}
+
+	/**
+	 * write {@code value} at {@code offset} in the header with release
+	 * semantics, publishing the accesses to the data that precede it.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code offset == WRITE_POSITION_OFFSET || offset == READ_POSITION_OFFSET}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param offset	offset of the position in the header.
+	 * @param value		new value of the position.
+	 */
+	protected void		setRelease(int offset, long value)
+	{
+		try {
+			SET_RELEASE.invokeExact(this.buffer, offset, value);
+		} catch (Throwable e) {
+			throw new BCMRuntimeException(e);
+		}
+	}
+}
+// -----------------------------------------------------------------------------
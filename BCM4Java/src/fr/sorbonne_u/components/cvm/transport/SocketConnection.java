@@ -0,0 +1,440 @@
+package fr.sorbonne_u.components.cvm.transport;
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a
+// basic component programming model to program with components
+// distributed applications in the Java programming language.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.rmi.ConnectIOException;
+import java.util.ArrayDeque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import fr.sorbonne_u.exceptions.PreconditionException;
+
+// -----------------------------------------------------------------------------
+/**
+ * The class <code>SocketConnection</code> implements one connection of the
+ * socket transport, used in both directions: the calls issued by this JVM
+ * are sent as request frames and their responses are matched by call
+ * identifier with the calls waiting for them, while the request frames
+ * received from the other JVM are passed to the transport.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p>
+ * Frames are written directly by the sending thread when no other frame is
+ * waiting, and queued otherwise, the selector loop then writing them as
+ * soon as the channel is writable.  Reads are performed only by the
+ * selector loop, which splits the incoming bytes into frames.
+ * </p>
+ * <p>
+ * When the two JVM run on the same host, a <code>SharedMemoryChannel</code>
+ * may be attached to the connection, after which the frames it accepts are
+ * sent through it rather than through the socket.
+ * </p>
+ * 
+ * <p><strong>Invariant</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code channel != null && loop != null}
+ * </pre>
+ * 
+ * <p>Created on : 2026-10-16</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+public class			SocketConnection
+{
+	// -------------------------------------------------------------------------
+	// Constants and variables
+	// -------------------------------------------------------------------------
+
+	/** initial size of the read buffer, grown to the largest frame.		*/
+	public static int			READ_BUFFER_SIZE = 64 * 1024;
+
+	/** transport owning this connection.									*/
+	protected final SocketTransport		transport;
+	/** channel of this connection.											*/
+	protected final SocketChannel		channel;
+	/** selector loop reading and writing this connection.					*/
+	protected final SelectorLoop		loop;
+	/** selection key of the channel, null until registered; guarded by
+	 *  this.																*/
+	protected SelectionKey				key;
+	/** frames waiting to be written; guarded by this.						*/
+	protected final ArrayDeque<ByteBuffer>	writeQueue;
+	/** buffer accumulating the bytes read, used by the loop thread only.	*/
+	protected ByteBuffer				readBuffer;
+	/** calls sent on this connection and waiting for their response.		*/
+	protected final ConcurrentHashMap<Long,CompletableFuture<byte[]>>
+										pendingCalls;
+	/** true when the connection has been closed.							*/
+	protected volatile boolean			closed;
+	/** channel through which frames are sent when the two JVM run on the
+	 *  same host, null if none.											*/
+	protected volatile SharedMemoryChannel	sharedMemory;
+
+	// -------------------------------------------------------------------------
+	// Constructors
+	// -------------------------------------------------------------------------
+
+	/**
+	 * create a connection on the connected channel {@code channel}, to be
+	 * served by {@code loop}.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code transport != null && channel != null && loop != null}
+	 * post	{@code !isClosed()}
+	 * </pre>
+	 *
+	 * @param transport		transport owning this connection.
+	 * @param channel		connected channel.
+	 * @param loop			selector loop serving the connection.
+	 * @throws IOException	if the channel can not be configured.
+	 */
+	public				SocketConnection(
+		SocketTransport transport,
+		SocketChannel channel,
+		SelectorLoop loop
+		) throws IOException
+	{
+		assert	transport != null && channel != null && loop != null :
+				new PreconditionException(
+						"transport != null && channel != null && loop != null");
+
+		this.transport = transport;
+		this.channel = channel;
+		this.loop = loop;
+		this.writeQueue = new ArrayDeque<ByteBuffer>();
+		this.readBuffer = ByteBuffer.allocate(READ_BUFFER_SIZE);
+		this.pendingCalls =
+					new ConcurrentHashMap<Long,CompletableFuture<byte[]>>();
+		this.closed = false;
+		channel.configureBlocking(false);
+	}
+
+	// -------------------------------------------------------------------------
+	// Methods
+	// -------------------------------------------------------------------------
+
+	/**
+	 * return true if the connection has been closed.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @return	true if the connection has been closed.
+	 */
+	public boolean		isClosed()
+	{
+		return this.closed;
+	}
+
+	/**
+	 * send the request frame {@code frame} which call identifier is
+	 * {@code callId} and return a future completed with the payload of its
+	 * response.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code frame != null}
+	 * post	{@code return != null}
+	 * </pre>
+	 *
+	 * @param callId		identifier of the call.
+	 * @param frame			request frame.
+	 * @return				a future completed with the payload of the response.
+	 * @throws IOException	if the connection is closed or broken.
+	 */
+	public CompletableFuture<byte[]>	call(long callId, ByteBuffer frame)
+	throws IOException
+	{
+		CompletableFuture<byte[]> f = new CompletableFuture<byte[]>();
+		this.pendingCalls.put(callId, f);
+		try {
+			this.send(frame);
+		} catch (IOException e) {
+			this.pendingCalls.remove(callId);
+			throw e;
+		}
+		if (this.closed && this.pendingCalls.remove(callId) != null) {
+			// closed between the put and the send, so not failed by close
+			f.completeExceptionally(
+						new ConnectIOException("connection closed"));
+		}
+		return f;
+	}
+
+	/**
+	 * attach the shared memory channel {@code shm} to this connection, the
+	 * frames it accepts being sent through it from now on.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code shm != null}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param shm	shared memory channel to be attached.
+	 */
+	public void			attach(SharedMemoryChannel shm)
+	{
+		assert	shm != null : new PreconditionException("shm != null");
+
+		synchronized (this) {
+			if (!this.closed) {
+				this.sharedMemory = shm;
+				return;
+			}
+		}
+		shm.close();
+	}
+
+	/**
+	 * send the frame {@code frame}, through the shared memory channel when
+	 * one is attached and accepts it, and through the socket otherwise.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code frame != null}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param frame			frame to be sent.
+	 * @throws IOException	if the connection is closed or broken.
+	 */
+	public void			send(ByteBuffer frame) throws IOException
+	{
+		SharedMemoryChannel shm = this.sharedMemory;
+		if (shm != null && shm.send(frame)) {
+			return;
+		}
+		synchronized (this) {
+			if (this.closed) {
+				throw new ConnectIOException("connection closed");
+			}
+			if (this.writeQueue.isEmpty()) {
+				this.channel.write(frame);
+				if (!frame.hasRemaining()) {
+					return;
+				}
+			}
+			this.writeQueue.add(frame);
+			if (this.key != null && this.key.isValid()) {
+				this.key.interestOps(
+							SelectionKey.OP_READ | SelectionKey.OP_WRITE);
+			}
+		}
+		this.loop.wakeup();
+	}
+
+	/**
+	 * register the channel with {@code selector}; called by the selector
+	 * loop thread.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code selector != null}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param selector		selector of the loop.
+	 * @throws IOException	if the channel is closed.
+	 */
+	protected synchronized void	registered(Selector selector)
+	throws IOException
+	{
+		int ops = SelectionKey.OP_READ;
+		if (!this.writeQueue.isEmpty()) {
+			ops |= SelectionKey.OP_WRITE;
+		}
+		this.key = this.channel.register(selector, ops, this);
+	}
+
+	/**
+	 * write the queued frames as far as the channel accepts them; called by
+	 * the selector loop thread when the channel is writable.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @throws IOException	if the connection is broken.
+	 */
+	protected synchronized void	handleWrite() throws IOException
+	{
+		ByteBuffer frame;
+		while ((frame = this.writeQueue.peek()) != null) {
+			this.channel.write(frame);
+			if (frame.hasRemaining()) {
+				return;
+			}
+			this.writeQueue.poll();
+		}
+		this.key.interestOps(SelectionKey.OP_READ);
+	}
+
+	/**
+	 * read the available bytes and dispatch the complete frames; called by
+	 * the selector loop thread when the channel is readable.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @throws IOException	if the connection is broken or a frame has a length smaller than the header or larger than {@code SocketTransport.MAX_FRAME_SIZE}.
+	 */
+	protected void		handleRead() throws IOException
+	{
+		int n = this.channel.read(this.readBuffer);
+		if (n < 0) {
+			this.close(null);
+			return;
+		}
+		this.readBuffer.flip();
+		while (this.readBuffer.remaining() >= 4) {
+			int length = this.readBuffer.getInt(this.readBuffer.position());
+			if (length < MessageCodec.HEADER_SIZE ||
+									length > SocketTransport.MAX_FRAME_SIZE) {
+				// the stream can no longer be resynchronised
+				throw new IOException("invalid frame length " + length);
+			}
+			if (this.readBuffer.remaining() < length + 4) {
+				if (this.readBuffer.capacity() < length + 4) {
+					// grow the buffer to hold the whole frame
+					ByteBuffer b = ByteBuffer.allocate(length + 4);
+					b.put(this.readBuffer);
+					b.flip();
+					this.readBuffer = b;
+				}
+				break;
+			}
+			this.readBuffer.getInt();
+			byte[] payload = new byte[length];
+			this.readBuffer.get(payload);
+			this.dispatch(payload);
+		}
+		this.readBuffer.compact();
+	}
+
+	/**
+	 * dispatch the payload of a received frame, completing the waiting call
+	 * for a response and passing it to the transport for a request.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code payload != null}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param payload	payload of the frame.
+	 */
+	protected void		dispatch(byte[] payload)
+	{
+		byte kind = MessageCodec.getKind(payload);
+		if (kind == MessageCodec.RESPONSE || kind == MessageCodec.EXCEPTION) {
+			CompletableFuture<byte[]> f =
+				this.pendingCalls.remove(MessageCodec.getCallId(payload));
+			if (f != null) {
+				f.complete(payload);
+			}
+		} else {
+			this.transport.handleRequest(this, payload);
+		}
+	}
+
+	/**
+	 * close the connection, failing the calls waiting for a response.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code isClosed()}
+	 * </pre>
+	 *
+	 * @param cause	exception that caused the closing or null if none.
+	 */
+	public void			close(Throwable cause)
+	{
+		synchronized (this) {
+			if (this.closed) {
+				return;
+			}
+			this.closed = true;
+			this.writeQueue.clear();
+			if (this.key != null) {
+				this.key.cancel();
+			}
+		}
+		try {
+			this.channel.close();
+		} catch (IOException e) {
+			// already closing, nothing more to do
+		}
+		if (this.sharedMemory != null) {
+			this.sharedMemory.close();
+		}
+		ConnectIOException e =
+				new ConnectIOException("connection closed", (Exception)
+									(cause instanceof Exception ? cause : null));
+		for (Long id : this.pendingCalls.keySet()) {
+			CompletableFuture<byte[]> f = this.pendingCalls.remove(id);
+			if (f != null) {
+				f.completeExceptionally(e);
+			}
+		}
+		this.transport.connectionClosed(this);
+	}
+}
+// -----------------------------------------------------------------------------
@@ -0,0 +1,146 @@
+package fr.sorbonne_u.components.cvm.transport;
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a
+// basic component programming model to program with components
+// distributed applications in the Java programming language.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import fr.sorbonne_u.exceptions.PreconditionException;
+
+// -----------------------------------------------------------------------------
+/**
+ * The class <code>SocketPortProxy</code> implements the invocation handler of
+ * the proxies standing for the ports of other JVM reached through the socket
+ * transport, in the way RMI stubs do for ports published on the RMI registry.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p>
+ * The proxies implement the interfaces of the remote port and forward all
+ * of their calls to it, except the methods of <code>Object</code> which are
+ * implemented locally on the identity of the proxy.
+ * </p>
+ * 
+ * <p><strong>Invariant</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code transport != null && connection != null}
+ * invariant	{@code portURI != null && !portURI.isEmpty()}
+ * </pre>
+ * 
+ * <p>Created on : 2026-10-16</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+public class			SocketPortProxy
+implements	InvocationHandler
+{
+	// -------------------------------------------------------------------------
+	// Constants and variables
+	// -------------------------------------------------------------------------
+
+	/** transport used to perform the calls.								*/
+	protected final SocketTransport	transport;
+	/** host and port number of the socket server of the remote JVM.		*/
+	protected final String			address;
+	/** URI of the remote port.												*/
+	protected final String			portURI;
+
+	// -------------------------------------------------------------------------
+	// Constructors
+	// -------------------------------------------------------------------------
+
+	/**
+	 * create an invocation handler forwarding the calls to the port
+	 * {@code portURI} published by the socket server at {@code address}.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code transport != null && address != null}
+	 * pre	{@code portURI != null && !portURI.isEmpty()}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param transport	transport used to perform the calls.
+	 * @param address	host and port number of the remote socket server.
+	 * @param portURI	URI of the remote port.
+	 */
+	public				SocketPortProxy(
+		SocketTransport transport,
+		String address,
+		String portURI
+		)
+	{
+		assert	transport != null && address != null :
+				new PreconditionException(
+								"transport != null && address != null");
+		assert	portURI != null && !portURI.isEmpty() :
+				new PreconditionException(
+								"portURI != null && !portURI.isEmpty()");
+
+		this.transport = transport;
+		this.address = address;
+		this.portURI = portURI;
+	}
+
+	// -------------------------------------------------------------------------
+	// Methods
+	// -------------------------------------------------------------------------
+
+	/**
+	 * @see java.lang.reflect.InvocationHandler#invoke(java.lang.Object, java.lang.reflect.Method, java.lang.Object[])
+	 */
+	@Override
+	public Object		invoke(Object proxy, Method method, Object[] args)
+	throws Throwable
+	{
+		if (method.getDeclaringClass() == Object.class) {
+			switch (method.getName()) {
+			case "equals":
+				return proxy == args[0];
+			case "hashCode":
+				return System.identityHashCode(proxy);
+			case "toString":
+				return "SocketPortProxy[" + this.portURI + "@" +
+														this.address + "]";
+			default:
+				return method.invoke(this, args);
+			}
+		}
+		return this.transport.invoke(
+						this.transport.getConnection(this.address),
+						this.portURI, method, args);
+	}
+}
+// -----------------------------------------------------------------------------
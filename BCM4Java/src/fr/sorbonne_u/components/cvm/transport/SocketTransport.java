@@ -0,0 +1,815 @@
+package fr.sorbonne_u.components.cvm.transport;
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a
+// basic component programming model to program with components
+// distributed applications in the Java programming language.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.rmi.ConnectException;
+import java.rmi.NoSuchObjectException;
+import java.rmi.Remote;
+import java.rmi.RemoteException;
+import java.rmi.UnmarshalException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import fr.sorbonne_u.components.codecs.Codecs;
+import fr.sorbonne_u.components.cvm.AbstractCVM;
+import fr.sorbonne_u.components.ports.PortI;
+import fr.sorbonne_u.components.registry.ConnectionData;
+import fr.sorbonne_u.components.registry.ConnectionType;
+import fr.sorbonne_u.exceptions.PreconditionException;
+
+// -----------------------------------------------------------------------------
+/**
+ * The class <code>SocketTransport</code> implements the socket transport of
+ * a JVM, an alternative to RMI for the calls among ports of different JVM
+ * of a distributed component virtual machine.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p>
+ * The transport uses one non-blocking NIO connection per pair of JVM, on
+ * which the calls of all of the ports are multiplexed.  Each call is sent as
+ * a length-prefixed request frame carrying a call identifier and the caller
+ * waits for the response frame with the same identifier, so that many calls
+ * are in flight at the same time on one connection (see
+ * <code>MessageCodec</code> for the frames).  A small pool of selector
+ * threads (<code>SELECTOR_THREADS</code>) performs the reads and writes of
+ * all of the connections of the JVM, while the requests received are
+ * executed by worker threads, calling the targeted port found in the local
+ * registry of the CVM.
+ * </p>
+ * <p>
+ * A JVM offering its ports through the socket transport starts its server
+ * with <code>startServer</code> and publishes its ports in the global
+ * registry with a connection data of type <code>ConnectionType.SOCKET</code>
+ * giving its host and server port number.  Any JVM, whatever its own
+ * transport, can call these ports through the proxies returned by
+ * <code>getRemoteReference</code>.  Ports passed as arguments or results of
+ * calls remain marshalled as RMI stubs.
+ * </p>
+ * <p>
+ * When <code>USE_SHARED_MEMORY</code> is true and the connection data of
+ * a port shows the host of the calling JVM, the connection opened to reach
+ * it is doubled by a <code>SharedMemoryChannel</code>: the two JVM map a
+ * file holding a single producer single consumer ring per direction and
+ * exchange their frames through it, the socket being kept for the frames
+ * too large for the rings and to detect the end of the other JVM.  Before
+ * Java 9, which lacks the memory accesses of the rings, the connections
+ * only use their sockets.
+ * </p>
+ * 
+ * <p><strong>Invariant</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code loops != null && loops.length > 0}
+ * </pre>
+ * 
+ * <p>Created on : 2026-10-16</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+public class			SocketTransport
+{
+	// -------------------------------------------------------------------------
+	// Constants and variables
+	// -------------------------------------------------------------------------
+
+	/** number of selector threads of the transport.						*/
+	public static int						SELECTOR_THREADS = 2;
+	/** when true, the connections between JVM of the same host exchange
+	 *  their frames through shared memory.									*/
+	public static boolean					USE_SHARED_MEMORY = true;
+	/** capacity of each ring of the shared memory channels, in bytes, a
+	 *  power of two.														*/
+	public static int						SHARED_MEMORY_RING_SIZE = 1 << 20;
+	/** maximum size of the payload of the received frames, in bytes; a
+	 *  larger length denotes a corrupted or hostile stream.				*/
+	public static int						MAX_FRAME_SIZE = 64 << 20;
+	/** socket transport of this JVM, created on first use.					*/
+	protected static SocketTransport		TRANSPORT;
+
+	/** selector loops serving the connections.								*/
+	protected final SelectorLoop[]			loops;
+	/** index of the next selector loop to be given a connection.			*/
+	protected final AtomicInteger			nextLoop;
+	/** server channel accepting connections, null if not started.			*/
+	protected ServerSocketChannel			serverChannel;
+	/** connections opened by this JVM, by host and port number.			*/
+	protected final ConcurrentHashMap<String,SocketConnection>	connections;
+	/** threads executing the requests received.							*/
+	protected final ExecutorService			workers;
+	/** generator of call identifiers.										*/
+	protected final AtomicLong				callIds;
+
+	// -------------------------------------------------------------------------
+	// Constructors
+	// -------------------------------------------------------------------------
+
+	/**
+	 * create a socket transport and start its selector loops.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code SELECTOR_THREADS > 0}
+	 * post	{@code !isServerStarted()}
+	 * </pre>
+	 *
+	 * @throws IOException	if a selector can not be opened.
+	 */
+	protected			SocketTransport() throws IOException
+	{
+		assert	SELECTOR_THREADS > 0 :
+				new PreconditionException("SELECTOR_THREADS > 0");
+
+		this.loops = new SelectorLoop[SELECTOR_THREADS];
+		for (int i = 0 ; i < this.loops.length ; i++) {
+			this.loops[i] = new SelectorLoop(this, "socket-transport-" + i);
+			this.loops[i].start();
+		}
+		this.nextLoop = new AtomicInteger(0);
+		this.connections = new ConcurrentHashMap<String,SocketConnection>();
+		AtomicInteger workerIndex = new AtomicInteger(0);
+		this.workers = Executors.newCachedThreadPool(r -> {
+			Thread t = new Thread(r, "socket-transport-worker-" +
+											workerIndex.getAndIncrement());
+			t.setDaemon(true);
+			return t;
+		});
+		this.callIds = new AtomicLong(0);
+	}
+
+	// -------------------------------------------------------------------------
+	// Transport management
+	// -------------------------------------------------------------------------
+
+	/**
+	 * return the socket transport of this JVM, creating it if necessary.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code return != null}
+	 * </pre>
+	 *
+	 * @return				the socket transport of this JVM.
+	 * @throws IOException	if the transport can not be created.
+	 */
+	public static synchronized SocketTransport	getTransport()
+	throws IOException
+	{
+		if (TRANSPORT == null) {
+			TRANSPORT = new SocketTransport();
+		}
+		return TRANSPORT;
+	}
+
+	/**
+	 * shut down the socket transport of this JVM, if created, closing its
+	 * server and connections.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @throws IOException	if the server channel can not be closed.
+	 */
+	public static synchronized void	shutdownTransport() throws IOException
+	{
+		if (TRANSPORT != null) {
+			TRANSPORT.shutdown();
+			TRANSPORT = null;
+		}
+	}
+
+	/**
+	 * start the server of this transport on the port number {@code port},
+	 * any free port if 0, and return the port number actually used.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code !isServerStarted()}
+	 * pre	{@code port >= 0 && port <= 65535}
+	 * post	{@code isServerStarted()}
+	 * </pre>
+	 *
+	 * @param port			port number of the server or 0 for any.
+	 * @return				the port number of the server.
+	 * @throws IOException	if the server can not be started.
+	 */
+	public synchronized int	startServer(int port) throws IOException
+	{
+		assert	!this.isServerStarted() :
+				new PreconditionException("!isServerStarted()");
+		assert	port >= 0 && port <= 65535 :
+				new PreconditionException("port >= 0 && port <= 65535");
+
+		this.serverChannel = ServerSocketChannel.open();
+		this.serverChannel.bind(new InetSocketAddress(port));
+		this.serverChannel.configureBlocking(false);
+		this.loops[0].register(this.serverChannel);
+		return this.getServerPort();
+	}
+
+	/**
+	 * return true if the server of this transport has been started.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @return	true if the server of this transport has been started.
+	 */
+	public synchronized boolean	isServerStarted()
+	{
+		return this.serverChannel != null;
+	}
+
+	/**
+	 * return the port number of the server of this transport.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code isServerStarted()}
+	 * post	{@code return > 0}
+	 * </pre>
+	 *
+	 * @return				the port number of the server.
+	 * @throws IOException	if the server channel is closed.
+	 */
+	public synchronized int		getServerPort() throws IOException
+	{
+		assert	this.isServerStarted() :
+				new PreconditionException("isServerStarted()");
+
+		return ((InetSocketAddress)this.serverChannel.getLocalAddress()).
+																	getPort();
+	}
+
+	/**
+	 * close the server and the connections and stop the threads of this
+	 * transport.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @throws IOException	if the server channel can not be closed.
+	 */
+	protected synchronized void	shutdown() throws IOException
+	{
+		for (SocketConnection c : this.connections.values()) {
+			c.close(null);
+		}
+		for (int i = 0 ; i < this.loops.length ; i++) {
+			this.loops[i].shutdown();
+		}
+		this.workers.shutdown();
+		if (this.serverChannel != null) {
+			this.serverChannel.close();
+			this.serverChannel = null;
+		}
+	}
+
+	/**
+	 * log the exception {@code e} raised by one of the threads of the
+	 * transport.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code e != null}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param e	exception to be logged.
+	 */
+	protected void		logError(Throwable e)
+	{
+		System.err.println("socket transport: " + e);
+	}
+
+	/**
+	 * return the next selector loop in a round robin way.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code return != null}
+	 * </pre>
+	 *
+	 * @return	the next selector loop.
+	 */
+	protected SelectorLoop	nextLoop()
+	{
+		return this.loops[Math.floorMod(this.nextLoop.getAndIncrement(),
+										this.loops.length)];
+	}
+
+	// -------------------------------------------------------------------------
+	// Client side
+	// -------------------------------------------------------------------------
+
+	/**
+	 * return a reference to the port {@code portURI} published through the
+	 * socket transport as described by {@code cd}, <i>i.e.</i>, a proxy
+	 * implementing the interfaces of the remote port.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code portURI != null && !portURI.isEmpty()}
+	 * pre	{@code cd != null && cd.getType() == ConnectionType.SOCKET}
+	 * post	{@code return != null}
+	 * </pre>
+	 *
+	 * @param portURI		URI of the remote port.
+	 * @param cd			connection data of the remote port.
+	 * @return				a reference to the remote port.
+	 * @throws Exception	if the remote port can not be reached.
+	 */
+	public Remote		getRemoteReference(String portURI, ConnectionData cd)
+	throws Exception
+	{
+		assert	portURI != null && !portURI.isEmpty() :
+				new PreconditionException(
+								"portURI != null && !portURI.isEmpty()");
+		assert	cd != null && cd.getType() == ConnectionType.SOCKET :
+				new PreconditionException(
+						"cd != null && cd.getType() == ConnectionType.SOCKET");
+
+		String address = cd.getHostname() + ":" + cd.getPort();
+		SocketConnection c = this.getConnection(address);
+		long callId = this.callIds.incrementAndGet();
+		MessageCodec.FrameBuilder fb = new MessageCodec.FrameBuilder();
+		DataOutputStream out =
+				MessageCodec.startFrame(fb, MessageCodec.DESCRIBE, callId);
+		out.writeUTF(portURI);
+		out.flush();
+		String[] interfaceNames;
+		try {
+			interfaceNames =
+					(String[]) this.await(c.call(callId, fb.toByteBuffer()));
+		} catch (Exception | Error e) {
+			throw e;
+		} catch (Throwable e) {
+			throw new RemoteException("describing " + portURI + " failed", e);
+		}
+		return MessageCodec.newPortProxy(
+							interfaceNames,
+							new SocketPortProxy(this, address, portURI));
+	}
+
+	/**
+	 * return the connection to the socket server at {@code address}, opening
+	 * it if none is currently open, with a shared memory channel when the
+	 * server runs on the host of this JVM.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code address != null}
+	 * post	{@code return != null}
+	 * </pre>
+	 *
+	 * @param address		host and port number of the socket server.
+	 * @return				an open connection to the socket server.
+	 * @throws IOException	if the connection can not be opened, as a {@code ConnectException}.
+	 */
+	public SocketConnection	getConnection(String address) throws IOException
+	{
+		SocketConnection c = this.connections.get(address);
+		if (c == null || c.isClosed()) {
+			synchronized (this.connections) {
+				c = this.connections.get(address);
+				if (c == null || c.isClosed()) {
+					int colon = address.lastIndexOf(':');
+					String hostname = address.substring(0, colon);
+					SocketChannel channel;
+					try {
+						channel = SocketChannel.open(new InetSocketAddress(
+							hostname,
+							Integer.parseInt(address.substring(colon + 1))));
+					} catch (IOException e) {
+						throw new ConnectException(
+									"connection to " + address + " failed", e);
+					}
+					channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+					c = new SocketConnection(this, channel, this.nextLoop());
+					this.connections.put(address, c);
+					c.loop.register(c);
+					if (USE_SHARED_MEMORY
+							&& SharedMemoryRing.ACQUIRE_RELEASE_AVAILABLE
+							&& this.isSameHost(hostname)) {
+						this.openSharedMemory(c);
+					}
+				}
+			}
+		}
+		return c;
+	}
+
+	/**
+	 * return true if {@code hostname} is the host of this JVM as known by
+	 * its component virtual machine.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code hostname != null}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param hostname	name of a host.
+	 * @return			true if {@code hostname} is the host of this JVM.
+	 */
+	protected boolean	isSameHost(String hostname)
+	{
+		return AbstractCVM.isDistributed && AbstractCVM.getCVM() != null
+								&& hostname.equals(AbstractCVM.getHostname());
+	}
+
+	/**
+	 * create a memory-mapped file, ask the server of the connection
+	 * {@code c} to map it and then attach the resulting shared memory
+	 * channel to {@code c}; on failure, the connection simply goes on using
+	 * its socket.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code c != null}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param c	connection to a server of the same host.
+	 */
+	protected void		openSharedMemory(SocketConnection c)
+	{
+		SharedMemoryChannel shm = null;
+		try {
+			Path file = Files.createTempFile(
+							SharedMemoryChannel.getDirectory(), "bcm-", ".ring");
+			try {
+				shm = new SharedMemoryChannel(c, file, SHARED_MEMORY_RING_SIZE);
+				// the server sends its response through the shared memory
+				shm.start();
+				long callId = this.callIds.incrementAndGet();
+				MessageCodec.FrameBuilder fb = new MessageCodec.FrameBuilder();
+				DataOutputStream out = MessageCodec.startFrame(
+								fb, MessageCodec.SHARED_MEMORY, callId);
+				out.writeUTF(file.toString());
+				out.flush();
+				this.await(c.call(callId, fb.toByteBuffer()));
+				c.attach(shm);
+			} finally {
+				// mapped by both JVM or given up, the file is no longer needed
+				Files.deleteIfExists(file);
+			}
+		} catch (Throwable e) {
+			if (shm != null) {
+				shm.close();
+			}
+			this.logError(e);
+		}
+	}
+
+	/**
+	 * call the method {@code m} with the arguments {@code args} on the
+	 * remote port {@code portURI} through the connection {@code c}, waiting
+	 * for its result.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code c != null && portURI != null && m != null}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param c				connection to the JVM of the remote port.
+	 * @param portURI		URI of the remote port.
+	 * @param m				method to be called.
+	 * @param args			arguments of the call, null if none.
+	 * @return				the result of the call.
+	 * @throws Throwable	the exception thrown by the call or a {@code RemoteException} if the transport failed.
+	 */
+	public Object		invoke(
+		SocketConnection c,
+		String portURI,
+		Method m,
+		Object[] args
+		) throws Throwable
+	{
+		long callId = this.callIds.incrementAndGet();
+		MessageCodec.FrameBuilder fb = new MessageCodec.FrameBuilder();
+		DataOutputStream out =
+				MessageCodec.startFrame(fb, MessageCodec.REQUEST, callId);
+		out.writeUTF(portURI);
+		out.writeUTF(MessageCodec.getSignature(m));
+		int n = args == null ? 0 : args.length;
+		out.writeShort(n);
+		for (int i = 0 ; i < n ; i++) {
+			Codecs.writeValue(out, args[i]);
+		}
+		out.flush();
+		return this.await(c.call(callId, fb.toByteBuffer()));
+	}
+
+	/**
+	 * wait for the response {@code f} and return its result or throw its
+	 * exception.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code f != null}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param f				future completed by the response.
+	 * @return				the result of the call.
+	 * @throws Throwable	the exception thrown by the call or a {@code RemoteException} if the transport failed.
+	 */
+	protected Object	await(CompletableFuture<byte[]> f) throws Throwable
+	{
+		byte[] payload;
+		try {
+			payload = f.get();
+		} catch (ExecutionException e) {
+			throw e.getCause();
+		}
+		Object result;
+		try {
+			result = Codecs.readValue(
+									MessageCodec.openPayload(payload));
+		} catch (ClassNotFoundException e) {
+			throw new UnmarshalException("unknown class in response", e);
+		}
+		if (MessageCodec.getKind(payload) == MessageCodec.EXCEPTION) {
+			throw (Throwable) result;
+		}
+		return result;
+	}
+
+	// -------------------------------------------------------------------------
+	// Server side
+	// -------------------------------------------------------------------------
+
+	/**
+	 * accept a connection on the server channel {@code ssc}; called by the
+	 * selector loop registered for accepting.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code ssc != null}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param ssc	server channel.
+	 */
+	protected void		accept(ServerSocketChannel ssc)
+	{
+		try {
+			SocketChannel channel = ssc.accept();
+			if (channel != null) {
+				channel.setOption(StandardSocketOptions.TCP_NODELAY, true);
+				SocketConnection c =
+						new SocketConnection(this, channel, this.nextLoop());
+				c.loop.register(c);
+			}
+		} catch (IOException e) {
+			this.logError(e);
+		}
+	}
+
+	/**
+	 * execute the request which payload is {@code payload} received on the
+	 * connection {@code c} on a worker thread and send its response.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code c != null && payload != null}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param c			connection on which the request has been received.
+	 * @param payload	payload of the request frame.
+	 */
+	protected void		handleRequest(SocketConnection c, byte[] payload)
+	{
+		this.workers.execute(() -> {
+			long callId = MessageCodec.getCallId(payload);
+			MessageCodec.FrameBuilder fb = new MessageCodec.FrameBuilder();
+			try {
+				Object result =
+					MessageCodec.getKind(payload) == MessageCodec.SHARED_MEMORY ?
+						this.shareMemory(c, payload)
+					:	this.execute(payload);
+				DataOutputStream out =
+					MessageCodec.startFrame(fb, MessageCodec.RESPONSE, callId);
+				Codecs.writeValue(out, result);
+				out.flush();
+			} catch (Throwable e) {
+				this.writeException(fb, callId, e);
+			}
+			try {
+				c.send(fb.toByteBuffer());
+			} catch (IOException e) {
+				// the caller is gone, its call has failed on its side
+			}
+		});
+	}
+
+	/**
+	 * map the file which path is given by the payload {@code payload}
+	 * received on the connection {@code c} and attach the resulting shared
+	 * memory channel to {@code c}.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code c != null && payload != null}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param c				connection on which the request has been received.
+	 * @param payload		payload of the request frame.
+	 * @return				null.
+	 * @throws IOException	if the file can not be mapped.
+	 */
+	protected Object	shareMemory(SocketConnection c, byte[] payload)
+	throws IOException
+	{
+		Path file = Paths.get(MessageCodec.openPayload(payload).readUTF());
+		if (!SharedMemoryChannel.getDirectory().equals(file.getParent())) {
+			throw new IOException("unexpected shared memory file " + file);
+		}
+		SharedMemoryChannel shm = new SharedMemoryChannel(c, file, 0);
+		shm.start();
+		c.attach(shm);
+		return null;
+	}
+
+	/**
+	 * execute the request which payload is {@code payload} and return its
+	 * result.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code payload != null}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param payload		payload of the request frame.
+	 * @return				the result of the request.
+	 * @throws Throwable	the exception thrown by the request.
+	 */
+	protected Object	execute(byte[] payload) throws Throwable
+	{
+		DataInputStream in = MessageCodec.openPayload(payload);
+		String portURI = in.readUTF();
+		PortI port = AbstractCVM.getFromLocalRegistry(portURI);
+		if (port == null) {
+			throw new NoSuchObjectException(
+					"port " + portURI + " is not published in this JVM.");
+		}
+
+		if (MessageCodec.getKind(payload) == MessageCodec.DESCRIBE) {
+			return MessageCodec.interfaceNames(port.getClass());
+		}
+
+		Method m = MessageCodec.findMethod(port.getClass(), in.readUTF());
+		Object[] args = new Object[in.readShort()];
+		for (int i = 0 ; i < args.length ; i++) {
+			args[i] = Codecs.readValue(in);
+		}
+		try {
+			return m.invoke(port, args);
+		} catch (InvocationTargetException e) {
+			throw e.getCause();
+		}
+	}
+
+	/**
+	 * write in {@code fb} the response frame carrying the exception
+	 * {@code e}, replaced by a {@code RemoteException} giving its
+	 * description when it can not be serialised.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code fb != null && e != null}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param fb		frame builder to be written.
+	 * @param callId	identifier of the call.
+	 * @param e			exception thrown by the request.
+	 */
+	protected void		writeException(
+		MessageCodec.FrameBuilder fb,
+		long callId,
+		Throwable e
+		)
+	{
+		try {
+			fb.reset();
+			DataOutputStream out =
+				MessageCodec.startFrame(fb, MessageCodec.EXCEPTION, callId);
+			try {
+				Codecs.writeValue(out, e);
+			} catch (IOException ioe) {
+				fb.reset();
+				out = MessageCodec.startFrame(
+									fb, MessageCodec.EXCEPTION, callId);
+				Codecs.writeValue(
+						out, new RemoteException(e.toString()));
+			}
+			out.flush();
+		} catch (IOException ioe) {
+			// writing to a byte array output stream does not fail
+			this.logError(ioe);
+		}
+	}
+
+	/**
+	 * remove the closed connection {@code c} from the connections of this
+	 * transport.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code c != null && c.isClosed()}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param c	connection that has been closed.
+	 */
+	protected void		connectionClosed(SocketConnection c)
+	{
+		this.connections.values().remove(c);
+	}
+}
+// -----------------------------------------------------------------------------
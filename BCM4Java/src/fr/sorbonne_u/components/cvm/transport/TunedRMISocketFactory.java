@@ -0,0 +1,460 @@
+package fr.sorbonne_u.components.cvm.transport;
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a
+// basic component programming model to program with components
+// distributed applications in the Java programming language.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+import java.io.FilterInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.rmi.server.RMIClientSocketFactory;
+import java.rmi.server.RMIServerSocketFactory;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import fr.sorbonne_u.exceptions.PreconditionException;
+
+// -----------------------------------------------------------------------------
+/**
+ * The class <code>TunedRMISocketFactory</code> implements the built-in
+ * client and server socket factories that a distributed component virtual
+ * machine may use to export its remote objects and create its RMI registry.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p>
+ * The sockets created disable the Nagle algorithm, which delays the small
+ * request and response messages of RMI calls, enable keep-alive and use the
+ * given send and receive buffer sizes when positive; server sockets reuse
+ * their address.  The factory being serialised with the stubs of the
+ * objects it exports, the client side settings apply in the calling JVM.
+ * </p>
+ * <p>
+ * RMI shares its server sockets among the objects exported with equal
+ * server socket factories and reuses its idle connections among the stubs
+ * with equal client socket factories, so factories with the same settings
+ * are equal: exporting every port with its own factory would otherwise
+ * open one server socket per port and defeat the connection reuse.
+ * </p>
+ * <p>
+ * The connections and the bytes read and written are counted per remote
+ * endpoint in <code>Statistics</code> objects shared by all of the factories
+ * of the JVM: outgoing connections are counted by host and port number of
+ * the remote JVM server socket, which identifies the remote JVM, while
+ * incoming connections, which come from ephemeral ports, are counted by
+ * host.
+ * </p>
+ * 
+ * <p><strong>Invariant</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code sendBufferSize >= 0 && receiveBufferSize >= 0}
+ * </pre>
+ * 
+ * <p>Created on : 2026-10-16</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+public class			TunedRMISocketFactory
+implements	RMIClientSocketFactory,
+			RMIServerSocketFactory,
+			Serializable
+{
+	// -------------------------------------------------------------------------
+	// Inner classes
+	// -------------------------------------------------------------------------
+
+	/**
+	 * The class <code>Statistics</code> holds the counters of the
+	 * connections to or from one remote endpoint.
+	 *
+	 * <p><strong>Invariant</strong></p>
+	 * 
+	 * <pre>
+	 * invariant	{@code true}	// no more invariant
+	 * </pre>
+	 * 
+	 * <p>Created on : 2026-10-16</p>
+	 * 
+	 * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+	 */
+	public static class	Statistics
+	{
+		/** number of connections opened.									*/
+		protected final AtomicLong	connections = new AtomicLong();
+		/** number of bytes written on the connections.						*/
+		protected final AtomicLong	bytesWritten = new AtomicLong();
+		/** number of bytes read from the connections.						*/
+		protected final AtomicLong	bytesRead = new AtomicLong();
+
+		/**
+		 * @return the number of connections opened.
+		 */
+		public long		getConnections() {
+			return this.connections.get();
+		}
+
+		/**
+		 * @return the number of bytes written on the connections.
+		 */
+		public long		getBytesWritten() {
+			return this.bytesWritten.get();
+		}
+
+		/**
+		 * @return the number of bytes read from the connections.
+		 */
+		public long		getBytesRead() {
+			return this.bytesRead.get();
+		}
+
+		/**
+		 * @see java.lang.Object#toString()
+		 */
+		@Override
+		public String	toString()
+		{
+			return "[connections: " + this.getConnections() +
+				   ", written: " + this.getBytesWritten() +
+				   ", read: " + this.getBytesRead() + "]";
+		}
+	}
+
+	/**
+	 * The class <code>CountingSocket</code> implements sockets which
+	 * streams count the bytes read and written in a statistics object.
+	 *
+	 * <p><strong>Invariant</strong></p>
+	 * 
+	 * <pre>
+	 * invariant	{@code true}	// no more invariant
+	 * </pre>
+	 * 
+	 * <p>Created on : 2026-10-16</p>
+	 * 
+	 * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+	 */
+	protected static class	CountingSocket
+	extends		Socket
+	{
+		/** statistics of the remote endpoint, set once connected.			*/
+		protected Statistics	statistics;
+		/** counting input stream, created on first demand.					*/
+		protected InputStream	in;
+		/** counting output stream, created on first demand.				*/
+		protected OutputStream	out;
+
+		/**
+		 * @see java.net.Socket#getInputStream()
+		 */
+		@Override
+		public synchronized InputStream		getInputStream()
+		throws IOException
+		{
+			if (this.in == null) {
+				final Statistics s = this.statistics;
+				this.in = new FilterInputStream(super.getInputStream()) {
+					@Override
+					public int	read() throws IOException
+					{
+						int b = super.read();
+						if (b >= 0) {
+							s.bytesRead.incrementAndGet();
+						}
+						return b;
+					}
+
+					@Override
+					public int	read(byte[] b, int off, int len)
+					throws IOException
+					{
+						int n = super.read(b, off, len);
+						if (n > 0) {
+							s.bytesRead.addAndGet(n);
+						}
+						return n;
+					}
+				};
+			}
+			return this.in;
+		}
+
+		/**
+		 * @see java.net.Socket#getOutputStream()
+		 */
+		@Override
+		public synchronized OutputStream	getOutputStream()
+		throws IOException
+		{
+			if (this.out == null) {
+				final Statistics s = this.statistics;
+				this.out = new FilterOutputStream(super.getOutputStream()) {
+					@Override
+					public void	write(int b) throws IOException
+					{
+						this.out.write(b);
+						s.bytesWritten.incrementAndGet();
+					}
+
+					@Override
+					public void	write(byte[] b, int off, int len)
+					throws IOException
+					{
+						// FilterOutputStream would write byte per byte
+						this.out.write(b, off, len);
+						s.bytesWritten.addAndGet(len);
+					}
+				};
+			}
+			return this.out;
+		}
+	}
+
+	// -------------------------------------------------------------------------
+	// Constants and variables
+	// -------------------------------------------------------------------------
+
+	private static final long		serialVersionUID = 1L;
+	/** statistics of the outgoing connections, by remote host and port.	*/
+	protected static final ConcurrentHashMap<String,Statistics>	OUTGOING =
+									new ConcurrentHashMap<String,Statistics>();
+	/** statistics of the incoming connections, by remote host.			*/
+	protected static final ConcurrentHashMap<String,Statistics>	INCOMING =
+									new ConcurrentHashMap<String,Statistics>();
+
+	/** size of the send buffers of the sockets, 0 for the system default.	*/
+	protected final int				sendBufferSize;
+	/** size of the receive buffers of the sockets, 0 for the system
+	 *  default.															*/
+	protected final int				receiveBufferSize;
+
+	// -------------------------------------------------------------------------
+	// Constructors
+	// -------------------------------------------------------------------------
+
+	/**
+	 * create a factory using the system default buffer sizes.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 */
+	public				TunedRMISocketFactory()
+	{
+		this(0, 0);
+	}
+
+	/**
+	 * create a factory using the given buffer sizes, 0 meaning the system
+	 * default.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code sendBufferSize >= 0 && receiveBufferSize >= 0}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param sendBufferSize	size of the send buffers of the sockets.
+	 * @param receiveBufferSize	size of the receive buffers of the sockets.
+	 */
+	public				TunedRMISocketFactory(
+		int sendBufferSize,
+		int receiveBufferSize
+		)
+	{
+		assert	sendBufferSize >= 0 && receiveBufferSize >= 0 :
+				new PreconditionException(
+						"sendBufferSize >= 0 && receiveBufferSize >= 0");
+
+		this.sendBufferSize = sendBufferSize;
+		this.receiveBufferSize = receiveBufferSize;
+	}
+
+	// -------------------------------------------------------------------------
+	// Methods
+	// -------------------------------------------------------------------------
+
+	/**
+	 * return a snapshot of the statistics of the outgoing connections of
+	 * this JVM, by remote host and port number.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code return != null}
+	 * </pre>
+	 *
+	 * @return	the statistics of the outgoing connections.
+	 */
+	public static Map<String,Statistics>	getOutgoingStatistics()
+	{
+		return Collections.unmodifiableMap(
+							new TreeMap<String,Statistics>(OUTGOING));
+	}
+
+	/**
+	 * return a snapshot of the statistics of the incoming connections of
+	 * this JVM, by remote host.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code return != null}
+	 * </pre>
+	 *
+	 * @return	the statistics of the incoming connections.
+	 */
+	public static Map<String,Statistics>	getIncomingStatistics()
+	{
+		return Collections.unmodifiableMap(
+							new TreeMap<String,Statistics>(INCOMING));
+	}
+
+	/**
+	 * set the options of the socket {@code s}, which must not be connected
+	 * yet for the receive buffer size to be taken into account.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code s != null}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param s				socket to be configured.
+	 * @throws IOException	if an option can not be set.
+	 */
+	protected void		configure(Socket s) throws IOException
+	{
+		s.setTcpNoDelay(true);
+		s.setKeepAlive(true);
+		if (this.sendBufferSize > 0) {
+			s.setSendBufferSize(this.sendBufferSize);
+		}
+		if (this.receiveBufferSize > 0) {
+			s.setReceiveBufferSize(this.receiveBufferSize);
+		}
+	}
+
+	/**
+	 * @see java.rmi.server.RMIClientSocketFactory#createSocket(java.lang.String, int)
+	 */
+	@Override
+	public Socket		createSocket(String host, int port) throws IOException
+	{
+		CountingSocket s = new CountingSocket();
+		this.configure(s);
+		s.statistics = OUTGOING.computeIfAbsent(
+									host + ":" + port, k -> new Statistics());
+		s.connect(new InetSocketAddress(host, port));
+		s.statistics.connections.incrementAndGet();
+		return s;
+	}
+
+	/**
+	 * @see java.rmi.server.RMIServerSocketFactory#createServerSocket(int)
+	 */
+	@Override
+	public ServerSocket	createServerSocket(int port) throws IOException
+	{
+		ServerSocket ss = new ServerSocket() {
+			@Override
+			public Socket	accept() throws IOException
+			{
+				CountingSocket s = new CountingSocket();
+				this.implAccept(s);
+				// accepted sockets inherit the receive buffer size
+				TunedRMISocketFactory.this.configure(s);
+				s.statistics = INCOMING.computeIfAbsent(
+									s.getInetAddress().getHostAddress(),
+									k -> new Statistics());
+				s.statistics.connections.incrementAndGet();
+				return s;
+			}
+		};
+		ss.setReuseAddress(true);
+		if (this.receiveBufferSize > 0) {
+			ss.setReceiveBufferSize(this.receiveBufferSize);
+		}
+		ss.bind(new InetSocketAddress(port));
+		return ss;
+	}
+
+	/**
+	 * @see java.lang.Object#equals(java.lang.Object)
+	 */
+	@Override
+	public boolean		equals(Object o)
+	{
+		if (o == null || o.getClass() != this.getClass()) {
+			return false;
+		}
+		TunedRMISocketFactory f = (TunedRMISocketFactory) o;
+		return this.sendBufferSize == f.sendBufferSize &&
+									this.receiveBufferSize == f.receiveBufferSize;
+	}
+
+	/**
+	 * @see java.lang.Object#hashCode()
+	 */
+	@Override
+	public int			hashCode()
+	{
+		return 31 * this.sendBufferSize + this.receiveBufferSize;
+	}
+
+	/**
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String		toString()
+	{
+		return "TunedRMISocketFactory[send: " + this.sendBufferSize +
+							", receive: " + this.receiveBufferSize + "]";
+	}
+}
+// -----------------------------------------------------------------------------
@@ -0,0 +1,116 @@
+package fr.sorbonne_u.components.exceptions;
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a
+// basic component programming model to program with components
+// distributed applications in the Java programming language.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+import java.util.concurrent.CancellationException;
+
+// -----------------------------------------------------------------------------
+/**
+ * The class <code>RequestDeadlineExceededException</code> defines the
+ * exceptions thrown when the deadline of a request submitted to a component
+ * passed before the request could be executed, or before its result was
+ * available to a caller waiting for it.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p>
+ * The class extends {@code CancellationException} as a request which
+ * deadline has passed is cancelled: it is dropped when dequeued instead of
+ * being executed. Hence, the methods executing requests on components keep
+ * their signatures and callers may catch either. It carries only a long, so
+ * it can be returned to remote callers through RMI.
+ * </p>
+ * 
+ * <p><strong>Implementation Invariants</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code true}	// no more invariant
+ * </pre>
+ * 
+ * <p><strong>Invariants</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code true}	// no more invariant
+ * </pre>
+ * 
+ * <p>Created on : 2026-10-16</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+public class			RequestDeadlineExceededException
+extends		CancellationException
+{
+	// -------------------------------------------------------------------------
+	// Constants and variables
+	// -------------------------------------------------------------------------
+
+	private static final long	serialVersionUID = 1L;
+	/** deadline of the request, in milliseconds since the Unix epoch.	*/
+	protected final long		deadline;
+
+	// -------------------------------------------------------------------------
+	// Constructors
+	// -------------------------------------------------------------------------
+
+	public				RequestDeadlineExceededException(long deadline)
+	{
+		super("the deadline of the request (" + deadline + " ms since the "
+			  + "Unix epoch) passed " + (System.currentTimeMillis() - deadline)
+			  + " ms ago");
+		this.deadline = deadline;
+	}
+
+	// -------------------------------------------------------------------------
+	// Methods
+	// -------------------------------------------------------------------------
+
+	/**
+	 * return the deadline of the request, in milliseconds since the Unix
+	 * epoch.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @return	the deadline of the request, in milliseconds since the Unix epoch.
+	 */
+	public long			getDeadline()
+	{
+		return this.deadline;
+	}
+}
+// -----------------------------------------------------------------------------
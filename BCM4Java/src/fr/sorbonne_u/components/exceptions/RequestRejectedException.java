@@ -0,0 +1,177 @@
+package fr.sorbonne_u.components.exceptions;
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a
+// basic component programming model to program with components
+// distributed applications in the Java programming language.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+import java.util.concurrent.RejectedExecutionException;
+
+// -----------------------------------------------------------------------------
+/**
+ * The class <code>RequestRejectedException</code> defines the exceptions
+ * thrown when a task or a request submitted to a component is rejected by
+ * the executor service that should execute it, typically because its queue
+ * is full and its overflow policy is to fail fast.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p>
+ * The class extends {@code RejectedExecutionException} so that the methods
+ * submitting tasks and requests to components keep their signatures and that
+ * callers may catch either. It carries only strings and integers, so it can
+ * be returned to remote callers through RMI.
+ * </p>
+ * 
+ * <p><strong>Implementation Invariants</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code true}	// no more invariant
+ * </pre>
+ * 
+ * <p><strong>Invariants</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code true}	// no more invariant
+ * </pre>
+ * 
+ * <p>Created on : 2026-10-16</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+public class			RequestRejectedException
+extends		RejectedExecutionException
+{
+	// -------------------------------------------------------------------------
+	// Constants and variables
+	// -------------------------------------------------------------------------
+
+	private static final long	serialVersionUID = 1L;
+	/** URI of the executor service that rejected the request or null if
+	 *  unknown.															*/
+	protected final String		executorServiceURI;
+	/** capacity of the queue of the executor service or -1 if unknown.	*/
+	protected final int			queueCapacity;
+	/** URI of the inbound port through which the request was made or null
+	 *  if unknown.															*/
+	protected final String		inboundPortURI;
+
+	// -------------------------------------------------------------------------
+	// Constructors
+	// -------------------------------------------------------------------------
+
+	public				RequestRejectedException(
+		String executorServiceURI,
+		int queueCapacity
+		)
+	{
+		this(executorServiceURI, queueCapacity, null, null);
+	}
+
+	public				RequestRejectedException(
+		String executorServiceURI,
+		int queueCapacity,
+		String inboundPortURI,
+		Throwable cause
+		)
+	{
+		super("request rejected by the executor service " + executorServiceURI
+			  + (queueCapacity >= 0 ?
+					" which queue is full (capacity " + queueCapacity + ")"
+				:	"")
+			  + (inboundPortURI != null ?
+					" when called through the inbound port " + inboundPortURI
+				:	""),
+			  cause);
+		this.executorServiceURI = executorServiceURI;
+		this.queueCapacity = queueCapacity;
+		this.inboundPortURI = inboundPortURI;
+	}
+
+	// -------------------------------------------------------------------------
+	// Methods
+	// -------------------------------------------------------------------------
+
+	/**
+	 * return the URI of the executor service that rejected the request or
+	 * null if unknown.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @return	the URI of the executor service that rejected the request or null if unknown.
+	 */
+	public String		getExecutorServiceURI()
+	{
+		return this.executorServiceURI;
+	}
+
+	/**
+	 * return the capacity of the queue of the executor service or -1 if
+	 * unknown.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @return	the capacity of the queue of the executor service or -1 if unknown.
+	 */
+	public int			getQueueCapacity()
+	{
+		return this.queueCapacity;
+	}
+
+	/**
+	 * return the URI of the inbound port through which the request was made
+	 * or null if unknown.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @return	the URI of the inbound port through which the request was made or null if unknown.
+	 */
+	public String		getInboundPortURI()
+	{
+		return this.inboundPortURI;
+	}
+}
+// -----------------------------------------------------------------------------
@@ -33,9 +33,19 @@ package fr.sorbonne_u.components.helpers;
 // The fact that you are presently reading this means that you have had
 // knowledge of the CeCILL-C license and that you accept its terms.
 
+import java.util.List;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 
+import fr.sorbonne_u.components.tasks_management.BCM4JavaCoScheduledExecutor;
+import fr.sorbonne_u.components.tasks_management.BCM4JavaComponentThreadFactory;
+import fr.sorbonne_u.components.tasks_management.BCM4JavaMailboxExecutor;
+import fr.sorbonne_u.components.tasks_management.ExecutorServiceMetrics;
+import fr.sorbonne_u.components.tasks_management.ExecutorServiceMetricsSnapshot;
+import fr.sorbonne_u.components.tasks_management.InstrumentedExecutorServiceI;
 import fr.sorbonne_u.exceptions.PreconditionException;
 
 // -----------------------------------------------------------------------------
@@ -45,10 +55,27 @@ import fr.sorbonne_u.exceptions.PreconditionException;
  *
  * <p><strong>Description</strong></p>
  * 
+ * <p>
+ * The number of threads of the executor services which are thread pools or
+ * mailboxes on the shared scheduler can be changed after their creation
+ * (see {@code resize}). An executor service is elastic when its manager is
+ * created with a minimum number of threads strictly less than its maximum
+ * one; its component then samples it every
+ * {@code ELASTIC_SAMPLING_PERIOD} milliseconds and resizes it to the number
+ * of threads returned by {@code computeElasticTarget}, which grows the
+ * executor service when its queue is deeper than
+ * {@code ELASTIC_QUEUE_DEPTH_PER_THREAD} tasks per thread or when the mean
+ * wait time of the tasks started since the previous sample exceeds
+ * {@code ELASTIC_WAIT_TIME_THRESHOLD}, and shrinks it by one thread after
+ * {@code ELASTIC_IDLE_SAMPLES} consecutive samples finding the queue empty
+ * and some of its threads idle.
+ * </p>
+ * 
  * <p><strong>Invariant</strong></p>
  * 
  * <pre>
- * invariant		true
+ * invariant		{@code getMinNumberOfThreads() > 0}
+ * invariant		{@code getMinNumberOfThreads() <= getMaxNumberOfThreads()}
  * </pre>
  * 
  * <p>Created on : 2019-01-07</p>
@@ -61,12 +88,44 @@ public class			ComponentExecutorServiceManager
 	// Constants and variables
 	// -------------------------------------------------------------------------
 
+	/** period in milliseconds at which the elastic executor services
+	 *  are sampled to be resized.											*/
+	public static long				ELASTIC_SAMPLING_PERIOD = 100L;
+	/** number of waiting tasks per thread above which an elastic executor
+	 *  service grows.														*/
+	public static int				ELASTIC_QUEUE_DEPTH_PER_THREAD = 2;
+	/** mean wait time in nanoseconds of the tasks started since the
+	 *  previous sample above which an elastic executor service grows.		*/
+	public static long				ELASTIC_WAIT_TIME_THRESHOLD =
+												TimeUnit.MILLISECONDS.toNanos(5);
+	/** number of consecutive samples with an empty queue and idle threads
+	 *  after which an elastic executor service shrinks by one thread.		*/
+	public static int				ELASTIC_IDLE_SAMPLES = 10;
+
 	/** unique identifier of the executor service within the component. 	*/
 	protected final String			uri;
-	/** number of threads in the executor service.					 		*/
-	protected final int				nbThreads;
+	/** current number of threads in the executor service.			 		*/
+	protected volatile int			nbThreads;
+	/** minimum number of threads of an elastic executor service.			*/
+	protected final int				minThreads;
+	/** maximum number of threads of an elastic executor service.			*/
+	protected final int				maxThreads;
 	/** executor service to run requests and tasks.					 		*/
 	protected final ExecutorService	es;
+	/** factory creating the threads of the executor service or null if
+	 *  they are not created by a BCM4Java thread factory.					*/
+	protected final BCM4JavaComponentThreadFactory	threadFactory;
+	/** metrics recording the activity of the executor service, only fed
+	 *  when it implements {@code InstrumentedExecutorServiceI}.			*/
+	protected final ExecutorServiceMetrics			metrics;
+	/** periodic task sampling an elastic executor service or null.		*/
+	protected volatile ScheduledFuture<?>			elasticSampler;
+	/** number of wait times recorded at the previous sample.				*/
+	protected long					lastWaitTimeCount;
+	/** sum of the wait times recorded at the previous sample.				*/
+	protected long					lastWaitTimeSum;
+	/** number of consecutive samples finding the executor service idle.	*/
+	protected int					idleSamples;
 
 	// -------------------------------------------------------------------------
 	// Constructors
@@ -93,9 +152,43 @@ public class			ComponentExecutorServiceManager
 		int nbThreads,
 		ExecutorService	es
 		)
+	{
+		this(uri, nbThreads, nbThreads, es);
+	}
+
+	/**
+	 * create a manager for an elastic executor service with the given URI,
+	 * which number of threads varies between {@code minThreads} and
+	 * {@code maxThreads}; {@code es} must have been created with
+	 * {@code minThreads} threads.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code uri != null}
+	 * pre	{@code minThreads > 0}
+	 * pre	{@code minThreads <= maxThreads}
+	 * pre	{@code es != null}
+	 * pre	{@code minThreads == maxThreads || isResizable(es)}
+	 * post	{@code getNumberOfThreads() == minThreads}
+	 * </pre>
+	 *
+	 * @param uri			unique identifier of the executor service within the component.
+	 * @param minThreads	minimum number of threads in the executor service.
+	 * @param maxThreads	maximum number of threads in the executor service.
+	 * @param es			executor service to run requests and tasks.
+	 */
+	public				ComponentExecutorServiceManager(
+		String uri,
+		int minThreads,
+		int maxThreads,
+		ExecutorService	es
+		)
 	{
 		super() ;
 
+		int nbThreads = minThreads;
+
 		assert	uri != null :
 					new PreconditionException(
 							"creating a ComponentExecutorServiceManager with " +
@@ -113,10 +206,59 @@ public class			ComponentExecutorServiceManager
 					new PreconditionException(
 							"creating a ComponentExecutorServiceManager with " +
 							"an executor service that is : " + nbThreads + "!"); 
+		assert	minThreads <= maxThreads :
+					new PreconditionException(
+							"creating a ComponentExecutorServiceManager with " +
+							"a minimum number of threads " + minThreads +
+							" greater than its maximum " + maxThreads + "!");
+		assert	minThreads == maxThreads || isResizable(es) :
+					new PreconditionException(
+							"creating an elastic ComponentExecutorServiceManager"
+							+ " with an executor service that cannot be "
+							+ "resized!");
 
 		this.uri = uri;
 		this.nbThreads = nbThreads;
+		this.minThreads = minThreads;
+		this.maxThreads = maxThreads;
 		this.es = es;
+		if (es instanceof ThreadPoolExecutor &&
+				((ThreadPoolExecutor)es).getThreadFactory() instanceof
+											BCM4JavaComponentThreadFactory) {
+			this.threadFactory =
+				(BCM4JavaComponentThreadFactory)
+								((ThreadPoolExecutor)es).getThreadFactory();
+		} else {
+			this.threadFactory = null;
+		}
+		this.metrics = new ExecutorServiceMetrics(uri);
+		if (es instanceof InstrumentedExecutorServiceI) {
+			((InstrumentedExecutorServiceI)es).setMetrics(this.metrics);
+		}
+	}
+
+	// -------------------------------------------------------------------------
+	// Static methods
+	// -------------------------------------------------------------------------
+
+	/**
+	 * return true if the number of threads of {@code es} can be changed,
+	 * i.e., it is a thread pool or a mailbox on the shared scheduler.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	true			// no precondition.
+	 * post	true			// no postcondition.
+	 * </pre>
+	 *
+	 * @param es	an executor service.
+	 * @return		true if the number of threads of {@code es} can be changed.
+	 */
+	public static boolean	isResizable(ExecutorService es)
+	{
+		return es instanceof ThreadPoolExecutor ||
+									es instanceof BCM4JavaMailboxExecutor;
 	}
 
 	// -------------------------------------------------------------------------
@@ -175,6 +317,189 @@ public class			ComponentExecutorServiceManager
 		return this.nbThreads ;
 	}
 
+	/**
+	 * return the minimum number of threads of the executor service, which
+	 * is its initial number of threads.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	true			// no precondition.
+	 * post	{@code ret > 0}
+	 * </pre>
+	 *
+	 * @return	the minimum number of threads of the executor service.
+	 */
+	public int			getMinNumberOfThreads()
+	{
+		return this.minThreads;
+	}
+
+	/**
+	 * return the maximum number of threads of the executor service.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	true			// no precondition.
+	 * post	{@code ret >= getMinNumberOfThreads()}
+	 * </pre>
+	 *
+	 * @return	the maximum number of threads of the executor service.
+	 */
+	public int			getMaxNumberOfThreads()
+	{
+		return this.maxThreads;
+	}
+
+	/**
+	 * return true if the executor service is elastic, i.e., its number of
+	 * threads is adapted to its load by its component.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	true			// no precondition.
+	 * post	true			// no postcondition.
+	 * </pre>
+	 *
+	 * @return	true if the executor service is elastic.
+	 */
+	public boolean		isElastic()
+	{
+		return this.minThreads < this.maxThreads;
+	}
+
+	/**
+	 * return true if the number of threads of the executor service can be
+	 * changed.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	true			// no precondition.
+	 * post	true			// no postcondition.
+	 * </pre>
+	 *
+	 * @return	true if the number of threads of the executor service can be changed.
+	 */
+	public boolean		isResizable()
+	{
+		return isResizable(this.es);
+	}
+
+	/**
+	 * set the number of threads of the executor service; when it
+	 * decreases, the threads in excess terminate after their current task.
+	 * The caller must publish a new executor services table for the
+	 * component to take the new number of threads into account.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code isResizable()}
+	 * pre	{@code nbThreads > 0}
+	 * post	{@code getNumberOfThreads() == nbThreads}
+	 * </pre>
+	 *
+	 * @param nbThreads	new number of threads of the executor service.
+	 */
+	public void			resize(int nbThreads)
+	{
+		assert	this.isResizable() :
+				new PreconditionException("isResizable()");
+		assert	nbThreads > 0 : new PreconditionException("nbThreads > 0");
+
+		if (this.es instanceof ScheduledThreadPoolExecutor) {
+			// the maximum pool size is not used by scheduled thread pools
+			((ScheduledThreadPoolExecutor)this.es).setCorePoolSize(nbThreads);
+		} else if (this.es instanceof ThreadPoolExecutor) {
+			ThreadPoolExecutor tpe = (ThreadPoolExecutor) this.es;
+			// the core size may never exceed the maximum one
+			if (nbThreads > tpe.getMaximumPoolSize()) {
+				tpe.setMaximumPoolSize(nbThreads);
+				tpe.setCorePoolSize(nbThreads);
+			} else {
+				tpe.setCorePoolSize(nbThreads);
+				tpe.setMaximumPoolSize(nbThreads);
+			}
+		} else {
+			((BCM4JavaMailboxExecutor)this.es).setMaxConcurrency(nbThreads);
+		}
+		this.nbThreads = nbThreads;
+	}
+
+	/**
+	 * set the periodic task sampling this elastic executor service, which
+	 * is cancelled when the executor service is shut down.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code isElastic()}
+	 * pre	{@code sampler != null}
+	 * post	true			// no postcondition.
+	 * </pre>
+	 *
+	 * @param sampler	periodic task sampling this elastic executor service.
+	 */
+	public void			setElasticSampler(ScheduledFuture<?> sampler)
+	{
+		assert	this.isElastic() : new PreconditionException("isElastic()");
+		assert	sampler != null : new PreconditionException("sampler != null");
+
+		this.elasticSampler = sampler;
+	}
+
+	/**
+	 * return the number of threads that this elastic executor service
+	 * should have given its current queue depth and the mean wait time of
+	 * the tasks started since the previous call; to be called only by the
+	 * periodic sampling task.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code isElastic()}
+	 * post	{@code ret >= getMinNumberOfThreads() && ret <= getMaxNumberOfThreads()}
+	 * </pre>
+	 *
+	 * @return	the number of threads that this elastic executor service should have.
+	 */
+	public int			computeElasticTarget()
+	{
+		assert	this.isElastic() : new PreconditionException("isElastic()");
+
+		int current = Math.min(this.maxThreads,
+							   Math.max(this.minThreads, this.nbThreads));
+		int queueSize = Math.max(0, this.getQueueSize());
+		long waitTimeCount = this.metrics.getWaitTimeCount();
+		long waitTimeSum = this.metrics.getWaitTimeSum();
+		long waited = waitTimeCount - this.lastWaitTimeCount;
+		long meanWaitTime =
+			waited > 0L ? (waitTimeSum - this.lastWaitTimeSum)/waited : 0L;
+		this.lastWaitTimeCount = waitTimeCount;
+		this.lastWaitTimeSum = waitTimeSum;
+
+		if (queueSize > current * ELASTIC_QUEUE_DEPTH_PER_THREAD ||
+									meanWaitTime > ELASTIC_WAIT_TIME_THRESHOLD) {
+			this.idleSamples = 0;
+			// grow at once to the size absorbing the queue, by at least one
+			int needed = (queueSize + ELASTIC_QUEUE_DEPTH_PER_THREAD - 1) /
+												ELASTIC_QUEUE_DEPTH_PER_THREAD;
+			return Math.min(this.maxThreads, Math.max(current + 1, needed));
+		} else if (queueSize == 0 && this.getActiveThreads() < current) {
+			// shrink slowly to avoid oscillations
+			if (++this.idleSamples >= ELASTIC_IDLE_SAMPLES) {
+				this.idleSamples = 0;
+				return Math.max(this.minThreads, current - 1);
+			}
+		} else {
+			this.idleSamples = 0;
+		}
+		return current;
+	}
+
 	/**
 	 * return the executor service held by this manager.
 	 * 
@@ -192,6 +517,123 @@ public class			ComponentExecutorServiceManager
 		return this.es ;
 	}
 
+	/**
+	 * return true if the current thread is one of the threads of the
+	 * executor service, hence a task submitted to it by the current thread
+	 * may rather be executed directly; only the executor services which
+	 * threads are created by a {@code BCM4JavaComponentThreadFactory}, that
+	 * are mailboxes on the shared scheduler or that are members of a
+	 * co-scheduling group can be recognised.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	true			// no precondition.
+	 * post	true			// no postcondition.
+	 * </pre>
+	 *
+	 * @return	true if the current thread is one of the threads of the executor service.
+	 */
+	public boolean		ownsCurrentThread()
+	{
+		if (this.threadFactory != null) {
+			return this.threadFactory.hasCreatedCurrentThread();
+		} else if (this.es instanceof BCM4JavaMailboxExecutor) {
+			return ((BCM4JavaMailboxExecutor)this.es).
+												isDrainedByCurrentThread();
+		} else if (this.es instanceof BCM4JavaCoScheduledExecutor) {
+			return ((BCM4JavaCoScheduledExecutor)this.es).
+												isExecutedByCurrentThread();
+		} else {
+			return false;
+		}
+	}
+
+	/**
+	 * return the metrics recording the activity of the executor service.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	true			// no precondition.
+	 * post	{@code ret != null}
+	 * </pre>
+	 *
+	 * @return	the metrics recording the activity of the executor service.
+	 */
+	public ExecutorServiceMetrics	getMetrics()
+	{
+		return this.metrics;
+	}
+
+	/**
+	 * return a snapshot of the metrics of the executor service; the queue
+	 * size is -1 when it cannot be observed.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	true			// no precondition.
+	 * post	{@code ret != null}
+	 * </pre>
+	 *
+	 * @return	a snapshot of the metrics of the executor service.
+	 */
+	public ExecutorServiceMetricsSnapshot	getMetricsSnapshot()
+	{
+		return this.metrics.snapshot(this.getNumberOfThreads(),
+									 this.getQueueSize());
+	}
+
+	/**
+	 * return the number of tasks waiting in the queue of the executor
+	 * service or -1 when it cannot be observed.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	true			// no precondition.
+	 * post	{@code ret >= -1}
+	 * </pre>
+	 *
+	 * @return	the number of tasks waiting in the queue of the executor service or -1.
+	 */
+	public int			getQueueSize()
+	{
+		if (this.es instanceof ThreadPoolExecutor) {
+			return ((ThreadPoolExecutor)this.es).getQueue().size();
+		} else if (this.es instanceof BCM4JavaMailboxExecutor) {
+			return ((BCM4JavaMailboxExecutor)this.es).getQueueSize();
+		} else if (this.es instanceof BCM4JavaCoScheduledExecutor) {
+			return ((BCM4JavaCoScheduledExecutor)this.es).getQueueSize();
+		} else {
+			return -1;
+		}
+	}
+
+	/**
+	 * return the number of threads of the executor service currently
+	 * executing a task, as counted by the thread pool or else by the
+	 * metrics.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	true			// no precondition.
+	 * post	{@code ret >= 0}
+	 * </pre>
+	 *
+	 * @return	the number of threads of the executor service currently executing a task.
+	 */
+	public int			getActiveThreads()
+	{
+		if (this.es instanceof ThreadPoolExecutor) {
+			return ((ThreadPoolExecutor)this.es).getActiveCount();
+		} else {
+			return Math.max(0, this.metrics.getActiveThreads());
+		}
+	}
+
 	/**
 	 * shutdown the executor service of this manager.
 	 * 
@@ -205,6 +647,7 @@ public class			ComponentExecutorServiceManager
 	 */
 	public void			shutdown()
 	{
+		this.cancelElasticSampler();
 		this.es.shutdown() ;
 	}
 
@@ -218,10 +661,31 @@ public class			ComponentExecutorServiceManager
 	 * post	true			// no postcondition.
 	 * </pre>
 	 *
+	 * @return	the list of the tasks that were waiting to be executed.
+	 */
+	public List<Runnable>	shutdownNow()
+	{
+		this.cancelElasticSampler();
+		return this.es.shutdownNow() ;
+	}
+
+	/**
+	 * cancel the periodic task sampling this executor service, if any.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	true			// no precondition.
+	 * post	true			// no postcondition.
+	 * </pre>
 	 */
-	public void			shutdownNow()
+	protected void		cancelElasticSampler()
 	{
-		this.es.shutdownNow() ;
+		ScheduledFuture<?> sampler = this.elasticSampler;
+		if (sampler != null) {
+			sampler.cancel(false);
+			this.elasticSampler = null;
+		}
 	}
 
 	/**
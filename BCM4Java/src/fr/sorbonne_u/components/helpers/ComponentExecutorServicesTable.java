@@ -0,0 +1,528 @@
+package fr.sorbonne_u.components.helpers;
+
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a
+// basic component programming model to program with components
+// distributed applications in the Java programming language.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import fr.sorbonne_u.exceptions.PreconditionException;
+
+// -----------------------------------------------------------------------------
+/**
+ * The class <code>ComponentExecutorServicesTable</code> implements an
+ * immutable snapshot of the executor services of a component, with the
+ * information needed to dispatch requests and tasks precomputed.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p>
+ * A component publishes its executor services through a volatile reference
+ * to a table which is never modified once created; creating or shutting down
+ * an executor service creates a new table (copy-on-write) and replaces the
+ * reference. Hence, the methods used on the request and task submission
+ * paths get a consistent view of the executor services by a single volatile
+ * read, without locking nor scanning the array of executor services.
+ * </p>
+ * <p>
+ * Indexes of executor services are stable: when an executor service is
+ * removed, its index becomes a hole in the array that can be reused by an
+ * executor service created later. Resizing an executor service keeps its
+ * index and publishes a refreshed table, as the total number of threads is
+ * precomputed.
+ * </p>
+ * 
+ * <p><strong>Invariant</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code hasExecutorServices() == (getTotalNumberOfThreads() > 0)}
+ * invariant	{@code getNumberOfExecutorServices() <= capacity()}
+ * </pre>
+ * 
+ * <p>Created on : 2026-10-16</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+public final class		ComponentExecutorServicesTable
+{
+	// -------------------------------------------------------------------------
+	// Constants and variables
+	// -------------------------------------------------------------------------
+
+	/** table without any executor service.								*/
+	public static final ComponentExecutorServicesTable	EMPTY =
+				new ComponentExecutorServicesTable(
+							new ComponentExecutorServiceManager[0], null, null);
+
+	/** executor service managers indexed by their index, null for holes.	*/
+	protected final ComponentExecutorServiceManager[]	managers;
+	/** map from URI of executor services to their index.					*/
+	protected final Map<String,Integer>	indexes;
+	/** URI of the standard request executor service.					*/
+	protected final String				standardURI;
+	/** URI of the standard schedulable executor service.					*/
+	protected final String				standardSchedulableURI;
+	/** number of executor services in the table.							*/
+	protected final int					numberOfExecutorServices;
+	/** total number of threads of the executor services in the table.		*/
+	protected final int					totalNumberOfThreads;
+	/** true if at least one executor service in the table is schedulable.	*/
+	protected final boolean				canScheduleTasks;
+	/** index of the standard request executor service, if it exists, of the
+	 *  standard schedulable one otherwise, -1 if none exists.				*/
+	protected final int					standardIndex;
+	/** index of the standard schedulable executor service or -1 if none.	*/
+	protected final int					standardSchedulableIndex;
+
+	// -------------------------------------------------------------------------
+	// Constructors
+	// -------------------------------------------------------------------------
+
+	/**
+	 * create a table holding {@code managers}, which must no longer be
+	 * modified by the caller.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code managers != null}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param managers					executor service managers indexed by their index, null for holes.
+	 * @param standardURI				URI of the standard request executor service.
+	 * @param standardSchedulableURI	URI of the standard schedulable executor service.
+	 */
+	protected			ComponentExecutorServicesTable(
+		ComponentExecutorServiceManager[] managers,
+		String standardURI,
+		String standardSchedulableURI
+		)
+	{
+		assert	managers != null :
+				new PreconditionException("managers != null");
+
+		this.managers = managers;
+		this.standardURI = standardURI;
+		this.standardSchedulableURI = standardSchedulableURI;
+		HashMap<String,Integer> indexes = new HashMap<String,Integer>();
+		int numberOfExecutorServices = 0;
+		int totalNumberOfThreads = 0;
+		boolean canScheduleTasks = false;
+		for (int i = 0 ; i < managers.length ; i++) {
+			if (managers[i] != null) {
+				indexes.put(managers[i].getURI(), i);
+				numberOfExecutorServices++;
+				totalNumberOfThreads += managers[i].getNumberOfThreads();
+				canScheduleTasks = canScheduleTasks ||
+												managers[i].isSchedulable();
+			}
+		}
+		this.indexes = Collections.unmodifiableMap(indexes);
+		this.numberOfExecutorServices = numberOfExecutorServices;
+		this.totalNumberOfThreads = totalNumberOfThreads;
+		this.canScheduleTasks = canScheduleTasks;
+		this.standardSchedulableIndex = this.getIndex(standardSchedulableURI);
+		int standardIndex = this.getIndex(standardURI);
+		this.standardIndex = standardIndex >= 0 ?
+									standardIndex : this.standardSchedulableIndex;
+	}
+
+	/**
+	 * create an empty table for a component which standard executor
+	 * services have the given URIs.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code standardURI != null}
+	 * pre	{@code standardSchedulableURI != null}
+	 * post	{@code !ret.hasExecutorServices()}
+	 * </pre>
+	 *
+	 * @param standardURI				URI of the standard request executor service.
+	 * @param standardSchedulableURI	URI of the standard schedulable executor service.
+	 * @return							an empty table.
+	 */
+	public static ComponentExecutorServicesTable	empty(
+		String standardURI,
+		String standardSchedulableURI
+		)
+	{
+		assert	standardURI != null :
+				new PreconditionException("standardURI != null");
+		assert	standardSchedulableURI != null :
+				new PreconditionException("standardSchedulableURI != null");
+
+		return new ComponentExecutorServicesTable(
+						EMPTY.managers, standardURI, standardSchedulableURI);
+	}
+
+	// -------------------------------------------------------------------------
+	// Methods
+	// -------------------------------------------------------------------------
+
+	/**
+	 * return the length of the array of executor services, including the
+	 * holes.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code ret >= 0}
+	 * </pre>
+	 *
+	 * @return	the length of the array of executor services.
+	 */
+	public int			capacity()
+	{
+		return this.managers.length;
+	}
+
+	/**
+	 * return the manager at {@code index} or null if there is none.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param index	index of an executor service.
+	 * @return		the manager at {@code index} or null if there is none.
+	 */
+	public ComponentExecutorServiceManager	getManager(int index)
+	{
+		if (index >= 0 && index < this.managers.length) {
+			return this.managers[index];
+		} else {
+			return null;
+		}
+	}
+
+	/**
+	 * return the index of the executor service with URI {@code uri} or -1
+	 * if none exists.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param uri	URI of an executor service.
+	 * @return		the index of the executor service with URI {@code uri} or -1 if none exists.
+	 */
+	public int			getIndex(String uri)
+	{
+		if (uri == null) {
+			return -1;
+		}
+		Integer index = this.indexes.get(uri);
+		return index != null ? index : -1;
+	}
+
+	/**
+	 * return true if an executor service exists at {@code index}.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param index	index to be tested.
+	 * @return		true if an executor service exists at {@code index}.
+	 */
+	public boolean		validIndex(int index)
+	{
+		return index >= 0 && index < this.managers.length &&
+											this.managers[index] != null;
+	}
+
+	/**
+	 * return true if an executor service with URI {@code uri} exists.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param uri	URI to be tested.
+	 * @return		true if an executor service with URI {@code uri} exists.
+	 */
+	public boolean		validURI(String uri)
+	{
+		return uri != null && this.indexes.containsKey(uri);
+	}
+
+	/**
+	 * return the map from URI of executor services to their index.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code ret != null}
+	 * </pre>
+	 *
+	 * @return	the unmodifiable map from URI of executor services to their index.
+	 */
+	public Map<String,Integer>	getIndexes()
+	{
+		return this.indexes;
+	}
+
+	/**
+	 * return true if the table contains at least one executor service.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @return	true if the table contains at least one executor service.
+	 */
+	public boolean		hasExecutorServices()
+	{
+		return this.numberOfExecutorServices > 0;
+	}
+
+	/**
+	 * return the number of executor services in the table.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code ret >= 0}
+	 * </pre>
+	 *
+	 * @return	the number of executor services in the table.
+	 */
+	public int			getNumberOfExecutorServices()
+	{
+		return this.numberOfExecutorServices;
+	}
+
+	/**
+	 * return the total number of threads of the executor services.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code ret >= 0}
+	 * </pre>
+	 *
+	 * @return	the total number of threads of the executor services.
+	 */
+	public int			getTotalNumberOfThreads()
+	{
+		return this.totalNumberOfThreads;
+	}
+
+	/**
+	 * return true if at least one executor service is schedulable.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @return	true if at least one executor service is schedulable.
+	 */
+	public boolean		canScheduleTasks()
+	{
+		return this.canScheduleTasks;
+	}
+
+	/**
+	 * return the index of the standard request executor service, if it
+	 * exists, of the standard schedulable one otherwise, and -1 if none
+	 * exists.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @return	the index of the standard executor service or -1 if none exists.
+	 */
+	public int			getStandardIndex()
+	{
+		return this.standardIndex;
+	}
+
+	/**
+	 * return the index of the standard schedulable executor service or -1
+	 * if none exists.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @return	the index of the standard schedulable executor service or -1 if none exists.
+	 */
+	public int			getStandardSchedulableIndex()
+	{
+		return this.standardSchedulableIndex;
+	}
+
+	/**
+	 * return the first index at which no executor service exists, which is
+	 * {@code capacity()} when the array is full.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code ret >= 0 && ret <= capacity()}
+	 * </pre>
+	 *
+	 * @return	the first index at which no executor service exists.
+	 */
+	public int			firstFreeIndex()
+	{
+		int ret = 0;
+		while (ret < this.managers.length && this.managers[ret] != null) {
+			ret++;
+		}
+		return ret;
+	}
+
+	/**
+	 * return a new table where {@code manager} is put at {@code index}, the
+	 * array being extended to at least {@code minCapacity} places or doubled
+	 * when {@code index} is beyond its end.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code index >= 0 && !validIndex(index)}
+	 * pre	{@code manager != null && !validURI(manager.getURI())}
+	 * post	{@code ret.getManager(index) == manager}
+	 * </pre>
+	 *
+	 * @param index			index at which the manager must be put.
+	 * @param manager		manager to be added.
+	 * @param minCapacity	minimum length of the array of the new table.
+	 * @return				a new table where {@code manager} is put at {@code index}.
+	 */
+	public ComponentExecutorServicesTable	with(
+		int index,
+		ComponentExecutorServiceManager manager,
+		int minCapacity
+		)
+	{
+		assert	index >= 0 && !this.validIndex(index) :
+				new PreconditionException("index >= 0 && !validIndex(index)");
+		assert	manager != null && !this.validURI(manager.getURI()) :
+				new PreconditionException(
+						"manager != null && !validURI(manager.getURI())");
+
+		int length = Math.max(this.managers.length, minCapacity);
+		while (index >= length) {
+			length = Math.max(1, 2*length);
+		}
+		ComponentExecutorServiceManager[] copy =
+								new ComponentExecutorServiceManager[length];
+		System.arraycopy(this.managers, 0, copy, 0, this.managers.length);
+		copy[index] = manager;
+		return new ComponentExecutorServicesTable(
+							copy, this.standardURI, this.standardSchedulableURI);
+	}
+
+	/**
+	 * return a new table where the executor service at {@code index} has
+	 * been removed, leaving a hole.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code validIndex(index)}
+	 * post	{@code !ret.validIndex(index)}
+	 * </pre>
+	 *
+	 * @param index	index of the executor service to be removed.
+	 * @return		a new table where the executor service at {@code index} has been removed.
+	 */
+	public ComponentExecutorServicesTable	without(int index)
+	{
+		assert	this.validIndex(index) :
+				new PreconditionException("validIndex(index)");
+
+		ComponentExecutorServiceManager[] copy = this.managers.clone();
+		copy[index] = null;
+		return new ComponentExecutorServicesTable(
+							copy, this.standardURI, this.standardSchedulableURI);
+	}
+
+	/**
+	 * return a new table with the same executor services at the same
+	 * indexes, which precomputed information is recomputed, to be
+	 * published after the number of threads of an executor service changed.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code ret.getIndexes().equals(getIndexes())}
+	 * </pre>
+	 *
+	 * @return	a new table with the same executor services at the same indexes.
+	 */
+	public ComponentExecutorServicesTable	refreshed()
+	{
+		// the array is never modified once in a table, hence it is shared
+		return new ComponentExecutorServicesTable(
+					this.managers, this.standardURI, this.standardSchedulableURI);
+	}
+}
+// -----------------------------------------------------------------------------
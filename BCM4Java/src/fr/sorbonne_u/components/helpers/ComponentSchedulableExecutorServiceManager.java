@@ -94,6 +94,42 @@ extends		ComponentExecutorServiceManager
 						+ "with an executor service that is not schedulable!") ;
 	}
 
+	/**
+	 * create a manager for an elastic scheduled executor service with the
+	 * given URI, which number of threads varies between {@code minThreads}
+	 * and {@code maxThreads}.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code uri != null}
+	 * pre	{@code minThreads > 0}
+	 * pre	{@code minThreads <= maxThreads}
+	 * pre	{@code es != null}
+	 * pre	{@code es instanceof ScheduledExecutorService}
+	 * post	{@code getNumberOfThreads() == minThreads}
+	 * </pre>
+	 *
+	 * @param uri			unique identifier of the executor service within the component.
+	 * @param minThreads	minimum number of threads in the executor service.
+	 * @param maxThreads	maximum number of threads in the executor service.
+	 * @param es			scheduled executor service to run requests and tasks (scheduled or not).
+	 */
+	public				ComponentSchedulableExecutorServiceManager(
+		String uri,
+		int minThreads,
+		int maxThreads,
+		ExecutorService	es
+		)
+	{
+		super(uri, minThreads, maxThreads, es) ;
+
+		assert	es instanceof ScheduledExecutorService :
+					new PreconditionException(
+						"creating a ComponentSchedulableExecutorServiceManager "
+						+ "with an executor service that is not schedulable!") ;
+	}
+
 	// -------------------------------------------------------------------------
 	// Methods
 	// -------------------------------------------------------------------------
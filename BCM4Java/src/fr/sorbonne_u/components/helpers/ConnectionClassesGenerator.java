@@ -0,0 +1,1039 @@
+package fr.sorbonne_u.components.helpers;
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a
+// basic component programming model to program with components
+// distributed applications in the Java programming language.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+import fr.sorbonne_u.components.AbstractComponent;
+import fr.sorbonne_u.components.connectors.AbstractConnector;
+import fr.sorbonne_u.components.interfaces.OfferedCI;
+import fr.sorbonne_u.components.interfaces.RequiredCI;
+import fr.sorbonne_u.components.ports.AbstractInboundPort;
+import fr.sorbonne_u.components.ports.AbstractLocalInvoker;
+import fr.sorbonne_u.components.ports.AbstractOutboundPort;
+import fr.sorbonne_u.exceptions.PreconditionException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Map;
+import javassist.ClassPool;
+import javassist.CtClass;
+import javassist.CtField;
+import javassist.CtNewConstructor;
+import javassist.CtNewMethod;
+import javassist.LoaderClassPath;
+
+// -----------------------------------------------------------------------------
+/**
+ * The class <code>ConnectionClassesGenerator</code> generates at run time,
+ * with Javassist, the inbound port, the outbound port and the connector
+ * classes that merely forward the calls between a required and an offered
+ * component interfaces.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p>
+ * The generated classes are the ones usually written by hand, like
+ * <code>URIConsumerOutboundPort</code>, <code>URIServiceConnector</code> and
+ * <code>URIProviderInboundPort</code> in the <code>basic_cs</code> example:
+ * </p>
+ * <ul>
+ * <li>the outbound port implements the required interface by calling the
+ *   same method on its connector;</li>
+ * <li>the connector implements the required interface by calling the
+ *   corresponding method of the offered interface on its callee, which is
+ *   the inbound port or its local invoker (see
+ *   {@code AbstractConnector#getCallee()});</li>
+ * <li>the inbound port implements the offered interface by submitting to
+ *   its owner, with {@code handleRequestOnOwner(String,ComponentService)},
+ *   a request calling the corresponding method of the implementation
+ *   type on the owner or on the plug-in of the port, so that the caller runs
+ *   policy, the priorities, the executor service and the plug-in of the port
+ *   are all honoured;</li>
+ * <li>the local invoker of the inbound port, a nested class
+ *   {@code $LocalInvoker} extending {@code AbstractLocalInvoker}, submits
+ *   the same requests as the port, so that the local connectors call it
+ *   instead of the port (see {@code AbstractInboundPort#createLocalInvoker()}).
+ *   </li>
+ * </ul>
+ * <p>
+ * The calls are dispatched with plain typed method calls: there is neither
+ * reflection nor lambda expression in the generated code. For each method
+ * of the offered interface, the request is an instance of a generated
+ * subclass of {@code AbstractComponent.AbstractService} holding the
+ * arguments of the call in its fields, which is the only allocation per
+ * call besides the one of the executor service. When not given in the
+ * method names maps, the methods are assumed to have the same name in the
+ * required interface, the offered interface and the implementation type.
+ * </p>
+ * <p>
+ * The generated classes are defined in the class loader and the package of
+ * the interface they implement, hence their names must be in this package;
+ * they can therefore be found by {@code Class.forName}, as connector class
+ * names are when connecting ports. In distributed CVMs, the classes must be
+ * generated with the same names in every JVM that uses them before the
+ * connections are made. Generating a class which already exists simply
+ * returns the existing class.
+ * </p>
+ * 
+ * <p><strong>Invariant</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code true}	// no more invariant
+ * </pre>
+ * 
+ * <p>Created on : 2026-10-16</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+public class			ConnectionClassesGenerator
+{
+	// -------------------------------------------------------------------------
+	// Constants and variables
+	// -------------------------------------------------------------------------
+
+	/** Javassist class pool used to generate the classes.				*/
+	protected static ClassPool	classPool;
+
+	// -------------------------------------------------------------------------
+	// Generators
+	// -------------------------------------------------------------------------
+
+	/**
+	 * generate an outbound port class implementing {@code required} by
+	 * forwarding its calls to its connector.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code classname != null && required != null}
+	 * pre	{@code required.isInterface()}
+	 * pre	{@code classname.startsWith(packageName(required) + ".")}
+	 * post	{@code ret != null && required.isAssignableFrom(ret)}
+	 * </pre>
+	 *
+	 * @param classname		canonical name of the class to be generated.
+	 * @param required		required interface implemented by the outbound port.
+	 * @return				the generated class.
+	 * @throws Exception	<i>to do</i>.
+	 */
+	@SuppressWarnings("unchecked")
+	public static synchronized Class<? extends AbstractOutboundPort>
+								generateOutboundPort(
+		String classname,
+		Class<? extends RequiredCI> required
+		) throws Exception
+	{
+		checkClassname(classname, required);
+
+		Class<?> ret = existingClass(classname, required);
+		if (ret == null) {
+			CtClass cc = makeClass(classname, AbstractOutboundPort.class,
+								   required);
+			addSerialVersionUID(cc);
+			String rn = typeName(required);
+			addConstructor(cc,
+				"public " + simpleName(classname) + "(java.lang.String uri, "
+				+ "fr.sorbonne_u.components.ComponentI owner) "
+				+ "throws java.lang.Exception "
+				+ "{ super(uri, " + rn + ".class, owner); }");
+			addConstructor(cc,
+				"public " + simpleName(classname) + "("
+				+ "fr.sorbonne_u.components.ComponentI owner) "
+				+ "throws java.lang.Exception "
+				+ "{ super(" + rn + ".class, owner); }");
+			for (Method m : forwardedMethods(required)) {
+				addMethod(cc, outboundPortMethodSource(required, m));
+			}
+			ret = define(cc, required);
+			cc.detach();
+		}
+		return (Class<? extends AbstractOutboundPort>) ret;
+	}
+
+	/**
+	 * generate a connector class implementing {@code required} by calling
+	 * the corresponding methods of {@code offered} on the callee of the
+	 * connector, where {@code methodNames} maps the names of the methods of
+	 * the required interface to the ones of the offered interface when
+	 * they differ.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code classname != null && required != null && offered != null}
+	 * pre	{@code required.isInterface() && offered.isInterface()}
+	 * pre	{@code classname.startsWith(packageName(required) + ".")}
+	 * pre	{@code methodNames != null}
+	 * post	{@code ret != null && required.isAssignableFrom(ret)}
+	 * </pre>
+	 *
+	 * @param classname		canonical name of the class to be generated.
+	 * @param required		required interface implemented by the connector.
+	 * @param offered		offered interface called by the connector.
+	 * @param methodNames	map from required method names to offered method names, when they differ.
+	 * @return				the generated class.
+	 * @throws Exception	<i>to do</i>.
+	 */
+	@SuppressWarnings("unchecked")
+	public static synchronized Class<? extends AbstractConnector>
+								generateConnector(
+		String classname,
+		Class<? extends RequiredCI> required,
+		Class<? extends OfferedCI> offered,
+		Map<String,String> methodNames
+		) throws Exception
+	{
+		checkClassname(classname, required);
+		assert	offered != null && offered.isInterface() :
+				new PreconditionException(
+						"offered != null && offered.isInterface()");
+		assert	methodNames != null :
+				new PreconditionException("methodNames != null");
+
+		Class<?> ret = existingClass(classname, required);
+		if (ret == null) {
+			CtClass cc = makeClass(classname, AbstractConnector.class,
+								   required);
+			addConstructor(cc,
+				"public " + simpleName(classname) + "() { super(); }");
+			for (Method m : forwardedMethods(required)) {
+				Method target =
+					targetMethod(offered,
+								 methodNames.getOrDefault(m.getName(),
+														  m.getName()),
+								 m);
+				addMethod(cc, connectorMethodSource(offered, m, target));
+			}
+			ret = define(cc, required);
+			cc.detach();
+		}
+		return (Class<? extends AbstractConnector>) ret;
+	}
+
+	/**
+	 * generate an inbound port class implementing {@code offered} by
+	 * executing on its owner, or its plug-in, the corresponding methods of
+	 * {@code implementation}, where {@code methodNames} maps the names of
+	 * the methods of the offered interface to the ones of the implementation
+	 * type when they differ.
+	 * 
+	 * <p><strong>Description</strong></p>
+	 * 
+	 * <p>
+	 * The generated class has the constructors
+	 * {@code (String uri, ComponentI owner)},
+	 * {@code (ComponentI owner)} and
+	 * {@code (String uri, ComponentI owner, String pluginURI, String executorServiceURI)}
+	 * of {@code AbstractInboundPort}. Its local invoker, of class
+	 * {@code classname + "$LocalInvoker"}, is returned by its method
+	 * {@code createLocalInvoker}.
+	 * </p>
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code classname != null && offered != null && implementation != null}
+	 * pre	{@code offered.isInterface()}
+	 * pre	{@code classname.startsWith(packageName(offered) + ".")}
+	 * pre	{@code methodNames != null}
+	 * post	{@code ret != null && offered.isAssignableFrom(ret)}
+	 * </pre>
+	 *
+	 * @param classname			canonical name of the class to be generated.
+	 * @param offered			offered interface implemented by the inbound port.
+	 * @param implementation	type of the owner component or plug-in implementing the services.
+	 * @param methodNames		map from offered method names to implementation method names, when they differ.
+	 * @return					the generated class.
+	 * @throws Exception		<i>to do</i>.
+	 */
+	@SuppressWarnings("unchecked")
+	public static synchronized Class<? extends AbstractInboundPort>
+								generateInboundPort(
+		String classname,
+		Class<? extends OfferedCI> offered,
+		Class<?> implementation,
+		Map<String,String> methodNames
+		) throws Exception
+	{
+		checkClassname(classname, offered);
+		assert	implementation != null :
+				new PreconditionException("implementation != null");
+		assert	methodNames != null :
+				new PreconditionException("methodNames != null");
+
+		Class<?> ret = existingClass(classname, offered);
+		if (ret == null) {
+			// the request classes must be defined before the port that
+			// creates their instances
+			ArrayList<Method> methods = forwardedMethods(offered);
+			ArrayList<CtClass> services = new ArrayList<CtClass>();
+			for (int i = 0 ; i < methods.size() ; i++) {
+				Method m = methods.get(i);
+				Method target =
+					targetMethod(implementation,
+								 methodNames.getOrDefault(m.getName(),
+														  m.getName()),
+								 m);
+				String sn = serviceClassname(classname, i);
+				CtClass scc = makeServiceClass(sn, implementation, m, target);
+				define(scc, offered);
+				services.add(scc);
+			}
+
+			// the local invoker submits the same requests as the port
+			String ln = localInvokerClassname(classname);
+			CtClass lcc = makeClass(ln, AbstractLocalInvoker.class, offered);
+			addConstructor(lcc,
+				"public " + simpleName(ln) + "("
+				+ "fr.sorbonne_u.components.ports.AbstractInboundPort port) "
+				+ "throws java.lang.Exception { super(port); }");
+			for (int i = 0 ; i < methods.size() ; i++) {
+				addMethod(lcc, localInvokerMethodSource(
+									methods.get(i),
+									serviceClassname(classname, i)));
+			}
+			define(lcc, offered);
+
+			CtClass cc = makeClass(classname, AbstractInboundPort.class,
+								   offered);
+			addSerialVersionUID(cc);
+			String on = typeName(offered);
+			String sn = simpleName(classname);
+			addConstructor(cc,
+				"public " + sn + "(java.lang.String uri, "
+				+ "fr.sorbonne_u.components.ComponentI owner) "
+				+ "throws java.lang.Exception "
+				+ "{ super(uri, " + on + ".class, owner); }");
+			addConstructor(cc,
+				"public " + sn + "("
+				+ "fr.sorbonne_u.components.ComponentI owner) "
+				+ "throws java.lang.Exception "
+				+ "{ super(" + on + ".class, owner); }");
+			addConstructor(cc,
+				"public " + sn + "(java.lang.String uri, "
+				+ "fr.sorbonne_u.components.ComponentI owner, "
+				+ "java.lang.String pluginURI, "
+				+ "java.lang.String executorServiceURI) "
+				+ "throws java.lang.Exception "
+				+ "{ super(uri, " + on + ".class, owner, pluginURI, "
+				+ "executorServiceURI); }");
+			for (int i = 0 ; i < methods.size() ; i++) {
+				addMethod(cc, inboundPortMethodSource(
+									methods.get(i),
+									serviceClassname(classname, i)));
+			}
+			addMethod(cc,
+				"protected fr.sorbonne_u.components.ports.AbstractLocalInvoker "
+				+ "createLocalInvoker() throws java.lang.Exception "
+				+ "{ return new " + ln + "(this); }");
+			ret = define(cc, offered);
+			// the request and local invoker classes are kept in the pool
+			// until the port, which refers to them, has been compiled
+			cc.detach();
+			lcc.detach();
+			for (CtClass scc : services) {
+				scc.detach();
+			}
+		}
+		return (Class<? extends AbstractInboundPort>) ret;
+	}
+
+	// -------------------------------------------------------------------------
+	// Source code generation
+	// -------------------------------------------------------------------------
+
+	/**
+	 * return the source code of the method of an outbound port
+	 * implementing {@code m} of {@code required}.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code required != null && m != null}
+	 * post	{@code ret != null}
+	 * </pre>
+	 *
+	 * @param required	required interface implemented by the outbound port.
+	 * @param m			method to be implemented.
+	 * @return			the source code of the method.
+	 */
+	protected static String	outboundPortMethodSource(
+		Class<?> required,
+		Method m
+		)
+	{
+		return header(m, m.getName())
+				+ (m.getReturnType() == void.class ? "" : "return ")
+				+ "((" + typeName(required) + ") this.getConnector())."
+				+ m.getName() + "(" + arguments(m, "p") + "); }";
+	}
+
+	/**
+	 * return the source code of the method of a connector implementing
+	 * {@code m} by calling {@code target} of {@code offered} on the callee.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code offered != null && m != null && target != null}
+	 * post	{@code ret != null}
+	 * </pre>
+	 *
+	 * @param offered	offered interface called by the connector.
+	 * @param m			method of the required interface to be implemented.
+	 * @param target	method of the offered interface to be called.
+	 * @return			the source code of the method.
+	 */
+	protected static String	connectorMethodSource(
+		Class<?> offered,
+		Method m,
+		Method target
+		)
+	{
+		String call = "((" + typeName(offered) + ") this.getCallee())."
+						+ target.getName() + "(" + arguments(m, "p") + ")";
+		if (m.getReturnType() == void.class) {
+			return header(m, m.getName()) + call + "; }";
+		} else {
+			return header(m, m.getName()) + "return "
+					+ convert(target.getReturnType(), m.getReturnType(), call)
+					+ "; }";
+		}
+	}
+
+	/**
+	 * return the source code of the method of an inbound port implementing
+	 * {@code m} by submitting an instance of the request class
+	 * {@code serviceClassname} to its owner.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code m != null && serviceClassname != null}
+	 * post	{@code ret != null}
+	 * </pre>
+	 *
+	 * @param m					method of the offered interface to be implemented.
+	 * @param serviceClassname	name of the request class executing the method.
+	 * @return					the source code of the method.
+	 */
+	protected static String	inboundPortMethodSource(
+		Method m,
+		String serviceClassname
+		)
+	{
+		return requestMethodSource(m, serviceClassname,
+								   "handleRequestOnOwner");
+	}
+
+	/**
+	 * return the source code of the method of a local invoker implementing
+	 * {@code m} by submitting an instance of the request class
+	 * {@code serviceClassname} to the owner of its port.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code m != null && serviceClassname != null}
+	 * post	{@code ret != null}
+	 * </pre>
+	 *
+	 * @param m					method of the offered interface to be implemented.
+	 * @param serviceClassname	name of the request class executing the method.
+	 * @return					the source code of the method.
+	 */
+	protected static String	localInvokerMethodSource(
+		Method m,
+		String serviceClassname
+		)
+	{
+		return requestMethodSource(m, serviceClassname, "handleRequest");
+	}
+
+	/**
+	 * return the source code of a method implementing {@code m} by creating
+	 * an instance of the request class {@code serviceClassname}, for the
+	 * plug-in {@code this.pluginURI} if not null, and passing it with the
+	 * name of the service to the method {@code submit}.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code m != null && serviceClassname != null && submit != null}
+	 * post	{@code ret != null}
+	 * </pre>
+	 *
+	 * @param m					method of the offered interface to be implemented.
+	 * @param serviceClassname	name of the request class executing the method.
+	 * @param submit			name of the method submitting the request.
+	 * @return					the source code of the method.
+	 */
+	protected static String	requestMethodSource(
+		Method m,
+		String serviceClassname,
+		String submit
+		)
+	{
+		String args = arguments(m, "p");
+		String call = "this." + submit + "(\"" + m.getName() + "\", s)";
+		StringBuffer sb = new StringBuffer(header(m, m.getName()));
+		sb.append(serviceClassname).append(" s; ");
+		sb.append("if (this.pluginURI == null) { s = new ")
+		  .append(serviceClassname).append("(").append(args).append("); } ");
+		sb.append("else { s = new ").append(serviceClassname)
+		  .append("(this.pluginURI")
+		  .append(args.isEmpty() ? "" : ", " + args).append("); } ");
+		if (m.getReturnType() == void.class) {
+			sb.append(call).append("; }");
+		} else {
+			sb.append("return ")
+			  .append(convert(Object.class, m.getReturnType(), call))
+			  .append("; }");
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * return the source code of the method {@code call} of the request
+	 * class calling {@code target} of {@code implementation} on the service
+	 * provider with the arguments held by the request.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code implementation != null && m != null && target != null}
+	 * post	{@code ret != null}
+	 * </pre>
+	 *
+	 * @param implementation	type of the owner component or plug-in implementing the services.
+	 * @param m					method of the offered interface.
+	 * @param target			method of the implementation to be called.
+	 * @return					the source code of the method.
+	 */
+	protected static String	serviceCallSource(
+		Class<?> implementation,
+		Method m,
+		Method target
+		)
+	{
+		String call = "((" + typeName(implementation) + ") "
+						+ "this.getServiceProviderReference())."
+						+ target.getName() + "(" + arguments(m, "this.a")
+						+ ")";
+		StringBuffer sb = new StringBuffer(
+				"public java.lang.Object call() throws java.lang.Exception { ");
+		if (target.getReturnType() == void.class) {
+			sb.append(call).append("; return null; }");
+		} else {
+			sb.append("return ")
+			  .append(convert(target.getReturnType(), Object.class, call))
+			  .append("; }");
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * return the header of a public method with the signature of {@code m}
+	 * renamed to {@code name}, its parameters being named {@code p0},
+	 * {@code p1}, ..., up to and including the opening brace of its body.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code m != null && name != null}
+	 * post	{@code ret != null}
+	 * </pre>
+	 *
+	 * @param m		method which signature is used.
+	 * @param name	name of the method.
+	 * @return		the header of the method.
+	 */
+	protected static String	header(Method m, String name)
+	{
+		StringBuffer sb = new StringBuffer("public ");
+		sb.append(typeName(m.getReturnType())).append(' ').append(name)
+		  .append('(');
+		Class<?>[] pts = m.getParameterTypes();
+		for (int i = 0 ; i < pts.length ; i++) {
+			if (i > 0) {
+				sb.append(", ");
+			}
+			sb.append(typeName(pts[i])).append(" p").append(i);
+		}
+		sb.append(')');
+		Class<?>[] ets = m.getExceptionTypes();
+		for (int i = 0 ; i < ets.length ; i++) {
+			sb.append(i == 0 ? " throws " : ", ").append(typeName(ets[i]));
+		}
+		sb.append(" { ");
+		return sb.toString();
+	}
+
+	/**
+	 * return the list of the arguments of a call passing the parameters of
+	 * {@code m} named with {@code prefix} followed by their index.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code m != null && prefix != null}
+	 * post	{@code ret != null}
+	 * </pre>
+	 *
+	 * @param m			method which parameters are passed.
+	 * @param prefix	prefix of the names of the parameters.
+	 * @return			the list of the arguments separated by commas.
+	 */
+	protected static String	arguments(Method m, String prefix)
+	{
+		StringBuffer sb = new StringBuffer();
+		for (int i = 0 ; i < m.getParameterCount() ; i++) {
+			if (i > 0) {
+				sb.append(", ");
+			}
+			sb.append(prefix).append(i);
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * return an expression converting the value of {@code expr} of type
+	 * {@code from} to the type {@code to}, boxing and unboxing explicitly
+	 * primitive values as Javassist does not.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code from != null && to != null && expr != null}
+	 * pre	{@code from != void.class && to != void.class}
+	 * post	{@code ret != null}
+	 * </pre>
+	 *
+	 * @param from	type of the value of the expression.
+	 * @param to	type to which the value must be converted.
+	 * @param expr	expression to be converted.
+	 * @return		the converting expression.
+	 */
+	protected static String	convert(Class<?> from, Class<?> to, String expr)
+	{
+		if (from == to || (!from.isPrimitive() && to == Object.class)) {
+			return expr;
+		} else if (from.isPrimitive() && !to.isPrimitive()) {
+			return typeName(wrapper(from)) + ".valueOf(" + expr + ")";
+		} else if (!from.isPrimitive() && to.isPrimitive()) {
+			return "((" + typeName(wrapper(to)) + ") " + expr + ")."
+					+ to.getName() + "Value()";
+		} else {
+			return "((" + typeName(to) + ") " + expr + ")";
+		}
+	}
+
+	/**
+	 * return the wrapper class of the primitive type {@code c}.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code c != null && c.isPrimitive() && c != void.class}
+	 * post	{@code ret != null}
+	 * </pre>
+	 *
+	 * @param c	primitive type.
+	 * @return	the wrapper class of {@code c}.
+	 */
+	protected static Class<?>	wrapper(Class<?> c)
+	{
+		if (c == boolean.class) {
+			return Boolean.class;
+		} else if (c == byte.class) {
+			return Byte.class;
+		} else if (c == char.class) {
+			return Character.class;
+		} else if (c == short.class) {
+			return Short.class;
+		} else if (c == int.class) {
+			return Integer.class;
+		} else if (c == long.class) {
+			return Long.class;
+		} else if (c == float.class) {
+			return Float.class;
+		} else {
+			assert	c == double.class :
+					new PreconditionException(c + " is not a primitive type");
+			return Double.class;
+		}
+	}
+
+	/**
+	 * return the name of {@code c} as used in source code.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code c != null && c.getCanonicalName() != null}
+	 * post	{@code ret != null}
+	 * </pre>
+	 *
+	 * @param c	class which name is returned.
+	 * @return	the name of {@code c} as used in source code.
+	 */
+	protected static String	typeName(Class<?> c)
+	{
+		return c.getCanonicalName();
+	}
+
+	// -------------------------------------------------------------------------
+	// Internal methods
+	// -------------------------------------------------------------------------
+
+	/**
+	 * check the name of a class to be generated in the package of
+	 * {@code neighbour}.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param classname	canonical name of the class to be generated.
+	 * @param neighbour	interface in the package of which the class must be defined.
+	 */
+	protected static void	checkClassname(
+		String classname,
+		Class<?> neighbour
+		)
+	{
+		assert	classname != null && neighbour != null :
+				new PreconditionException(
+						"classname != null && neighbour != null");
+		assert	neighbour.isInterface() :
+				new PreconditionException(neighbour + " is not an interface");
+		assert	classname.startsWith(packageName(neighbour) + ".") &&
+					classname.indexOf('.',
+						packageName(neighbour).length() + 1) < 0 :
+				new PreconditionException(
+						classname + " is not in the package of " + neighbour);
+	}
+
+	/**
+	 * return the name of the package of {@code c}, a top level class or
+	 * interface.
+	 *
+	 * @param c	class which package name is returned.
+	 * @return	the name of the package of {@code c}.
+	 */
+	protected static String	packageName(Class<?> c)
+	{
+		String name = c.getName();
+		return name.substring(0, Math.max(0, name.lastIndexOf('.')));
+	}
+
+	/**
+	 * return the simple name of the class {@code classname}.
+	 *
+	 * @param classname	canonical name of a class.
+	 * @return			the simple name of the class.
+	 */
+	protected static String	simpleName(String classname)
+	{
+		return classname.substring(classname.lastIndexOf('.') + 1);
+	}
+
+	/**
+	 * return the name of the request class executing the method of index
+	 * {@code index} for the inbound port class {@code classname}.
+	 *
+	 * @param classname	canonical name of the inbound port class.
+	 * @param index		index of the method in the offered interface.
+	 * @return			the name of the request class.
+	 */
+	protected static String	serviceClassname(String classname, int index)
+	{
+		return classname + "$Service" + index;
+	}
+
+	/**
+	 * return the name of the local invoker class of the inbound port class
+	 * {@code classname}.
+	 *
+	 * @param classname	canonical name of the inbound port class.
+	 * @return			the name of the local invoker class.
+	 */
+	protected static String	localInvokerClassname(String classname)
+	{
+		return classname + "$LocalInvoker";
+	}
+
+	/**
+	 * return the abstract methods of the interface {@code i}, which are the
+	 * ones to be forwarded, in a stable order.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code i != null && i.isInterface()}
+	 * post	{@code ret != null}
+	 * </pre>
+	 *
+	 * @param i	interface which methods are returned.
+	 * @return	the abstract methods of {@code i}.
+	 */
+	protected static ArrayList<Method>	forwardedMethods(Class<?> i)
+	{
+		ArrayList<Method> ret = new ArrayList<Method>();
+		for (Method m : i.getMethods()) {
+			if (Modifier.isAbstract(m.getModifiers())) {
+				ret.add(m);
+			}
+		}
+		ret.sort((m1, m2) -> m1.toString().compareTo(m2.toString()));
+		return ret;
+	}
+
+	/**
+	 * return the public method of {@code c} named {@code name} with the same
+	 * parameter types as {@code m}.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code c != null && name != null && m != null}
+	 * post	{@code ret != null}
+	 * </pre>
+	 *
+	 * @param c				class or interface in which the method is searched.
+	 * @param name			name of the method.
+	 * @param m				method giving the parameter types.
+	 * @return				the method found.
+	 * @throws Exception	if no such method exists.
+	 */
+	protected static Method	targetMethod(Class<?> c, String name, Method m)
+	throws Exception
+	{
+		return c.getMethod(name, m.getParameterTypes());
+	}
+
+	/**
+	 * return the class {@code classname} if it has already been loaded or
+	 * generated in the class loader of {@code neighbour}, or else null.
+	 *
+	 * @param classname	canonical name of the class.
+	 * @param neighbour	class giving the class loader.
+	 * @return			the existing class or null if none.
+	 */
+	protected static Class<?>	existingClass(
+		String classname,
+		Class<?> neighbour
+		)
+	{
+		try {
+			return Class.forName(classname, false,
+								 neighbour.getClassLoader());
+		} catch (ClassNotFoundException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * create the Javassist representation of the class {@code classname}
+	 * extending {@code superclass} and implementing {@code implemented}.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code classname != null && superclass != null}
+	 * post	{@code ret != null}
+	 * </pre>
+	 *
+	 * @param classname		canonical name of the class.
+	 * @param superclass	superclass of the class.
+	 * @param implemented	interface implemented by the class or null if none.
+	 * @return				the Javassist representation of the class.
+	 * @throws Exception	<i>to do</i>.
+	 */
+	protected static CtClass	makeClass(
+		String classname,
+		Class<?> superclass,
+		Class<?> implemented
+		) throws Exception
+	{
+		if (classPool == null) {
+			classPool = new ClassPool(true);
+			classPool.insertClassPath(
+				new LoaderClassPath(
+						ConnectionClassesGenerator.class.getClassLoader()));
+		}
+		if (implemented != null &&
+				implemented.getClassLoader() !=
+						ConnectionClassesGenerator.class.getClassLoader()) {
+			classPool.insertClassPath(
+						new LoaderClassPath(implemented.getClassLoader()));
+		}
+		CtClass cc = classPool.makeClass(classname);
+		cc.setSuperclass(classPool.get(superclass.getName()));
+		if (implemented != null) {
+			cc.addInterface(classPool.get(implemented.getName()));
+		}
+		return cc;
+	}
+
+	/**
+	 * create the Javassist representation of the request class
+	 * {@code classname} executing {@code target} of {@code implementation}
+	 * with the arguments of a call to {@code m}.
+	 * 
+	 * <p><strong>Description</strong></p>
+	 * 
+	 * <p>
+	 * The request class extends {@code AbstractComponent.AbstractService};
+	 * it holds the arguments in fields {@code a0}, {@code a1}, ... and has a
+	 * constructor taking the arguments and one taking the URI of a plug-in
+	 * followed by the arguments.
+	 * </p>
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code classname != null && implementation != null}
+	 * pre	{@code m != null && target != null}
+	 * post	{@code ret != null}
+	 * </pre>
+	 *
+	 * @param classname			canonical name of the class.
+	 * @param implementation	type of the owner component or plug-in implementing the services.
+	 * @param m					method of the offered interface.
+	 * @param target			method of the implementation to be called.
+	 * @return					the Javassist representation of the class.
+	 * @throws Exception		<i>to do</i>.
+	 */
+	protected static CtClass	makeServiceClass(
+		String classname,
+		Class<?> implementation,
+		Method m,
+		Method target
+		) throws Exception
+	{
+		CtClass cc = makeClass(classname,
+							   AbstractComponent.AbstractService.class,
+							   null);
+		Class<?>[] pts = m.getParameterTypes();
+		StringBuffer params = new StringBuffer();
+		StringBuffer assignments = new StringBuffer();
+		for (int i = 0 ; i < pts.length ; i++) {
+			cc.addField(CtField.make("protected final "
+									 + typeName(pts[i]) + " a" + i + ";",
+									 cc));
+			params.append(", ").append(typeName(pts[i])).append(" p")
+				  .append(i);
+			assignments.append("this.a").append(i).append(" = p").append(i)
+					   .append("; ");
+		}
+		String sn = simpleName(classname);
+		addConstructor(cc,
+				"public " + sn + "(" +
+				(params.length() > 0 ? params.substring(2) : "") + ") "
+				+ "{ super(); " + assignments + "}");
+		addConstructor(cc,
+				"public " + sn + "(java.lang.String pluginURI" + params
+				+ ") { super(pluginURI); " + assignments + "}");
+		addMethod(cc, serviceCallSource(implementation, m, target));
+		return cc;
+	}
+
+	/**
+	 * add the field {@code serialVersionUID} to {@code cc}.
+	 *
+	 * @param cc			Javassist representation of a class.
+	 * @throws Exception	<i>to do</i>.
+	 */
+	protected static void	addSerialVersionUID(CtClass cc) throws Exception
+	{
+		cc.addField(CtField.make(
+						"private static final long serialVersionUID = 1L;",
+						cc));
+	}
+
+	/**
+	 * compile the constructor {@code source} and add it to {@code cc}.
+	 *
+	 * @param cc			Javassist representation of a class.
+	 * @param source		source code of the constructor.
+	 * @throws Exception	<i>to do</i>.
+	 */
+	protected static void	addConstructor(CtClass cc, String source)
+	throws Exception
+	{
+		cc.addConstructor(CtNewConstructor.make(source, cc));
+	}
+
+	/**
+	 * compile the method {@code source} and add it to {@code cc}.
+	 *
+	 * @param cc			Javassist representation of a class.
+	 * @param source		source code of the method.
+	 * @throws Exception	<i>to do</i>.
+	 */
+	protected static void	addMethod(CtClass cc, String source)
+	throws Exception
+	{
+		cc.addMethod(CtNewMethod.make(source, cc));
+	}
+
+	/**
+	 * define the class represented by {@code cc} in the class loader and
+	 * the package of {@code neighbour}, through Javassist which uses the
+	 * means of the running Java virtual machine to do so; {@code cc} must
+	 * be detached from the class pool by the caller once no other generated
+	 * class refers to it.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code cc != null && neighbour != null}
+	 * post	{@code ret != null}
+	 * </pre>
+	 *
+	 * @param cc			Javassist representation of the class.
+	 * @param neighbour		class in the package of which the class is defined.
+	 * @return				the defined class.
+	 * @throws Exception	<i>to do</i>.
+	 */
+	protected static Class<?>	define(CtClass cc, Class<?> neighbour)
+	throws Exception
+	{
+		return cc.toClass(neighbour);
+	}
+}
+// -----------------------------------------------------------------------------
@@ -0,0 +1,271 @@
+package fr.sorbonne_u.components.helpers;
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a
+// new implementation of the DEVS simulation standard for Java.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+
+import java.util.HashMap;
+import java.util.Map;
+import org.junit.Test;
+import org.junit.jupiter.api.Assertions;
+import fr.sorbonne_u.components.AbstractComponent;
+import fr.sorbonne_u.components.AbstractPlugin;
+import fr.sorbonne_u.components.ComponentI;
+import fr.sorbonne_u.components.annotations.OfferedInterfaces;
+import fr.sorbonne_u.components.annotations.RequiredInterfaces;
+import fr.sorbonne_u.components.connectors.AbstractConnector;
+import fr.sorbonne_u.components.cvm.AbstractCVM;
+import fr.sorbonne_u.components.examples.basic_cs.interfaces.URIConsumerCI;
+import fr.sorbonne_u.components.examples.basic_cs.interfaces.URIProviderCI;
+import fr.sorbonne_u.components.ports.AbstractInboundPort;
+import fr.sorbonne_u.components.ports.AbstractOutboundPort;
+import fr.sorbonne_u.utils.URIGenerator;
+
+// -----------------------------------------------------------------------------
+/**
+ * The class <code>ConnectionClassesGeneratorTest</code> tests the outbound
+ * port, connector and inbound port classes generated for the interfaces of
+ * the <code>basic_cs</code> example.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p>
+ * The generated inbound port is implemented by a plug-in of a provider
+ * component and created with an executor service of its own; each test
+ * connects a generated outbound port of a consumer component to it through
+ * the generated connector, calls it and checks that the call has been
+ * executed by the plug-in in a thread of that executor service, the
+ * connector calling the inbound port itself or its local invoker.
+ * </p>
+ * 
+ * <p><strong>Invariant</strong></p>
+ * 
+ * <pre>
+ * invariant		true
+ * </pre>
+ * 
+ * <p>Created on : 2026-10-16</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+public class			ConnectionClassesGeneratorTest
+{
+	/** package of the <code>basic_cs</code> interfaces, where the classes
+	 *  are generated.														*/
+	protected static final String	PACKAGE =
+			"fr.sorbonne_u.components.examples.basic_cs.interfaces.";
+	/** URI of the executor service of the provider used by the port.		*/
+	protected static final String	EXECUTOR_SERVICE_URI = "generated-es";
+	/** URI of the plug-in of the provider implementing the services.		*/
+	protected static final String	PLUGIN_URI = "generated-plugin";
+
+	/**
+	 * The class <code>URIPlugin</code> implements the services of
+	 * <code>URIProviderCI</code> in a plug-in, recording the thread which
+	 * executed the last call.
+	 *
+	 * <p>Created on : 2026-10-16</p>
+	 * 
+	 * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+	 */
+	public static class	URIPlugin
+	extends		AbstractPlugin
+	{
+		private static final long serialVersionUID = 1L;
+		/** thread which executed the last call.							*/
+		protected volatile Thread	lastThread;
+
+		public String		provideURIService()
+		{
+			this.lastThread = Thread.currentThread();
+			return this.getPluginURI() + "-" + URIGenerator.generateURI();
+		}
+
+		public String[]		provideURIsService(int n)
+		{
+			String[] ret = new String[n];
+			for (int i = 0 ; i < n ; i++) {
+				ret[i] = this.provideURIService();
+			}
+			return ret;
+		}
+	}
+
+	/**
+	 * The class <code>Provider</code> implements a component offering
+	 * <code>URIProviderCI</code> through its plug-in and an executor service.
+	 *
+	 * <p>Created on : 2026-10-16</p>
+	 * 
+	 * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+	 */
+	@OfferedInterfaces(offered = {URIProviderCI.class})
+	public static class	Provider
+	extends		AbstractComponent
+	{
+		/** plug-in implementing the services.								*/
+		protected final URIPlugin	plugin;
+
+		protected			Provider(String uri) throws Exception
+		{
+			super(uri, 1, 0);
+			this.createNewExecutorService(EXECUTOR_SERVICE_URI, 1, false);
+			this.plugin = new URIPlugin();
+			this.plugin.setPluginURI(PLUGIN_URI);
+			this.installPlugin(this.plugin);
+		}
+	}
+
+	/**
+	 * The class <code>Consumer</code> implements a component requiring
+	 * <code>URIConsumerCI</code>.
+	 *
+	 * <p>Created on : 2026-10-16</p>
+	 * 
+	 * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+	 */
+	@RequiredInterfaces(required = {URIConsumerCI.class})
+	public static class	Consumer
+	extends		AbstractComponent
+	{
+		protected			Consumer(String uri)
+		{
+			super(uri, 1, 0);
+		}
+	}
+
+	/**
+	 * generate the classes, connect a consumer to a provider, the connector
+	 * calling the inbound port or its local invoker as given by
+	 * {@code useLocalInvoker}, and check a call.
+	 *
+	 * @param useLocalInvoker	value of {@code AbstractCVM.USE_LOCAL_INVOKERS} during the connection.
+	 * @throws Exception		<i>to do</i>.
+	 */
+	protected void		checkCall(boolean useLocalInvoker) throws Exception
+	{
+		Map<String,String> toProvider = new HashMap<>();
+		toProvider.put("getURI", "provideURI");
+		toProvider.put("getURIs", "provideURIs");
+		Map<String,String> toPlugin = new HashMap<>();
+		toPlugin.put("provideURI", "provideURIService");
+		toPlugin.put("provideURIs", "provideURIsService");
+		Class<? extends AbstractOutboundPort> opc =
+			ConnectionClassesGenerator.generateOutboundPort(
+							PACKAGE + "GeneratedURIConsumerOutboundPort",
+							URIConsumerCI.class);
+		Class<? extends AbstractConnector> cc =
+			ConnectionClassesGenerator.generateConnector(
+							PACKAGE + "GeneratedURIServiceConnector",
+							URIConsumerCI.class, URIProviderCI.class,
+							toProvider);
+		Class<? extends AbstractInboundPort> ipc =
+			ConnectionClassesGenerator.generateInboundPort(
+							PACKAGE + "GeneratedURIProviderPluginInboundPort",
+							URIProviderCI.class, URIPlugin.class, toPlugin);
+
+		// the components are deployed in a CVM, which the shutdown expects
+		if (AbstractCVM.getCVM() == null) {
+			new AbstractCVM() {};
+		}
+		String providerURI = "provider-" + URIGenerator.generateURI();
+		Provider provider = new Provider(providerURI);
+		AbstractCVM.getCVM().addDeployedComponent(providerURI, provider);
+		String consumerURI = "consumer-" + URIGenerator.generateURI();
+		Consumer consumer = new Consumer(consumerURI);
+		AbstractCVM.getCVM().addDeployedComponent(consumerURI, consumer);
+		boolean useLocalInvokers = AbstractCVM.USE_LOCAL_INVOKERS;
+		try {
+			provider.start();
+			consumer.start();
+			String ipURI = "ip-" + URIGenerator.generateURI();
+			AbstractInboundPort ip =
+				ipc.getConstructor(String.class, ComponentI.class,
+								   String.class, String.class).
+					newInstance(ipURI, provider, PLUGIN_URI,
+								EXECUTOR_SERVICE_URI);
+			ip.publishPort();
+			String opURI = "op-" + URIGenerator.generateURI();
+			AbstractOutboundPort op =
+				opc.getConstructor(String.class, ComponentI.class).
+					newInstance(opURI, consumer);
+			op.publishPort();
+			AbstractCVM.USE_LOCAL_INVOKERS = useLocalInvoker;
+			consumer.doPortConnection(opURI, ipURI,
+									  cc.getConstructor().newInstance());
+
+			String uri = ((URIConsumerCI) op).getURI();
+			Assertions.assertTrue(uri.startsWith(PLUGIN_URI + "-"));
+			Thread executorServiceThread =
+				provider.handleRequest(EXECUTOR_SERVICE_URI,
+									   o -> Thread.currentThread());
+			Thread standardThread =
+				provider.handleRequest(o -> Thread.currentThread());
+			Assertions.assertSame(executorServiceThread,
+								  provider.plugin.lastThread);
+			Assertions.assertNotSame(standardThread,
+									 provider.plugin.lastThread);
+			Assertions.assertEquals(
+					3, ((URIConsumerCI) op).getURIs(3).length);
+
+			// the local invoker of the port honours them too
+			provider.plugin.lastThread = null;
+			URIProviderCI invoker = (URIProviderCI) ip.getLocalInvoker();
+			Assertions.assertTrue(
+					invoker.provideURI().startsWith(PLUGIN_URI + "-"));
+			Assertions.assertSame(executorServiceThread,
+								  provider.plugin.lastThread);
+			consumer.doPortDisconnection(opURI);
+			op.unpublishPort();
+			ip.unpublishPort();
+		} finally {
+			AbstractCVM.USE_LOCAL_INVOKERS = useLocalInvokers;
+			consumer.finalise();
+			provider.finalise();
+			consumer.shutdown();
+			provider.shutdown();
+		}
+	}
+
+	@Test
+	public void			testCallThroughInboundPort() throws Exception
+	{
+		this.checkCall(false);
+	}
+
+	@Test
+	public void			testCallThroughLocalInvoker() throws Exception
+	{
+		this.checkCall(true);
+	}
+}
+// -----------------------------------------------------------------------------
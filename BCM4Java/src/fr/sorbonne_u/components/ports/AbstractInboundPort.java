@@ -34,13 +34,28 @@ package fr.sorbonne_u.components.ports;
 // knowledge of the CeCILL-C license and that you accept its terms.
 
 import fr.sorbonne_u.components.ComponentI;
+import fr.sorbonne_u.components.ComponentI.ComponentService;
+import fr.sorbonne_u.components.ComponentI.ComponentTask;
+import fr.sorbonne_u.components.ComponentI.FComponentService;
+import fr.sorbonne_u.components.AbstractComponent;
+import fr.sorbonne_u.components.annotations.AsynchronousCall;
+import fr.sorbonne_u.components.annotations.RequestPriority;
+import fr.sorbonne_u.components.annotations.SynchronousCall;
 import fr.sorbonne_u.components.connectors.ConnectorI;
+import fr.sorbonne_u.components.exceptions.BCMRuntimeException;
 import fr.sorbonne_u.components.exceptions.ConnectionException;
+import fr.sorbonne_u.components.exceptions.RequestRejectedException;
 import fr.sorbonne_u.components.interfaces.OfferedCI;
+import fr.sorbonne_u.components.tasks_management.BCM4JavaPriorityThreadPoolExecutor;
 import fr.sorbonne_u.exceptions.ImplementationInvariantException;
 import fr.sorbonne_u.exceptions.InvariantException;
 import fr.sorbonne_u.exceptions.PostconditionException;
 import fr.sorbonne_u.exceptions.PreconditionException;
+import java.lang.reflect.Method;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.atomic.AtomicInteger;
 import fr.sorbonne_u.components.AbstractPort;
 
@@ -96,6 +111,10 @@ implements	InboundPortI
 	/** if true, the call to the owner component must be executed by the
 	 *  caller component thread.											*/
 	protected final boolean			callerRuns;
+	/** names of the services for which the call to the owner component
+	 *  must be executed by the caller component thread.					*/
+	protected final Set<String>		callerRunsServices =
+											ConcurrentHashMap.newKeySet();
 	/** URI of the executor service to be used to execute the service on the
 	 *  owner or null if none.												*/
 	protected final String			executorServiceURI;
@@ -104,6 +123,20 @@ implements	InboundPortI
 	 *  down dynamically).													*/
 	protected final AtomicInteger	executorServiceIndex =
 													new AtomicInteger(-1);
+	/** priority of the requests submitted through this port to prioritised
+	 *  executor services of the owner.									*/
+	protected final int				requestPriority;
+	/** priorities of the services declared by {@code RequestPriority}
+	 *  annotations on the methods of the implemented interface.			*/
+	protected final ConcurrentHashMap<String,Integer>	servicePriorities =
+												new ConcurrentHashMap<>();
+	/** services declared one-way by {@code AsynchronousCall} annotations
+	 *  on the methods of the implemented interface.						*/
+	protected final ConcurrentHashMap<String,Boolean>	asynchronousServices =
+												new ConcurrentHashMap<>();
+	/** local invoker bound by the connectors calling this port from the
+	 *  same JVM, created lazily by {@code getLocalInvoker}.				*/
+	protected transient volatile AbstractLocalInvoker	localInvoker;
 
 	// -------------------------------------------------------------------------
 	// Constructors
@@ -253,6 +286,9 @@ implements	InboundPortI
 		this.pluginURI = pluginURI;
 		this.executorServiceURI = executorServiceURI;
 		this.callerRuns = callerRuns;
+		this.requestPriority =
+			AbstractInboundPort.declaredPriority(this.getClass(),
+												 implementedInterface);
 		if (executorServiceURI != null) {
 			this.executorServiceIndex.set(
 							this.getExecutorServiceIndex(executorServiceURI));
@@ -724,6 +760,189 @@ implements	InboundPortI
 		return this.callerRuns;
 	}
 
+	/**
+	 * return true if the port is applying a caller runs policy for the calls
+	 * to the service {@code serviceName}, either because it applies it to
+	 * all calls or because the service has been opted in.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code !isDestroyed()}
+	 * pre	{@code serviceName != null && !serviceName.isEmpty()}
+	 * post	{@code !isCallerRuns() || ret}
+	 * </pre>
+	 *
+	 * @param serviceName	name of the service.
+	 * @return				true if the port is applying a caller runs policy for the calls to the service.
+	 */
+	protected boolean	isCallerRuns(String serviceName)
+	{
+		assert	!this.isDestroyed.get() :
+				new PreconditionException("!isDestroyed()");
+		assert	serviceName != null && !serviceName.isEmpty() :
+				new PreconditionException(
+						"serviceName != null && !serviceName.isEmpty()");
+
+		return this.callerRuns || this.callerRunsServices.contains(serviceName);
+	}
+
+	/**
+	 * set the caller runs policy of the port for the calls to the service
+	 * {@code serviceName}; when true, the calls to this service executed
+	 * through {@code handleRequestOnOwner} with the name of the service are
+	 * executed by the caller component thread.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code !isDestroyed()}
+	 * pre	{@code serviceName != null && !serviceName.isEmpty()}
+	 * post	{@code !callerRuns || isCallerRuns(serviceName)}
+	 * </pre>
+	 *
+	 * @param serviceName	name of the service.
+	 * @param callerRuns	if true, the calls to the service must be executed by the caller component thread.
+	 */
+	protected void		setCallerRuns(String serviceName, boolean callerRuns)
+	{
+		assert	!this.isDestroyed.get() :
+				new PreconditionException("!isDestroyed()");
+		assert	serviceName != null && !serviceName.isEmpty() :
+				new PreconditionException(
+						"serviceName != null && !serviceName.isEmpty()");
+
+		if (callerRuns) {
+			this.callerRunsServices.add(serviceName);
+		} else {
+			this.callerRunsServices.remove(serviceName);
+		}
+	}
+
+	/**
+	 * return the priority declared by a {@code RequestPriority} annotation on
+	 * the port class or else on the implemented interface, or
+	 * {@code RequestPriority.NORM_PRIORITY} if none.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code portClass != null && implementedInterface != null}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param portClass				class of the port.
+	 * @param implementedInterface	interface implemented by the port.
+	 * @return						the priority of the requests submitted through the port.
+	 */
+	protected static int	declaredPriority(
+		Class<?> portClass,
+		Class<?> implementedInterface
+		)
+	{
+		RequestPriority p = portClass.getAnnotation(RequestPriority.class);
+		if (p == null) {
+			p = implementedInterface.getAnnotation(RequestPriority.class);
+		}
+		return p == null ? RequestPriority.NORM_PRIORITY : p.value();
+	}
+
+	/**
+	 * return the priority of the requests submitted through this port.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @return	the priority of the requests submitted through this port.
+	 */
+	protected int		getRequestPriority()
+	{
+		return this.requestPriority;
+	}
+
+	/**
+	 * return the priority of the requests executing the service
+	 * {@code serviceName} submitted through this port, which is the one
+	 * declared by a {@code RequestPriority} annotation on the methods with
+	 * this name in the implemented interface or else the priority of the
+	 * port.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code serviceName != null && !serviceName.isEmpty()}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param serviceName	name of the service.
+	 * @return				the priority of the requests executing the service.
+	 */
+	protected int		getRequestPriority(String serviceName)
+	{
+		assert	serviceName != null && !serviceName.isEmpty() :
+				new PreconditionException(
+						"serviceName != null && !serviceName.isEmpty()");
+
+		return this.servicePriorities.computeIfAbsent(
+				serviceName,
+				n -> {
+					for (Method m : this.implementedInterface.getMethods()) {
+						RequestPriority p =
+								m.getAnnotation(RequestPriority.class);
+						if (p != null && m.getName().equals(n)) {
+							return p.value();
+						}
+					}
+					return this.requestPriority;
+				});
+	}
+
+	/**
+	 * return true if the service {@code serviceName} is a one-way service,
+	 * which is the case when all of the methods with this name in the
+	 * implemented interface are annotated {@code AsynchronousCall} and
+	 * return {@code void}; a method annotated {@code SynchronousCall} or
+	 * returning a value makes the service synchronous.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code serviceName != null && !serviceName.isEmpty()}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param serviceName	name of the service.
+	 * @return				true if the service is a one-way service.
+	 */
+	protected boolean	isAsynchronous(String serviceName)
+	{
+		assert	serviceName != null && !serviceName.isEmpty() :
+				new PreconditionException(
+						"serviceName != null && !serviceName.isEmpty()");
+
+		return this.asynchronousServices.computeIfAbsent(
+				serviceName,
+				n -> {
+					boolean found = false;
+					for (Method m : this.implementedInterface.getMethods()) {
+						if (m.getName().equals(n)) {
+							if (!m.isAnnotationPresent(AsynchronousCall.class)
+									|| m.isAnnotationPresent(
+													SynchronousCall.class)
+									|| m.getReturnType() != void.class) {
+								return false;
+							}
+							found = true;
+						}
+					}
+					return found;
+				});
+	}
+
 	/**
 	 * return true if this inbound port has an associated plug-in in its owner.
 	 * 
@@ -876,5 +1095,630 @@ implements	InboundPortI
 							" does not have index "
 							+ this.getExecutorServiceIndex() + " in owner!");
 	}
+
+	// -------------------------------------------------------------------------
+	// Requests and tasks submission to the owner
+	// -------------------------------------------------------------------------
+
+	/**
+	 * execute {@code request} on the owner component, in the caller thread
+	 * if the port applies a caller runs policy to all calls or else with the
+	 * priority of the port using the executor service of this port if any,
+	 * and return its result; the
+	 * rejections of the request by the executor service are returned to the
+	 * caller as {@code RequestRejectedException} identifying this port.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code !isDestroyed()}
+	 * pre	{@code request != null}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param <T>							the type of the value returned by the request.
+	 * @param request						service request to be executed on the owner.
+	 * @return								the result of the request.
+	 * @throws RequestRejectedException		if the request cannot be accepted by the executor service.
+	 * @throws Exception					<i>to do</i>.
+	 */
+	protected <T> T		handleRequestOnOwner(ComponentService<T> request)
+	throws	RequestRejectedException, Exception
+	{
+		assert	!this.isDestroyed.get() :
+				new PreconditionException("!isDestroyed()");
+		assert	request != null : new PreconditionException("request != null");
+
+		if (this.callerRuns) {
+			request.setOwnerReference(this.getOwner());
+			return request.call();
+		} else {
+			return this.prioritizedHandleRequestOnOwner(this.requestPriority,
+														request);
+		}
+	}
+
+	/**
+	 * execute the request represented by the lambda expression
+	 * {@code request} on the owner component, in the caller thread if the
+	 * port applies a caller runs policy to all calls or else with the
+	 * priority of the port using the executor service of this port if any,
+	 * and return its result; the
+	 * rejections of the request by the executor service are returned to the
+	 * caller as {@code RequestRejectedException} identifying this port.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code !isDestroyed()}
+	 * pre	{@code request != null}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param <T>							the type of the value returned by the request.
+	 * @param request						service request to be executed on the owner.
+	 * @return								the result of the request.
+	 * @throws RequestRejectedException		if the request cannot be accepted by the executor service.
+	 * @throws Exception					<i>to do</i>.
+	 */
+	protected <T> T		handleRequestOnOwner(FComponentService<T> request)
+	throws	RequestRejectedException, Exception
+	{
+		assert	!this.isDestroyed.get() :
+				new PreconditionException("!isDestroyed()");
+		assert	request != null : new PreconditionException("request != null");
+
+		if (this.callerRuns) {
+			return request.apply(this.getOwner());
+		} else {
+			return this.prioritizedHandleRequestOnOwner(this.requestPriority,
+														request);
+		}
+	}
+
+	/**
+	 * execute {@code request} implementing the service {@code serviceName}
+	 * on the owner component, in the caller thread if the port applies a
+	 * caller runs policy to this service or else as
+	 * {@code handleRequestOnOwner(request)} does but with the priority of the
+	 * service; when the service is a one-way service (see
+	 * {@code isAsynchronous}), the request is submitted as a task and null
+	 * is returned without waiting for its execution.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code !isDestroyed()}
+	 * pre	{@code serviceName != null && !serviceName.isEmpty()}
+	 * pre	{@code request != null}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param <T>							the type of the value returned by the request.
+	 * @param serviceName					name of the service implemented by the request.
+	 * @param request						service request to be executed on the owner.
+	 * @return								the result of the request.
+	 * @throws RequestRejectedException		if the request cannot be accepted by the executor service.
+	 * @throws Exception					<i>to do</i>.
+	 */
+	protected <T> T		handleRequestOnOwner(
+		String serviceName,
+		ComponentService<T> request
+		) throws	RequestRejectedException, Exception
+	{
+		assert	request != null : new PreconditionException("request != null");
+
+		if (this.isCallerRuns(serviceName)) {
+			request.setOwnerReference(this.getOwner());
+			return request.call();
+		} else if (this.isAsynchronous(serviceName)) {
+			this.prioritizedRunRequestOnOwner(
+									this.getRequestPriority(serviceName),
+									request);
+			return null;
+		} else {
+			return this.prioritizedHandleRequestOnOwner(
+									this.getRequestPriority(serviceName),
+									request);
+		}
+	}
+
+	/**
+	 * execute the request represented by the lambda expression
+	 * {@code request} implementing the service {@code serviceName} on the
+	 * owner component, in the caller thread if the port applies a caller
+	 * runs policy to this service or else as
+	 * {@code handleRequestOnOwner(request)} does but with the priority of the
+	 * service; when the service is a one-way service (see
+	 * {@code isAsynchronous}), the request is submitted as a task and null
+	 * is returned without waiting for its execution.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code !isDestroyed()}
+	 * pre	{@code serviceName != null && !serviceName.isEmpty()}
+	 * pre	{@code request != null}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param <T>							the type of the value returned by the request.
+	 * @param serviceName					name of the service implemented by the request.
+	 * @param request						service request to be executed on the owner.
+	 * @return								the result of the request.
+	 * @throws RequestRejectedException		if the request cannot be accepted by the executor service.
+	 * @throws Exception					<i>to do</i>.
+	 */
+	protected <T> T		handleRequestOnOwner(
+		String serviceName,
+		FComponentService<T> request
+		) throws	RequestRejectedException, Exception
+	{
+		assert	request != null : new PreconditionException("request != null");
+
+		if (this.isCallerRuns(serviceName)) {
+			return request.apply(this.getOwner());
+		} else if (this.isAsynchronous(serviceName)) {
+			this.prioritizedRunRequestOnOwner(
+									this.getRequestPriority(serviceName),
+									request);
+			return null;
+		} else {
+			return this.prioritizedHandleRequestOnOwner(
+									this.getRequestPriority(serviceName),
+									request);
+		}
+	}
+
+	/**
+	 * execute {@code request} on the owner component with the
+	 * priority {@code priority}, using the executor service of this port if
+	 * any, and return its result; the rejections of the request by the
+	 * executor service are returned to the caller as
+	 * {@code RequestRejectedException} identifying this port.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code !isDestroyed()}
+	 * pre	{@code request != null}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param <T>							the type of the value returned by the request.
+	 * @param priority						priority of the request in prioritised executor services.
+	 * @param request						service request to be executed on the owner.
+	 * @return								the result of the request.
+	 * @throws RequestRejectedException		if the request cannot be accepted by the executor service.
+	 * @throws Exception					<i>to do</i>.
+	 */
+	protected <T> T		prioritizedHandleRequestOnOwner(
+		int priority,
+		ComponentService<T> request
+		) throws	RequestRejectedException, Exception
+	{
+		assert	!this.isDestroyed.get() :
+				new PreconditionException("!isDestroyed()");
+		assert	request != null : new PreconditionException("request != null");
+
+		int previous =
+				BCM4JavaPriorityThreadPoolExecutor.setSubmissionPriority(priority);
+		try {
+			if (this.hasExecutorService()) {
+				return this.getOwner().handleRequest(
+									this.getExecutorServiceIndex(), request);
+			} else {
+				return this.getOwner().handleRequest(request);
+			}
+		} catch (RejectedExecutionException e) {
+			throw this.rejected(e);
+		} finally {
+			BCM4JavaPriorityThreadPoolExecutor.setSubmissionPriority(previous);
+		}
+	}
+
+	/**
+	 * execute the request represented by the lambda
+	 * expression {@code request} on the owner component with the
+	 * priority {@code priority}, using the executor service of this port if
+	 * any, and return its result; the rejections of the request by the
+	 * executor service are returned to the caller as
+	 * {@code RequestRejectedException} identifying this port.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code !isDestroyed()}
+	 * pre	{@code request != null}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param <T>							the type of the value returned by the request.
+	 * @param priority						priority of the request in prioritised executor services.
+	 * @param request						service request to be executed on the owner.
+	 * @return								the result of the request.
+	 * @throws RequestRejectedException		if the request cannot be accepted by the executor service.
+	 * @throws Exception					<i>to do</i>.
+	 */
+	protected <T> T		prioritizedHandleRequestOnOwner(
+		int priority,
+		FComponentService<T> request
+		) throws	RequestRejectedException, Exception
+	{
+		assert	!this.isDestroyed.get() :
+				new PreconditionException("!isDestroyed()");
+		assert	request != null : new PreconditionException("request != null");
+
+		int previous =
+				BCM4JavaPriorityThreadPoolExecutor.setSubmissionPriority(priority);
+		try {
+			if (this.hasExecutorService()) {
+				return this.getOwner().handleRequest(
+									this.getExecutorServiceIndex(), request);
+			} else {
+				return this.getOwner().handleRequest(request);
+			}
+		} catch (RejectedExecutionException e) {
+			throw this.rejected(e);
+		} finally {
+			BCM4JavaPriorityThreadPoolExecutor.setSubmissionPriority(previous);
+		}
+	}
+
+	/**
+	 * execute {@code request} on the owner component as
+	 * {@code handleRequestOnOwner(request)} does but without blocking the
+	 * caller thread, returning a completable future completed by the owner
+	 * thread executing the request.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code !isDestroyed()}
+	 * pre	{@code request != null}
+	 * post	{@code ret != null}
+	 * </pre>
+	 *
+	 * @param <T>							the type of the value returned by the request.
+	 * @param request						service request to be executed on the owner.
+	 * @return								a completable future completed with the result or the exception of the request.
+	 * @throws RequestRejectedException		if the request cannot be accepted by the executor service.
+	 * @throws Exception					<i>to do</i>.
+	 */
+	protected <T> CompletableFuture<T>	handleRequestOnOwnerAsync(
+		ComponentService<T> request
+		) throws	RequestRejectedException, Exception
+	{
+		assert	!this.isDestroyed.get() :
+				new PreconditionException("!isDestroyed()");
+		assert	request != null : new PreconditionException("request != null");
+
+		if (this.callerRuns) {
+			CompletableFuture<T> ret = new CompletableFuture<T>();
+			try {
+				request.setOwnerReference(this.getOwner());
+				ret.complete(request.call());
+			} catch (Throwable e) {
+				ret.completeExceptionally(e);
+			}
+			return ret;
+		}
+		int previous = BCM4JavaPriorityThreadPoolExecutor.
+									setSubmissionPriority(this.requestPriority);
+		try {
+			if (this.hasExecutorService()) {
+				return this.getOwner().handleRequestAsync(
+									this.getExecutorServiceIndex(), request);
+			} else {
+				return this.getOwner().handleRequestAsync(request);
+			}
+		} catch (RejectedExecutionException e) {
+			throw this.rejected(e);
+		} finally {
+			BCM4JavaPriorityThreadPoolExecutor.setSubmissionPriority(previous);
+		}
+	}
+
+	/**
+	 * execute the request represented by the lambda expression
+	 * {@code request} on the owner component as
+	 * {@code handleRequestOnOwner(request)} does but without blocking the
+	 * caller thread, returning a completable future completed by the owner
+	 * thread executing the request.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code !isDestroyed()}
+	 * pre	{@code request != null}
+	 * post	{@code ret != null}
+	 * </pre>
+	 *
+	 * @param <T>							the type of the value returned by the request.
+	 * @param request						service request to be executed on the owner.
+	 * @return								a completable future completed with the result or the exception of the request.
+	 * @throws RequestRejectedException		if the request cannot be accepted by the executor service.
+	 * @throws Exception					<i>to do</i>.
+	 */
+	protected <T> CompletableFuture<T>	handleRequestOnOwnerAsync(
+		FComponentService<T> request
+		) throws	RequestRejectedException, Exception
+	{
+		assert	!this.isDestroyed.get() :
+				new PreconditionException("!isDestroyed()");
+		assert	request != null : new PreconditionException("request != null");
+
+		if (this.callerRuns) {
+			CompletableFuture<T> ret = new CompletableFuture<T>();
+			try {
+				ret.complete(request.apply(this.getOwner()));
+			} catch (Throwable e) {
+				ret.completeExceptionally(e);
+			}
+			return ret;
+		}
+		int previous = BCM4JavaPriorityThreadPoolExecutor.
+									setSubmissionPriority(this.requestPriority);
+		try {
+			if (this.hasExecutorService()) {
+				return this.getOwner().handleRequestAsync(
+									this.getExecutorServiceIndex(), request);
+			} else {
+				return this.getOwner().handleRequestAsync(request);
+			}
+		} catch (RejectedExecutionException e) {
+			throw this.rejected(e);
+		} finally {
+			BCM4JavaPriorityThreadPoolExecutor.setSubmissionPriority(previous);
+		}
+	}
+
+	/**
+	 * submit {@code request} as a one-way task to the owner component with
+	 * the priority {@code priority}, using the executor service of this port
+	 * if any, without waiting for its execution; the exceptions raised by
+	 * the request are thrown in the thread executing it as
+	 * {@code BCMRuntimeException}.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code !isDestroyed()}
+	 * pre	{@code request != null}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param priority						priority of the request in prioritised executor services.
+	 * @param request						service request to be executed on the owner.
+	 * @throws RequestRejectedException		if the request cannot be accepted by the executor service.
+	 * @throws Exception					<i>to do</i>.
+	 */
+	protected void		prioritizedRunRequestOnOwner(
+		int priority,
+		ComponentService<?> request
+		) throws	RequestRejectedException, Exception
+	{
+		assert	request != null : new PreconditionException("request != null");
+
+		this.prioritizedRunTaskOnOwner(
+				priority,
+				new AbstractComponent.AbstractTask() {
+					@Override
+					public void setOwnerReference(ComponentI owner) {
+						super.setOwnerReference(owner);
+						request.setOwnerReference(owner);
+					}
+					@Override
+					public void run() {
+						try {
+							request.call();
+						} catch (Exception e) {
+							throw new BCMRuntimeException(e);
+						}
+					}
+				});
+	}
+
+	/**
+	 * submit the request represented by the lambda expression
+	 * {@code request} as a one-way task to the owner component as
+	 * {@code prioritizedRunRequestOnOwner(int,ComponentService)} does.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code !isDestroyed()}
+	 * pre	{@code request != null}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param priority						priority of the request in prioritised executor services.
+	 * @param request						service request to be executed on the owner.
+	 * @throws RequestRejectedException		if the request cannot be accepted by the executor service.
+	 * @throws Exception					<i>to do</i>.
+	 */
+	protected void		prioritizedRunRequestOnOwner(
+		int priority,
+		FComponentService<?> request
+		) throws	RequestRejectedException, Exception
+	{
+		assert	request != null : new PreconditionException("request != null");
+
+		this.prioritizedRunTaskOnOwner(
+				priority,
+				new AbstractComponent.AbstractTask() {
+					@Override
+					public void run() {
+						try {
+							request.apply(this.getTaskOwner());
+						} catch (Exception e) {
+							throw new BCMRuntimeException(e);
+						}
+					}
+				});
+	}
+
+	/**
+	 * run {@code task} on the owner component with the priority
+	 * {@code priority}, using the executor service of this port if any; the
+	 * rejections of the task by the executor service are returned to the
+	 * caller as {@code RequestRejectedException} identifying this port.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code !isDestroyed()}
+	 * pre	{@code task != null}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param priority						priority of the task in prioritised executor services.
+	 * @param task							task to be executed on the owner.
+	 * @throws RequestRejectedException		if the task cannot be accepted by the executor service.
+	 * @throws Exception					<i>to do</i>.
+	 */
+	protected void		prioritizedRunTaskOnOwner(
+		int priority,
+		ComponentTask task
+		) throws	RequestRejectedException, Exception
+	{
+		assert	!this.isDestroyed.get() :
+				new PreconditionException("!isDestroyed()");
+		assert	task != null : new PreconditionException("task != null");
+
+		int previous =
+				BCM4JavaPriorityThreadPoolExecutor.setSubmissionPriority(priority);
+		try {
+			if (this.hasExecutorService()) {
+				this.getOwner().runTask(this.getExecutorServiceIndex(), task);
+			} else {
+				this.getOwner().runTask(task);
+			}
+		} catch (RejectedExecutionException e) {
+			throw this.rejected(e);
+		} finally {
+			BCM4JavaPriorityThreadPoolExecutor.setSubmissionPriority(previous);
+		}
+	}
+
+	/**
+	 * run {@code task} on the owner component, using the executor service of
+	 * this port if any; the rejections of the task by the executor service
+	 * are returned to the caller as {@code RequestRejectedException}
+	 * identifying this port.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code !isDestroyed()}
+	 * pre	{@code task != null}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param task							task to be executed on the owner.
+	 * @throws RequestRejectedException		if the task cannot be accepted by the executor service.
+	 * @throws Exception					<i>to do</i>.
+	 */
+	protected void		runTaskOnOwner(ComponentTask task)
+	throws	RequestRejectedException, Exception
+	{
+		assert	!this.isDestroyed.get() :
+				new PreconditionException("!isDestroyed()");
+		assert	task != null : new PreconditionException("task != null");
+
+		this.prioritizedRunTaskOnOwner(this.requestPriority, task);
+	}
+
+	// -------------------------------------------------------------------------
+	// Local invocation
+	// -------------------------------------------------------------------------
+
+	/**
+	 * create the local invoker of this port, or return null if the port
+	 * does not provide one, in which case local callers go through the port
+	 * itself; ports providing a local invoker must redefine this method.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code !isDestroyed()}
+	 * post	{@code ret == null || ret.getPort() == this}
+	 * </pre>
+	 *
+	 * @return				the local invoker of this port or null if none.
+	 * @throws Exception	<i>to do</i>.
+	 */
+	protected AbstractLocalInvoker	createLocalInvoker() throws Exception
+	{
+		return null;
+	}
+
+	/**
+	 * return the local invoker of this port, creating it on the first call,
+	 * or null if the port does not provide one.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code !isDestroyed()}
+	 * post	{@code ret == null || ret.getPort() == this}
+	 * </pre>
+	 *
+	 * @return				the local invoker of this port or null if none.
+	 * @throws Exception	<i>to do</i>.
+	 */
+	public AbstractLocalInvoker	getLocalInvoker() throws Exception
+	{
+		assert	!this.isDestroyed.get() :
+				new PreconditionException("!isDestroyed()");
+
+		AbstractLocalInvoker ret = this.localInvoker;
+		if (ret == null) {
+			synchronized (this) {
+				ret = this.localInvoker;
+				if (ret == null) {
+					ret = this.createLocalInvoker();
+					this.localInvoker = ret;
+				}
+			}
+		}
+
+		assert	ret == null || ret.getPort() == this :
+				new PostconditionException(
+						"ret == null || ret.getPort() == this");
+
+		return ret;
+	}
+
+	/**
+	 * return a {@code RequestRejectedException} identifying this port and
+	 * carrying the information in {@code e}.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code e != null}
+	 * post	{@code ret != null}
+	 * </pre>
+	 *
+	 * @param e	rejection signalled by the owner.
+	 * @return	a {@code RequestRejectedException} identifying this port.
+	 */
+	protected RequestRejectedException	rejected(RejectedExecutionException e)
+	{
+		if (e instanceof RequestRejectedException) {
+			RequestRejectedException rre = (RequestRejectedException) e;
+			return new RequestRejectedException(
+								rre.getExecutorServiceURI(),
+								rre.getQueueCapacity(),
+								this.uri,
+								// the cause is not returned to remote callers
+								// to avoid marshalling the owner internals
+								null);
+		} else {
+			return new RequestRejectedException(
+								this.executorServiceURI, -1, this.uri, null);
+		}
+	}
 }
 // -----------------------------------------------------------------------------
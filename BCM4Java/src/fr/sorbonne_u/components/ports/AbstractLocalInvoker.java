@@ -0,0 +1,401 @@
+package fr.sorbonne_u.components.ports;
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a
+// basic component programming model to program with components
+// distributed applications in the Java programming language.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+import fr.sorbonne_u.components.ComponentI;
+import fr.sorbonne_u.components.ComponentI.ComponentService;
+import fr.sorbonne_u.components.ComponentI.FComponentService;
+import fr.sorbonne_u.components.ComponentI.FComponentTask;
+import fr.sorbonne_u.components.annotations.RequestPriority;
+import fr.sorbonne_u.components.exceptions.RequestRejectedException;
+import fr.sorbonne_u.components.interfaces.OfferedCI;
+import fr.sorbonne_u.components.tasks_management.BCM4JavaPriorityThreadPoolExecutor;
+import fr.sorbonne_u.exceptions.PreconditionException;
+import java.util.concurrent.RejectedExecutionException;
+
+// -----------------------------------------------------------------------------
+/**
+ * The class <code>AbstractLocalInvoker</code> partially implements a local
+ * invoker, an object implementing the offered interface of an inbound port
+ * that submits the calls directly to the executor services of the owner of
+ * the port when the caller runs in the same JVM.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p>
+ * When {@code AbstractCVM.USE_LOCAL_INVOKERS} is true and a connector finds
+ * that both of its ports are published in the local registry, it binds its
+ * outbound calls to the local invoker returned by
+ * {@code AbstractInboundPort#getLocalInvoker()} when the inbound port
+ * provides one (see {@code AbstractConnector#getCallee()}). A concrete local
+ * invoker implements the offered interface of the port exactly as the port
+ * does, but with the methods <code>handleRequest</code> and
+ * <code>runTask</code> of this class, either with lambda expressions or
+ * with requests, as the generated local invokers do (see
+ * {@code ConnectionClassesGenerator#generateInboundPort}). These resolve the
+ * owner, the caller runs policy and the priority of the port once and for
+ * all, and then only read the current executor service index of the port,
+ * so that a call costs a method call plus the handoff to the executor
+ * service queue.
+ * </p>
+ * <p>
+ * A local invoker is never marshalled; it must not be exported or passed
+ * to remote components.
+ * </p>
+ * 
+ * <p><strong>Invariant</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code port != null && owner != null}
+ * invariant	{@code pluginURI == null || owner.isInstalled(pluginURI)}
+ * </pre>
+ * 
+ * <p>Created on : 2026-10-16</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+public abstract class	AbstractLocalInvoker
+implements	OfferedCI
+{
+	// -------------------------------------------------------------------------
+	// Constants and variables
+	// -------------------------------------------------------------------------
+
+	/** inbound port for which this invoker executes the calls.			*/
+	protected final AbstractInboundPort	port;
+	/** owner of the inbound port.											*/
+	protected final ComponentI			owner;
+	/** priority of the requests submitted through the port.				*/
+	protected final int					requestPriority;
+	/** URI of the plug-in called by the port or null if none.				*/
+	protected final String				pluginURI;
+
+	// -------------------------------------------------------------------------
+	// Constructors
+	// -------------------------------------------------------------------------
+
+	/**
+	 * create a local invoker for {@code port}.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code port != null && !port.isDestroyed()}
+	 * post	{@code getPort() == port}
+	 * </pre>
+	 *
+	 * @param port			inbound port for which this invoker executes the calls.
+	 * @throws Exception	<i>to do</i>.
+	 */
+	protected			AbstractLocalInvoker(AbstractInboundPort port)
+	throws Exception
+	{
+		super();
+
+		assert	port != null && !port.isDestroyed() :
+				new PreconditionException(
+						"port != null && !port.isDestroyed()");
+
+		this.port = port;
+		this.owner = port.getOwner();
+		this.requestPriority = port.getRequestPriority();
+		this.pluginURI = port.hasPlugin() ? port.getPluginURI() : null;
+	}
+
+	// -------------------------------------------------------------------------
+	// Methods
+	// -------------------------------------------------------------------------
+
+	/**
+	 * return the inbound port for which this invoker executes the calls.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code ret != null}
+	 * </pre>
+	 *
+	 * @return	the inbound port for which this invoker executes the calls.
+	 */
+	public AbstractInboundPort	getPort()
+	{
+		return this.port;
+	}
+
+	/**
+	 * execute the request represented by the lambda expression
+	 * {@code request} on the owner of the port as
+	 * {@code AbstractInboundPort#handleRequestOnOwner(FComponentService)}
+	 * does, and return its result.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code request != null}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param <T>							the type of the value returned by the request.
+	 * @param request						service request to be executed on the owner.
+	 * @return								the result of the request.
+	 * @throws RequestRejectedException		if the request cannot be accepted by the executor service.
+	 * @throws Exception					<i>to do</i>.
+	 */
+	protected <T> T		handleRequest(FComponentService<T> request)
+	throws	RequestRejectedException, Exception
+	{
+		if (this.port.callerRuns) {
+			return request.apply(this.owner);
+		} else {
+			return this.handleRequest(this.requestPriority, request);
+		}
+	}
+
+	/**
+	 * execute the request represented by the lambda expression
+	 * {@code request} implementing the service {@code serviceName} on the
+	 * owner of the port as
+	 * {@code AbstractInboundPort#handleRequestOnOwner(String,FComponentService)}
+	 * does, and return its result or null without waiting for the execution
+	 * when the service is a one-way service.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code serviceName != null && !serviceName.isEmpty()}
+	 * pre	{@code request != null}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param <T>							the type of the value returned by the request.
+	 * @param serviceName					name of the service implemented by the request.
+	 * @param request						service request to be executed on the owner.
+	 * @return								the result of the request.
+	 * @throws RequestRejectedException		if the request cannot be accepted by the executor service.
+	 * @throws Exception					<i>to do</i>.
+	 */
+	protected <T> T		handleRequest(
+		String serviceName,
+		FComponentService<T> request
+		) throws	RequestRejectedException, Exception
+	{
+		if (this.port.isCallerRuns(serviceName)) {
+			return request.apply(this.owner);
+		} else if (this.port.isAsynchronous(serviceName)) {
+			this.port.prioritizedRunRequestOnOwner(
+						this.port.getRequestPriority(serviceName), request);
+			return null;
+		} else {
+			return this.handleRequest(
+						this.port.getRequestPriority(serviceName), request);
+		}
+	}
+
+	/**
+	 * execute {@code request} implementing the service {@code serviceName}
+	 * on the owner of the port as
+	 * {@code AbstractInboundPort#handleRequestOnOwner(String,ComponentService)}
+	 * does, and return its result or null without waiting for the execution
+	 * when the service is a one-way service.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code serviceName != null && !serviceName.isEmpty()}
+	 * pre	{@code request != null}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param <T>							the type of the value returned by the request.
+	 * @param serviceName					name of the service implemented by the request.
+	 * @param request						service request to be executed on the owner.
+	 * @return								the result of the request.
+	 * @throws RequestRejectedException		if the request cannot be accepted by the executor service.
+	 * @throws Exception					<i>to do</i>.
+	 */
+	protected <T> T		handleRequest(
+		String serviceName,
+		ComponentService<T> request
+		) throws	RequestRejectedException, Exception
+	{
+		if (this.port.isCallerRuns(serviceName)) {
+			request.setOwnerReference(this.owner);
+			return request.call();
+		} else if (this.port.isAsynchronous(serviceName)) {
+			this.port.prioritizedRunRequestOnOwner(
+						this.port.getRequestPriority(serviceName), request);
+			return null;
+		} else {
+			return this.handleRequest(
+						this.port.getRequestPriority(serviceName), request);
+		}
+	}
+
+	/**
+	 * submit {@code request} with the priority {@code priority} to the
+	 * executor service of the port, or the standard one if none, and return
+	 * its result, as {@code handleRequest(int,FComponentService)} does.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code request != null}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param <T>							the type of the value returned by the request.
+	 * @param priority						priority of the request in prioritised executor services.
+	 * @param request						service request to be executed on the owner.
+	 * @return								the result of the request.
+	 * @throws RequestRejectedException		if the request cannot be accepted by the executor service.
+	 * @throws Exception					<i>to do</i>.
+	 */
+	private <T> T		handleRequest(
+		int priority,
+		ComponentService<T> request
+		) throws	RequestRejectedException, Exception
+	{
+		assert	request != null : new PreconditionException("request != null");
+
+		int index = this.port.executorServiceIndex.get();
+		if (priority == RequestPriority.NORM_PRIORITY) {
+			try {
+				return index < 0 ?
+							this.owner.handleRequest(request)
+						:	this.owner.handleRequest(index, request);
+			} catch (RejectedExecutionException e) {
+				throw this.port.rejected(e);
+			}
+		}
+		int previous =
+				BCM4JavaPriorityThreadPoolExecutor.setSubmissionPriority(priority);
+		try {
+			return index < 0 ?
+						this.owner.handleRequest(request)
+					:	this.owner.handleRequest(index, request);
+		} catch (RejectedExecutionException e) {
+			throw this.port.rejected(e);
+		} finally {
+			BCM4JavaPriorityThreadPoolExecutor.setSubmissionPriority(previous);
+		}
+	}
+
+	/**
+	 * submit {@code request} with the priority {@code priority} to the
+	 * executor service of the port, or the standard one if none, and return
+	 * its result; the submission priority of the caller thread is only
+	 * changed for non default priorities.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code request != null}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param <T>							the type of the value returned by the request.
+	 * @param priority						priority of the request in prioritised executor services.
+	 * @param request						service request to be executed on the owner.
+	 * @return								the result of the request.
+	 * @throws RequestRejectedException		if the request cannot be accepted by the executor service.
+	 * @throws Exception					<i>to do</i>.
+	 */
+	private <T> T		handleRequest(
+		int priority,
+		FComponentService<T> request
+		) throws	RequestRejectedException, Exception
+	{
+		assert	request != null : new PreconditionException("request != null");
+
+		int index = this.port.executorServiceIndex.get();
+		if (priority == RequestPriority.NORM_PRIORITY) {
+			try {
+				return index < 0 ?
+							this.owner.handleRequest(request)
+						:	this.owner.handleRequest(index, request);
+			} catch (RejectedExecutionException e) {
+				throw this.port.rejected(e);
+			}
+		}
+		int previous =
+				BCM4JavaPriorityThreadPoolExecutor.setSubmissionPriority(priority);
+		try {
+			return index < 0 ?
+						this.owner.handleRequest(request)
+					:	this.owner.handleRequest(index, request);
+		} catch (RejectedExecutionException e) {
+			throw this.port.rejected(e);
+		} finally {
+			BCM4JavaPriorityThreadPoolExecutor.setSubmissionPriority(previous);
+		}
+	}
+
+	/**
+	 * run the task represented by the lambda expression {@code task} on the
+	 * owner of the port, using the executor service of the port if any.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code task != null}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param task							task to be executed on the owner.
+	 * @throws RequestRejectedException		if the task cannot be accepted by the executor service.
+	 * @throws Exception					<i>to do</i>.
+	 */
+	protected void		runTask(FComponentTask task)
+	throws	RequestRejectedException, Exception
+	{
+		assert	task != null : new PreconditionException("task != null");
+
+		int index = this.port.executorServiceIndex.get();
+		int previous = BCM4JavaPriorityThreadPoolExecutor.
+									setSubmissionPriority(this.requestPriority);
+		try {
+			if (index < 0) {
+				this.owner.runTask(task);
+			} else {
+				this.owner.runTask(index, task);
+			}
+		} catch (RejectedExecutionException e) {
+			throw this.port.rejected(e);
+		} finally {
+			BCM4JavaPriorityThreadPoolExecutor.setSubmissionPriority(previous);
+		}
+	}
+}
+// -----------------------------------------------------------------------------
@@ -34,6 +34,8 @@ package fr.sorbonne_u.components.ports;
 // knowledge of the CeCILL-C license and that you accept its terms.
 
 import java.lang.reflect.Constructor;
+import java.util.concurrent.Callable;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import fr.sorbonne_u.components.AbstractPort;
@@ -45,6 +47,7 @@ import fr.sorbonne_u.components.exceptions.ConnectionException;
 import fr.sorbonne_u.components.helpers.CVMDebugModes;
 import fr.sorbonne_u.components.interfaces.OfferedCI;
 import fr.sorbonne_u.components.interfaces.RequiredCI;
+import fr.sorbonne_u.components.tasks_management.RequestDeadline;
 import fr.sorbonne_u.exceptions.ImplementationInvariantException;
 import fr.sorbonne_u.exceptions.InvariantException;
 import fr.sorbonne_u.exceptions.PostconditionException;
@@ -616,6 +619,11 @@ implements	OutboundPortI
 		// connection and disconnection protocol
 
 		((ConnectorI)this.getConnector()).disconnect();
+		if (this.isRemotelyConnected.get()) {
+			// the server port may be unpublished or moved after disconnection
+			AbstractDistributedCVM.invalidateRemoteReference(
+													this.getServerPortURI());
+		}
 		this.unsetServerPortURI();
 		this.unsetConnector();
 		this.isRemotelyConnected.set(false);
@@ -633,5 +641,76 @@ implements	OutboundPortI
 		throw new ConnectionException("Can't call obeyDisconnection on simple"
 														+ " outbound ports.");
 	}
+
+	// -------------------------------------------------------------------------
+	// Deadline management
+	// -------------------------------------------------------------------------
+
+	/**
+	 * perform the calls made through this port by {@code calls} under the
+	 * given deadline, i.e. the server components drop the requests that they
+	 * dequeue after {@code deadline} and the caller stops waiting for their
+	 * results at that time (see {@code RequestDeadline}); when a deadline is
+	 * already current for the calling thread, the earlier of the two applies.
+	 * 
+	 * <p>
+	 * The deadline follows the calls only when the server component runs in
+	 * the same JVM as the client; through RMI, the calls are performed
+	 * without deadline.
+	 * </p>
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code calls != null}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param <T>			type of the result of {@code calls}.
+	 * @param deadline		time in milliseconds since the epoch after which the calls are abandoned.
+	 * @param calls			calls to be performed through this port.
+	 * @return				the result of {@code calls}.
+	 * @throws Exception	<i>to do</i>.
+	 */
+	public <T> T		callWithDeadline(long deadline, Callable<T> calls)
+	throws Exception
+	{
+		assert	calls != null : new PreconditionException("calls != null");
+
+		long previous = RequestDeadline.restrictCurrentDeadline(deadline);
+		try {
+			return calls.call();
+		} finally {
+			RequestDeadline.setCurrentDeadline(previous);
+		}
+	}
+
+	/**
+	 * perform the calls made through this port by {@code calls} under a
+	 * deadline {@code timeout} from now (see {@code callWithDeadline}).
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code timeout >= 0 && u != null}
+	 * pre	{@code calls != null}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param <T>			type of the result of {@code calls}.
+	 * @param timeout		time from now after which the calls are abandoned.
+	 * @param u				time unit in which the timeout is expressed.
+	 * @param calls			calls to be performed through this port.
+	 * @return				the result of {@code calls}.
+	 * @throws Exception	<i>to do</i>.
+	 */
+	public <T> T		callWithTimeout(
+		long timeout,
+		TimeUnit u,
+		Callable<T> calls
+		) throws Exception
+	{
+		return this.callWithDeadline(RequestDeadline.in(timeout, u), calls);
+	}
 }
 // -----------------------------------------------------------------------------
@@ -47,6 +47,7 @@ import fr.sorbonne_u.components.reflection.interfaces.IntrospectionCI;
 import fr.sorbonne_u.components.reflection.interfaces.ReflectionCI;
 import fr.sorbonne_u.components.reflection.utils.ConstructorSignature;
 import fr.sorbonne_u.components.reflection.utils.ServiceSignature;
+import fr.sorbonne_u.components.tasks_management.ExecutorServiceMetricsSnapshot;
 
 // -----------------------------------------------------------------------------
 /**
@@ -308,6 +309,28 @@ implements	ReflectionCI
 		return ((IntrospectionCI)this.offering).getTotalNumberOfThreads();
 	}
 
+	/**
+	 * @see fr.sorbonne_u.components.reflection.interfaces.IntrospectionCI#getExecutorServicesMetrics()
+	 */
+	@Override
+	public ExecutorServiceMetricsSnapshot[]	getExecutorServicesMetrics()
+	throws Exception
+	{
+		return ((IntrospectionCI)this.offering).getExecutorServicesMetrics();
+	}
+
+	/**
+	 * @see fr.sorbonne_u.components.reflection.interfaces.IntrospectionCI#getExecutorServiceMetrics(java.lang.String)
+	 */
+	@Override
+	public ExecutorServiceMetricsSnapshot	getExecutorServiceMetrics(
+		String executorServiceURI
+		) throws Exception
+	{
+		return ((IntrospectionCI)this.offering).
+							getExecutorServiceMetrics(executorServiceURI);
+	}
+
 	// -------------------------------------------------------------------------
 	// Implemented interfaces management
 	// -------------------------------------------------------------------------
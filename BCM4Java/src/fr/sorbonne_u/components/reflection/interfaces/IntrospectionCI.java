@@ -39,6 +39,7 @@ import fr.sorbonne_u.components.interfaces.OfferedCI;
 import fr.sorbonne_u.components.interfaces.RequiredCI;
 import fr.sorbonne_u.components.reflection.utils.ConstructorSignature;
 import fr.sorbonne_u.components.reflection.utils.ServiceSignature;
+import fr.sorbonne_u.components.tasks_management.ExecutorServiceMetricsSnapshot;
 import java.lang.annotation.Annotation;
 import fr.sorbonne_u.components.interfaces.ComponentInterface;
 
@@ -233,6 +234,42 @@ extends		OfferedCI,
 	 */
 	public int			getTotalNumberOfThreads() throws Exception;
 
+	/**
+	 * return snapshots of the metrics of all the executor services of the
+	 * component, in the order of their indexes.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	true		// no precondition.
+	 * post	{@code ret != null}
+	 * </pre>
+	 *
+	 * @return				snapshots of the metrics of all the executor services of the component.
+	 * @throws Exception	<i>to do</i>.
+	 */
+	public ExecutorServiceMetricsSnapshot[]	getExecutorServicesMetrics()
+	throws Exception;
+
+	/**
+	 * return a snapshot of the metrics of the executor service with URI
+	 * {@code executorServiceURI}.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code executorServiceURI != null}
+	 * post	{@code ret != null}
+	 * </pre>
+	 *
+	 * @param executorServiceURI	URI of the executor service.
+	 * @return						a snapshot of the metrics of the executor service.
+	 * @throws Exception			<i>to do</i>.
+	 */
+	public ExecutorServiceMetricsSnapshot	getExecutorServiceMetrics(
+		String executorServiceURI
+		) throws Exception;
+
 	/**
 	 * return true if the component guarantees a serialised execution of its services.
 	 * 
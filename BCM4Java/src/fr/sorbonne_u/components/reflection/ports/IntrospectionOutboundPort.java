@@ -44,6 +44,7 @@ import fr.sorbonne_u.components.ports.AbstractOutboundPort;
 import fr.sorbonne_u.components.reflection.interfaces.IntrospectionCI;
 import fr.sorbonne_u.components.reflection.utils.ConstructorSignature;
 import fr.sorbonne_u.components.reflection.utils.ServiceSignature;
+import fr.sorbonne_u.components.tasks_management.ExecutorServiceMetricsSnapshot;
 
 // -----------------------------------------------------------------------------
 /**
@@ -226,6 +227,28 @@ implements	IntrospectionCI
 		return ((IntrospectionCI)this.getConnector()).getTotalNumberOfThreads();
 	}
 
+	/**
+	 * @see fr.sorbonne_u.components.reflection.interfaces.IntrospectionCI#getExecutorServicesMetrics()
+	 */
+	@Override
+	public ExecutorServiceMetricsSnapshot[]	getExecutorServicesMetrics()
+	throws Exception
+	{
+		return ((IntrospectionCI)this.getConnector()).getExecutorServicesMetrics();
+	}
+
+	/**
+	 * @see fr.sorbonne_u.components.reflection.interfaces.IntrospectionCI#getExecutorServiceMetrics(java.lang.String)
+	 */
+	@Override
+	public ExecutorServiceMetricsSnapshot	getExecutorServiceMetrics(
+		String executorServiceURI
+		) throws Exception
+	{
+		return ((IntrospectionCI)this.getConnector()).
+							getExecutorServiceMetrics(executorServiceURI);
+	}
+
 	// -------------------------------------------------------------------------
 	// Implemented interfaces management
 	// -------------------------------------------------------------------------
@@ -66,6 +66,10 @@ public class			ConnectionData
 	protected String			hostname;
 	/** port number on which the RMI registry can be called.				*/
 	protected int				port;
+	/** name under which the dispatcher of the JVM offering the port is
+	 *  bound in the RMI registry, null unless the type is
+	 *  {@code DISPATCHER}.													*/
+	protected String			dispatcherName;
 
 	// -------------------------------------------------------------------------
 	// Constructors
@@ -106,6 +110,38 @@ public class			ConnectionData
 		this.port = port;
 	}
 
+	/**
+	 * create a connection data object for a port offered through the
+	 * dispatcher bound under {@code dispatcherName} in the RMI registry of
+	 * the host {@code hostname}.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code hostname != null}
+	 * pre	{@code port > 0}
+	 * pre	{@code dispatcherName != null && !dispatcherName.isEmpty()}
+	 * post	{@code getType() == ConnectionType.DISPATCHER}
+	 * </pre>
+	 *
+	 * @param hostname			name of the host on which RMI registry the dispatcher is published.
+	 * @param port				port number of the RMI registry.
+	 * @param dispatcherName	name of the dispatcher in the RMI registry.
+	 */
+	public				ConnectionData(
+		String hostname,
+		int port,
+		String dispatcherName
+		)
+	{
+		this(ConnectionType.DISPATCHER, hostname, port);
+		assert	dispatcherName != null && !dispatcherName.isEmpty() :
+					new BadConnectionDataException(
+									"name of the dispatcher is null!");
+
+		this.dispatcherName = dispatcherName;
+	}
+
 	/**
 	 * create a connection data object from the raw information received by the
 	 * registry through a socket communication (hence one string).
@@ -135,6 +171,16 @@ public class			ConnectionData
 						new BadConnectionDataException(
 									"hostname of the RMI registry is null!");
 			this.hostname = temp1[1];
+		} else if (temp1[0].equals("dispatcher")) {
+			this.type = ConnectionType.DISPATCHER;
+			String info = temp1.length > 1 ? temp1[1] : "";
+			int slash = info.indexOf('/');
+			if (slash <= 0 || slash == info.length() - 1) {
+				throw new BadConnectionDataException(
+							"bad dispatcher information: " + info);
+			}
+			this.hostname = info.substring(0, slash);
+			this.dispatcherName = info.substring(slash + 1);
 		} else {
 			assert	temp1[0].equals("socket") :
 						new BadConnectionDataException(
@@ -185,6 +231,13 @@ public class			ConnectionData
 		return this.port;
 	}
 
+	/**
+	 * @return the dispatcherName
+	 */
+	public String			getDispatcherName() {
+		return this.dispatcherName;
+	}
+
 	/**
 	 * @see java.lang.Object#toString()
 	 */
@@ -195,6 +248,9 @@ public class			ConnectionData
 		if (this.type == ConnectionType.RMI) {
 			sb = new StringBuffer("rmi=");
 			sb.append(this.hostname);
+		} else if (this.type == ConnectionType.DISPATCHER) {
+			sb = new StringBuffer("dispatcher=");
+			sb.append(this.hostname).append("/").append(this.dispatcherName);
 		} else {
 			sb = new StringBuffer("socket=");
 			sb.append(this.hostname).append(":").append(this.port);
@@ -40,8 +40,15 @@ package fr.sorbonne_u.components.registry;
  *
  * <p><strong>Description</strong></p>
  * 
- * Currently RMI, that is fully implemented, and socket that is still to be
- * completed before becoming operational.
+ * <p>
+ * RMI designates ports exported as remote objects and bound in the RMI
+ * registry of their host. Socket designates ports called through the socket
+ * transport of the JVM offering them, which listens on the given port (see
+ * {@code fr.sorbonne_u.components.cvm.transport.SocketTransport}). Dispatcher
+ * designates ports called through RMI but via the single dispatcher of the
+ * JVM offering them, bound in the RMI registry of the given host (see
+ * {@code fr.sorbonne_u.components.cvm.transport.RemoteDispatcher}).
+ * </p>
  * 
  * <p><strong>Invariant</strong></p>
  * 
@@ -56,6 +63,7 @@ package fr.sorbonne_u.components.registry;
  */
 public enum 				ConnectionType {
 	RMI,
-	SOCKET
+	SOCKET,
+	DISPATCHER
 }
 // -----------------------------------------------------------------------------
@@ -54,7 +54,7 @@ import fr.sorbonne_u.components.registry.protocol.ShutdownRequest;
  * For the component model, values put in and retrieved from the registry are
  * strings with the format:
  * 
- * value ::= rmi=hostname | socket=hostname:port
+ * value ::= rmi=hostname | socket=hostname:port | dispatcher=hostname/name
  * 
  * <p><strong>Invariant</strong></p>
  * 
@@ -68,6 +68,10 @@ import fr.sorbonne_u.components.registry.protocol.ShutdownRequest;
  */
 public class			GlobalRegistryClient
 {
+	/** maximum number of lookup requests pipelined on the socket before
+	 *  reading their responses.											*/
+	public static int			LOOKUP_BATCH_SIZE = 256;
+
 	/** host on which the global registry is executing.						*/
 	protected InetAddress		registryHost ;
 	/** socket used to connect to the global registry.						*/
@@ -102,24 +106,19 @@ public class			GlobalRegistryClient
 	// ------------------------------------------------------------------------
 
 	/**
-	 * send a request to the registry and return the answer as a string.
+	 * open the connection to the registry if not already done.
 	 * 
 	 * <p><strong>Contract</strong></p>
 	 * 
 	 * <pre>
-	 * pre	command != null
-	 * post	true			// no postcondition.
+	 * pre	true			// no precondition.
+	 * post	s != null
 	 * </pre>
 	 *
-	 * @param request		request to be sent.
-	 * @return				string representing the result of the request.
 	 * @throws Exception	<i>to do.</i>
 	 */
-	protected String		sendRequest(String request)
-	throws	Exception
+	protected void			connect() throws Exception
 	{
-		String responseString = null;
-
 		if (this.registryHost == null) {
 			this.registryHost =
 					InetAddress.getByName(GlobalRegistry.REGISTRY_HOSTNAME);
@@ -131,6 +130,28 @@ public class			GlobalRegistryClient
 			this.br = new BufferedReader(
 								new InputStreamReader(s.getInputStream()));
 		} 
+	}
+
+	/**
+	 * send a request to the registry and return the answer as a string.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	command != null
+	 * post	true			// no postcondition.
+	 * </pre>
+	 *
+	 * @param request		request to be sent.
+	 * @return				string representing the result of the request.
+	 * @throws Exception	<i>to do.</i>
+	 */
+	protected String		sendRequest(String request)
+	throws	Exception
+	{
+		String responseString = null;
+
+		this.connect();
 		ps.println(request) ;
 		responseString = this.br.readLine();
 		return responseString;
@@ -156,6 +177,49 @@ public class			GlobalRegistryClient
 		return response ;
 	}
 
+	/**
+	 * send lookup requests for all of the keys in {@code keys} to the
+	 * registry and return their results in the same order; the requests are
+	 * pipelined on the socket by batches of {@code LOOKUP_BATCH_SIZE}, the
+	 * registry answering the requests of a JVM in order.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	keys != null
+	 * post	ret != null and ret.length == keys.length
+	 * </pre>
+	 *
+	 * @param keys			keys to be looked up.
+	 * @return				results of the requests.
+	 * @throws Exception	<i>to do.</i>
+	 */
+	public synchronized String[]	lookup(String[] keys) throws Exception {
+		String[] responses = new String[keys.length];
+		if (keys.length > 0) {
+			// open the connection if needed
+			this.connect();
+			int start = 0;
+			while (start < keys.length) {
+				// batches bound the data in transit so that neither side
+				// blocks on a full socket buffer
+				int end = Math.min(start + LOOKUP_BATCH_SIZE, keys.length);
+				StringBuffer sb = new StringBuffer();
+				for (int i = start ; i < end ; i++) {
+					sb.append((new LookupRequest(keys[i])).request2string())
+					  .append(System.lineSeparator());
+				}
+				this.ps.print(sb);
+				this.ps.flush();
+				for (int i = start ; i < end ; i++) {
+					responses[i] = this.br.readLine();
+				}
+				start = end;
+			}
+		}
+		return responses;
+	}
+
 	/**
 	 * send a put request to the registry.
 	 * 
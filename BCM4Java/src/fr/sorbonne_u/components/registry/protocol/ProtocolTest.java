@@ -384,5 +384,52 @@ public class			ProtocolTest
 		Assertions.assertThrows(GlobalRegistryResponseException.class,
 								() -> { p.interpret(); });
 	}
+
+	@Test
+	public void			testDispatcherConnectionData()
+	{
+		ConnectionData cd =
+				new ConnectionData("localhost", 1099, "dispatcher-jvm1");
+		String value = cd.toString();
+		Assertions.assertTrue("dispatcher=localhost/dispatcher-jvm1".
+															equals(value));
+		try {
+			ConnectionData cd1 = new ConnectionData(value);
+			Assertions.assertTrue(cd1.getType() == ConnectionType.DISPATCHER);
+			Assertions.assertTrue("localhost".equals(cd1.getHostname()));
+			Assertions.assertTrue(
+						"dispatcher-jvm1".equals(cd1.getDispatcherName()));
+			Assertions.assertTrue(value.equals(cd1.toString()));
+		} catch (BadConnectionDataException e) {
+			Assertions.assertTrue(false,
+					"exception " + e + " should not be thrown!");
+		}
+
+		LookupResponse p = new LookupResponse(false, value);
+		try {
+			LookupResponse p1 =
+				(LookupResponse)Response.string2response(p.response2string());
+			Assertions.assertTrue(p.equals(p1));
+			Assertions.assertTrue(value.equals(p1.interpret().toString()));
+		} catch (GlobalRegistryResponseException |
+											BadConnectionDataException e) {
+			Assertions.assertTrue(false,
+					"exception " + e + " should not be thrown!");
+		}
+
+		Assertions.assertThrows(
+			AssertionError.class,
+			() -> { new ConnectionData("localhost", 1099, ""); });
+		for (String malformed : new String[]{ "dispatcher=localhost",
+											  "dispatcher=/dispatcher-jvm1",
+											  "dispatcher=localhost/",
+											  "dispatcher=",
+											  "dispatcher" }) {
+			Assertions.assertThrows(
+				BadConnectionDataException.class,
+				() -> { new ConnectionData(malformed); },
+				malformed);
+		}
+	}
 }
 // -----------------------------------------------------------------------------
@@ -0,0 +1,155 @@
+package fr.sorbonne_u.components.tasks_management;
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a
+// basic component programming model to program with components
+// distributed applications in the Java programming language.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.FutureTask;
+import fr.sorbonne_u.exceptions.PreconditionException;
+
+// -----------------------------------------------------------------------------
+/**
+ * The class <code>AsyncRequestTask</code> implements the task submitted to
+ * an executor service to execute an asynchronous request, completing the
+ * completable future returned to the caller.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p>
+ * The task is a future so that the overflow policies cancelling the tasks
+ * they remove from a full queue, like {@code QueueOverflowPolicy.SHED_OLDEST},
+ * cancel it: cancelling the task cancels the completable future, hence the
+ * caller gets a {@code CancellationException} instead of waiting forever.
+ * Conversely, a completable future already completed, because it has been
+ * cancelled or has expired, prevents the execution of the request.
+ * </p>
+ * 
+ * <p><strong>Invariant</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code result != null}
+ * </pre>
+ * 
+ * <p>Created on : 2026-10-16</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+public class			AsyncRequestTask<T>
+extends		FutureTask<Void>
+{
+	// -------------------------------------------------------------------------
+	// Constants and variables
+	// -------------------------------------------------------------------------
+
+	/** completable future completed by the execution of the request.		*/
+	protected final CompletableFuture<T>	result;
+
+	// -------------------------------------------------------------------------
+	// Constructors
+	// -------------------------------------------------------------------------
+
+	/**
+	 * create a task executing {@code request} and completing {@code result}
+	 * with its result or exception.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code request != null && result != null}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param request	request to be executed.
+	 * @param result	completable future completed by the execution.
+	 */
+	public				AsyncRequestTask(
+		Callable<T> request,
+		CompletableFuture<T> result
+		)
+	{
+		super(() -> {
+				// a cancelled or expired future must not execute its request
+				if (!result.isDone()) {
+					try {
+						result.complete(request.call());
+					} catch (Throwable e) {
+						result.completeExceptionally(e);
+					}
+				}
+			  }, null);
+
+		assert	request != null && result != null :
+				new PreconditionException("request != null && result != null");
+
+		this.result = result;
+	}
+
+	// -------------------------------------------------------------------------
+	// Methods
+	// -------------------------------------------------------------------------
+
+	/**
+	 * return the completable future completed by the execution of the
+	 * request.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code return != null}
+	 * </pre>
+	 *
+	 * @return	the completable future completed by the execution.
+	 */
+	public CompletableFuture<T>	getResult()
+	{
+		return this.result;
+	}
+
+	/**
+	 * cancel the task and, if it had not started, its completable future.
+	 * 
+	 * @see java.util.concurrent.FutureTask#cancel(boolean)
+	 */
+	@Override
+	public boolean		cancel(boolean mayInterruptIfRunning)
+	{
+		boolean cancelled = super.cancel(mayInterruptIfRunning);
+		if (cancelled) {
+			this.result.cancel(false);
+		}
+		return cancelled;
+	}
+}
+// -----------------------------------------------------------------------------
@@ -0,0 +1,149 @@
+package fr.sorbonne_u.components.tasks_management;
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a
+// new implementation of the DEVS simulation standard for Java.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import org.junit.Test;
+import org.junit.jupiter.api.Assertions;
+
+// -----------------------------------------------------------------------------
+/**
+ * The class <code>AsyncRequestTaskTest</code> checks that asynchronous
+ * requests shed by the {@code SHED_OLDEST} overflow policy complete their
+ * future with a {@code CancellationException}.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p><strong>Invariant</strong></p>
+ * 
+ * <pre>
+ * invariant		true
+ * </pre>
+ * 
+ * <p>Created on : 2026-10-16</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+public class			AsyncRequestTaskTest
+{
+	/** URI of the executor service used in the exceptions.					*/
+	protected static final String	URI = "async-request-task-test";
+
+	/**
+	 * block the single thread of {@code es}, submit two asynchronous
+	 * requests to its queue of capacity one and check that the first one,
+	 * shed by the second, completes with a {@code CancellationException}
+	 * without being executed while the second completes normally.
+	 *
+	 * @param es			executor service with one thread and a queue of capacity one, shedding its oldest task.
+	 * @throws Exception	<i>to do</i>.
+	 */
+	protected static void	checkShedding(ExecutorService es) throws Exception
+	{
+		CountDownLatch started = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		try {
+			es.execute(() -> {
+					started.countDown();
+					try {
+						release.await();
+					} catch (InterruptedException e) {
+						Thread.currentThread().interrupt();
+					}
+				});
+			Assertions.assertTrue(started.await(10, TimeUnit.SECONDS));
+
+			CompletableFuture<String> shed = new CompletableFuture<String>();
+			es.execute(new AsyncRequestTask<String>(
+								() -> Assertions.fail("shed request executed"),
+								shed));
+			CompletableFuture<String> kept = new CompletableFuture<String>();
+			es.execute(new AsyncRequestTask<String>(() -> "kept", kept));
+
+			Assertions.assertTrue(shed.isCancelled());
+			Assertions.assertThrows(
+				CancellationException.class,
+				() -> shed.get(10, TimeUnit.SECONDS));
+
+			release.countDown();
+			Assertions.assertEquals("kept", kept.get(10, TimeUnit.SECONDS));
+		} finally {
+			release.countDown();
+			es.shutdown();
+		}
+	}
+
+	@Test
+	public void			testShedOldestThreadPool() throws Exception
+	{
+		checkShedding(
+			new ThreadPoolExecutor(
+					1, 1, 0L, TimeUnit.MILLISECONDS,
+					new ArrayBlockingQueue<Runnable>(1),
+					QueueOverflowPolicy.SHED_OLDEST.createHandler(URI, 1)));
+	}
+
+	@Test
+	public void			testShedOldestMailbox() throws Exception
+	{
+		ForkJoinPool pool = new ForkJoinPool(1);
+		try {
+			checkShedding(
+				new BCM4JavaMailboxExecutor(
+						1, pool, 1, QueueOverflowPolicy.SHED_OLDEST, URI));
+		} finally {
+			pool.shutdown();
+		}
+	}
+
+	@Test
+	public void			testCancelledResult() throws Exception
+	{
+		CompletableFuture<String> result = new CompletableFuture<String>();
+		AsyncRequestTask<String> t =
+			new AsyncRequestTask<String>(
+						() -> Assertions.fail("cancelled request executed"),
+						result);
+		result.cancel(false);
+		t.run();
+		Assertions.assertTrue(result.isCancelled());
+	}
+}
+// -----------------------------------------------------------------------------
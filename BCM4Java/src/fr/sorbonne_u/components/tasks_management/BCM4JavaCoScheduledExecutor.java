@@ -0,0 +1,450 @@
+package fr.sorbonne_u.components.tasks_management;
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a
+// basic component programming model to program with components
+// distributed applications in the Java programming language.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import fr.sorbonne_u.components.exceptions.RequestRejectedException;
+import fr.sorbonne_u.exceptions.PreconditionException;
+
+// -----------------------------------------------------------------------------
+/**
+ * The class <code>BCM4JavaCoScheduledExecutor</code> implements the executor
+ * service of a member of a co-scheduling group, which executes its tasks on
+ * the event loop of the group.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p>
+ * The executor service does not own any thread nor queue: its tasks are
+ * queued in the event loop of its group (see
+ * {@code BCM4JavaCoSchedulingGroup}), hence they are executed one at a time
+ * in their submission order, interleaved with the ones of the other members,
+ * as in a single threaded executor service. Each member keeps its own
+ * executor service, which records its own metrics and which is shut down
+ * independently from the others: shutting it down rejects the new tasks and
+ * leaves the group, the tasks already submitted being executed unless
+ * {@code shutdownNow} removes them from the queue of the event loop.
+ * </p>
+ * 
+ * <p><strong>Implementation Invariants</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code group != null}
+ * invariant	{@code waiting.get() >= 0 && waiting.get() <= pending.get()}
+ * </pre>
+ * 
+ * <p><strong>Invariants</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code true}	// no more invariant
+ * </pre>
+ * 
+ * <p>Created on : 2026-10-16</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+public class			BCM4JavaCoScheduledExecutor
+extends		AbstractExecutorService
+implements	InstrumentedExecutorServiceI
+{
+	// -------------------------------------------------------------------------
+	// Inner classes
+	// -------------------------------------------------------------------------
+
+	/**
+	 * The class <code>MemberTask</code> wraps the tasks of a member put in
+	 * the queue of the event loop, to identify their executor service and
+	 * measure the time they wait in the queue.
+	 *
+	 * <p>Created on : 2026-10-16</p>
+	 * 
+	 * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+	 */
+	protected static final class	MemberTask
+	implements	Runnable
+	{
+		/** executor service to which the task has been submitted.		*/
+		protected final BCM4JavaCoScheduledExecutor	owner;
+		/** task submitted to the executor service.						*/
+		protected final Runnable					task;
+		/** submission time of the task in nanoseconds.					*/
+		protected final long						submissionTime;
+
+		/**
+		 * create a wrapper for {@code task} submitted to {@code owner}.
+		 * 
+		 * <p><strong>Contract</strong></p>
+		 * 
+		 * <pre>
+		 * pre	{@code owner != null && task != null}
+		 * post	{@code true}	// no postcondition.
+		 * </pre>
+		 *
+		 * @param owner	executor service to which the task has been submitted.
+		 * @param task	task submitted to the executor service.
+		 */
+		protected		MemberTask(
+			BCM4JavaCoScheduledExecutor owner,
+			Runnable task
+			)
+		{
+			this.owner = owner;
+			this.task = task;
+			this.submissionTime = System.nanoTime();
+		}
+
+		/**
+		 * @see java.lang.Runnable#run()
+		 */
+		@Override
+		public void		run()
+		{
+			this.owner.runTask(this);
+		}
+	}
+
+	// -------------------------------------------------------------------------
+	// Constants and variables
+	// -------------------------------------------------------------------------
+
+	/** group on which event loop the tasks are executed.					*/
+	protected final BCM4JavaCoSchedulingGroup	group;
+	/** URI of the executor service in its component or null if unknown.	*/
+	protected final String						executorServiceURI;
+	/** number of tasks submitted and not yet completed nor removed.		*/
+	protected final AtomicInteger				pending;
+	/** number of tasks submitted and not yet started nor removed.			*/
+	protected final AtomicInteger				waiting;
+	/** true when the executor service has been shut down.					*/
+	protected volatile boolean					shutdown;
+	/** lock used to leave the group once and to wait for the termination.	*/
+	protected final Object						terminationLock;
+	/** metrics in which the activity is recorded or null if none.			*/
+	protected volatile ExecutorServiceMetrics	metrics;
+
+	// -------------------------------------------------------------------------
+	// Constructors
+	// -------------------------------------------------------------------------
+
+	/**
+	 * create an executor service for a new member of {@code group}; only
+	 * called by {@code BCM4JavaCoSchedulingGroup#join}.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code group != null}
+	 * post	{@code !isShutdown()}
+	 * </pre>
+	 *
+	 * @param group					group on which event loop the tasks are executed.
+	 * @param executorServiceURI	URI of the executor service in its component, used in the exceptions.
+	 */
+	protected			BCM4JavaCoScheduledExecutor(
+		BCM4JavaCoSchedulingGroup group,
+		String executorServiceURI
+		)
+	{
+		super();
+
+		assert	group != null : new PreconditionException("group != null");
+
+		this.group = group;
+		this.executorServiceURI = executorServiceURI;
+		this.pending = new AtomicInteger(0);
+		this.waiting = new AtomicInteger(0);
+		this.shutdown = false;
+		this.terminationLock = new Object();
+	}
+
+	// -------------------------------------------------------------------------
+	// Methods
+	// -------------------------------------------------------------------------
+
+	/**
+	 * return the group on which event loop the tasks are executed.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code ret != null}
+	 * </pre>
+	 *
+	 * @return	the group on which event loop the tasks are executed.
+	 */
+	public BCM4JavaCoSchedulingGroup	getGroup()
+	{
+		return this.group;
+	}
+
+	/**
+	 * return true if the current thread is the thread of the event loop of
+	 * the group, hence a task submitted by the current thread may rather be
+	 * executed directly.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @return	true if the current thread is the thread of the event loop.
+	 */
+	public boolean		isExecutedByCurrentThread()
+	{
+		return this.group.ownsCurrentThread();
+	}
+
+	/**
+	 * return the number of tasks of this executor service waiting in the
+	 * queue of the event loop.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code ret >= 0}
+	 * </pre>
+	 *
+	 * @return	the number of tasks of this executor service waiting in the queue.
+	 */
+	public int			getQueueSize()
+	{
+		return Math.max(0, this.waiting.get());
+	}
+
+	/**
+	 * @see fr.sorbonne_u.components.tasks_management.InstrumentedExecutorServiceI#setMetrics(fr.sorbonne_u.components.tasks_management.ExecutorServiceMetrics)
+	 */
+	@Override
+	public void			setMetrics(ExecutorServiceMetrics metrics)
+	{
+		assert	metrics != null : new PreconditionException("metrics != null");
+
+		this.metrics = metrics;
+	}
+
+	/**
+	 * @see fr.sorbonne_u.components.tasks_management.InstrumentedExecutorServiceI#getMetrics()
+	 */
+	@Override
+	public ExecutorServiceMetrics	getMetrics()
+	{
+		return this.metrics;
+	}
+
+	/**
+	 * @see java.util.concurrent.Executor#execute(java.lang.Runnable)
+	 */
+	@Override
+	public void			execute(Runnable command)
+	{
+		if (command == null) {
+			throw new NullPointerException();
+		}
+		if (this.shutdown) {
+			this.rejected();
+			throw new RequestRejectedException(this.executorServiceURI, -1);
+		}
+		this.pending.incrementAndGet();
+		this.waiting.incrementAndGet();
+		try {
+			this.group.execute(new MemberTask(this, command));
+		} catch (RejectedExecutionException e) {
+			this.waiting.decrementAndGet();
+			this.pending.decrementAndGet();
+			this.rejected();
+			this.checkTermination();
+			throw new RequestRejectedException(
+							this.executorServiceURI, -1, null, e);
+		}
+	}
+
+	/**
+	 * record the rejection of a task in the metrics, if any.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 */
+	protected void		rejected()
+	{
+		ExecutorServiceMetrics m = this.metrics;
+		if (m != null) {
+			m.taskRejected();
+		}
+	}
+
+	/**
+	 * run the task wrapped in {@code t} on the thread of the event loop,
+	 * recording its activity; exceptions are propagated to the event loop,
+	 * which reports them as for any BCM4Java thread pool.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code t != null && t.owner == this}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param t	wrapper of the task to be run.
+	 */
+	protected void		runTask(MemberTask t)
+	{
+		int queueDepth = this.waiting.decrementAndGet();
+		ExecutorServiceMetrics m = this.metrics;
+		long start = 0L;
+		if (m != null && ExecutorServiceMetrics.ENABLED) {
+			start = m.taskStarting(System.nanoTime() - t.submissionTime,
+								   queueDepth);
+		}
+		try {
+			t.task.run();
+		} finally {
+			if (start != 0L) {
+				m.taskEnded(start);
+			}
+			if (this.pending.decrementAndGet() == 0 && this.shutdown) {
+				this.checkTermination();
+			}
+		}
+	}
+
+	/**
+	 * wake up the threads waiting for the termination if it is reached.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 */
+	protected void		checkTermination()
+	{
+		if (this.isTerminated()) {
+			synchronized (this.terminationLock) {
+				this.terminationLock.notifyAll();
+			}
+		}
+	}
+
+	/**
+	 * @see java.util.concurrent.ExecutorService#shutdown()
+	 */
+	@Override
+	public void			shutdown()
+	{
+		synchronized (this.terminationLock) {
+			if (!this.shutdown) {
+				this.shutdown = true;
+				this.group.leave();
+			}
+		}
+		this.checkTermination();
+	}
+
+	/**
+	 * @see java.util.concurrent.ExecutorService#shutdownNow()
+	 */
+	@Override
+	public List<Runnable>	shutdownNow()
+	{
+		this.shutdown();
+		List<Runnable> ret = new ArrayList<Runnable>();
+		Iterator<Runnable> iter = this.group.getQueue().iterator();
+		while (iter.hasNext()) {
+			Runnable r = iter.next();
+			if (r instanceof MemberTask && ((MemberTask)r).owner == this &&
+										this.group.getQueue().remove(r)) {
+				ret.add(((MemberTask)r).task);
+				this.waiting.decrementAndGet();
+				this.pending.decrementAndGet();
+			}
+		}
+		this.checkTermination();
+		return ret;
+	}
+
+	/**
+	 * @see java.util.concurrent.ExecutorService#isShutdown()
+	 */
+	@Override
+	public boolean		isShutdown()
+	{
+		return this.shutdown;
+	}
+
+	/**
+	 * @see java.util.concurrent.ExecutorService#isTerminated()
+	 */
+	@Override
+	public boolean		isTerminated()
+	{
+		return this.shutdown && this.pending.get() == 0;
+	}
+
+	/**
+	 * @see java.util.concurrent.ExecutorService#awaitTermination(long, java.util.concurrent.TimeUnit)
+	 */
+	@Override
+	public boolean		awaitTermination(long timeout, TimeUnit unit)
+	throws InterruptedException
+	{
+		long nanos = unit.toNanos(timeout);
+		final long deadline = System.nanoTime() + nanos;
+		synchronized (this.terminationLock) {
+			while (!this.isTerminated()) {
+				if (nanos <= 0L) {
+					return false;
+				}
+				TimeUnit.NANOSECONDS.timedWait(this.terminationLock, nanos);
+				nanos = deadline - System.nanoTime();
+			}
+			return true;
+		}
+	}
+}
+// -----------------------------------------------------------------------------
@@ -0,0 +1,321 @@
+package fr.sorbonne_u.components.tasks_management;
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a
+// basic component programming model to program with components
+// distributed applications in the Java programming language.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import fr.sorbonne_u.exceptions.PreconditionException;
+
+// -----------------------------------------------------------------------------
+/**
+ * The class <code>BCM4JavaCoSchedulingGroup</code> implements a group of
+ * components sharing one serial event loop in the current JVM.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p>
+ * A co-scheduling group owns a single threaded BCM4Java thread pool, its
+ * event loop, on which the member components execute their requests and
+ * tasks through their own co-scheduled executor service (see
+ * {@code BCM4JavaCoScheduledExecutor}). As all of the members run in the
+ * thread of the loop, the synchronous calls that members make to each
+ * other through their ports are recognised as reentrant by the callee and
+ * executed directly by the caller thread, without queueing the request nor
+ * handing it off to another thread; the reentrant caller runs mode of the
+ * members is therefore forced on, as a member queueing a synchronous call
+ * to another member would make the loop wait for itself (see
+ * {@code AbstractComponent#setReentrantCallerRuns}).
+ * </p>
+ * <p>
+ * Groups are designated by URIs and created when their first member joins
+ * them; the event loop is shut down when the last member leaves its group,
+ * after having executed the tasks already submitted.
+ * </p>
+ * <p>
+ * As in a single threaded component, a member calling synchronously a
+ * component outside the group must not be called back synchronously by it,
+ * neither directly nor through another member, as the call back would wait
+ * for the loop blocked by the caller.
+ * </p>
+ * 
+ * <p><strong>Implementation Invariants</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code uri != null && !uri.isEmpty()}
+ * invariant	{@code members >= 0}
+ * </pre>
+ * 
+ * <p><strong>Invariants</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code true}	// no more invariant
+ * </pre>
+ * 
+ * <p>Created on : 2026-10-16</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+public class			BCM4JavaCoSchedulingGroup
+{
+	// -------------------------------------------------------------------------
+	// Constants and variables
+	// -------------------------------------------------------------------------
+
+	/** groups currently having members in the JVM, indexed by their URI;
+	 *  also used as lock to join and leave groups.						*/
+	protected static final Map<String,BCM4JavaCoSchedulingGroup>	GROUPS =
+																new HashMap<>();
+
+	/** URI of the group.													*/
+	protected final String							uri;
+	/** factory creating the thread of the event loop.						*/
+	protected final BCM4JavaComponentThreadFactory	threadFactory;
+	/** event loop executing the tasks of all of the members.				*/
+	protected final BCM4JavaThreadPoolExecutor		loop;
+	/** number of members in the group, guarded by {@code GROUPS}.			*/
+	protected int									members;
+
+	// -------------------------------------------------------------------------
+	// Constructors
+	// -------------------------------------------------------------------------
+
+	/**
+	 * create a group with the given URI and start its event loop.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code uri != null && !uri.isEmpty()}
+	 * post	{@code getNumberOfMembers() == 0}
+	 * </pre>
+	 *
+	 * @param uri	URI of the group.
+	 */
+	protected			BCM4JavaCoSchedulingGroup(String uri)
+	{
+		super();
+
+		assert	uri != null && !uri.isEmpty() :
+				new PreconditionException("uri != null && !uri.isEmpty()");
+
+		this.uri = uri;
+		this.threadFactory = new BCM4JavaComponentThreadFactory(uri);
+		this.loop = BCM4JavaThreadPoolExecutor.
+									newSingleThreadExecutor(this.threadFactory);
+		this.members = 0;
+	}
+
+	// -------------------------------------------------------------------------
+	// Static methods
+	// -------------------------------------------------------------------------
+
+	/**
+	 * join the group with URI {@code groupURI}, creating it if it does not
+	 * exist in the JVM, and return a new executor service executing its tasks
+	 * on the event loop of the group.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code groupURI != null && !groupURI.isEmpty()}
+	 * post	{@code isActive(groupURI)}
+	 * post	{@code ret != null}
+	 * </pre>
+	 *
+	 * @param groupURI				URI of the group to be joined.
+	 * @param executorServiceURI	URI of the new executor service in its component, used in the exceptions.
+	 * @return						a new executor service executing its tasks on the event loop of the group.
+	 */
+	public static BCM4JavaCoScheduledExecutor	join(
+		String groupURI,
+		String executorServiceURI
+		)
+	{
+		assert	groupURI != null && !groupURI.isEmpty() :
+				new PreconditionException(
+						"groupURI != null && !groupURI.isEmpty()");
+
+		synchronized (GROUPS) {
+			BCM4JavaCoSchedulingGroup g = GROUPS.get(groupURI);
+			if (g == null) {
+				g = new BCM4JavaCoSchedulingGroup(groupURI);
+				GROUPS.put(groupURI, g);
+			}
+			g.members++;
+			return new BCM4JavaCoScheduledExecutor(g, executorServiceURI);
+		}
+	}
+
+	/**
+	 * return true if the group with URI {@code groupURI} currently has
+	 * members in the JVM.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code groupURI != null}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param groupURI	URI of a group.
+	 * @return			true if the group currently has members in the JVM.
+	 */
+	public static boolean	isActive(String groupURI)
+	{
+		assert	groupURI != null : new PreconditionException("groupURI != null");
+
+		synchronized (GROUPS) {
+			return GROUPS.containsKey(groupURI);
+		}
+	}
+
+	// -------------------------------------------------------------------------
+	// Methods
+	// -------------------------------------------------------------------------
+
+	/**
+	 * return the URI of the group.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code ret != null}
+	 * </pre>
+	 *
+	 * @return	the URI of the group.
+	 */
+	public String		getURI()
+	{
+		return this.uri;
+	}
+
+	/**
+	 * return the number of members in the group.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code ret >= 0}
+	 * </pre>
+	 *
+	 * @return	the number of members in the group.
+	 */
+	public int			getNumberOfMembers()
+	{
+		synchronized (GROUPS) {
+			return this.members;
+		}
+	}
+
+	/**
+	 * return true if the current thread is the thread of the event loop.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @return	true if the current thread is the thread of the event loop.
+	 */
+	public boolean		ownsCurrentThread()
+	{
+		return this.threadFactory.hasCreatedCurrentThread();
+	}
+
+	/**
+	 * leave the group, shutting down its event loop when it was the last
+	 * member; to be called once by each executor service returned by
+	 * {@code join} when it is shut down.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code getNumberOfMembers() > 0}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 */
+	protected void		leave()
+	{
+		synchronized (GROUPS) {
+			assert	this.members > 0 :
+					new PreconditionException("getNumberOfMembers() > 0");
+
+			if (--this.members == 0) {
+				GROUPS.remove(this.uri);
+				// the tasks already submitted are still executed
+				this.loop.shutdown();
+			}
+		}
+	}
+
+	/**
+	 * execute {@code r} on the event loop.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code r != null}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param r	task to be executed.
+	 */
+	protected void		execute(Runnable r)
+	{
+		this.loop.execute(r);
+	}
+
+	/**
+	 * return the queue of the event loop.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code ret != null}
+	 * </pre>
+	 *
+	 * @return	the queue of the event loop.
+	 */
+	protected BlockingQueue<Runnable>	getQueue()
+	{
+		return this.loop.getQueue();
+	}
+}
+// -----------------------------------------------------------------------------
@@ -152,51 +152,105 @@ extends		Thread
 				@Override
 				public void uncaughtException(Thread t, Throwable e)
 				{
-					if (notificationDestination != null) {
-						try {
-							notificationDestination.
-								doNotifyAbnormalTermination(
-									notificationInboundPortURI,
-									offeredInterface,
-									serviceInboundPortURI,
-									serviceName,
-									actualParameters,
-									// checked exceptions are passed as the
-									// cause of a BCMRuntimeException
-									e instanceof BCMRuntimeException ?
-										e.getCause()
-									:	e);
-						} catch(Exception e1) {
-							StringBuffer sb = new StringBuffer("Thread ");
-							sb.append(t.getName());
-							sb.append(" exits on uncaught exception ");
-							sb.append(e.toString());
-							sb.append(" for service ");
-							sb.append(serviceName);
-							sb.append(" called with actual parameters [");
-							for (int i = 0 ; i < actualParameters.length ; i++) {
-								sb.append(actualParameters[i]);
-								if (i < actualParameters.length - 1) {
-									sb.append(", ");
-								}
-							}
-							sb.append("] on the port with URI ");
-							sb.append(serviceInboundPortURI);
-							sb.append(" offering the interface ");
-							sb.append(offeredInterface.toString());
-							System.err.println(sb.toString());
-						} finally {
-							cleanUp();
-						}
-					} else {
-						System.err.println(
-								"Thread " + t.getName() +
-								" exits on uncaught exception " + e);
+					try {
+						notifyAbnormalTermination(
+								t, e,
+								notificationDestination,
+								notificationInboundPortURI,
+								offeredInterface,
+								serviceInboundPortURI,
+								serviceName,
+								actualParameters);
+					} finally {
+						cleanUp();
 					}
 				}
 			});
 	}
 
+	// -------------------------------------------------------------------------
+	// Static methods
+	// -------------------------------------------------------------------------
+
+	/**
+	 * notify the abnormal termination of the thread {@code t} through
+	 * {@code notificationDestination} when the information about the faulty
+	 * call is available, or print a message on {@code System.err} otherwise;
+	 * shared by the uncaught exception handlers of the BCM4Java component
+	 * threads, be they platform or virtual ones.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code t != null}
+	 * pre	{@code e != null}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param t								thread that terminates abnormally.
+	 * @param e								throwable that caused the abnormal termination.
+	 * @param notificationDestination		outbound port through which the notification has to be performed or null if none.
+	 * @param notificationInboundPortURI	URI of the inbound port that must receive the notification.
+	 * @param offeredInterface				interface offered by the notifier through which the faulty call was made.
+	 * @param serviceInboundPortURI			URI of the inbound port offering {@code offeredInterface} through which the faulty call was made.
+	 * @param serviceName					name of the faultly called service in {@code offeredInterface}.
+	 * @param actualParameters				parameters passed to the faultly called service.
+	 */
+	public static void	notifyAbnormalTermination(
+		Thread t,
+		Throwable e,
+		AbnormalTerminationNotificationOutboundPort notificationDestination,
+		String notificationInboundPortURI,
+		Class<? extends OfferedCI> offeredInterface,
+		String serviceInboundPortURI,
+		String serviceName,
+		Serializable[] actualParameters
+		)
+	{
+		assert	t != null : new PreconditionException("t != null");
+		assert	e != null : new PreconditionException("e != null");
+
+		if (notificationDestination != null) {
+			try {
+				notificationDestination.
+					doNotifyAbnormalTermination(
+						notificationInboundPortURI,
+						offeredInterface,
+						serviceInboundPortURI,
+						serviceName,
+						actualParameters,
+						// checked exceptions are passed as the
+						// cause of a BCMRuntimeException
+						e instanceof BCMRuntimeException ?
+							e.getCause()
+						:	e);
+			} catch(Exception e1) {
+				StringBuffer sb = new StringBuffer("Thread ");
+				sb.append(t.getName());
+				sb.append(" exits on uncaught exception ");
+				sb.append(e.toString());
+				sb.append(" for service ");
+				sb.append(serviceName);
+				sb.append(" called with actual parameters [");
+				for (int i = 0 ; i < actualParameters.length ; i++) {
+					sb.append(actualParameters[i]);
+					if (i < actualParameters.length - 1) {
+						sb.append(", ");
+					}
+				}
+				sb.append("] on the port with URI ");
+				sb.append(serviceInboundPortURI);
+				sb.append(" offering the interface ");
+				sb.append(offeredInterface.toString());
+				System.err.println(sb.toString());
+			}
+		} else {
+			System.err.println(
+					"Thread " + t.getName() +
+					" exits on uncaught exception " + e);
+		}
+	}
+
 	// -------------------------------------------------------------------------
 	// Methods
 	// -------------------------------------------------------------------------
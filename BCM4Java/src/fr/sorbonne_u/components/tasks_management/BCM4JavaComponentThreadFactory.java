@@ -67,6 +67,11 @@ implements	ThreadFactory
 	// Constants and variables
 	// ---------------------------------------------------------------------
 
+	/** factory that created the current thread, if any; set by the
+	 *  runnables wrapped by {@code bindToCreator} when they start.			*/
+	protected static final ThreadLocal<BCM4JavaComponentThreadFactory>
+											CREATOR = new ThreadLocal<>();
+
 	/** URI of the component owning this the thread to be created.			*/
 	protected final String	componentURI;
 
@@ -121,7 +126,54 @@ implements	ThreadFactory
 		// Preconditions checking
 		assert	r != null : new PreconditionException("r != null");
 		
-		return new BCM4JavaComponentThread(r, this.componentURI);
+		return new BCM4JavaComponentThread(this.bindToCreator(r),
+										   this.componentURI);
+	}
+
+	/**
+	 * return true if the current thread has been created by this factory.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @return	true if the current thread has been created by this factory.
+	 */
+	public boolean		hasCreatedCurrentThread()
+	{
+		return CREATOR.get() == this;
+	}
+
+	/**
+	 * return a runnable executing {@code r} after having recorded this
+	 * factory as the creator of the current thread, so that the method
+	 * {@code hasCreatedCurrentThread} can recognise it.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code r != null}
+	 * post	{@code ret != null}
+	 * </pre>
+	 *
+	 * @param r	the runnable to be executed by the new thread.
+	 * @return	a runnable executing {@code r} in a thread bound to this factory.
+	 */
+	protected Runnable	bindToCreator(Runnable r)
+	{
+		assert	r != null : new PreconditionException("r != null");
+
+		return () -> {
+					CREATOR.set(this);
+					try {
+						r.run();
+					} finally {
+						CREATOR.remove();
+					}
+				};
 	}
 }
 // -----------------------------------------------------------------------------
@@ -0,0 +1,845 @@
+package fr.sorbonne_u.components.tasks_management;
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a
+// basic component programming model to program with components
+// distributed applications in the Java programming language.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.AbstractExecutorService;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RunnableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import fr.sorbonne_u.components.exceptions.RequestRejectedException;
+import fr.sorbonne_u.exceptions.PreconditionException;
+
+// -----------------------------------------------------------------------------
+/**
+ * The class <code>BCM4JavaMailboxExecutor</code> implements a lightweight
+ * executor service which tasks are queued in a mailbox and executed by a
+ * shared {@code ForkJoinPool} with at most a given number of them executing
+ * concurrently.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p>
+ * The mailbox executor does not own any thread. When tasks are submitted,
+ * it asks the shared pool to run at most {@code maxConcurrency} drainers,
+ * each of which executes the tasks taken from the mailbox in FIFO order. With
+ * a maximum concurrency of one, the tasks are executed one at a time in their
+ * submission order, exactly as in a single threaded executor, which preserves
+ * the serialised execution guarantee of components having only one thread.
+ * To be fair among mailboxes, a drainer executes at most
+ * {@code DRAIN_BATCH_SIZE} tasks before releasing its worker and asking
+ * the pool to continue later.
+ * </p>
+ * <p>
+ * Futures returned by the mailbox executor wait for their result using
+ * {@code ForkJoinPool.managedBlock} so that a task blocking on the result of
+ * another one does not starve the shared pool.
+ * </p>
+ * <p>
+ * The mailbox can be bounded, in which case {@code overflowPolicy} is
+ * applied when a task is submitted while it is full, as in the bounded
+ * thread pools created by {@code BCM4JavaThreadPoolExecutor}.
+ * </p>
+ * <p>
+ * Like in {@code BCM4JavaThreadPoolExecutor}, an exception thrown by a task
+ * submitted with {@code execute} is reported, using the service invocation
+ * information set with
+ * {@code BCM4JavaVirtualThreadFactory#setServiceInvocationInfo}, the worker
+ * threads of the shared pool not being {@code BCM4JavaComponentThread}.
+ * </p>
+ * 
+ * <p><strong>Implementation Invariants</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code maxConcurrency > 0}
+ * invariant	{@code queueCapacity > 0}
+ * invariant	{@code overflowPolicy != null}
+ * invariant	{@code activeDrainers.get() >= 0}
+ * invariant	{@code activeDrainers.get() <= maxConcurrency}	// except transiently after setMaxConcurrency
+ * </pre>
+ * 
+ * <p><strong>Invariants</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code DRAIN_BATCH_SIZE > 0}
+ * </pre>
+ * 
+ * <p>Created on : 2026-10-16</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+public class			BCM4JavaMailboxExecutor
+extends		AbstractExecutorService
+implements	InstrumentedExecutorServiceI
+{
+	// -------------------------------------------------------------------------
+	// Inner classes
+	// -------------------------------------------------------------------------
+
+	/**
+	 * The class <code>MailboxFutureTask</code> implements the futures returned
+	 * by the mailbox executors, which waiting methods do not starve the shared
+	 * pool.
+	 *
+	 * <p>Created on : 2026-10-16</p>
+	 * 
+	 * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+	 */
+	protected static class	MailboxFutureTask<V>
+	extends		BCM4JavaThreadPoolExecutor.TimedFutureTask<V>
+	{
+		/**
+		 * create a future task executing {@code callable}.
+		 * 
+		 * <p><strong>Contract</strong></p>
+		 * 
+		 * <pre>
+		 * pre	{@code callable != null}
+		 * post	{@code true}	// no postcondition.
+		 * </pre>
+		 *
+		 * @param callable	the task to be executed.
+		 */
+		public			MailboxFutureTask(Callable<V> callable)
+		{
+			super(callable);
+		}
+
+		/**
+		 * create a future task executing {@code runnable} and returning
+		 * {@code result}.
+		 * 
+		 * <p><strong>Contract</strong></p>
+		 * 
+		 * <pre>
+		 * pre	{@code runnable != null}
+		 * post	{@code true}	// no postcondition.
+		 * </pre>
+		 *
+		 * @param runnable	the task to be executed.
+		 * @param result	the result to be returned upon completion.
+		 */
+		public			MailboxFutureTask(Runnable runnable, V result)
+		{
+			super(runnable, result);
+		}
+
+		/**
+		 * @see java.util.concurrent.FutureTask#get()
+		 */
+		@Override
+		public V		get() throws InterruptedException, ExecutionException
+		{
+			if (!this.isDone() &&
+						Thread.currentThread() instanceof ForkJoinWorkerThread) {
+				// let the pool compensate for the blocked worker
+				ForkJoinPool.managedBlock(
+					new ForkJoinPool.ManagedBlocker() {
+						@Override
+						public boolean block() throws InterruptedException
+						{
+							try {
+								MailboxFutureTask.super.get();
+							} catch (ExecutionException | RuntimeException e) {
+								// reported by the final get below
+							}
+							return true;
+						}
+
+						@Override
+						public boolean isReleasable()
+						{
+							return MailboxFutureTask.this.isDone();
+						}
+					});
+			}
+			return super.get();
+		}
+
+		/**
+		 * @see java.util.concurrent.FutureTask#get(long, java.util.concurrent.TimeUnit)
+		 */
+		@Override
+		public V		get(long timeout, TimeUnit unit)
+		throws InterruptedException, ExecutionException, TimeoutException
+		{
+			if (!this.isDone() &&
+						Thread.currentThread() instanceof ForkJoinWorkerThread) {
+				final long deadline = System.nanoTime() + unit.toNanos(timeout);
+				ForkJoinPool.managedBlock(
+					new ForkJoinPool.ManagedBlocker() {
+						@Override
+						public boolean block() throws InterruptedException
+						{
+							try {
+								MailboxFutureTask.super.get(
+										deadline - System.nanoTime(),
+										TimeUnit.NANOSECONDS);
+							} catch (ExecutionException | TimeoutException |
+									 RuntimeException e) {
+								// reported by the final get below
+							}
+							return true;
+						}
+
+						@Override
+						public boolean isReleasable()
+						{
+							return MailboxFutureTask.this.isDone() ||
+										deadline - System.nanoTime() <= 0L;
+						}
+					});
+				return super.get(Math.max(0L, deadline - System.nanoTime()),
+								 TimeUnit.NANOSECONDS);
+			}
+			return super.get(timeout, unit);
+		}
+	}
+
+	// -------------------------------------------------------------------------
+	// Constants and variables
+	// -------------------------------------------------------------------------
+
+	/** maximum number of tasks executed by a drainer before releasing its
+	 *  worker thread.														*/
+	public static int						DRAIN_BATCH_SIZE = 64;
+	/** mailbox executor which tasks are currently drained by the current
+	 *  thread, if any.														*/
+	protected static final ThreadLocal<BCM4JavaMailboxExecutor>
+											DRAINING = new ThreadLocal<>();
+
+	/** maximum number of tasks from this mailbox executing concurrently.	*/
+	protected volatile int					maxConcurrency;
+	/** pool which workers execute the tasks.								*/
+	protected final ForkJoinPool			pool;
+	/** URI of the executor service in its component or null if unknown.	*/
+	protected final String					executorServiceURI;
+	/** maximum number of tasks waiting in the mailbox.						*/
+	protected final int						queueCapacity;
+	/** policy applied when a task is submitted while the mailbox is full.	*/
+	protected final QueueOverflowPolicy		overflowPolicy;
+	/** the tasks waiting to be executed.									*/
+	protected final BlockingQueue<Runnable>	mailbox;
+	/** number of drainers currently running or submitted to the pool.		*/
+	protected final AtomicInteger			activeDrainers;
+	/** true when the executor service has been shut down.					*/
+	protected volatile boolean				shutdown;
+	/** lock used to wait for the termination.								*/
+	protected final Object					terminationLock;
+	/** drainer executing the tasks in the mailbox; as it has no state,
+	 *  the same object is submitted for all concurrent drainers.			*/
+	protected final Runnable				drainer;
+	/** metrics in which the activity is recorded or null if none.			*/
+	protected volatile ExecutorServiceMetrics	metrics;
+
+	// -------------------------------------------------------------------------
+	// Constructors
+	// -------------------------------------------------------------------------
+
+	/**
+	 * create a mailbox executor using the shared pool.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code maxConcurrency > 0}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param maxConcurrency	maximum number of tasks from this mailbox executing concurrently.
+	 */
+	public				BCM4JavaMailboxExecutor(int maxConcurrency)
+	{
+		this(maxConcurrency, BCM4JavaSharedScheduler.getPool());
+	}
+
+	/**
+	 * create a mailbox executor using the given pool.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code maxConcurrency > 0}
+	 * pre	{@code pool != null}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param maxConcurrency	maximum number of tasks from this mailbox executing concurrently.
+	 * @param pool				pool which workers execute the tasks.
+	 */
+	public				BCM4JavaMailboxExecutor(
+		int maxConcurrency,
+		ForkJoinPool pool
+		)
+	{
+		this(maxConcurrency, pool, Integer.MAX_VALUE,
+			 QueueOverflowPolicy.FAIL_FAST, null);
+	}
+
+	/**
+	 * create a mailbox executor using the shared pool with a mailbox bounded
+	 * to {@code queueCapacity} tasks.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code maxConcurrency > 0}
+	 * pre	{@code queueCapacity > 0}
+	 * pre	{@code overflowPolicy != null}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param maxConcurrency		maximum number of tasks from this mailbox executing concurrently.
+	 * @param queueCapacity			maximum number of tasks waiting in the mailbox.
+	 * @param overflowPolicy		policy applied when a task is submitted while the mailbox is full.
+	 * @param executorServiceURI	URI of the executor service in its component, used in the exceptions.
+	 */
+	public				BCM4JavaMailboxExecutor(
+		int maxConcurrency,
+		int queueCapacity,
+		QueueOverflowPolicy overflowPolicy,
+		String executorServiceURI
+		)
+	{
+		this(maxConcurrency, BCM4JavaSharedScheduler.getPool(), queueCapacity,
+			 overflowPolicy, executorServiceURI);
+	}
+
+	/**
+	 * create a mailbox executor using the given pool with a mailbox bounded
+	 * to {@code queueCapacity} tasks.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code maxConcurrency > 0}
+	 * pre	{@code pool != null}
+	 * pre	{@code queueCapacity > 0}
+	 * pre	{@code overflowPolicy != null}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param maxConcurrency		maximum number of tasks from this mailbox executing concurrently.
+	 * @param pool					pool which workers execute the tasks.
+	 * @param queueCapacity			maximum number of tasks waiting in the mailbox.
+	 * @param overflowPolicy		policy applied when a task is submitted while the mailbox is full.
+	 * @param executorServiceURI	URI of the executor service in its component, used in the exceptions.
+	 */
+	public				BCM4JavaMailboxExecutor(
+		int maxConcurrency,
+		ForkJoinPool pool,
+		int queueCapacity,
+		QueueOverflowPolicy overflowPolicy,
+		String executorServiceURI
+		)
+	{
+		super();
+
+		assert	maxConcurrency > 0 :
+				new PreconditionException("maxConcurrency > 0");
+		assert	pool != null : new PreconditionException("pool != null");
+		assert	queueCapacity > 0 :
+				new PreconditionException("queueCapacity > 0");
+		assert	overflowPolicy != null :
+				new PreconditionException("overflowPolicy != null");
+
+		this.maxConcurrency = maxConcurrency;
+		this.pool = pool;
+		this.executorServiceURI = executorServiceURI;
+		this.queueCapacity = queueCapacity;
+		this.overflowPolicy = overflowPolicy;
+		this.mailbox = new LinkedBlockingQueue<Runnable>(queueCapacity);
+		this.activeDrainers = new AtomicInteger(0);
+		this.shutdown = false;
+		this.terminationLock = new Object();
+		this.drainer = () -> this.drain();
+	}
+
+	// -------------------------------------------------------------------------
+	// Methods
+	// -------------------------------------------------------------------------
+
+	/**
+	 * return the maximum number of tasks from this mailbox executing
+	 * concurrently.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code ret > 0}
+	 * </pre>
+	 *
+	 * @return	the maximum number of tasks from this mailbox executing concurrently.
+	 */
+	public int			getMaxConcurrency()
+	{
+		return this.maxConcurrency;
+	}
+
+	/**
+	 * set the maximum number of tasks from this mailbox executing
+	 * concurrently; when it is increased, new drainers are started at once
+	 * if tasks are waiting, and when it is decreased, the drainers in excess
+	 * terminate after their current batch.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code maxConcurrency > 0}
+	 * post	{@code getMaxConcurrency() == maxConcurrency}
+	 * </pre>
+	 *
+	 * @param maxConcurrency	new maximum number of tasks from this mailbox executing concurrently.
+	 */
+	public void			setMaxConcurrency(int maxConcurrency)
+	{
+		assert	maxConcurrency > 0 :
+				new PreconditionException("maxConcurrency > 0");
+
+		this.maxConcurrency = maxConcurrency;
+		if (!this.shutdown) {
+			this.signalWork();
+		}
+	}
+
+	/**
+	 * return the number of tasks waiting in the mailbox.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code ret >= 0}
+	 * </pre>
+	 *
+	 * @return	the number of tasks waiting in the mailbox.
+	 */
+	public int			getQueueSize()
+	{
+		return this.mailbox.size();
+	}
+
+	/**
+	 * return true if the current thread is executing a task of this mailbox
+	 * executor.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @return	true if the current thread is executing a task of this mailbox executor.
+	 */
+	public boolean		isDrainedByCurrentThread()
+	{
+		return DRAINING.get() == this;
+	}
+
+	/**
+	 * @see java.util.concurrent.Executor#execute(java.lang.Runnable)
+	 */
+	@Override
+	public void			execute(Runnable command)
+	{
+		if (command == null) {
+			throw new NullPointerException();
+		}
+		if (this.shutdown) {
+			ExecutorServiceMetrics m = this.metrics;
+			if (m != null) {
+				m.taskRejected();
+			}
+			throw new RequestRejectedException(this.executorServiceURI, -1);
+		}
+		if (this.mailbox.offer(command)) {
+			this.signalWork();
+		} else {
+			this.overflow(command);
+		}
+	}
+
+	/**
+	 * apply the overflow policy to {@code command} submitted while the
+	 * mailbox is full.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code command != null}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param command	task submitted while the mailbox is full.
+	 */
+	protected void		overflow(Runnable command)
+	{
+		ExecutorServiceMetrics m = this.metrics;
+		if (m != null) {
+			m.taskRejected();
+		}
+		switch (this.overflowPolicy) {
+		case BLOCK:
+			try {
+				if (Thread.currentThread() instanceof ForkJoinWorkerThread) {
+					// let the pool compensate for the blocked worker
+					ForkJoinPool.managedBlock(
+						new ForkJoinPool.ManagedBlocker() {
+							boolean done = false;
+							@Override
+							public boolean block() throws InterruptedException
+							{
+								mailbox.put(command);
+								return this.done = true;
+							}
+
+							@Override
+							public boolean isReleasable()
+							{
+								return this.done ||
+										(this.done = mailbox.offer(command));
+							}
+						});
+				} else {
+					this.mailbox.put(command);
+				}
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new RequestRejectedException(
+						this.executorServiceURI, this.queueCapacity, null, e);
+			}
+			this.signalWork();
+			break;
+		case FAIL_FAST:
+			throw new RequestRejectedException(this.executorServiceURI,
+											   this.queueCapacity);
+		case SHED_OLDEST:
+			do {
+				Runnable oldest = this.mailbox.poll();
+				if (oldest instanceof Future) {
+					((Future<?>)oldest).cancel(false);
+				}
+			} while (!this.mailbox.offer(command));
+			this.signalWork();
+			break;
+		case CALLER_RUNS:
+		default:
+			command.run();
+		}
+	}
+
+	/**
+	 * put {@code r} in the mailbox, without checking the shut down status,
+	 * and make sure that drainers will execute it.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code r != null}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param r	task to be executed.
+	 */
+	protected void		enqueue(Runnable r)
+	{
+		this.mailbox.offer(r);
+		this.signalWork();
+	}
+
+	/**
+	 * submit new drainers to the pool as long as there are tasks in the
+	 * mailbox and less than {@code maxConcurrency} active drainers.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 */
+	protected void		signalWork()
+	{
+		for (;;) {
+			int active = this.activeDrainers.get();
+			if (active >= this.maxConcurrency || this.mailbox.isEmpty()) {
+				return;
+			}
+			if (this.activeDrainers.compareAndSet(active, active + 1)) {
+				try {
+					this.pool.execute(this.drainer);
+				} catch (RejectedExecutionException e) {
+					this.activeDrainers.decrementAndGet();
+					throw e;
+				}
+			}
+		}
+	}
+
+	/**
+	 * execute at most {@code DRAIN_BATCH_SIZE} tasks from the mailbox.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 */
+	protected void		drain()
+	{
+		// a worker blocked in a managed block may execute drainers of other
+		// mailboxes, hence the previous value is restored
+		BCM4JavaMailboxExecutor previous = DRAINING.get();
+		DRAINING.set(this);
+		try {
+			Runnable r;
+			for (int n = 0 ;
+					n < DRAIN_BATCH_SIZE && (r = this.mailbox.poll()) != null ;
+					n++) {
+				this.runTask(r);
+			}
+		} finally {
+			if (previous == null) {
+				DRAINING.remove();
+			} else {
+				DRAINING.set(previous);
+			}
+			this.activeDrainers.decrementAndGet();
+		}
+		// tasks may have been submitted after the last poll while this
+		// drainer was still counted as active
+		this.signalWork();
+		this.checkTermination();
+	}
+
+	/**
+	 * run {@code r} on the current worker thread, reporting the exceptions
+	 * as the uncaught exception handler of a component thread would.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code r != null}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param r	task to be run.
+	 */
+	protected void		runTask(Runnable r)
+	{
+		ExecutorServiceMetrics m = this.metrics;
+		long start = 0L;
+		if (m != null && ExecutorServiceMetrics.ENABLED) {
+			long waitTime = -1L;
+			if (r instanceof Delayed) {
+				// lateness compared to the time at which the task was due
+				waitTime = Math.max(
+							0L, -((Delayed)r).getDelay(TimeUnit.NANOSECONDS));
+			} else if (r instanceof BCM4JavaThreadPoolExecutor.TimedFutureTask) {
+				waitTime = System.nanoTime() -
+					((BCM4JavaThreadPoolExecutor.TimedFutureTask<?>)r).
+														getSubmissionTime();
+			}
+			start = m.taskStarting(waitTime, this.mailbox.size());
+		}
+		try {
+			r.run();
+			BCM4JavaVirtualThreadFactory.cleanUp();
+		} catch (Throwable t) {
+			// performs the clean up
+			BCM4JavaVirtualThreadFactory.HANDLER.
+								uncaughtException(Thread.currentThread(), t);
+		} finally {
+			if (start != 0L) {
+				m.taskEnded(start);
+			}
+		}
+	}
+
+	/**
+	 * @see fr.sorbonne_u.components.tasks_management.InstrumentedExecutorServiceI#setMetrics(fr.sorbonne_u.components.tasks_management.ExecutorServiceMetrics)
+	 */
+	@Override
+	public void			setMetrics(ExecutorServiceMetrics metrics)
+	{
+		assert	metrics != null : new PreconditionException("metrics != null");
+
+		this.metrics = metrics;
+	}
+
+	/**
+	 * @see fr.sorbonne_u.components.tasks_management.InstrumentedExecutorServiceI#getMetrics()
+	 */
+	@Override
+	public ExecutorServiceMetrics	getMetrics()
+	{
+		return this.metrics;
+	}
+
+	/**
+	 * @see java.util.concurrent.AbstractExecutorService#newTaskFor(java.lang.Runnable, java.lang.Object)
+	 */
+	@Override
+	protected <T> RunnableFuture<T>	newTaskFor(Runnable runnable, T value)
+	{
+		return new MailboxFutureTask<T>(runnable, value);
+	}
+
+	/**
+	 * @see java.util.concurrent.AbstractExecutorService#newTaskFor(java.util.concurrent.Callable)
+	 */
+	@Override
+	protected <T> RunnableFuture<T>	newTaskFor(Callable<T> callable)
+	{
+		return new MailboxFutureTask<T>(callable);
+	}
+
+	/**
+	 * return true if some work, other than the tasks in the mailbox, still
+	 * has to be done before terminating; to be redefined by subclasses.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @return	true if some work still has to be done before terminating.
+	 */
+	protected boolean	hasPendingWork()
+	{
+		return false;
+	}
+
+	/**
+	 * wake up the threads waiting for the termination if it is reached.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 */
+	protected void		checkTermination()
+	{
+		if (this.isTerminated()) {
+			synchronized (this.terminationLock) {
+				this.terminationLock.notifyAll();
+			}
+		}
+	}
+
+	/**
+	 * @see java.util.concurrent.ExecutorService#shutdown()
+	 */
+	@Override
+	public void			shutdown()
+	{
+		this.shutdown = true;
+		this.checkTermination();
+	}
+
+	/**
+	 * @see java.util.concurrent.ExecutorService#shutdownNow()
+	 */
+	@Override
+	public List<Runnable>	shutdownNow()
+	{
+		this.shutdown = true;
+		List<Runnable> ret = new ArrayList<Runnable>();
+		Runnable r;
+		while ((r = this.mailbox.poll()) != null) {
+			ret.add(r);
+		}
+		this.checkTermination();
+		return ret;
+	}
+
+	/**
+	 * @see java.util.concurrent.ExecutorService#isShutdown()
+	 */
+	@Override
+	public boolean		isShutdown()
+	{
+		return this.shutdown;
+	}
+
+	/**
+	 * @see java.util.concurrent.ExecutorService#isTerminated()
+	 */
+	@Override
+	public boolean		isTerminated()
+	{
+		return this.shutdown && this.mailbox.isEmpty() &&
+				this.activeDrainers.get() == 0 && !this.hasPendingWork();
+	}
+
+	/**
+	 * @see java.util.concurrent.ExecutorService#awaitTermination(long, java.util.concurrent.TimeUnit)
+	 */
+	@Override
+	public boolean		awaitTermination(long timeout, TimeUnit unit)
+	throws InterruptedException
+	{
+		long nanos = unit.toNanos(timeout);
+		final long deadline = System.nanoTime() + nanos;
+		synchronized (this.terminationLock) {
+			while (!this.isTerminated()) {
+				if (nanos <= 0L) {
+					return false;
+				}
+				TimeUnit.NANOSECONDS.timedWait(this.terminationLock, nanos);
+				nanos = deadline - System.nanoTime();
+			}
+			return true;
+		}
+	}
+}
+// -----------------------------------------------------------------------------
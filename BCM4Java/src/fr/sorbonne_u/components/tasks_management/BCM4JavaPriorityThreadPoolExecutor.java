@@ -0,0 +1,450 @@
+package fr.sorbonne_u.components.tasks_management;
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a
+// basic component programming model to program with components
+// distributed applications in the Java programming language.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+import java.util.Comparator;
+import java.util.concurrent.Callable;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.RunnableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import fr.sorbonne_u.components.annotations.RequestPriority;
+import fr.sorbonne_u.exceptions.PreconditionException;
+
+// -----------------------------------------------------------------------------
+/**
+ * The class <code>BCM4JavaPriorityThreadPoolExecutor</code> implements
+ * BCM4Java thread pool executors which queue orders the tasks by priority.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p>
+ * The priority of a task is the submission priority of the submitting thread
+ * at the time of the submission (see {@code setSubmissionPriority}), which
+ * inbound ports set from their {@code RequestPriority} annotations, or
+ * {@code RequestPriority.NORM_PRIORITY} if none has been set. Tasks with
+ * higher priorities are executed first and tasks with the same priority are
+ * executed in their submission order, hence an executor service which tasks
+ * all have the same priority behaves as a standard one. The notification of
+ * abnormal terminations is the same as for {@code BCM4JavaThreadPoolExecutor}.
+ * </p>
+ * 
+ * <p><strong>Implementation Invariants</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code getQueue() instanceof PriorityBlockingQueue}
+ * </pre>
+ * 
+ * <p><strong>Invariants</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code true}	// no more invariant
+ * </pre>
+ * 
+ * <p>Created on : 2026-10-16</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+public class			BCM4JavaPriorityThreadPoolExecutor
+extends		BCM4JavaThreadPoolExecutor
+{
+	// -------------------------------------------------------------------------
+	// Inner interfaces and types
+	// -------------------------------------------------------------------------
+
+	/**
+	 * The interface <code>PrioritizedTaskI</code> declares the methods used
+	 * to order the tasks in the queue.
+	 *
+	 * <p>Created on : 2026-10-16</p>
+	 * 
+	 * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+	 */
+	public static interface	PrioritizedTaskI
+	{
+		/**
+		 * return the priority of the task.
+		 * 
+		 * @return	the priority of the task.
+		 */
+		public int		getPriority();
+
+		/**
+		 * return the submission sequence number of the task.
+		 * 
+		 * @return	the submission sequence number of the task.
+		 */
+		public long		getSequenceNumber();
+	}
+
+	/**
+	 * The class <code>PriorityTask</code> wraps a runnable executed by the
+	 * method {@code execute}, keeping the exceptions it throws visible to the
+	 * uncaught exception handlers of the threads.
+	 *
+	 * <p>Created on : 2026-10-16</p>
+	 * 
+	 * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+	 */
+	protected static class	PriorityTask
+	implements	Runnable,
+				PrioritizedTaskI
+	{
+		/** the wrapped runnable.											*/
+		protected final Runnable	r;
+		/** priority of the task.											*/
+		protected final int			priority;
+		/** submission sequence number of the task.						*/
+		protected final long		sequenceNumber;
+
+		/**
+		 * create a prioritised task.
+		 * 
+		 * <p><strong>Contract</strong></p>
+		 * 
+		 * <pre>
+		 * pre	{@code r != null}
+		 * post	{@code true}	// no postcondition.
+		 * </pre>
+		 *
+		 * @param r					the wrapped runnable.
+		 * @param priority			priority of the task.
+		 * @param sequenceNumber	submission sequence number of the task.
+		 */
+		public			PriorityTask(Runnable r, int priority, long sequenceNumber)
+		{
+			assert	r != null : new PreconditionException("r != null");
+
+			this.r = r;
+			this.priority = priority;
+			this.sequenceNumber = sequenceNumber;
+		}
+
+		/**
+		 * @see java.lang.Runnable#run()
+		 */
+		@Override
+		public void		run()
+		{
+			this.r.run();
+		}
+
+		/**
+		 * @see fr.sorbonne_u.components.tasks_management.BCM4JavaPriorityThreadPoolExecutor.PrioritizedTaskI#getPriority()
+		 */
+		@Override
+		public int		getPriority()
+		{
+			return this.priority;
+		}
+
+		/**
+		 * @see fr.sorbonne_u.components.tasks_management.BCM4JavaPriorityThreadPoolExecutor.PrioritizedTaskI#getSequenceNumber()
+		 */
+		@Override
+		public long		getSequenceNumber()
+		{
+			return this.sequenceNumber;
+		}
+	}
+
+	/**
+	 * The class <code>PriorityFutureTask</code> implements the futures
+	 * created by the methods {@code submit}.
+	 *
+	 * <p>Created on : 2026-10-16</p>
+	 * 
+	 * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+	 */
+	protected static class	PriorityFutureTask<V>
+	extends		TimedFutureTask<V>
+	implements	PrioritizedTaskI
+	{
+		/** priority of the task.											*/
+		protected final int			priority;
+		/** submission sequence number of the task.						*/
+		protected final long		sequenceNumber;
+
+		/**
+		 * create a prioritised future task executing {@code callable}.
+		 * 
+		 * <p><strong>Contract</strong></p>
+		 * 
+		 * <pre>
+		 * pre	{@code callable != null}
+		 * post	{@code true}	// no postcondition.
+		 * </pre>
+		 *
+		 * @param callable			the callable to be executed.
+		 * @param priority			priority of the task.
+		 * @param sequenceNumber	submission sequence number of the task.
+		 */
+		public			PriorityFutureTask(
+			Callable<V> callable,
+			int priority,
+			long sequenceNumber
+			)
+		{
+			super(callable);
+			this.priority = priority;
+			this.sequenceNumber = sequenceNumber;
+		}
+
+		/**
+		 * create a prioritised future task executing {@code runnable} and
+		 * returning {@code result}.
+		 * 
+		 * <p><strong>Contract</strong></p>
+		 * 
+		 * <pre>
+		 * pre	{@code runnable != null}
+		 * post	{@code true}	// no postcondition.
+		 * </pre>
+		 *
+		 * @param runnable			the runnable to be executed.
+		 * @param result			the result to be returned.
+		 * @param priority			priority of the task.
+		 * @param sequenceNumber	submission sequence number of the task.
+		 */
+		public			PriorityFutureTask(
+			Runnable runnable,
+			V result,
+			int priority,
+			long sequenceNumber
+			)
+		{
+			super(runnable, result);
+			this.priority = priority;
+			this.sequenceNumber = sequenceNumber;
+		}
+
+		/**
+		 * @see fr.sorbonne_u.components.tasks_management.BCM4JavaPriorityThreadPoolExecutor.PrioritizedTaskI#getPriority()
+		 */
+		@Override
+		public int		getPriority()
+		{
+			return this.priority;
+		}
+
+		/**
+		 * @see fr.sorbonne_u.components.tasks_management.BCM4JavaPriorityThreadPoolExecutor.PrioritizedTaskI#getSequenceNumber()
+		 */
+		@Override
+		public long		getSequenceNumber()
+		{
+			return this.sequenceNumber;
+		}
+	}
+
+	// -------------------------------------------------------------------------
+	// Constants and variables
+	// -------------------------------------------------------------------------
+
+	/** initial capacity of the priority queues.							*/
+	protected static final int		INITIAL_QUEUE_CAPACITY = 16;
+	/** order of the tasks in the queue: higher priorities first, then
+	 *  submission order.													*/
+	protected static final Comparator<Runnable>	TASK_ORDER =
+		(r1, r2) -> {
+			PrioritizedTaskI t1 = (PrioritizedTaskI) r1;
+			PrioritizedTaskI t2 = (PrioritizedTaskI) r2;
+			int ret = Integer.compare(t2.getPriority(), t1.getPriority());
+			if (ret == 0) {
+				ret = Long.compare(t1.getSequenceNumber(),
+								   t2.getSequenceNumber());
+			}
+			return ret;
+		};
+	/** priority given by the current thread to the tasks it submits, or
+	 *  null if the default priority applies.								*/
+	protected static final ThreadLocal<Integer>	SUBMISSION_PRIORITY =
+														new ThreadLocal<>();
+
+	/** generator of submission sequence numbers.							*/
+	protected final AtomicLong		sequenceNumbers;
+
+	// -------------------------------------------------------------------------
+	// Constructors
+	// -------------------------------------------------------------------------
+
+	/**
+	 * create a new BCM4Java priority thread pool executor with a fixed number
+	 * of threads.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code nThreads > 0}
+	 * pre	{@code threadFactory != null}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param nThreads		number of threads in the thread pool executor.
+	 * @param threadFactory	factory to be used to create new threads.
+	 */
+	public				BCM4JavaPriorityThreadPoolExecutor(
+		int nThreads,
+		BCM4JavaComponentThreadFactory threadFactory
+		)
+	{
+		super(nThreads, nThreads, 0L, TimeUnit.MILLISECONDS,
+			  new PriorityBlockingQueue<Runnable>(INITIAL_QUEUE_CAPACITY,
+												  TASK_ORDER),
+			  threadFactory);
+
+		assert	nThreads > 0 : new PreconditionException("nThreads > 0");
+		assert	threadFactory != null :
+				new PreconditionException("threadFactory != null");
+
+		this.sequenceNumbers = new AtomicLong(0L);
+	}
+
+	// -------------------------------------------------------------------------
+	// Static methods
+	// -------------------------------------------------------------------------
+
+	/**
+	 * create a new BCM4Java priority thread pool executor with
+	 * {@code nThreads} and using {@code threadFactory} to create new threads.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code nThreads > 0}
+	 * pre	{@code threadFactory != null}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param nThreads		number of threads in the thread pool executor.
+	 * @param threadFactory	factory to be used to create new threads.
+	 * @return				the new BCM4Java priority thread pool executor.
+	 */
+	public static BCM4JavaPriorityThreadPoolExecutor	newPriorityThreadPool(
+		int nThreads,
+		BCM4JavaComponentThreadFactory threadFactory
+		)
+	{
+		return new BCM4JavaPriorityThreadPoolExecutor(nThreads, threadFactory);
+	}
+
+	/**
+	 * return the priority given by the current thread to the tasks it
+	 * submits.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @return	the priority given by the current thread to the tasks it submits.
+	 */
+	public static int	getSubmissionPriority()
+	{
+		Integer p = SUBMISSION_PRIORITY.get();
+		return p == null ? RequestPriority.NORM_PRIORITY : p;
+	}
+
+	/**
+	 * set the priority given by the current thread to the tasks it submits
+	 * and return the previous one, which the caller must restore after its
+	 * submissions.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code getSubmissionPriority() == priority}
+	 * </pre>
+	 *
+	 * @param priority	priority given by the current thread to the tasks it submits.
+	 * @return			the previous submission priority of the current thread.
+	 */
+	public static int	setSubmissionPriority(int priority)
+	{
+		int previous = getSubmissionPriority();
+		if (priority == RequestPriority.NORM_PRIORITY) {
+			SUBMISSION_PRIORITY.remove();
+		} else {
+			SUBMISSION_PRIORITY.set(priority);
+		}
+		return previous;
+	}
+
+	// -------------------------------------------------------------------------
+	// Methods
+	// -------------------------------------------------------------------------
+
+	/**
+	 * @see java.util.concurrent.AbstractExecutorService#newTaskFor(java.lang.Runnable, java.lang.Object)
+	 */
+	@Override
+	protected <T> RunnableFuture<T>	newTaskFor(Runnable runnable, T value)
+	{
+		return new PriorityFutureTask<T>(
+							runnable, value, getSubmissionPriority(),
+							this.sequenceNumbers.getAndIncrement());
+	}
+
+	/**
+	 * @see java.util.concurrent.AbstractExecutorService#newTaskFor(java.util.concurrent.Callable)
+	 */
+	@Override
+	protected <T> RunnableFuture<T>	newTaskFor(Callable<T> callable)
+	{
+		return new PriorityFutureTask<T>(
+							callable, getSubmissionPriority(),
+							this.sequenceNumbers.getAndIncrement());
+	}
+
+	/**
+	 * @see java.util.concurrent.ThreadPoolExecutor#execute(java.lang.Runnable)
+	 */
+	@Override
+	public void			execute(Runnable command)
+	{
+		assert	command != null : new PreconditionException("command != null");
+
+		if (command instanceof PrioritizedTaskI) {
+			super.execute(command);
+		} else {
+			super.execute(new PriorityTask(
+								command, getSubmissionPriority(),
+								this.sequenceNumbers.getAndIncrement()));
+		}
+	}
+}
+// -----------------------------------------------------------------------------
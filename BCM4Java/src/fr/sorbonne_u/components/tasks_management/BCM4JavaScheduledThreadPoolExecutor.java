@@ -33,9 +33,11 @@ package fr.sorbonne_u.components.tasks_management;
 // The fact that you are presently reading this means that you have had
 // knowledge of the CeCILL-C license and that you accept its terms.
 
+import java.util.concurrent.Delayed;
 import java.util.concurrent.RejectedExecutionHandler;
 import java.util.concurrent.ScheduledThreadPoolExecutor;
 import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
 import fr.sorbonne_u.exceptions.PreconditionException;
 
 // -----------------------------------------------------------------------------
@@ -65,7 +67,15 @@ import fr.sorbonne_u.exceptions.PreconditionException;
  */
 public class			BCM4JavaScheduledThreadPoolExecutor
 extends		ScheduledThreadPoolExecutor
+implements	InstrumentedExecutorServiceI
 {
+	// -------------------------------------------------------------------------
+	// Constants and variables
+	// -------------------------------------------------------------------------
+
+	/** metrics in which the activity is recorded or null if none.			*/
+	protected volatile ExecutorServiceMetrics	metrics;
+
 	// -------------------------------------------------------------------------
 	// Constructors
 	// -------------------------------------------------------------------------
@@ -218,6 +228,51 @@ extends		ScheduledThreadPoolExecutor
 	// Methods
 	// -------------------------------------------------------------------------
 
+	/**
+	 * @see fr.sorbonne_u.components.tasks_management.InstrumentedExecutorServiceI#setMetrics(fr.sorbonne_u.components.tasks_management.ExecutorServiceMetrics)
+	 */
+	@Override
+	public void			setMetrics(ExecutorServiceMetrics metrics)
+	{
+		assert	metrics != null : new PreconditionException("metrics != null");
+
+		this.metrics = metrics;
+		this.setRejectedExecutionHandler(
+					metrics.countingHandler(this.getRejectedExecutionHandler()));
+	}
+
+	/**
+	 * @see fr.sorbonne_u.components.tasks_management.InstrumentedExecutorServiceI#getMetrics()
+	 */
+	@Override
+	public ExecutorServiceMetrics	getMetrics()
+	{
+		return this.metrics;
+	}
+
+	/**
+	 * record the start of the task; the time a scheduled task waited is the
+	 * lateness of its start compared to its scheduled time and the queue
+	 * depth includes the tasks which delay has not expired.
+	 * 
+	 * @see java.util.concurrent.ThreadPoolExecutor#beforeExecute(java.lang.Thread, java.lang.Runnable)
+	 */
+	@Override
+	protected void		beforeExecute(Thread t, Runnable r)
+	{
+		super.beforeExecute(t, r);
+
+		ExecutorServiceMetrics m = this.metrics;
+		if (m != null && ExecutorServiceMetrics.ENABLED) {
+			long waitTime = -1L;
+			if (r instanceof Delayed) {
+				waitTime = Math.max(
+							0L, -((Delayed)r).getDelay(TimeUnit.NANOSECONDS));
+			}
+			m.threadPoolTaskStarting(waitTime, this.getQueue().size());
+		}
+	}
+
 	/**
 	 * @see java.util.concurrent.ThreadPoolExecutor#afterExecute(java.lang.Runnable, java.lang.Throwable)
 	 */
@@ -226,12 +281,21 @@ extends		ScheduledThreadPoolExecutor
 	{
 		super.afterExecute(r, t);
 
+		ExecutorServiceMetrics m = this.metrics;
+		if (m != null) {
+			m.threadPoolTaskEnded();
+		}
+
 		Thread thread = Thread.currentThread();
 		if (thread instanceof BCM4JavaComponentThread && t == null) {
 			// when everything ran correctly, clean up the thread contextual
 			// information inn preparation for the next call, otherwise it will
 			// be done in the uncaught exception handler
 			((BCM4JavaComponentThread)thread).cleanUp();
+		} else if (t == null) {
+			// virtual threads keep their contextual information in a thread
+			// local variable
+			BCM4JavaVirtualThreadFactory.cleanUp();
 		}
 	}
 }
@@ -0,0 +1,192 @@
+package fr.sorbonne_u.components.tasks_management;
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a
+// basic component programming model to program with components
+// distributed applications in the Java programming language.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import fr.sorbonne_u.exceptions.PreconditionException;
+
+// -----------------------------------------------------------------------------
+/**
+ * The class <code>BCM4JavaSharedScheduler</code> holds the JVM-wide resources
+ * used by the executor services of components when they are created in the
+ * shared scheduler mode (see {@code AbstractCVM#USE_SHARED_SCHEDULER}).
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p>
+ * In the shared scheduler mode, components do not own thread pools; each
+ * of their executor services is a mailbox (see
+ * {@code BCM4JavaMailboxExecutor}) which tasks are executed by a work-stealing
+ * {@code ForkJoinPool} shared by all of the components in the JVM. Delayed
+ * and periodic tasks are triggered by a single timer thread, also shared,
+ * which only moves them into the mailbox of their executor service when they
+ * are due.
+ * </p>
+ * <p>
+ * The shared pool and timer are created lazily upon their first use, hence
+ * {@code PARALLELISM} must be set before creating the first component using
+ * them. Their threads are daemon threads, so they do not prevent the JVM
+ * from exiting.
+ * </p>
+ * <p>
+ * When a very large number of delayed and periodic tasks are scheduled, the
+ * shared hierarchical timing wheel (see {@code BCM4JavaTimingWheel}) can
+ * replace the timer, with O(1) insertions and cancellations; it is used by
+ * the executor services of components when
+ * {@code AbstractCVM#USE_TIMING_WHEEL} is true.
+ * </p>
+ * 
+ * <p><strong>Implementation Invariants</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code PARALLELISM > 0}
+ * </pre>
+ * 
+ * <p><strong>Invariants</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code true}	// no more invariant
+ * </pre>
+ * 
+ * <p>Created on : 2026-10-16</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+public class			BCM4JavaSharedScheduler
+{
+	// -------------------------------------------------------------------------
+	// Constants and variables
+	// -------------------------------------------------------------------------
+
+	/** target parallelism of the shared pool; to be set before its first
+	 *  use.																*/
+	public static int							PARALLELISM =
+									Runtime.getRuntime().availableProcessors();
+	/** the shared work-stealing pool or null if not yet created.			*/
+	protected static ForkJoinPool				pool;
+	/** the shared timer or null if not yet created.						*/
+	protected static ScheduledThreadPoolExecutor	timer;
+	/** the shared timing wheel or null if not yet created.				*/
+	protected static BCM4JavaTimingWheel		timingWheel;
+
+	// -------------------------------------------------------------------------
+	// Static methods
+	// -------------------------------------------------------------------------
+
+	/**
+	 * return the shared work-stealing pool, creating it if necessary.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code PARALLELISM > 0}
+	 * post	{@code ret != null}
+	 * </pre>
+	 *
+	 * @return	the shared work-stealing pool.
+	 */
+	public static synchronized ForkJoinPool	getPool()
+	{
+		assert	PARALLELISM > 0 : new PreconditionException("PARALLELISM > 0");
+
+		if (pool == null) {
+			// asynchronous (FIFO) mode as mailbox drainers are never joined
+			pool = new ForkJoinPool(
+						PARALLELISM,
+						p -> {
+							ForkJoinWorkerThread t = ForkJoinPool.
+								defaultForkJoinWorkerThreadFactory.newThread(p);
+							t.setName("BCM4Java-shared-" + t.getName());
+							t.setDaemon(true);
+							return t;
+						},
+						null,
+						true);
+		}
+		return pool;
+	}
+
+	/**
+	 * return the shared timer used to trigger delayed and periodic tasks,
+	 * creating it if necessary.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code ret != null}
+	 * </pre>
+	 *
+	 * @return	the shared timer.
+	 */
+	public static synchronized ScheduledThreadPoolExecutor	getTimer()
+	{
+		if (timer == null) {
+			ThreadFactory tf =
+				r -> {
+					Thread t = new Thread(r, "BCM4Java-shared-timer");
+					t.setDaemon(true);
+					return t;
+				};
+			timer = new ScheduledThreadPoolExecutor(1, tf);
+			timer.setRemoveOnCancelPolicy(true);
+		}
+		return timer;
+	}
+
+	/**
+	 * return the shared timing wheel used to trigger delayed and periodic
+	 * tasks, creating it if necessary.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code ret != null}
+	 * </pre>
+	 *
+	 * @return	the shared timing wheel.
+	 */
+	public static synchronized BCM4JavaTimingWheel	getTimingWheel()
+	{
+		if (timingWheel == null) {
+			timingWheel = new BCM4JavaTimingWheel("BCM4Java-timing-wheel");
+		}
+		return timingWheel;
+	}
+}
+// -----------------------------------------------------------------------------
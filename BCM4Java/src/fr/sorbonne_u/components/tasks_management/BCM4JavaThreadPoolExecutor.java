@@ -33,9 +33,14 @@ package fr.sorbonne_u.components.tasks_management;
 // The fact that you are presently reading this means that you have had
 // knowledge of the CeCILL-C license and that you accept its terms.
 
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.FutureTask;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.RunnableFuture;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -67,7 +72,83 @@ import fr.sorbonne_u.exceptions.PreconditionException;
  */
 public class			BCM4JavaThreadPoolExecutor
 extends		ThreadPoolExecutor
+implements	InstrumentedExecutorServiceI
 {
+	// -------------------------------------------------------------------------
+	// Inner classes
+	// -------------------------------------------------------------------------
+
+	/**
+	 * The class <code>TimedFutureTask</code> implements the futures created
+	 * by the methods {@code submit}, recording their submission time to
+	 * measure the time they wait in the queue.
+	 *
+	 * <p>Created on : 2026-10-16</p>
+	 * 
+	 * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+	 */
+	public static class	TimedFutureTask<V>
+	extends		FutureTask<V>
+	{
+		/** submission time of the task in nanoseconds.					*/
+		protected final long	submissionTime;
+
+		/**
+		 * create a future task executing {@code callable}.
+		 * 
+		 * <p><strong>Contract</strong></p>
+		 * 
+		 * <pre>
+		 * pre	{@code callable != null}
+		 * post	{@code true}	// no postcondition.
+		 * </pre>
+		 *
+		 * @param callable	the callable to be executed.
+		 */
+		public			TimedFutureTask(Callable<V> callable)
+		{
+			super(callable);
+			this.submissionTime = System.nanoTime();
+		}
+
+		/**
+		 * create a future task executing {@code runnable} and returning
+		 * {@code result}.
+		 * 
+		 * <p><strong>Contract</strong></p>
+		 * 
+		 * <pre>
+		 * pre	{@code runnable != null}
+		 * post	{@code true}	// no postcondition.
+		 * </pre>
+		 *
+		 * @param runnable	the runnable to be executed.
+		 * @param result	the result to be returned.
+		 */
+		public			TimedFutureTask(Runnable runnable, V result)
+		{
+			super(runnable, result);
+			this.submissionTime = System.nanoTime();
+		}
+
+		/**
+		 * return the submission time of the task in nanoseconds.
+		 * 
+		 * @return	the submission time of the task in nanoseconds.
+		 */
+		public long		getSubmissionTime()
+		{
+			return this.submissionTime;
+		}
+	}
+
+	// -------------------------------------------------------------------------
+	// Constants and variables
+	// -------------------------------------------------------------------------
+
+	/** metrics in which the activity is recorded or null if none.			*/
+	protected volatile ExecutorServiceMetrics	metrics;
+
 	// -------------------------------------------------------------------------
 	// Constructors
 	// -------------------------------------------------------------------------
@@ -275,10 +356,117 @@ extends		ThreadPoolExecutor
 									  threadFactory);
 	}
 
+	/**
+	 * create a new BCM4Java thread pool executor with {@code nThreads}, using
+	 * {@code threadFactory} to create new threads and a queue bounded to
+	 * {@code queueCapacity} tasks, which applies {@code policy} when full.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code nThreads > 0}
+	 * pre	{@code queueCapacity > 0}
+	 * pre	{@code policy != null}
+	 * pre	{@code threadFactory != null}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param nThreads				number of threads in the thread pool executor.
+	 * @param queueCapacity			maximum number of tasks waiting in the queue.
+	 * @param policy				policy applied when a task is submitted while the queue is full.
+	 * @param executorServiceURI	URI of the executor service in its component, used in the exceptions.
+	 * @param threadFactory			factory to be used to create new threads.
+	 * @return						the new BCM4Java thread pool executor.
+	 */
+	public static BCM4JavaThreadPoolExecutor	newBoundedThreadPool(
+		int nThreads,
+		int queueCapacity,
+		QueueOverflowPolicy policy,
+		String executorServiceURI,
+		BCM4JavaComponentThreadFactory threadFactory
+		)
+	{
+		assert	nThreads > 0 : new PreconditionException("nThreads > 0");
+		assert	queueCapacity > 0 :
+				new PreconditionException("queueCapacity > 0");
+		assert	policy != null : new PreconditionException("policy != null");
+		assert	threadFactory != null :
+				new PreconditionException("threadFactory != null");
+
+		return new BCM4JavaThreadPoolExecutor(
+						nThreads, nThreads, 0L, TimeUnit.MILLISECONDS,
+						new ArrayBlockingQueue<Runnable>(queueCapacity),
+						threadFactory,
+						policy.createHandler(executorServiceURI, queueCapacity));
+	}
+
 	// -------------------------------------------------------------------------
 	// Methods
 	// -------------------------------------------------------------------------
 
+	/**
+	 * @see fr.sorbonne_u.components.tasks_management.InstrumentedExecutorServiceI#setMetrics(fr.sorbonne_u.components.tasks_management.ExecutorServiceMetrics)
+	 */
+	@Override
+	public void			setMetrics(ExecutorServiceMetrics metrics)
+	{
+		assert	metrics != null : new PreconditionException("metrics != null");
+
+		this.metrics = metrics;
+		this.setRejectedExecutionHandler(
+					metrics.countingHandler(this.getRejectedExecutionHandler()));
+	}
+
+	/**
+	 * @see fr.sorbonne_u.components.tasks_management.InstrumentedExecutorServiceI#getMetrics()
+	 */
+	@Override
+	public ExecutorServiceMetrics	getMetrics()
+	{
+		return this.metrics;
+	}
+
+	/**
+	 * @see java.util.concurrent.AbstractExecutorService#newTaskFor(java.lang.Runnable, java.lang.Object)
+	 */
+	@Override
+	protected <T> RunnableFuture<T>	newTaskFor(Runnable runnable, T value)
+	{
+		return new TimedFutureTask<T>(runnable, value);
+	}
+
+	/**
+	 * @see java.util.concurrent.AbstractExecutorService#newTaskFor(java.util.concurrent.Callable)
+	 */
+	@Override
+	protected <T> RunnableFuture<T>	newTaskFor(Callable<T> callable)
+	{
+		return new TimedFutureTask<T>(callable);
+	}
+
+	/**
+	 * @see java.util.concurrent.ThreadPoolExecutor#beforeExecute(java.lang.Thread, java.lang.Runnable)
+	 */
+	@Override
+	protected void		beforeExecute(Thread t, Runnable r)
+	{
+		super.beforeExecute(t, r);
+
+		ExecutorServiceMetrics m = this.metrics;
+		if (m != null && ExecutorServiceMetrics.ENABLED) {
+			long waitTime = -1L;
+			if (r instanceof Delayed) {
+				// lateness of the start compared to the scheduled time
+				waitTime = Math.max(
+							0L, -((Delayed)r).getDelay(TimeUnit.NANOSECONDS));
+			} else if (r instanceof TimedFutureTask) {
+				waitTime = System.nanoTime() -
+							((TimedFutureTask<?>)r).getSubmissionTime();
+			}
+			m.threadPoolTaskStarting(waitTime, this.getQueue().size());
+		}
+	}
+
 	/**
 	 * @see java.util.concurrent.ThreadPoolExecutor#afterExecute(java.lang.Runnable, java.lang.Throwable)
 	 */
@@ -287,12 +475,21 @@ extends		ThreadPoolExecutor
 	{
 		super.afterExecute(r, t);
 
+		ExecutorServiceMetrics m = this.metrics;
+		if (m != null) {
+			m.threadPoolTaskEnded();
+		}
+
 		Thread thread = Thread.currentThread();
 		if (thread instanceof BCM4JavaComponentThread && t == null) {
 			// when everything ran correctly, clean up the thread contextual
 			// information inn preparation for the next call, otherwise it will
 			// be done in the uncaught exception handler
 			((BCM4JavaComponentThread)thread).cleanUp();
+		} else if (t == null) {
+			// virtual threads keep their contextual information in a thread
+			// local variable
+			BCM4JavaVirtualThreadFactory.cleanUp();
 		}
 	}
 }
@@ -0,0 +1,520 @@
+package fr.sorbonne_u.components.tasks_management;
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a
+// basic component programming model to program with components
+// distributed applications in the Java programming language.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import fr.sorbonne_u.exceptions.PreconditionException;
+
+// -----------------------------------------------------------------------------
+/**
+ * The class <code>BCM4JavaTimingWheel</code> implements a hierarchical timing
+ * wheel used as a JVM-wide timer by the scheduled executor services of
+ * components (see {@code AbstractCVM#USE_TIMING_WHEEL}).
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p>
+ * The wheel has {@code LEVELS} levels of {@code SLOTS} slots each; a slot
+ * at level {@code k} covers {@code SLOTS^k} ticks of {@code TICK_NANOS}
+ * nanoseconds. An action is put in the bucket of the lowest level which
+ * range contains its deadline and, when the wheel reaches the beginning of
+ * a higher level slot, its actions are cascaded down to lower levels until
+ * they reach level 0, where they expire. Inserting and cancelling an action
+ * are therefore O(1), as opposed to the O(log n) of the binary heaps used by
+ * {@code ScheduledThreadPoolExecutor}, which matters when hundreds of
+ * thousands of periodic tasks are scheduled.
+ * </p>
+ * <p>
+ * The buckets are only accessed by the single worker thread of the wheel;
+ * other threads hand over their insertions and cancellations through
+ * lock-free queues that the worker drains at each tick. Actions are executed
+ * in the worker thread, so they must be short, typically putting the due
+ * task in the queue of its executor service. An action is never executed
+ * before its deadline and at most two ticks after, unless the worker is late.
+ * </p>
+ * 
+ * <p><strong>Implementation Invariants</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code wheel.length == LEVELS}
+ * invariant	{@code added != null && cancelled != null}
+ * </pre>
+ * 
+ * <p><strong>Invariants</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code TICK_NANOS > 0}
+ * invariant	{@code SLOTS == 1 << SLOT_BITS}
+ * </pre>
+ * 
+ * <p>Created on : 2026-10-16</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+public class			BCM4JavaTimingWheel
+implements	TimerI
+{
+	// -------------------------------------------------------------------------
+	// Inner classes
+	// -------------------------------------------------------------------------
+
+	/**
+	 * The class <code>Timeout</code> implements the entries of the timing
+	 * wheel, which are also the futures returned to the callers.
+	 *
+	 * <p><strong>Invariant</strong></p>
+	 * 
+	 * <pre>
+	 * invariant	{@code bucket == -1 || owner.wheel[bucket / SLOTS][bucket % SLOTS] is the head of the list containing this}
+	 * </pre>
+	 * 
+	 * <p>Created on : 2026-10-16</p>
+	 * 
+	 * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+	 */
+	protected class		Timeout
+	extends		FutureTask<Void>
+	implements	ScheduledFuture<Void>
+	{
+		/** time in nanoseconds ({@code System.nanoTime}) at which the
+		 *  action is due.													*/
+		protected final long	deadline;
+		/** tick at which the action is due.								*/
+		protected long			deadlineTick;
+		/** previous entry in the bucket, accessed by the worker only.		*/
+		protected Timeout		prev;
+		/** next entry in the bucket, accessed by the worker only.			*/
+		protected Timeout		next;
+		/** index of the bucket containing the entry or -1 if none,
+		 *  accessed by the worker only.									*/
+		protected int			bucket;
+
+		/**
+		 * create a timeout.
+		 * 
+		 * <p><strong>Contract</strong></p>
+		 * 
+		 * <pre>
+		 * pre	{@code action != null}
+		 * post	{@code true}	// no postcondition.
+		 * </pre>
+		 *
+		 * @param action	action to be executed when due.
+		 * @param deadline	time in nanoseconds at which the action is due.
+		 */
+		protected		Timeout(Runnable action, long deadline)
+		{
+			super(action, null);
+			this.deadline = deadline;
+			this.bucket = -1;
+		}
+
+		/**
+		 * @see java.util.concurrent.Delayed#getDelay(java.util.concurrent.TimeUnit)
+		 */
+		@Override
+		public long		getDelay(TimeUnit unit)
+		{
+			return unit.convert(this.deadline - System.nanoTime(),
+								TimeUnit.NANOSECONDS);
+		}
+
+		/**
+		 * @see java.lang.Comparable#compareTo(java.lang.Object)
+		 */
+		@Override
+		public int		compareTo(Delayed o)
+		{
+			if (o == this) {
+				return 0;
+			}
+			return Long.compare(this.getDelay(TimeUnit.NANOSECONDS),
+								o.getDelay(TimeUnit.NANOSECONDS));
+		}
+
+		/**
+		 * @see java.util.concurrent.FutureTask#cancel(boolean)
+		 */
+		@Override
+		public boolean	cancel(boolean mayInterruptIfRunning)
+		{
+			boolean ret = super.cancel(mayInterruptIfRunning);
+			if (ret) {
+				// the worker unlinks the entry at its next tick
+				cancelled.add(this);
+			}
+			return ret;
+		}
+
+		/**
+		 * @see java.util.concurrent.FutureTask#setException(java.lang.Throwable)
+		 */
+		@Override
+		protected void	setException(Throwable t)
+		{
+			super.setException(t);
+			// nobody waits on the result of timer actions
+			Thread w = Thread.currentThread();
+			w.getUncaughtExceptionHandler().uncaughtException(w, t);
+		}
+	}
+
+	// -------------------------------------------------------------------------
+	// Constants and variables
+	// -------------------------------------------------------------------------
+
+	/** duration of a tick in nanoseconds.									*/
+	public static final long		TICK_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+	/** number of bits of a slot index.										*/
+	public static final int			SLOT_BITS = 9;
+	/** number of slots per level.											*/
+	public static final int			SLOTS = 1 << SLOT_BITS;
+	/** number of levels, covering delays up to {@code 2^36} ticks.			*/
+	public static final int			LEVELS = 4;
+	/** mask extracting a slot index.										*/
+	protected static final long		SLOT_MASK = SLOTS - 1;
+	/** largest delay in ticks accepted by the wheel, longer delays being
+	 *  clamped to it.														*/
+	protected static final long		MAX_TICKS =
+										(1L << (SLOT_BITS * LEVELS)) - 1;
+
+	/** buckets of the wheel, accessed by the worker only.					*/
+	protected final Timeout[][]		wheel;
+	/** entries scheduled but not yet put in the wheel.						*/
+	protected final ConcurrentLinkedQueue<Timeout>	added;
+	/** entries cancelled but not yet removed from the wheel.				*/
+	protected final ConcurrentLinkedQueue<Timeout>	cancelled;
+	/** time in nanoseconds of the tick 0.									*/
+	protected final long			origin;
+	/** thread processing the ticks.										*/
+	protected final Thread			worker;
+	/** number of entries in the wheel, accessed by the worker only.		*/
+	protected int					size;
+	/** last tick processed by the worker.									*/
+	protected long					currentTick;
+	/** true when the worker is parked without deadline.					*/
+	protected volatile boolean		idle;
+
+	// -------------------------------------------------------------------------
+	// Constructors
+	// -------------------------------------------------------------------------
+
+	/**
+	 * create a timing wheel and start its daemon worker thread.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code name != null && !name.isEmpty()}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param name	name of the worker thread.
+	 */
+	public				BCM4JavaTimingWheel(String name)
+	{
+		assert	name != null && !name.isEmpty() :
+				new PreconditionException("name != null && !name.isEmpty()");
+
+		this.wheel = new Timeout[LEVELS][SLOTS];
+		this.added = new ConcurrentLinkedQueue<Timeout>();
+		this.cancelled = new ConcurrentLinkedQueue<Timeout>();
+		this.origin = System.nanoTime();
+		this.currentTick = 0L;
+		this.size = 0;
+		this.worker = new Thread(() -> this.work(), name);
+		this.worker.setDaemon(true);
+		this.worker.start();
+	}
+
+	// -------------------------------------------------------------------------
+	// Methods
+	// -------------------------------------------------------------------------
+
+	/**
+	 * @see fr.sorbonne_u.components.tasks_management.TimerI#schedule(java.lang.Runnable, long, java.util.concurrent.TimeUnit)
+	 */
+	@Override
+	public ScheduledFuture<?>	schedule(
+		Runnable action,
+		long delay,
+		TimeUnit unit
+		)
+	{
+		if (action == null || unit == null) {
+			throw new NullPointerException();
+		}
+		long d = Math.max(0L, unit.toNanos(delay));
+		Timeout t = new Timeout(action, System.nanoTime() + d);
+		this.added.add(t);
+		if (this.idle) {
+			LockSupport.unpark(this.worker);
+		}
+		return t;
+	}
+
+	/**
+	 * return the tick at which an action due at time {@code nanos} expires,
+	 * rounded up so that actions never expire before their deadline.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param nanos	time in nanoseconds ({@code System.nanoTime}).
+	 * @return		the tick at which an action due at {@code nanos} expires.
+	 */
+	protected long		tickOf(long nanos)
+	{
+		return (nanos - this.origin + TICK_NANOS - 1) / TICK_NANOS;
+	}
+
+	/**
+	 * put {@code t} in the bucket corresponding to its deadline tick; called
+	 * by the worker only.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code t != null && t.bucket == -1}
+	 * post	{@code t.bucket != -1}
+	 * </pre>
+	 *
+	 * @param t	entry to be put in the wheel.
+	 */
+	protected void		place(Timeout t)
+	{
+		long delta = t.deadlineTick - this.currentTick;
+		if (delta <= 0L) {
+			// already due, expire at the next tick
+			delta = 1L;
+		} else if (delta > MAX_TICKS) {
+			delta = MAX_TICKS;
+		}
+		long d = this.currentTick + delta;
+		int level = 0;
+		while (level < LEVELS - 1 &&
+						delta >= (1L << (SLOT_BITS * (level + 1)))) {
+			level++;
+		}
+		int slot = (int) ((d >>> (SLOT_BITS * level)) & SLOT_MASK);
+		Timeout head = this.wheel[level][slot];
+		t.prev = null;
+		t.next = head;
+		if (head != null) {
+			head.prev = t;
+		}
+		this.wheel[level][slot] = t;
+		t.bucket = level * SLOTS + slot;
+		this.size++;
+	}
+
+	/**
+	 * remove {@code t} from its bucket; called by the worker only.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code t != null && t.bucket != -1}
+	 * post	{@code t.bucket == -1}
+	 * </pre>
+	 *
+	 * @param t	entry to be removed from the wheel.
+	 */
+	protected void		unlink(Timeout t)
+	{
+		if (t.prev != null) {
+			t.prev.next = t.next;
+		} else {
+			this.wheel[t.bucket / SLOTS][t.bucket % SLOTS] = t.next;
+		}
+		if (t.next != null) {
+			t.next.prev = t.prev;
+		}
+		t.prev = null;
+		t.next = null;
+		t.bucket = -1;
+		this.size--;
+	}
+
+	/**
+	 * remove and return the list of entries in a bucket; called by the
+	 * worker only.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code level >= 0 && level < LEVELS}
+	 * pre	{@code slot >= 0 && slot < SLOTS}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param level	level of the bucket.
+	 * @param slot	slot of the bucket.
+	 * @return		the first entry of the removed list or null if empty.
+	 */
+	protected Timeout	takeBucket(int level, int slot)
+	{
+		Timeout head = this.wheel[level][slot];
+		this.wheel[level][slot] = null;
+		for (Timeout t = head ; t != null ; t = t.next) {
+			t.bucket = -1;
+			this.size--;
+		}
+		return head;
+	}
+
+	/**
+	 * transfer the pending insertions and cancellations to the wheel; called
+	 * by the worker only.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code added.isEmpty() && cancelled.isEmpty()}
+	 * </pre>
+	 */
+	protected void		drainQueues()
+	{
+		Timeout t;
+		while ((t = this.added.poll()) != null) {
+			if (!t.isCancelled()) {
+				t.deadlineTick = this.tickOf(t.deadline);
+				this.place(t);
+			}
+		}
+		while ((t = this.cancelled.poll()) != null) {
+			if (t.bucket != -1) {
+				this.unlink(t);
+			}
+		}
+	}
+
+	/**
+	 * process the tick {@code currentTick}, cascading the higher level
+	 * buckets which begin at this tick and then expiring the level 0 bucket;
+	 * called by the worker only.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 */
+	protected void		processTick()
+	{
+		long tick = this.currentTick;
+		for (int level = LEVELS - 1 ; level > 0 ; level--) {
+			if ((tick & ((1L << (SLOT_BITS * level)) - 1)) == 0L) {
+				int slot = (int) ((tick >>> (SLOT_BITS * level)) & SLOT_MASK);
+				Timeout t = this.takeBucket(level, slot);
+				while (t != null) {
+					Timeout next = t.next;
+					t.next = null;
+					t.prev = null;
+					if (t.deadlineTick <= tick) {
+						t.run();
+					} else {
+						this.place(t);
+					}
+					t = next;
+				}
+			}
+		}
+		Timeout t = this.takeBucket(0, (int) (tick & SLOT_MASK));
+		while (t != null) {
+			Timeout next = t.next;
+			t.next = null;
+			t.prev = null;
+			t.run();
+			t = next;
+		}
+	}
+
+	/**
+	 * loop of the worker thread, processing the ticks as time passes.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code Thread.currentThread() == worker}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 */
+	protected void		work()
+	{
+		while (true) {
+			this.drainQueues();
+			// last tick fully elapsed, so that no action expires early
+			long now = (System.nanoTime() - this.origin) / TICK_NANOS;
+			if (this.size == 0) {
+				// nothing to wait for, jump directly to the present
+				if (now > this.currentTick) {
+					this.currentTick = now;
+				}
+				this.idle = true;
+				if (this.added.isEmpty()) {
+					LockSupport.park(this);
+				}
+				this.idle = false;
+				continue;
+			}
+			while (this.currentTick < now) {
+				this.currentTick++;
+				this.processTick();
+			}
+			long wait = this.origin + (this.currentTick + 1L) * TICK_NANOS
+														- System.nanoTime();
+			if (wait > 0L && this.added.isEmpty() &&
+												this.cancelled.isEmpty()) {
+				this.idle = true;
+				if (this.added.isEmpty()) {
+					LockSupport.parkNanos(this, wait);
+				}
+				this.idle = false;
+			}
+		}
+	}
+}
+// -----------------------------------------------------------------------------
@@ -0,0 +1,362 @@
+package fr.sorbonne_u.components.tasks_management;
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a
+// basic component programming model to program with components
+// distributed applications in the Java programming language.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+import java.io.Serializable;
+import java.lang.reflect.Method;
+import fr.sorbonne_u.components.interfaces.OfferedCI;
+import fr.sorbonne_u.components.tasks_management.connection.AbnormalTerminationNotificationOutboundPort;
+import fr.sorbonne_u.exceptions.PreconditionException;
+import fr.sorbonne_u.utils.URIGenerator;
+
+// -----------------------------------------------------------------------------
+/**
+ * The class <code>BCM4JavaVirtualThreadFactory</code> proposes a thread
+ * factory for BCM4Java creating virtual threads when the Java virtual machine
+ * provides them and standard {@code BCM4JavaComponentThread} otherwise.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p>
+ * Virtual threads (Java 21 and later) are very cheap to create and to block,
+ * hence executor services using this factory can be given a large number of
+ * threads without the memory and scheduling costs of platform threads, which
+ * is useful for components which services mostly wait on other components.
+ * As BCM4Java is compiled for earlier Java versions, virtual threads are
+ * created through reflection upon {@code Thread.ofVirtual()}; when this
+ * method does not exist, the factory falls back to the behaviour of
+ * {@code BCM4JavaComponentThreadFactory}.
+ * </p>
+ * <p>
+ * Virtual threads cannot be instances of {@code BCM4JavaComponentThread}, so
+ * the information about the service call being executed, needed to notify
+ * its abnormal termination, is kept in a thread local variable set by
+ * {@code setServiceInvocationInfo} and cleared by {@code cleanUp}. The
+ * uncaught exception handler of the virtual threads uses this information
+ * exactly as {@code BCM4JavaComponentThread} does.
+ * </p>
+ * 
+ * <p><strong>Implementation Invariants</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code !VIRTUAL_THREADS_AVAILABLE || OF_VIRTUAL != null}
+ * </pre>
+ * 
+ * <p><strong>Invariants</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code true}	// no more invariant
+ * </pre>
+ * 
+ * <p>Created on : 2026-10-16</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+public class			BCM4JavaVirtualThreadFactory
+extends		BCM4JavaComponentThreadFactory
+{
+	// ---------------------------------------------------------------------
+	// Inner classes
+	// ---------------------------------------------------------------------
+
+	/**
+	 * The class <code>InvocationInfo</code> holds the information about the
+	 * service call being executed by a virtual thread.
+	 *
+	 * <p>Created on : 2026-10-16</p>
+	 * 
+	 * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+	 */
+	protected static class	InvocationInfo
+	{
+		/** outbound port through which the notification has to be
+		 *  performed.														*/
+		protected final AbnormalTerminationNotificationOutboundPort
+												notificationDestination;
+		/** URI of the inbound port that must receive the notification.		*/
+		protected final String					notificationInboundPortURI;
+		/** interface offered by the notifier through which the faulty call
+		 *  was made.														*/
+		protected final Class<? extends OfferedCI>	offeredInterface;
+		/** URI of the inbound port offering {@code offeredInterface}
+		 *  through which the faulty call was made.							*/
+		protected final String					serviceInboundPortURI;
+		/** name of the faultly called service in {@code offeredInterface}.	*/
+		protected final String					serviceName;
+		/** parameters passed to the faultly called service.				*/
+		protected final Serializable[]			actualParameters;
+
+		/**
+		 * create the information about a service call.
+		 * 
+		 * <p><strong>Contract</strong></p>
+		 * 
+		 * <pre>
+		 * pre	{@code true}	// no precondition.
+		 * post	{@code true}	// no postcondition.
+		 * </pre>
+		 *
+		 * @param notificationDestination		outbound port through which the notification has to be performed.
+		 * @param notificationInboundPortURI	URI of the inbound port that must receive the notification.
+		 * @param offeredInterface				interface offered by the notifier through which the faulty call was made.
+		 * @param serviceInboundPortURI			URI of the inbound port offering {@code offeredInterface} through which the faulty call was made.
+		 * @param serviceName					name of the faultly called service in {@code offeredInterface}.
+		 * @param actualParameters				parameters passed to the faultly called service.
+		 */
+		protected			InvocationInfo(
+			AbnormalTerminationNotificationOutboundPort notificationDestination,
+			String notificationInboundPortURI,
+			Class<? extends OfferedCI> offeredInterface,
+			String serviceInboundPortURI,
+			String serviceName,
+			Serializable[] actualParameters
+			)
+		{
+			this.notificationDestination = notificationDestination;
+			this.notificationInboundPortURI = notificationInboundPortURI;
+			this.offeredInterface = offeredInterface;
+			this.serviceInboundPortURI = serviceInboundPortURI;
+			this.serviceName = serviceName;
+			this.actualParameters = actualParameters;
+		}
+	}
+
+	// ---------------------------------------------------------------------
+	// Constants and variables
+	// ---------------------------------------------------------------------
+
+	/** the method {@code Thread.ofVirtual()} or null if the Java virtual
+	 *  machine does not provide virtual threads.							*/
+	protected static final Method	OF_VIRTUAL;
+	/** the method {@code Thread.Builder.name(String)}.						*/
+	protected static final Method	BUILDER_NAME;
+	/** the method
+	 *  {@code Thread.Builder.uncaughtExceptionHandler(UncaughtExceptionHandler)}.*/
+	protected static final Method	BUILDER_UNCAUGHT_EXCEPTION_HANDLER;
+	/** the method {@code Thread.Builder.unstarted(Runnable)}.				*/
+	protected static final Method	BUILDER_UNSTARTED;
+	/** true if the Java virtual machine provides virtual threads.			*/
+	public static final boolean		VIRTUAL_THREADS_AVAILABLE;
+
+	static {
+		Method ofVirtual = null;
+		Method name = null;
+		Method ueh = null;
+		Method unstarted = null;
+		try {
+			ofVirtual = Thread.class.getMethod("ofVirtual");
+			Class<?> builder = Class.forName("java.lang.Thread$Builder");
+			name = builder.getMethod("name", String.class);
+			ueh = builder.getMethod("uncaughtExceptionHandler",
+									Thread.UncaughtExceptionHandler.class);
+			unstarted = builder.getMethod("unstarted", Runnable.class);
+		} catch (NoSuchMethodException | ClassNotFoundException e) {
+			ofVirtual = null;
+		}
+		OF_VIRTUAL = ofVirtual;
+		BUILDER_NAME = name;
+		BUILDER_UNCAUGHT_EXCEPTION_HANDLER = ueh;
+		BUILDER_UNSTARTED = unstarted;
+		VIRTUAL_THREADS_AVAILABLE = ofVirtual != null;
+	}
+
+	/** information about the service call executed by the current virtual
+	 *  thread, if any.														*/
+	protected static final ThreadLocal<InvocationInfo>	INVOCATION_INFO =
+												new ThreadLocal<>();
+
+	/** uncaught exception handler shared by all of the virtual threads.	*/
+	protected static final Thread.UncaughtExceptionHandler	HANDLER =
+		new Thread.UncaughtExceptionHandler() {
+			@Override
+			public void uncaughtException(Thread t, Throwable e)
+			{
+				// the handler is executed by the terminating thread itself,
+				// hence it sees its own thread local information
+				InvocationInfo info = INVOCATION_INFO.get();
+				try {
+					if (info != null) {
+						BCM4JavaComponentThread.notifyAbnormalTermination(
+								t, e,
+								info.notificationDestination,
+								info.notificationInboundPortURI,
+								info.offeredInterface,
+								info.serviceInboundPortURI,
+								info.serviceName,
+								info.actualParameters);
+					} else {
+						BCM4JavaComponentThread.notifyAbnormalTermination(
+								t, e, null, null, null, null, null, null);
+					}
+				} finally {
+					cleanUp();
+				}
+			}
+		};
+
+	// ---------------------------------------------------------------------
+	// Constructors
+	// ---------------------------------------------------------------------
+
+	/**
+	 * create a new thread factory which threads names will be prefixed by
+	 * {@code componentURI}.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code componentURI != null && !componentURI.isEmpty()}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param componentURI	URI of the component owning the threads.
+	 */
+	public				BCM4JavaVirtualThreadFactory(String componentURI)
+	{
+		super(componentURI);
+	}
+
+	// ---------------------------------------------------------------------
+	// Static methods
+	// ---------------------------------------------------------------------
+
+	/**
+	 * set the information about the faulty call for the current virtual
+	 * thread; counterpart of
+	 * {@code BCM4JavaComponentThread#setServiceInvocationInfo}.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code notificationDestination != null}
+	 * pre	{@code offeredInterface != null}
+	 * pre	{@code inboundPortURI != null && !inboundPortURI.isEmpty()}
+	 * pre	{@code serviceName != null && !serviceName.isEmpty()}
+	 * pre	{@code actualParameters != null}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param notificationDestination		outbound port through which the notification has to be performed.
+	 * @param notificationInboundPortURI	URI of the inbound port that must receive the notification.
+	 * @param offeredInterface				interface offered by the notifier through which the faulty call was made.
+	 * @param serviceInboundPortURI			URI of the inbound port offering {@code offeredInterface} through which the faulty call was made.
+	 * @param serviceName					name of the faultly called service in {@code offeredInterface}.
+	 * @param actualParameters				parameters passed to the faultly called service.
+	 */
+	public static void	setServiceInvocationInfo(
+		AbnormalTerminationNotificationOutboundPort notificationDestination,
+		String notificationInboundPortURI,
+		Class<? extends OfferedCI> offeredInterface,
+		String serviceInboundPortURI,
+		String serviceName,
+		Serializable[] actualParameters
+		)
+	{
+		assert	notificationDestination != null :
+				new PreconditionException("notificationDestination != null");
+		assert	offeredInterface != null :
+				new PreconditionException("offeredInterface != null");
+		assert	serviceInboundPortURI != null && !serviceInboundPortURI.isEmpty():
+				new PreconditionException("inboundPortURI != null && !inboundPortURI.isEmpty()");
+		assert	serviceName != null && !serviceName.isEmpty() :
+				new PreconditionException("serviceName != null && !serviceName.isEmpty()");
+		assert	actualParameters != null :
+				new PreconditionException("actualParameters != null");
+
+		INVOCATION_INFO.set(new InvocationInfo(notificationDestination,
+											   notificationInboundPortURI,
+											   offeredInterface,
+											   serviceInboundPortURI,
+											   serviceName,
+											   actualParameters));
+	}
+
+	/**
+	 * clean up the call information of the current thread; to be performed
+	 * upon finishing the task.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 */
+	public static void	cleanUp()
+	{
+		INVOCATION_INFO.remove();
+	}
+
+	// ---------------------------------------------------------------------
+	// Methods
+	// ---------------------------------------------------------------------
+
+	/**
+	 * create a new virtual thread which name will be prefixed by the owner
+	 * component URI or, when virtual threads are not available, a new
+	 * {@code BCM4JavaComponentThread}.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code r != null}
+	 * post	{@code true}	// no more postconditions.
+	 * </pre>
+	 * 
+	 * @see fr.sorbonne_u.components.tasks_management.BCM4JavaComponentThreadFactory#newThread(java.lang.Runnable)
+	 */
+	@Override
+	public Thread		newThread(Runnable r)
+	{
+		// Preconditions checking
+		assert	r != null : new PreconditionException("r != null");
+
+		if (VIRTUAL_THREADS_AVAILABLE) {
+			try {
+				Object builder = OF_VIRTUAL.invoke(null);
+				BUILDER_NAME.invoke(builder, this.componentURI + "-" +
+												URIGenerator.generateURI());
+				BUILDER_UNCAUGHT_EXCEPTION_HANDLER.invoke(builder, HANDLER);
+				return (Thread) BUILDER_UNSTARTED.invoke(
+										builder, this.bindToCreator(r));
+			} catch (ReflectiveOperationException e) {
+				// should not happen given the static checks; fall back to
+				// platform threads
+			}
+		}
+		return super.newThread(r);
+	}
+}
+// -----------------------------------------------------------------------------
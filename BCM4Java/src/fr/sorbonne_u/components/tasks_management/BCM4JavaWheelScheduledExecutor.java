@@ -0,0 +1,586 @@
+package fr.sorbonne_u.components.tasks_management;
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a
+// basic component programming model to program with components
+// distributed applications in the Java programming language.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RunnableScheduledFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import fr.sorbonne_u.exceptions.PreconditionException;
+
+// -----------------------------------------------------------------------------
+/**
+ * The class <code>BCM4JavaWheelScheduledExecutor</code> implements schedulable
+ * thread pool executors which delayed and periodic tasks are kept by a timer
+ * shared in the JVM, typically a {@code BCM4JavaTimingWheel}, rather than in
+ * a delay queue of their own.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p>
+ * The thread pool itself is a standard BCM4Java one, with a FIFO queue;
+ * delayed and periodic tasks are put in this queue by the timer when they
+ * are due, hence they are executed by the threads of the component as with
+ * {@code BCM4JavaScheduledThreadPoolExecutor} but the cost of their
+ * insertion and cancellation is the one of the timer. As in
+ * {@code ScheduledThreadPoolExecutor}, periodic tasks are never executed
+ * concurrently with themselves: the next execution is scheduled only when
+ * the current one ends.
+ * </p>
+ * <p>
+ * Also as in {@code ScheduledThreadPoolExecutor} with its default policies,
+ * delayed tasks submitted before the shut down are still executed while
+ * periodic ones are cancelled; the thread pool is actually shut down when
+ * the last delayed task has been put in its queue.
+ * </p>
+ * 
+ * <p><strong>Implementation Invariants</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code timer != null && pending != null}
+ * </pre>
+ * 
+ * <p><strong>Invariants</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code true}	// no more invariant
+ * </pre>
+ * 
+ * <p>Created on : 2026-10-16</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+public class			BCM4JavaWheelScheduledExecutor
+extends		BCM4JavaThreadPoolExecutor
+implements	ScheduledExecutorService
+{
+	// -------------------------------------------------------------------------
+	// Inner classes
+	// -------------------------------------------------------------------------
+
+	/**
+	 * The class <code>DelayedTask</code> implements the delayed and periodic
+	 * tasks of the timer-based scheduled executors.
+	 *
+	 * <p><strong>Invariant</strong></p>
+	 * 
+	 * <pre>
+	 * invariant	{@code period == 0 || period > 0 (fixed rate) || period < 0 (fixed delay)}
+	 * </pre>
+	 * 
+	 * <p>Created on : 2026-10-16</p>
+	 * 
+	 * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+	 */
+	protected class		DelayedTask<V>
+	extends		FutureTask<V>
+	implements	RunnableScheduledFuture<V>
+	{
+		/** period in nanoseconds, 0 for one shot tasks, positive for fixed
+		 *  rate ones and negative for fixed delay ones.					*/
+		protected final long				period;
+		/** time in nanoseconds ({@code System.nanoTime}) at which the
+		 *  task is due.													*/
+		protected volatile long				time;
+		/** timer entry triggering the task or null if not yet known.		*/
+		protected volatile ScheduledFuture<?>	trigger;
+		/** number of times the task has been armed, only accessed by
+		 *  {@code arm}, which calls are sequential for a given task.		*/
+		protected long						armings;
+
+		/**
+		 * create a one shot delayed task.
+		 * 
+		 * <p><strong>Contract</strong></p>
+		 * 
+		 * <pre>
+		 * pre	{@code callable != null}
+		 * post	{@code true}	// no postcondition.
+		 * </pre>
+		 *
+		 * @param callable	task to be executed.
+		 * @param time		time in nanoseconds at which the task is due.
+		 */
+		protected		DelayedTask(Callable<V> callable, long time)
+		{
+			super(callable);
+			this.period = 0L;
+			this.time = time;
+		}
+
+		/**
+		 * create a periodic task.
+		 * 
+		 * <p><strong>Contract</strong></p>
+		 * 
+		 * <pre>
+		 * pre	{@code runnable != null}
+		 * pre	{@code period != 0}
+		 * post	{@code true}	// no postcondition.
+		 * </pre>
+		 *
+		 * @param runnable	task to be executed.
+		 * @param time		time in nanoseconds at which the task is first due.
+		 * @param period	period in nanoseconds, positive for fixed rate and negative for fixed delay.
+		 */
+		protected		DelayedTask(Runnable runnable, long time, long period)
+		{
+			super(runnable, null);
+			this.period = period;
+			this.time = time;
+		}
+
+		/**
+		 * @see java.util.concurrent.Delayed#getDelay(java.util.concurrent.TimeUnit)
+		 */
+		@Override
+		public long		getDelay(TimeUnit unit)
+		{
+			return unit.convert(this.time - System.nanoTime(),
+								TimeUnit.NANOSECONDS);
+		}
+
+		/**
+		 * @see java.lang.Comparable#compareTo(java.lang.Object)
+		 */
+		@Override
+		public int		compareTo(Delayed o)
+		{
+			if (o == this) {
+				return 0;
+			}
+			return Long.compare(this.getDelay(TimeUnit.NANOSECONDS),
+								o.getDelay(TimeUnit.NANOSECONDS));
+		}
+
+		/**
+		 * @see java.util.concurrent.RunnableScheduledFuture#isPeriodic()
+		 */
+		@Override
+		public boolean	isPeriodic()
+		{
+			return this.period != 0L;
+		}
+
+		/**
+		 * @see java.util.concurrent.FutureTask#run()
+		 */
+		@Override
+		public void		run()
+		{
+			if (!this.isPeriodic()) {
+				super.run();
+			} else if (super.runAndReset()) {
+				if (this.period > 0L) {
+					this.time += this.period;
+				} else {
+					this.time = System.nanoTime() - this.period;
+				}
+				if (isShutdown()) {
+					this.cancel(false);
+				} else {
+					arm(this);
+				}
+			}
+		}
+
+		/**
+		 * @see java.util.concurrent.FutureTask#cancel(boolean)
+		 */
+		@Override
+		public boolean	cancel(boolean mayInterruptIfRunning)
+		{
+			boolean ret = super.cancel(mayInterruptIfRunning);
+			if (ret) {
+				ScheduledFuture<?> t = this.trigger;
+				if (t != null) {
+					t.cancel(false);
+				}
+				if (pending.remove(this) != null) {
+					checkShutdown();
+				}
+			}
+			return ret;
+		}
+	}
+
+	// -------------------------------------------------------------------------
+	// Constants and variables
+	// -------------------------------------------------------------------------
+
+	/** timer used to trigger the delayed and periodic tasks.				*/
+	protected final TimerI				timer;
+	/** delayed and periodic tasks waiting in the timer, mapped to the
+	 *  number of their arming, so that the firing of a periodic task does
+	 *  not remove the entry put by its next arming.						*/
+	protected final Map<DelayedTask<?>,Long>	pending;
+	/** true when the shut down has been requested, the thread pool being
+	 *  actually shut down when no more delayed tasks are pending.			*/
+	protected volatile boolean			shutdownRequested;
+
+	// -------------------------------------------------------------------------
+	// Constructors
+	// -------------------------------------------------------------------------
+
+	/**
+	 * create a timer-based scheduled executor with a fixed number of
+	 * threads.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code nThreads > 0}
+	 * pre	{@code threadFactory != null}
+	 * pre	{@code timer != null}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param nThreads		number of threads in the thread pool executor.
+	 * @param threadFactory	factory to be used to create new threads.
+	 * @param timer			timer used to trigger the delayed and periodic tasks.
+	 */
+	public				BCM4JavaWheelScheduledExecutor(
+		int nThreads,
+		BCM4JavaComponentThreadFactory threadFactory,
+		TimerI timer
+		)
+	{
+		super(nThreads, nThreads, 0L, TimeUnit.MILLISECONDS,
+			  new LinkedBlockingQueue<Runnable>(), threadFactory);
+
+		assert	timer != null : new PreconditionException("timer != null");
+
+		this.timer = timer;
+		this.pending = new ConcurrentHashMap<DelayedTask<?>,Long>();
+		this.shutdownRequested = false;
+	}
+
+	// -------------------------------------------------------------------------
+	// Static methods
+	// -------------------------------------------------------------------------
+
+	/**
+	 * create a new timer-based scheduled executor with {@code nThreads}
+	 * using the JVM-wide timing wheel (see
+	 * {@code BCM4JavaSharedScheduler#getTimingWheel}).
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code nThreads > 0}
+	 * pre	{@code threadFactory != null}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param nThreads		number of threads in the thread pool executor.
+	 * @param threadFactory	factory to be used to create new threads.
+	 * @return				the new timer-based scheduled executor.
+	 */
+	public static BCM4JavaWheelScheduledExecutor	newScheduledThreadPool(
+		int nThreads,
+		BCM4JavaComponentThreadFactory threadFactory
+		)
+	{
+		assert	nThreads > 0 : new PreconditionException("nThreads > 0");
+		assert	threadFactory != null :
+				new PreconditionException("threadFactory != null");
+
+		return new BCM4JavaWheelScheduledExecutor(
+							nThreads, threadFactory,
+							BCM4JavaSharedScheduler.getTimingWheel());
+	}
+
+	// -------------------------------------------------------------------------
+	// Methods
+	// -------------------------------------------------------------------------
+
+	/**
+	 * make the timer put {@code task} in the queue when it is due.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code task != null}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param task	task to be triggered.
+	 */
+	protected void		arm(DelayedTask<?> task)
+	{
+		final long arming = ++task.armings;
+		this.pending.put(task, arming);
+		task.trigger =
+			this.timer.schedule(
+				() -> this.fire(task, arming),
+				task.time - System.nanoTime(),
+				TimeUnit.NANOSECONDS);
+		if (task.isCancelled()) {
+			// cancelled before its trigger was known
+			task.trigger.cancel(false);
+		}
+	}
+
+	/**
+	 * put the due {@code task} in the queue; periodic tasks due after the
+	 * shut down are cancelled instead.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code task != null}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param task		task which is due.
+	 * @param arming	number of the arming of {@code task} which is fired.
+	 */
+	protected void		fire(DelayedTask<?> task, long arming)
+	{
+		if (task.isCancelled()) {
+			this.pending.remove(task, arming);
+		} else if (this.shutdownRequested && task.isPeriodic()) {
+			task.cancel(false);
+		} else {
+			try {
+				// bypass the check of the shut down request, delayed tasks
+				// submitted before it must still be executed
+				super.execute(task);
+			} catch (RejectedExecutionException e) {
+				task.cancel(false);
+			}
+			// enqueue before removing from pending to keep the thread pool
+			// from being shut down in between; a periodic task may already
+			// have been executed and armed again, its new entry is kept
+			this.pending.remove(task, arming);
+		}
+		this.checkShutdown();
+	}
+
+	/**
+	 * actually shut down the thread pool if the shut down has been requested
+	 * and no more delayed tasks are pending.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 */
+	protected void		checkShutdown()
+	{
+		if (this.shutdownRequested && this.pending.isEmpty()) {
+			super.shutdown();
+		}
+	}
+
+	/**
+	 * schedule {@code task}, checking the shut down status.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code task != null}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param <V>	type of the result of the task.
+	 * @param task	task to be scheduled.
+	 * @return		{@code task}.
+	 */
+	protected <V> DelayedTask<V>	delayedExecute(DelayedTask<V> task)
+	{
+		if (this.isShutdown()) {
+			this.getRejectedExecutionHandler().rejectedExecution(task, this);
+			// the handler did not throw, the task is discarded
+			task.cancel(false);
+		} else {
+			this.arm(task);
+		}
+		return task;
+	}
+
+	/**
+	 * @see java.util.concurrent.ThreadPoolExecutor#execute(java.lang.Runnable)
+	 */
+	@Override
+	public void			execute(Runnable command)
+	{
+		if (command == null) {
+			throw new NullPointerException();
+		}
+		if (this.shutdownRequested) {
+			this.getRejectedExecutionHandler().rejectedExecution(command, this);
+		} else {
+			super.execute(command);
+		}
+	}
+
+	/**
+	 * @see java.util.concurrent.ScheduledExecutorService#schedule(java.lang.Runnable, long, java.util.concurrent.TimeUnit)
+	 */
+	@Override
+	public ScheduledFuture<?>	schedule(
+		Runnable command,
+		long delay,
+		TimeUnit unit
+		)
+	{
+		if (command == null || unit == null) {
+			throw new NullPointerException();
+		}
+		return this.delayedExecute(
+					new DelayedTask<Object>(
+							Executors.callable(command),
+							System.nanoTime() + unit.toNanos(delay)));
+	}
+
+	/**
+	 * @see java.util.concurrent.ScheduledExecutorService#schedule(java.util.concurrent.Callable, long, java.util.concurrent.TimeUnit)
+	 */
+	@Override
+	public <V> ScheduledFuture<V>	schedule(
+		Callable<V> callable,
+		long delay,
+		TimeUnit unit
+		)
+	{
+		if (callable == null || unit == null) {
+			throw new NullPointerException();
+		}
+		return this.delayedExecute(
+					new DelayedTask<V>(
+							callable,
+							System.nanoTime() + unit.toNanos(delay)));
+	}
+
+	/**
+	 * @see java.util.concurrent.ScheduledExecutorService#scheduleAtFixedRate(java.lang.Runnable, long, long, java.util.concurrent.TimeUnit)
+	 */
+	@Override
+	public ScheduledFuture<?>	scheduleAtFixedRate(
+		Runnable command,
+		long initialDelay,
+		long period,
+		TimeUnit unit
+		)
+	{
+		if (command == null || unit == null) {
+			throw new NullPointerException();
+		}
+		if (period <= 0L) {
+			throw new IllegalArgumentException("period <= 0");
+		}
+		return this.delayedExecute(
+					new DelayedTask<Void>(
+							command,
+							System.nanoTime() + unit.toNanos(initialDelay),
+							unit.toNanos(period)));
+	}
+
+	/**
+	 * @see java.util.concurrent.ScheduledExecutorService#scheduleWithFixedDelay(java.lang.Runnable, long, long, java.util.concurrent.TimeUnit)
+	 */
+	@Override
+	public ScheduledFuture<?>	scheduleWithFixedDelay(
+		Runnable command,
+		long initialDelay,
+		long delay,
+		TimeUnit unit
+		)
+	{
+		if (command == null || unit == null) {
+			throw new NullPointerException();
+		}
+		if (delay <= 0L) {
+			throw new IllegalArgumentException("delay <= 0");
+		}
+		return this.delayedExecute(
+					new DelayedTask<Void>(
+							command,
+							System.nanoTime() + unit.toNanos(initialDelay),
+							-unit.toNanos(delay)));
+	}
+
+	/**
+	 * @see java.util.concurrent.ThreadPoolExecutor#isShutdown()
+	 */
+	@Override
+	public boolean		isShutdown()
+	{
+		return this.shutdownRequested || super.isShutdown();
+	}
+
+	/**
+	 * @see java.util.concurrent.ThreadPoolExecutor#shutdown()
+	 */
+	@Override
+	public void			shutdown()
+	{
+		this.shutdownRequested = true;
+		for (DelayedTask<?> task : this.pending.keySet()) {
+			if (task.isPeriodic()) {
+				task.cancel(false);
+			}
+		}
+		this.checkShutdown();
+	}
+
+	/**
+	 * @see java.util.concurrent.ThreadPoolExecutor#shutdownNow()
+	 */
+	@Override
+	public List<Runnable>	shutdownNow()
+	{
+		this.shutdownRequested = true;
+		List<Runnable> ret = super.shutdownNow();
+		for (DelayedTask<?> task : this.pending.keySet()) {
+			if (task.cancel(false)) {
+				ret.add(task);
+			}
+		}
+		return ret;
+	}
+}
+// -----------------------------------------------------------------------------
@@ -0,0 +1,411 @@
+package fr.sorbonne_u.components.tasks_management;
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a
+// basic component programming model to program with components
+// distributed applications in the Java programming language.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import fr.sorbonne_u.exceptions.PreconditionException;
+
+// -----------------------------------------------------------------------------
+/**
+ * The class <code>ExecutorServiceMetrics</code> records the activity of an
+ * executor service of a component: time spent by the tasks waiting in the
+ * queue, time spent executing them, depth of the queue when a task starts,
+ * rejected submissions and active threads.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p>
+ * The executor services implementing {@code InstrumentedExecutorServiceI}
+ * call {@code taskStarting} and {@code taskEnded} (or their thread pool
+ * variants) around the execution of each task and {@code taskRejected} when a submission finds the queue full
+ * or the executor service shut down (whatever the overflow policy applied
+ * next). Times are in nanoseconds. Recording only updates atomic counters
+ * and preallocated histograms. Recording can be turned off for all of the
+ * executor services by setting {@code ENABLED} to false.
+ * </p>
+ * 
+ * <p><strong>Implementation Invariants</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code executorServiceURI != null}
+ * </pre>
+ * 
+ * <p><strong>Invariants</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code true}	// no more invariant
+ * </pre>
+ * 
+ * <p>Created on : 2026-10-16</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+public class			ExecutorServiceMetrics
+{
+	// -------------------------------------------------------------------------
+	// Inner classes
+	// -------------------------------------------------------------------------
+
+	/**
+	 * The class <code>CountingRejectedExecutionHandler</code> counts the
+	 * rejections before delegating them to the handler of the thread pool.
+	 *
+	 * <p>Created on : 2026-10-16</p>
+	 * 
+	 * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+	 */
+	protected static class	CountingRejectedExecutionHandler
+	implements	RejectedExecutionHandler
+	{
+		/** handler to which the rejections are delegated.					*/
+		protected final RejectedExecutionHandler	handler;
+		/** metrics counting the rejections.								*/
+		protected final ExecutorServiceMetrics		metrics;
+
+		/**
+		 * create a counting handler.
+		 * 
+		 * <p><strong>Contract</strong></p>
+		 * 
+		 * <pre>
+		 * pre	{@code handler != null && metrics != null}
+		 * post	{@code true}	// no postcondition.
+		 * </pre>
+		 *
+		 * @param handler	handler to which the rejections are delegated.
+		 * @param metrics	metrics counting the rejections.
+		 */
+		public			CountingRejectedExecutionHandler(
+			RejectedExecutionHandler handler,
+			ExecutorServiceMetrics metrics
+			)
+		{
+			this.handler = handler;
+			this.metrics = metrics;
+		}
+
+		/**
+		 * @see java.util.concurrent.RejectedExecutionHandler#rejectedExecution(java.lang.Runnable, java.util.concurrent.ThreadPoolExecutor)
+		 */
+		@Override
+		public void		rejectedExecution(Runnable r, ThreadPoolExecutor e)
+		throws	RejectedExecutionException
+		{
+			this.metrics.taskRejected();
+			this.handler.rejectedExecution(r, e);
+		}
+	}
+
+	// -------------------------------------------------------------------------
+	// Constants and variables
+	// -------------------------------------------------------------------------
+
+	/** when false, the executor services do not record their activity.	*/
+	public static boolean				ENABLED = true;
+	/** start time of the task executed by the current thread of a thread
+	 *  pool and 1 if it has been recorded or else 0; the array is
+	 *  allocated once per thread.											*/
+	protected static final ThreadLocal<long[]>	CURRENT_TASK =
+										ThreadLocal.withInitial(() -> new long[2]);
+
+	/** URI of the executor service in its component.						*/
+	protected final String				executorServiceURI;
+	/** times spent by the tasks waiting in the queue, in nanoseconds.		*/
+	protected final LogLinearHistogram	waitTimes;
+	/** times spent executing the tasks, in nanoseconds.					*/
+	protected final LogLinearHistogram	serviceTimes;
+	/** numbers of tasks waiting in the queue when a task starts.			*/
+	protected final LogLinearHistogram	queueDepths;
+	/** number of rejected submissions.										*/
+	protected final AtomicLong			rejections;
+	/** number of threads currently executing a task.						*/
+	protected final AtomicInteger		activeThreads;
+	/** maximum number of threads that have executed tasks concurrently.	*/
+	protected final AtomicInteger		peakActiveThreads;
+
+	// -------------------------------------------------------------------------
+	// Constructors
+	// -------------------------------------------------------------------------
+
+	/**
+	 * create the metrics of the executor service {@code executorServiceURI}.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code executorServiceURI != null}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param executorServiceURI	URI of the executor service in its component.
+	 */
+	public				ExecutorServiceMetrics(String executorServiceURI)
+	{
+		assert	executorServiceURI != null :
+				new PreconditionException("executorServiceURI != null");
+
+		this.executorServiceURI = executorServiceURI;
+		this.waitTimes = new LogLinearHistogram();
+		this.serviceTimes = new LogLinearHistogram();
+		this.queueDepths = new LogLinearHistogram();
+		this.rejections = new AtomicLong(0L);
+		this.activeThreads = new AtomicInteger(0);
+		this.peakActiveThreads = new AtomicInteger(0);
+	}
+
+	// -------------------------------------------------------------------------
+	// Methods
+	// -------------------------------------------------------------------------
+
+	/**
+	 * return a rejected execution handler counting the rejections in these
+	 * metrics before delegating them to {@code handler}.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code handler != null}
+	 * post	{@code ret != null}
+	 * </pre>
+	 *
+	 * @param handler	handler to which the rejections are delegated.
+	 * @return			a rejected execution handler counting the rejections.
+	 */
+	public RejectedExecutionHandler	countingHandler(
+		RejectedExecutionHandler handler
+		)
+	{
+		assert	handler != null : new PreconditionException("handler != null");
+
+		if (handler instanceof CountingRejectedExecutionHandler) {
+			handler = ((CountingRejectedExecutionHandler)handler).handler;
+		}
+		return new CountingRejectedExecutionHandler(handler, this);
+	}
+
+	/**
+	 * record the start of a task which waited {@code waitTime} nanoseconds
+	 * in the queue, or an unknown time if negative, while {@code queueDepth}
+	 * tasks remain in the queue, and return the start time to be passed to
+	 * {@code taskEnded}.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param waitTime		time spent by the task in the queue in nanoseconds or a negative value if unknown.
+	 * @param queueDepth	number of tasks remaining in the queue.
+	 * @return				the start time of the task in nanoseconds.
+	 */
+	public long			taskStarting(long waitTime, int queueDepth)
+	{
+		if (waitTime >= 0L) {
+			this.waitTimes.record(waitTime);
+		}
+		this.queueDepths.record(queueDepth);
+		int a = this.activeThreads.incrementAndGet();
+		int p = this.peakActiveThreads.get();
+		while (a > p && !this.peakActiveThreads.compareAndSet(p, a)) {
+			p = this.peakActiveThreads.get();
+		}
+		return System.nanoTime();
+	}
+
+	/**
+	 * record the end of a task which started at {@code startTime}.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param startTime	start time of the task returned by {@code taskStarting}.
+	 */
+	public void			taskEnded(long startTime)
+	{
+		this.serviceTimes.record(System.nanoTime() - startTime);
+		this.activeThreads.decrementAndGet();
+	}
+
+	/**
+	 * record the start of a task in the current thread of a thread pool, to
+	 * be called from {@code beforeExecute}; the start time is kept by the
+	 * thread for the call to {@code threadPoolTaskEnded}.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param waitTime		time spent by the task in the queue in nanoseconds or a negative value if unknown.
+	 * @param queueDepth	number of tasks remaining in the queue.
+	 */
+	public void			threadPoolTaskStarting(long waitTime, int queueDepth)
+	{
+		long[] current = CURRENT_TASK.get();
+		current[0] = this.taskStarting(waitTime, queueDepth);
+		current[1] = 1L;
+	}
+
+	/**
+	 * record the end of the task started in the current thread of a thread
+	 * pool, to be called from {@code afterExecute}; does nothing if its start
+	 * has not been recorded.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 */
+	public void			threadPoolTaskEnded()
+	{
+		long[] current = CURRENT_TASK.get();
+		if (current[1] != 0L) {
+			current[1] = 0L;
+			this.taskEnded(current[0]);
+		}
+	}
+
+	/**
+	 * record a rejected submission.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 */
+	public void			taskRejected()
+	{
+		this.rejections.incrementAndGet();
+	}
+
+	/**
+	 * return the number of tasks currently executing.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @return	the number of tasks currently executing.
+	 */
+	public int			getActiveThreads()
+	{
+		return this.activeThreads.get();
+	}
+
+	/**
+	 * return the number of tasks which wait time has been recorded.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code ret >= 0}
+	 * </pre>
+	 *
+	 * @return	the number of tasks which wait time has been recorded.
+	 */
+	public long			getWaitTimeCount()
+	{
+		return this.waitTimes.getCount();
+	}
+
+	/**
+	 * return the sum of the recorded wait times in nanoseconds.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code ret >= 0}
+	 * </pre>
+	 *
+	 * @return	the sum of the recorded wait times in nanoseconds.
+	 */
+	public long			getWaitTimeSum()
+	{
+		return this.waitTimes.getSum();
+	}
+
+	/**
+	 * return a snapshot of these metrics.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code ret != null}
+	 * </pre>
+	 *
+	 * @param numberOfThreads	number of threads of the executor service.
+	 * @param queueSize			current number of tasks in the queue or -1 if unknown.
+	 * @return					a snapshot of these metrics.
+	 */
+	public ExecutorServiceMetricsSnapshot	snapshot(
+		int numberOfThreads,
+		int queueSize
+		)
+	{
+		return new ExecutorServiceMetricsSnapshot(
+						this.executorServiceURI,
+						System.currentTimeMillis(),
+						numberOfThreads,
+						queueSize,
+						this.activeThreads.get(),
+						this.peakActiveThreads.get(),
+						this.rejections.get(),
+						this.waitTimes.snapshot(),
+						this.serviceTimes.snapshot(),
+						this.queueDepths.snapshot());
+	}
+}
+// -----------------------------------------------------------------------------
@@ -0,0 +1,198 @@
+package fr.sorbonne_u.components.tasks_management;
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a
+// basic component programming model to program with components
+// distributed applications in the Java programming language.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+import java.io.Serializable;
+
+// -----------------------------------------------------------------------------
+/**
+ * The class <code>ExecutorServiceMetricsSnapshot</code> holds the metrics of
+ * an executor service of a component at a given time, in a form that can be
+ * sent to remote monitoring components.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p>
+ * Times are in nanoseconds. The number of completed tasks is the number of
+ * service times recorded.
+ * </p>
+ * 
+ * <p><strong>Invariants</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code getExecutorServiceURI() != null}
+ * invariant	{@code getWaitTime() != null && getServiceTime() != null && getQueueDepth() != null}
+ * </pre>
+ * 
+ * <p>Created on : 2026-10-16</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+public class			ExecutorServiceMetricsSnapshot
+implements	Serializable
+{
+	// -------------------------------------------------------------------------
+	// Constants and variables
+	// -------------------------------------------------------------------------
+
+	private static final long serialVersionUID = 1L;
+	/** URI of the executor service in its component.						*/
+	protected final String						executorServiceURI;
+	/** time at which the snapshot has been taken, in milliseconds.			*/
+	protected final long						timestamp;
+	/** number of threads of the executor service.							*/
+	protected final int							numberOfThreads;
+	/** number of tasks in the queue or -1 if unknown.						*/
+	protected final int							queueSize;
+	/** number of threads executing a task.									*/
+	protected final int							activeThreads;
+	/** maximum number of threads that have executed tasks concurrently.	*/
+	protected final int							peakActiveThreads;
+	/** number of rejected submissions.										*/
+	protected final long						rejections;
+	/** statistics on the times spent by the tasks waiting in the queue.	*/
+	protected final LogLinearHistogram.Snapshot	waitTime;
+	/** statistics on the times spent executing the tasks.					*/
+	protected final LogLinearHistogram.Snapshot	serviceTime;
+	/** statistics on the numbers of tasks in the queue when tasks start.	*/
+	protected final LogLinearHistogram.Snapshot	queueDepth;
+
+	// -------------------------------------------------------------------------
+	// Constructors
+	// -------------------------------------------------------------------------
+
+	/**
+	 * create a snapshot.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code executorServiceURI != null}
+	 * pre	{@code waitTime != null && serviceTime != null && queueDepth != null}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param executorServiceURI	URI of the executor service in its component.
+	 * @param timestamp				time at which the snapshot has been taken, in milliseconds.
+	 * @param numberOfThreads		number of threads of the executor service.
+	 * @param queueSize				number of tasks in the queue or -1 if unknown.
+	 * @param activeThreads			number of threads executing a task.
+	 * @param peakActiveThreads		maximum number of threads that have executed tasks concurrently.
+	 * @param rejections			number of rejected submissions.
+	 * @param waitTime				statistics on the times spent by the tasks waiting in the queue.
+	 * @param serviceTime			statistics on the times spent executing the tasks.
+	 * @param queueDepth			statistics on the numbers of tasks in the queue when tasks start.
+	 */
+	public				ExecutorServiceMetricsSnapshot(
+		String executorServiceURI,
+		long timestamp,
+		int numberOfThreads,
+		int queueSize,
+		int activeThreads,
+		int peakActiveThreads,
+		long rejections,
+		LogLinearHistogram.Snapshot waitTime,
+		LogLinearHistogram.Snapshot serviceTime,
+		LogLinearHistogram.Snapshot queueDepth
+		)
+	{
+		this.executorServiceURI = executorServiceURI;
+		this.timestamp = timestamp;
+		this.numberOfThreads = numberOfThreads;
+		this.queueSize = queueSize;
+		this.activeThreads = activeThreads;
+		this.peakActiveThreads = peakActiveThreads;
+		this.rejections = rejections;
+		this.waitTime = waitTime;
+		this.serviceTime = serviceTime;
+		this.queueDepth = queueDepth;
+	}
+
+	// -------------------------------------------------------------------------
+	// Methods
+	// -------------------------------------------------------------------------
+
+	/** @return	the URI of the executor service in its component.			*/
+	public String		getExecutorServiceURI()	{ return this.executorServiceURI; }
+	/** @return	the time at which the snapshot has been taken, in milliseconds.	*/
+	public long			getTimestamp()			{ return this.timestamp; }
+	/** @return	the number of threads of the executor service.				*/
+	public int			getNumberOfThreads()	{ return this.numberOfThreads; }
+	/** @return	the number of tasks in the queue or -1 if unknown.			*/
+	public int			getQueueSize()			{ return this.queueSize; }
+	/** @return	the number of threads executing a task.						*/
+	public int			getActiveThreads()		{ return this.activeThreads; }
+	/** @return	the maximum number of threads that have executed tasks concurrently.	*/
+	public int			getPeakActiveThreads()	{ return this.peakActiveThreads; }
+	/** @return	the number of rejected submissions.							*/
+	public long			getRejections()			{ return this.rejections; }
+	/** @return	the number of completed tasks.								*/
+	public long			getCompletedTasks()		{ return this.serviceTime.getCount(); }
+	/** @return	the statistics on the times spent by the tasks waiting in the queue.	*/
+	public LogLinearHistogram.Snapshot	getWaitTime()		{ return this.waitTime; }
+	/** @return	the statistics on the times spent executing the tasks.		*/
+	public LogLinearHistogram.Snapshot	getServiceTime()	{ return this.serviceTime; }
+	/** @return	the statistics on the numbers of tasks in the queue when tasks start.	*/
+	public LogLinearHistogram.Snapshot	getQueueDepth()		{ return this.queueDepth; }
+
+	/**
+	 * @see java.lang.Object#toString()
+	 */
+	@Override
+	public String		toString()
+	{
+		StringBuffer sb = new StringBuffer(this.getClass().getSimpleName());
+		sb.append("[executorServiceURI = ");
+		sb.append(this.executorServiceURI);
+		sb.append(", threads = ");
+		sb.append(this.numberOfThreads);
+		sb.append(", queueSize = ");
+		sb.append(this.queueSize);
+		sb.append(", active = ");
+		sb.append(this.activeThreads);
+		sb.append(", peakActive = ");
+		sb.append(this.peakActiveThreads);
+		sb.append(", rejections = ");
+		sb.append(this.rejections);
+		sb.append(", waitTime = ");
+		sb.append(this.waitTime);
+		sb.append(", serviceTime = ");
+		sb.append(this.serviceTime);
+		sb.append(", queueDepth = ");
+		sb.append(this.queueDepth);
+		sb.append(']');
+		return sb.toString();
+	}
+}
+// -----------------------------------------------------------------------------
@@ -0,0 +1,412 @@
+package fr.sorbonne_u.components.tasks_management;
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a
+// basic component programming model to program with components
+// distributed applications in the Java programming language.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+import java.io.Serializable;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// -----------------------------------------------------------------------------
+/**
+ * The class <code>LogLinearHistogram</code> implements a thread-safe
+ * histogram of non negative long values which buckets are linear within
+ * each power of two, bounding the relative error on the recorded values.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p>
+ * The values below {@code SUB_BUCKETS} have their own bucket; above, each
+ * interval {@code [2^e, 2^(e+1))} is divided into {@code SUB_BUCKETS} buckets
+ * of equal width, hence the relative error is at most
+ * {@code 1/SUB_BUCKETS}. All of the buckets are allocated at creation time
+ * and recording a value only updates atomic counters, so that histograms can
+ * be used on the execution paths of the requests without allocating.
+ * Snapshots are not atomic: values recorded concurrently with their creation
+ * may be partially taken into account.
+ * </p>
+ * 
+ * <p><strong>Implementation Invariants</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code counts.length() == NB_BUCKETS}
+ * </pre>
+ * 
+ * <p><strong>Invariants</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code true}	// no more invariant
+ * </pre>
+ * 
+ * <p>Created on : 2026-10-16</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+public class			LogLinearHistogram
+{
+	// -------------------------------------------------------------------------
+	// Inner types and classes
+	// -------------------------------------------------------------------------
+
+	/**
+	 * The class <code>Snapshot</code> holds the statistics of a histogram at
+	 * a given time, in a form that can be sent to remote components.
+	 *
+	 * <p><strong>Invariant</strong></p>
+	 * 
+	 * <pre>
+	 * invariant	{@code count >= 0}
+	 * </pre>
+	 * 
+	 * <p>Created on : 2026-10-16</p>
+	 * 
+	 * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+	 */
+	public static class	Snapshot
+	implements	Serializable
+	{
+		private static final long serialVersionUID = 1L;
+		/** number of recorded values.										*/
+		protected final long	count;
+		/** mean of the recorded values.									*/
+		protected final double	mean;
+		/** maximum recorded value.										*/
+		protected final long	max;
+		/** median of the recorded values.									*/
+		protected final long	p50;
+		/** 90th percentile of the recorded values.						*/
+		protected final long	p90;
+		/** 99th percentile of the recorded values.						*/
+		protected final long	p99;
+		/** 99.9th percentile of the recorded values.						*/
+		protected final long	p999;
+
+		/**
+		 * create a snapshot.
+		 * 
+		 * <p><strong>Contract</strong></p>
+		 * 
+		 * <pre>
+		 * pre	{@code count >= 0}
+		 * post	{@code true}	// no postcondition.
+		 * </pre>
+		 *
+		 * @param count	number of recorded values.
+		 * @param mean	mean of the recorded values.
+		 * @param max	maximum recorded value.
+		 * @param p50	median of the recorded values.
+		 * @param p90	90th percentile of the recorded values.
+		 * @param p99	99th percentile of the recorded values.
+		 * @param p999	99.9th percentile of the recorded values.
+		 */
+		public			Snapshot(
+			long count,
+			double mean,
+			long max,
+			long p50,
+			long p90,
+			long p99,
+			long p999
+			)
+		{
+			this.count = count;
+			this.mean = mean;
+			this.max = max;
+			this.p50 = p50;
+			this.p90 = p90;
+			this.p99 = p99;
+			this.p999 = p999;
+		}
+
+		/** @return	the number of recorded values.							*/
+		public long		getCount()		{ return this.count; }
+		/** @return	the mean of the recorded values.						*/
+		public double	getMean()		{ return this.mean; }
+		/** @return	the maximum recorded value.								*/
+		public long		getMax()		{ return this.max; }
+		/** @return	the median of the recorded values.						*/
+		public long		getP50()		{ return this.p50; }
+		/** @return	the 90th percentile of the recorded values.				*/
+		public long		getP90()		{ return this.p90; }
+		/** @return	the 99th percentile of the recorded values.				*/
+		public long		getP99()		{ return this.p99; }
+		/** @return	the 99.9th percentile of the recorded values.			*/
+		public long		getP999()		{ return this.p999; }
+
+		/**
+		 * @see java.lang.Object#toString()
+		 */
+		@Override
+		public String	toString()
+		{
+			StringBuffer sb = new StringBuffer("[count = ");
+			sb.append(this.count);
+			sb.append(", mean = ");
+			sb.append(String.format("%.1f", this.mean));
+			sb.append(", p50 = ");
+			sb.append(this.p50);
+			sb.append(", p90 = ");
+			sb.append(this.p90);
+			sb.append(", p99 = ");
+			sb.append(this.p99);
+			sb.append(", p999 = ");
+			sb.append(this.p999);
+			sb.append(", max = ");
+			sb.append(this.max);
+			sb.append(']');
+			return sb.toString();
+		}
+	}
+
+	// -------------------------------------------------------------------------
+	// Constants and variables
+	// -------------------------------------------------------------------------
+
+	/** number of bits used to index the buckets within a power of two.		*/
+	public static final int			SUB_BUCKET_BITS = 3;
+	/** number of buckets within a power of two.							*/
+	public static final int			SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+	/** total number of buckets covering the non negative long values.		*/
+	public static final int			NB_BUCKETS =
+										(64 - SUB_BUCKET_BITS + 1) * SUB_BUCKETS;
+
+	/** counts of the recorded values per bucket.							*/
+	protected final AtomicLongArray	counts;
+	/** number of recorded values.											*/
+	protected final AtomicLong		count;
+	/** sum of the recorded values.											*/
+	protected final AtomicLong		sum;
+	/** maximum recorded value.												*/
+	protected final AtomicLong		max;
+
+	// -------------------------------------------------------------------------
+	// Constructors
+	// -------------------------------------------------------------------------
+
+	/**
+	 * create an empty histogram.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code getCount() == 0}
+	 * </pre>
+	 */
+	public				LogLinearHistogram()
+	{
+		this.counts = new AtomicLongArray(NB_BUCKETS);
+		this.count = new AtomicLong(0L);
+		this.sum = new AtomicLong(0L);
+		this.max = new AtomicLong(0L);
+	}
+
+	// -------------------------------------------------------------------------
+	// Static methods
+	// -------------------------------------------------------------------------
+
+	/**
+	 * return the index of the bucket of {@code value}.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code value >= 0}
+	 * post	{@code ret >= 0 && ret < NB_BUCKETS}
+	 * </pre>
+	 *
+	 * @param value	a non negative value.
+	 * @return		the index of the bucket of {@code value}.
+	 */
+	public static int	bucketIndex(long value)
+	{
+		if (value < SUB_BUCKETS) {
+			return (int) value;
+		}
+		int e = 63 - Long.numberOfLeadingZeros(value);
+		return (e - SUB_BUCKET_BITS + 1) * SUB_BUCKETS
+				+ (int) ((value >>> (e - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1));
+	}
+
+	/**
+	 * return the lowest value in the bucket of index {@code index}.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code index >= 0 && index < NB_BUCKETS}
+	 * post	{@code bucketIndex(ret) == index}
+	 * </pre>
+	 *
+	 * @param index	index of a bucket.
+	 * @return		the lowest value in the bucket.
+	 */
+	public static long	bucketLowerBound(int index)
+	{
+		if (index < SUB_BUCKETS) {
+			return index;
+		}
+		int e = index / SUB_BUCKETS + SUB_BUCKET_BITS - 1;
+		long sub = index % SUB_BUCKETS;
+		return (SUB_BUCKETS + sub) << (e - SUB_BUCKET_BITS);
+	}
+
+	// -------------------------------------------------------------------------
+	// Methods
+	// -------------------------------------------------------------------------
+
+	/**
+	 * record {@code value}, negative values being recorded as 0.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param value	value to be recorded.
+	 */
+	public void			record(long value)
+	{
+		if (value < 0L) {
+			value = 0L;
+		}
+		this.counts.incrementAndGet(bucketIndex(value));
+		this.count.incrementAndGet();
+		this.sum.addAndGet(value);
+		long m = this.max.get();
+		while (value > m && !this.max.compareAndSet(m, value)) {
+			m = this.max.get();
+		}
+	}
+
+	/**
+	 * return the number of recorded values.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code ret >= 0}
+	 * </pre>
+	 *
+	 * @return	the number of recorded values.
+	 */
+	public long			getCount()
+	{
+		return this.count.get();
+	}
+
+	/**
+	 * return the sum of the recorded values.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code ret >= 0}
+	 * </pre>
+	 *
+	 * @return	the sum of the recorded values.
+	 */
+	public long			getSum()
+	{
+		return this.sum.get();
+	}
+
+	/**
+	 * return a snapshot of the statistics of this histogram.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code ret != null}
+	 * </pre>
+	 *
+	 * @return	a snapshot of the statistics of this histogram.
+	 */
+	public Snapshot		snapshot()
+	{
+		long[] c = new long[NB_BUCKETS];
+		long total = 0L;
+		for (int i = 0 ; i < NB_BUCKETS ; i++) {
+			c[i] = this.counts.get(i);
+			total += c[i];
+		}
+		long m = this.max.get();
+		return new Snapshot(
+					total,
+					total == 0L ? 0.0 : ((double) this.sum.get()) / total,
+					m,
+					Math.min(m, quantile(c, total, 0.5)),
+					Math.min(m, quantile(c, total, 0.9)),
+					Math.min(m, quantile(c, total, 0.99)),
+					Math.min(m, quantile(c, total, 0.999)));
+	}
+
+	/**
+	 * return the lower bound of the bucket containing the quantile {@code q}
+	 * of the values counted in {@code c}.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code c != null && c.length == NB_BUCKETS}
+	 * pre	{@code q > 0.0 && q <= 1.0}
+	 * post	{@code ret >= 0}
+	 * </pre>
+	 *
+	 * @param c		counts per bucket.
+	 * @param total	sum of the counts.
+	 * @param q		quantile to be computed.
+	 * @return		the lower bound of the bucket containing the quantile.
+	 */
+	protected static long	quantile(long[] c, long total, double q)
+	{
+		if (total == 0L) {
+			return 0L;
+		}
+		long target = (long) Math.ceil(q * total);
+		long cumulated = 0L;
+		for (int i = 0 ; i < c.length ; i++) {
+			cumulated += c[i];
+			if (cumulated >= target) {
+				return bucketLowerBound(i);
+			}
+		}
+		return bucketLowerBound(c.length - 1);
+	}
+}
+// -----------------------------------------------------------------------------
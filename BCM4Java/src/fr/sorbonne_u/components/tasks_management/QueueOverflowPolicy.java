@@ -0,0 +1,148 @@
+package fr.sorbonne_u.components.tasks_management;
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a
+// basic component programming model to program with components
+// distributed applications in the Java programming language.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionHandler;
+import fr.sorbonne_u.components.exceptions.RequestRejectedException;
+
+// -----------------------------------------------------------------------------
+/**
+ * The enumeration <code>QueueOverflowPolicy</code> defines the policies that
+ * executor services with bounded queues apply when a task or a request is
+ * submitted while their queue is full.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <ul>
+ * <li>{@code BLOCK}: the caller waits until there is room in the queue;</li>
+ * <li>{@code FAIL_FAST}: the submission throws a
+ *   {@code RequestRejectedException};</li>
+ * <li>{@code SHED_OLDEST}: the oldest waiting task is removed from the queue
+ *   and cancelled, so callers waiting for its result get a
+ *   {@code CancellationException}, and the new one is queued;</li>
+ * <li>{@code CALLER_RUNS}: the task is executed by the caller thread; note
+ *   that this breaks the serialised execution of components having only one
+ *   thread.</li>
+ * </ul>
+ * <p>
+ * Whatever the policy, submissions to an executor service that has been
+ * shut down are rejected with a {@code RequestRejectedException}.
+ * </p>
+ * 
+ * <p><strong>Invariant</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code true}
+ * </pre>
+ * 
+ * <p>Created on : 2026-10-16</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+public enum				QueueOverflowPolicy
+{
+	BLOCK,			// wait until there is room in the queue
+	FAIL_FAST,		// throw a RequestRejectedException
+	SHED_OLDEST,	// cancel the oldest waiting task and queue the new one
+	CALLER_RUNS;	// run the task in the caller thread
+
+	/**
+	 * create a rejected execution handler applying this policy in a
+	 * {@code ThreadPoolExecutor} with a bounded queue.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code ret != null}
+	 * </pre>
+	 *
+	 * @param executorServiceURI	URI of the executor service, used in the exceptions.
+	 * @param queueCapacity			capacity of the queue of the executor service.
+	 * @return						a rejected execution handler applying this policy.
+	 */
+	public RejectedExecutionHandler	createHandler(
+		String executorServiceURI,
+		int queueCapacity
+		)
+	{
+		switch (this) {
+		case BLOCK:
+			return (r, e) -> {
+				if (e.isShutdown()) {
+					throw new RequestRejectedException(executorServiceURI, -1);
+				}
+				try {
+					// the pool is full, hence its core threads have all been
+					// started and will take the task from the queue
+					e.getQueue().put(r);
+				} catch (InterruptedException ie) {
+					Thread.currentThread().interrupt();
+					throw new RequestRejectedException(
+									executorServiceURI, queueCapacity, null, ie);
+				}
+				if (e.isShutdown() && e.remove(r)) {
+					throw new RequestRejectedException(executorServiceURI, -1);
+				}
+			};
+		case FAIL_FAST:
+			return (r, e) -> {
+				throw new RequestRejectedException(
+									executorServiceURI,
+									e.isShutdown() ? -1 : queueCapacity);
+			};
+		case SHED_OLDEST:
+			return (r, e) -> {
+				if (e.isShutdown()) {
+					throw new RequestRejectedException(executorServiceURI, -1);
+				}
+				Runnable oldest = e.getQueue().poll();
+				if (oldest instanceof Future) {
+					((Future<?>)oldest).cancel(false);
+				}
+				e.execute(r);
+			};
+		case CALLER_RUNS:
+		default:
+			return (r, e) -> {
+				if (e.isShutdown()) {
+					throw new RequestRejectedException(executorServiceURI, -1);
+				}
+				r.run();
+			};
+		}
+	}
+}
+// -----------------------------------------------------------------------------
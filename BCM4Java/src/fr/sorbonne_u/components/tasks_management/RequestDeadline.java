@@ -0,0 +1,219 @@
+package fr.sorbonne_u.components.tasks_management;
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a
+// basic component programming model to program with components
+// distributed applications in the Java programming language.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+import java.util.concurrent.TimeUnit;
+
+// -----------------------------------------------------------------------------
+/**
+ * The class <code>RequestDeadline</code> manages the deadline of the
+ * requests issued by the current thread.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p>
+ * A deadline is an absolute time in milliseconds since the Unix epoch, hence
+ * it has the same meaning in all of the JVMs of a deployment which clocks
+ * are synchronised; {@code NO_DEADLINE} means that requests never expire.
+ * Each thread has a current deadline, set around its calls (see
+ * {@code AbstractComponent#handleRequestWithDeadline} and
+ * {@code AbstractOutboundPort#callWithDeadline}). A component receiving a
+ * request while the current deadline of the caller thread is set attaches
+ * it to the request: the request is dropped if it is dequeued after its
+ * deadline, the caller stops waiting for its result at the deadline and
+ * cancels it, and the requests that it issues while executing inherit
+ * its deadline. Like the submission priority, the current deadline is a
+ * thread-local state, hence it follows the calls made through ports within
+ * a JVM but not the calls made through RMI.
+ * </p>
+ * 
+ * <p><strong>Invariant</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code true}	// no more invariant
+ * </pre>
+ * 
+ * <p>Created on : 2026-10-16</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+public final class		RequestDeadline
+{
+	// -------------------------------------------------------------------------
+	// Constants and variables
+	// -------------------------------------------------------------------------
+
+	/** value of the deadline meaning that requests never expire.			*/
+	public static final long		NO_DEADLINE = Long.MAX_VALUE;
+	/** current deadline of each thread, in a one element array allocated
+	 *  once per thread.													*/
+	protected static final ThreadLocal<long[]>	CURRENT =
+				ThreadLocal.withInitial(() -> new long[]{ NO_DEADLINE });
+
+	// -------------------------------------------------------------------------
+	// Constructors
+	// -------------------------------------------------------------------------
+
+	private				RequestDeadline()
+	{
+	}
+
+	// -------------------------------------------------------------------------
+	// Static methods
+	// -------------------------------------------------------------------------
+
+	/**
+	 * return the deadline {@code timeout} from now, in milliseconds since the
+	 * Unix epoch.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code timeout >= 0 && u != null}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param timeout	time from now to the deadline.
+	 * @param u			time unit in which the timeout is expressed.
+	 * @return			the deadline {@code timeout} from now.
+	 */
+	public static long	in(long timeout, TimeUnit u)
+	{
+		long now = System.currentTimeMillis();
+		long ms = u.toMillis(timeout);
+		return ms >= NO_DEADLINE - now ? NO_DEADLINE : now + ms;
+	}
+
+	/**
+	 * return true if {@code deadline} has passed.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param deadline	a deadline in milliseconds since the Unix epoch.
+	 * @return			true if {@code deadline} has passed.
+	 */
+	public static boolean	hasPassed(long deadline)
+	{
+		return deadline != NO_DEADLINE &&
+								System.currentTimeMillis() >= deadline;
+	}
+
+	/**
+	 * return the time remaining until {@code deadline} in nanoseconds, 0 if
+	 * it has passed.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code deadline != NO_DEADLINE}
+	 * post	{@code ret >= 0}
+	 * </pre>
+	 *
+	 * @param deadline	a deadline in milliseconds since the Unix epoch.
+	 * @return			the time remaining until {@code deadline} in nanoseconds.
+	 */
+	public static long	remainingNanos(long deadline)
+	{
+		return TimeUnit.MILLISECONDS.toNanos(
+					Math.max(0L, deadline - System.currentTimeMillis()));
+	}
+
+	/**
+	 * return the current deadline of the current thread.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @return	the current deadline of the current thread.
+	 */
+	public static long	getCurrentDeadline()
+	{
+		return CURRENT.get()[0];
+	}
+
+	/**
+	 * set the current deadline of the current thread and return the previous
+	 * one, which the caller must restore after its calls.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code getCurrentDeadline() == deadline}
+	 * </pre>
+	 *
+	 * @param deadline	new current deadline of the current thread.
+	 * @return			the previous current deadline of the current thread.
+	 */
+	public static long	setCurrentDeadline(long deadline)
+	{
+		long[] current = CURRENT.get();
+		long previous = current[0];
+		current[0] = deadline;
+		return previous;
+	}
+
+	/**
+	 * restrict the current deadline of the current thread to
+	 * {@code deadline}, keeping the current one if it is earlier, and return
+	 * the previous one, which the caller must restore after its calls.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code true}	// no precondition.
+	 * post	{@code getCurrentDeadline() <= deadline}
+	 * </pre>
+	 *
+	 * @param deadline	deadline to which the current one is restricted.
+	 * @return			the previous current deadline of the current thread.
+	 */
+	public static long	restrictCurrentDeadline(long deadline)
+	{
+		long[] current = CURRENT.get();
+		long previous = current[0];
+		current[0] = Math.min(previous, deadline);
+		return previous;
+	}
+}
+// -----------------------------------------------------------------------------
@@ -0,0 +1,90 @@
+package fr.sorbonne_u.components.tasks_management;
+
+// Copyright Jacques Malenfant, Sorbonne Universite.
+// Jacques.Malenfant@lip6.fr
+//
+// This software is a computer program whose purpose is to provide a
+// basic component programming model to program with components
+// distributed applications in the Java programming language.
+//
+// This software is governed by the CeCILL-C license under French law and
+// abiding by the rules of distribution of free software.  You can use,
+// modify and/ or redistribute the software under the terms of the
+// CeCILL-C license as circulated by CEA, CNRS and INRIA at the following
+// URL "http://www.cecill.info".
+//
+// As a counterpart to the access to the source code and  rights to copy,
+// modify and redistribute granted by the license, users are provided only
+// with a limited warranty  and the software's author,  the holder of the
+// economic rights,  and the successive licensors  have only  limited
+// liability. 
+//
+// In this respect, the user's attention is drawn to the risks associated
+// with loading,  using,  modifying and/or developing or reproducing the
+// software by the user in light of its specific status of free software,
+// that may mean  that it is complicated to manipulate,  and  that  also
+// therefore means  that it is reserved for developers  and  experienced
+// professionals having in-depth computer knowledge. Users are therefore
+// encouraged to load and test the software's suitability as regards their
+// requirements in conditions enabling the security of their systems and/or 
+// data to be ensured and,  more generally, to use and operate it in the 
+// same conditions as regards security. 
+//
+// The fact that you are presently reading this means that you have had
+// knowledge of the CeCILL-C license and that you accept its terms.
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+// -----------------------------------------------------------------------------
+/**
+ * The functional interface <code>TimerI</code> is implemented by the timers
+ * used by the BCM4Java scheduled executor services to trigger their delayed
+ * and periodic tasks when they are due.
+ *
+ * <p><strong>Description</strong></p>
+ * 
+ * <p>
+ * A timer only executes short actions, typically putting the due task in
+ * the queue of its executor service; both a
+ * {@code ScheduledThreadPoolExecutor}, through a method reference to its
+ * method {@code schedule}, and a {@code BCM4JavaTimingWheel} can be used as
+ * timers.
+ * </p>
+ * 
+ * <p><strong>Invariants</strong></p>
+ * 
+ * <pre>
+ * invariant	{@code true}	// no more invariant
+ * </pre>
+ * 
+ * <p>Created on : 2026-10-16</p>
+ * 
+ * @author	<a href="mailto:Jacques.Malenfant@lip6.fr">Jacques Malenfant</a>
+ */
+@FunctionalInterface
+public interface		TimerI
+{
+	/**
+	 * execute {@code action} in the thread of the timer after
+	 * {@code delay}; cancelling the returned future prevents its execution.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code action != null && unit != null}
+	 * post	{@code ret != null}
+	 * </pre>
+	 *
+	 * @param action	short action to be executed when due.
+	 * @param delay		delay after which the action is due.
+	 * @param unit		time unit in which the delay is expressed.
+	 * @return			a future to cancel the action.
+	 */
+	public ScheduledFuture<?>	schedule(
+		Runnable action,
+		long delay,
+		TimeUnit unit
+		);
+}
+// -----------------------------------------------------------------------------
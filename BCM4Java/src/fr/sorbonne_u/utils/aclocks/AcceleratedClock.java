@@ -1233,6 +1233,36 @@ implements	Serializable
 		return delayInNanos;
 	}
 
+	/**
+	 * compute the real time delay in nanoseconds from now until the real
+	 * time corresponding to the accelerated instant {@code i}, which is
+	 * negative when {@code i} is already past; contrary to
+	 * {@code nanoDelayUntilInstant}, the current time is taken with the
+	 * precision of the system clock rather than the millisecond and no
+	 * warning is issued for past instants, which makes it suitable for
+	 * schedulers that must catch up with late executions.
+	 * 
+	 * <p><strong>Contract</strong></p>
+	 * 
+	 * <pre>
+	 * pre	{@code i != null}
+	 * pre	{@code i.equals(getStartInstant()) || i.isAfter(getStartInstant())}
+	 * post	{@code true}	// no postcondition.
+	 * </pre>
+	 *
+	 * @param i	accelerated {@code Instant} at which to the execution must occur.
+	 * @return	real time delay in nanoseconds from now until {@code i}, negative if {@code i} is past.
+	 */
+	public long			signedNanoDelayUntilInstant(Instant i)
+	{
+		assert	i != null : new PreconditionException("i != null");
+
+		long target = this.unixEpochTimeInNanosFromInstant(i);
+		Instant now = Instant.now();
+		return target - (TimeUnit.SECONDS.toNanos(now.getEpochSecond())
+															+ now.getNano());
+	}
+
 	// -------------------------------------------------------------------------
 	// Tests
 	// -------------------------------------------------------------------------